@@ -18,15 +18,14 @@ import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
 import com.codeit.playlist.domain.user.mapper.UserMapper;
 import com.codeit.playlist.domain.user.repository.UserRepository;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.JOSEException;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -55,8 +54,7 @@ public class BasicAuthService implements AuthService {
   private final PasswordEncoder passwordEncoder;
   private final SseEmitterRepository sseEmitterRepository;
 
-  private final ObjectMapper objectMapper;
-  private final KafkaTemplate<String, String> kafkaTemplate;
+  private final OutboxEventWriter outboxEventWriter;
 
   @Override
   @PreAuthorize("hasRole('ADMIN')")
@@ -224,8 +222,7 @@ public class BasicAuthService implements AuthService {
             title, contentMsg, Level.INFO);
 
     try {
-      String payload = objectMapper.writeValueAsString(notificationDto);
-      kafkaTemplate.send("playlist.NotificationDto", payload);
+      outboxEventWriter.append("playlist.NotificationDto", userId, notificationDto);
 
       log.info("[사용자 관리] 권한 변경 알림 이벤트 발행 완료 : userId={}", userId);
     } catch (JsonProcessingException e) {
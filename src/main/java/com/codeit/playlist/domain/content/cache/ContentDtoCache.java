@@ -0,0 +1,42 @@
+package com.codeit.playlist.domain.content.cache;
+
+import com.codeit.playlist.domain.content.dto.data.ContentDto;
+import com.codeit.playlist.domain.content.entity.Content;
+import com.codeit.playlist.domain.content.entity.Tag;
+import com.codeit.playlist.domain.content.exception.ContentNotFoundException;
+import com.codeit.playlist.domain.content.mapper.ContentMapper;
+import com.codeit.playlist.domain.content.repository.ContentRepository;
+import com.codeit.playlist.domain.content.repository.TagRepository;
+import com.codeit.playlist.global.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * ContentDto(태그 포함) read-through 캐시
+ * 무효화: BasicContentService.update / delete (@CacheEvict),
+ *        BasicReviewService.create / update / delete (averageRating, reviewCount 변경 → evict)
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentDtoCache {
+    private final ContentRepository contentRepository;
+    private final TagRepository tagRepository;
+    private final ContentMapper contentMapper;
+
+    @Cacheable(cacheNames = CacheConfig.CONTENT_DTO, key = "#contentId")
+    public ContentDto get(UUID contentId) {
+        Content content = contentRepository.findById(contentId)
+                .orElseThrow(() -> ContentNotFoundException.withId(contentId));
+        List<Tag> tags = tagRepository.findByContentId(contentId);
+        return contentMapper.toDto(content, tags);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.CONTENT_DTO, key = "#contentId")
+    public void evict(UUID contentId) {
+    }
+}
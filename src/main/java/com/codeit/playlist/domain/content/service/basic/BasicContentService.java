@@ -17,9 +17,11 @@ import com.codeit.playlist.domain.file.S3Uploader;
 import com.codeit.playlist.domain.playlist.repository.PlaylistContentRepository;
 import com.codeit.playlist.domain.review.repository.ReviewRepository;
 import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
+import com.codeit.playlist.global.config.CacheConfig;
 import com.codeit.playlist.global.constant.S3Properties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -96,6 +98,7 @@ public class BasicContentService implements ContentService {
 
     @Transactional
     @Override
+    @CacheEvict(cacheNames = CacheConfig.CONTENT_DTO, key = "#contentId")
     public ContentDto update(UUID contentId, ContentUpdateRequest request, MultipartFile thumbnail) {
         log.debug("[콘텐츠 데이터 관리] 컨텐츠 수정 시작 : id = {}", contentId);
         Content content = contentRepository.findById(contentId)
@@ -146,6 +149,7 @@ public class BasicContentService implements ContentService {
 
     @Transactional
     @Override
+    @CacheEvict(cacheNames = CacheConfig.CONTENT_DTO, key = "#contentId")
     public void delete(UUID contentId) {
         log.debug("[콘텐츠 데이터 관리] 컨텐츠 삭제 시작 : id = {}", contentId);
         if(contentRepository.existsById(contentId)) {
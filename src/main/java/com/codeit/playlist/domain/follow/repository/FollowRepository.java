@@ -1,6 +1,7 @@
 package com.codeit.playlist.domain.follow.repository;
 
 import com.codeit.playlist.domain.follow.entity.Follow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,4 +18,15 @@ public interface FollowRepository extends JpaRepository<Follow, UUID> {
           "from Follow f " +
           "where f.followee.id = :followeeId")
   List<UUID> findFollowerIdsByFolloweeId(@Param("followeeId")UUID followeeId);
+
+  boolean existsByFolloweeId(UUID followeeId);
+
+  //팔로워 ID 를 after 이후부터 ID 순으로 pageable 크기만큼 조회 (알림 fan-out keyset 페이징)
+  @Query("select f.follower.id " +
+          "from Follow f " +
+          "where f.followee.id = :followeeId and f.follower.id > :after " +
+          "order by f.follower.id")
+  List<UUID> findFollowerIdsByFolloweeIdAfter(@Param("followeeId") UUID followeeId,
+                                              @Param("after") UUID after,
+                                              Pageable pageable);
 }
@@ -15,11 +15,10 @@ import com.codeit.playlist.domain.security.PlaylistUserDetails;
 import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
 import com.codeit.playlist.domain.user.repository.UserRepository;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -37,8 +36,7 @@ public class BasicFollowService implements FollowService {
   private final FollowMapper followMapper;
   private final UserRepository userRepository;
 
-  private final ObjectMapper objectMapper;
-  private final KafkaTemplate<String, String> kafkaTemplate;
+  private final OutboxEventWriter outboxEventWriter;
 
   @Override
   public FollowDto create(FollowRequest followRequest) {
@@ -112,8 +110,7 @@ public class BasicFollowService implements FollowService {
         Level.INFO
     );
     try {
-      String payload = objectMapper.writeValueAsString(notificationDto);
-      kafkaTemplate.send("playlist.NotificationDto", payload);
+      outboxEventWriter.append("playlist.NotificationDto", followee.getId(), notificationDto);
       log.info("[Follow] 팔로우 알림 발송: receiverId={}, followerId={}", followee.getId(), follower.getId());
     } catch (JsonProcessingException e) {
       log.error("[Follow] 팔로우 알림 직렬화 실패: receiverId={}, followerId={}",
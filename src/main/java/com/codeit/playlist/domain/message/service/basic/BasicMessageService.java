@@ -20,8 +20,8 @@ import com.codeit.playlist.domain.notification.entity.Level;
 import com.codeit.playlist.domain.security.PlaylistUserDetails;
 import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.global.error.InvalidCursorException;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.security.Principal;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
@@ -34,7 +34,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -50,8 +49,7 @@ public class BasicMessageService implements MessageService {
   private final ConversationRepository conversationRepository;
   private final ApplicationEventPublisher eventPublisher;
 
-  private final ObjectMapper objectMapper;
-  private final KafkaTemplate<String, String> kafkaTemplate;
+  private final OutboxEventWriter outboxEventWriter;
 
   @Override
   public DirectMessageDto save(UUID conversationId, DirectMessageSendRequest sendRequest, Principal principal) {
@@ -200,8 +198,7 @@ public class BasicMessageService implements MessageService {
         Level.INFO
     );
     try {
-      String payload = objectMapper.writeValueAsString(notificationDto);
-      kafkaTemplate.send("playlist.NotificationDto", payload);
+      outboxEventWriter.append("playlist.NotificationDto", receiver.getId(), notificationDto);
       log.info("[Message] 메시지 알림 발송: receiverId={}", receiver.getId());
     } catch (JsonProcessingException e) {
       log.error("[Message] 메시지 알림 직렬화 실패: receiverId={}", receiver.getId(), e);
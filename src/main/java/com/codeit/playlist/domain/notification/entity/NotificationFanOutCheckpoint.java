@@ -0,0 +1,50 @@
+package com.codeit.playlist.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/*
+ * fan-out 이벤트별 진행 위치
+ * - lastReceiverId: 알림 저장이 커밋된 마지막 수신자 ID (수신자는 ID 순으로 펼쳐진다)
+ * - completed: 마지막 페이지까지 저장 완료, 다시 전달되면 건너뛴다
+ */
+@Entity
+@Table(name = "notification_fan_out_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationFanOutCheckpoint {
+
+    @Id
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    @Column(name = "last_receiver_id", nullable = false)
+    private UUID lastReceiverId;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public NotificationFanOutCheckpoint(UUID eventId, UUID lastReceiverId, boolean completed) {
+        this.eventId = eventId;
+        this.lastReceiverId = lastReceiverId;
+        this.completed = completed;
+        this.updatedAt = Instant.now();
+    }
+
+    public void advance(UUID lastReceiverId, boolean completed) {
+        this.lastReceiverId = lastReceiverId;
+        this.completed = completed;
+        this.updatedAt = Instant.now();
+    }
+}
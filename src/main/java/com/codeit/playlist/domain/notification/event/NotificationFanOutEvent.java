@@ -0,0 +1,36 @@
+package com.codeit.playlist.domain.notification.event;
+
+import com.codeit.playlist.domain.notification.entity.Level;
+
+import java.util.UUID;
+
+/*
+ * 다수에게 같은 알림을 보낼 때 수신자 대신 대상 집단만 담아 한 번 발행하는 이벤트
+ * 수신자 목록은 컨슈머가 audience 조건으로 페이지 단위 조회해 알림으로 펼친다
+ */
+public record NotificationFanOutEvent(
+        UUID eventId,
+        Audience audience,
+        UUID audienceId,     // FOLLOWERS: 팔로우 대상 사용자 ID, PLAYLIST_SUBSCRIBERS: 플레이리스트 ID
+        UUID actorId,
+        String title,
+        String content,
+        Level level
+) {
+
+    public enum Audience {
+        FOLLOWERS,
+        PLAYLIST_SUBSCRIBERS
+    }
+
+    public static NotificationFanOutEvent toFollowers(UUID followeeId, String title, String content, Level level) {
+        return new NotificationFanOutEvent(UUID.randomUUID(), Audience.FOLLOWERS, followeeId, followeeId,
+                title, content, level);
+    }
+
+    public static NotificationFanOutEvent toPlaylistSubscribers(UUID playlistId, UUID actorId,
+                                                                String title, String content, Level level) {
+        return new NotificationFanOutEvent(UUID.randomUUID(), Audience.PLAYLIST_SUBSCRIBERS, playlistId, actorId,
+                title, content, level);
+    }
+}
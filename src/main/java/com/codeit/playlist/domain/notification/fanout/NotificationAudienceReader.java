@@ -0,0 +1,36 @@
+package com.codeit.playlist.domain.notification.fanout;
+
+import com.codeit.playlist.domain.follow.repository.FollowRepository;
+import com.codeit.playlist.domain.notification.event.NotificationFanOutEvent;
+import com.codeit.playlist.domain.playlist.repository.SubscribeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * fan-out 이벤트의 수신자를 ID 순 keyset 페이지로 조회
+ * 오프셋 없이 마지막 ID 이후만 읽으므로 팔로워가 많아도 페이지마다 비용이 같다
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationAudienceReader {
+    // 첫 페이지 조회용 커서 (가장 작은 UUID)
+    public static final UUID FIRST_PAGE = new UUID(0L, 0L);
+
+    private final FollowRepository followRepository;
+    private final SubscribeRepository subscribeRepository;
+
+    public List<UUID> readPage(NotificationFanOutEvent event, UUID after, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        return switch (event.audience()) {
+            case FOLLOWERS -> followRepository.findFollowerIdsByFolloweeIdAfter(event.audienceId(), after, page);
+            case PLAYLIST_SUBSCRIBERS ->
+                    subscribeRepository.findSubscriberIdsByPlaylistIdAfter(event.audienceId(), after, page);
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package com.codeit.playlist.domain.notification.fanout;
+
+import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.domain.notification.entity.NotificationFanOutCheckpoint;
+import com.codeit.playlist.domain.notification.repository.NotificationFanOutCheckpointRepository;
+import com.codeit.playlist.domain.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+ * fan-out 알림 페이지 저장과 진행 위치(NotificationFanOutCheckpoint)를 한 트랜잭션에 기록
+ * - Kafka 재전달 시 마지막으로 커밋된 수신자 다음부터 이어서 펼치므로 앞 페이지 수신자에게 알림이 다시 저장되지 않는다
+ * - 리밸런스로 두 컨슈머가 같은 이벤트를 처리하면 checkpoint 행을 잠근 뒤 커서가 어긋난 쪽은 저장하지 않고 멈춘다
+ * - SSE 전송은 커밋 이후에 하므로 커밋 직후 실패하면 그 페이지의 실시간 알림은 누락될 수 있다 (알림 목록에는 남음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationFanOutWriter {
+    // 완료된 checkpoint 보관 기간 (Kafka 재전달은 커밋되지 않은 offset 에 대해서만 일어나므로 짧아도 충분)
+    private static final Duration COMPLETED_RETENTION = Duration.ofDays(7);
+
+    private final NotificationService notificationService;
+    private final NotificationFanOutCheckpointRepository checkpointRepository;
+
+    // 이어서 읽을 커서, 이미 끝난 이벤트면 empty
+    @Transactional(readOnly = true)
+    public Optional<UUID> resumeAfter(UUID eventId) {
+        Optional<NotificationFanOutCheckpoint> checkpoint = checkpointRepository.findById(eventId);
+        if (checkpoint.isEmpty()) {
+            return Optional.of(NotificationAudienceReader.FIRST_PAGE);
+        }
+        return checkpoint.get().isCompleted() ? Optional.empty() : Optional.of(checkpoint.get().getLastReceiverId());
+    }
+
+    // after 다음 페이지의 알림을 저장하고 커서를 lastReceiverId 로 옮긴다
+    // 다른 컨슈머가 이미 커서를 옮겼으면 저장하지 않고 empty
+    @Transactional
+    public Optional<List<NotificationDto>> savePage(UUID eventId, UUID after, UUID lastReceiverId,
+                                                    List<NotificationDto> notifications, boolean lastPage) {
+        NotificationFanOutCheckpoint checkpoint = checkpointRepository.findByIdForUpdate(eventId).orElse(null);
+        UUID current = (checkpoint == null) ? NotificationAudienceReader.FIRST_PAGE : checkpoint.getLastReceiverId();
+        if ((checkpoint != null && checkpoint.isCompleted()) || !current.equals(after)) {
+            log.warn("[알림] fan-out 커서 불일치, 다른 컨슈머가 처리 중 : eventId= {}, expected= {}, current= {}",
+                    eventId, after, current);
+            return Optional.empty();
+        }
+
+        List<NotificationDto> saved = notificationService.saveNotifications(notifications);
+        if (checkpoint == null) {
+            checkpointRepository.save(new NotificationFanOutCheckpoint(eventId, lastReceiverId, lastPage));
+        } else {
+            checkpoint.advance(lastReceiverId, lastPage);
+        }
+        return Optional.of(saved);
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void removeCompleted() {
+        int deleted = checkpointRepository.deleteCompletedBefore(Instant.now().minus(COMPLETED_RETENTION));
+        log.debug("[알림] 완료된 fan-out checkpoint 정리 : deleted= {}", deleted);
+    }
+}
@@ -0,0 +1,25 @@
+package com.codeit.playlist.domain.notification.repository;
+
+import com.codeit.playlist.domain.notification.entity.NotificationFanOutCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface NotificationFanOutCheckpointRepository extends JpaRepository<NotificationFanOutCheckpoint, UUID> {
+
+    // 같은 이벤트를 두 컨슈머가 동시에 펼치지 않도록 페이지 저장 전에 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from NotificationFanOutCheckpoint c where c.eventId = :eventId")
+    Optional<NotificationFanOutCheckpoint> findByIdForUpdate(@Param("eventId") UUID eventId);
+
+    @Modifying
+    @Query("delete from NotificationFanOutCheckpoint c where c.completed = true and c.updatedAt < :before")
+    int deleteCompletedBefore(@Param("before") Instant before);
+}
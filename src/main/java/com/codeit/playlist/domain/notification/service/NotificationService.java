@@ -5,6 +5,7 @@ import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
 import com.codeit.playlist.domain.notification.dto.response.CursorResponseNotificationDto;
 import com.codeit.playlist.domain.notification.entity.Level;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface NotificationService {
@@ -13,6 +14,8 @@ public interface NotificationService {
 
     NotificationDto saveNotification(UUID receiverId, String title, String content, Level level);
 
+    List<NotificationDto> saveNotifications(List<NotificationDto> notifications);
+
     CursorResponseNotificationDto getAllNotifications(UUID receiverId, String cursor, UUID idAfter,
                                                       int limit, SortDirection sortDirection, String sortBy);
 
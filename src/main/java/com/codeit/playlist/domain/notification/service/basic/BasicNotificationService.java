@@ -29,9 +29,13 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -87,6 +91,43 @@ public class BasicNotificationService implements NotificationService {
         return notificationMapper.toDto(saved);
     }
 
+    //알림 일괄 저장 (Kafka 배치 소비)
+    //수신자는 존재 여부만 한 번에 확인하고 프록시로 참조, INSERT 는 hibernate.jdbc.batch_size 단위로 묶어서 실행
+    @Transactional
+    @Override
+    public List<NotificationDto> saveNotifications(List<NotificationDto> notifications) {
+
+        if (notifications == null || notifications.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("[알림] 알림 일괄 저장 시작 : count= {}", notifications.size());
+
+        Set<UUID> receiverIds = notifications.stream()
+                .map(NotificationDto::receiverId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<UUID> existingReceiverIds = userRepository.findIdsByIdIn(receiverIds);
+
+        List<Notification> entities = new ArrayList<>(notifications.size());
+        for (NotificationDto notification : notifications) {
+            if (!existingReceiverIds.contains(notification.receiverId())) {
+                log.error("[알림] 수신자가 조회되지 않아 저장하지 않습니다 : receiverId= {}", notification.receiverId());
+                continue;
+            }
+            User receiver = userRepository.getReferenceById(notification.receiverId());
+            entities.add(new Notification(receiver, notification.title(), notification.content(), notification.level()));
+        }
+
+        List<NotificationDto> saved = notificationRepository.saveAll(entities).stream()
+                .map(notificationMapper::toDto)
+                .toList();
+
+        log.info("[알림] 알림 일괄 저장 성공 : requested= {}, saved= {}", notifications.size(), saved.size());
+
+        return saved;
+    }
+
     //SSE 전송
     private void sendSse(NotificationDto dto) {
 
@@ -3,6 +3,7 @@ package com.codeit.playlist.domain.playlist.repository;
 import com.codeit.playlist.domain.playlist.entity.Playlist;
 import com.codeit.playlist.domain.playlist.entity.Subscribe;
 import com.codeit.playlist.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +17,8 @@ public interface SubscribeRepository extends JpaRepository<Subscribe, UUID> {
 
     boolean existsBySubscriber_IdAndPlaylist_Id(UUID subscriber, UUID playlistId);
 
+    boolean existsByPlaylist_Id(UUID playlistId);
+
     Optional<Subscribe> findBySubscriberAndPlaylist(User subscriber, Playlist playlist);
 
     //플레이리스트의 구독자를 조회
@@ -23,4 +26,13 @@ public interface SubscribeRepository extends JpaRepository<Subscribe, UUID> {
             "from Subscribe s " +
             "where s.playlist.id = :playlistId")
     List<UUID> findSubscriberIdByPlaylistId(@Param("playlistId") UUID playlistId);
+
+    //구독자 ID 를 after 이후부터 ID 순으로 pageable 크기만큼 조회 (알림 fan-out keyset 페이징)
+    @Query("select distinct s.subscriber.id " +
+            "from Subscribe s " +
+            "where s.playlist.id = :playlistId and s.subscriber.id > :after " +
+            "order by s.subscriber.id")
+    List<UUID> findSubscriberIdsByPlaylistIdAfter(@Param("playlistId") UUID playlistId,
+                                                  @Param("after") UUID after,
+                                                  Pageable pageable);
 }
@@ -3,8 +3,8 @@ package com.codeit.playlist.domain.playlist.service.basic;
 import com.codeit.playlist.domain.content.entity.Content;
 import com.codeit.playlist.domain.content.exception.ContentNotFoundException;
 import com.codeit.playlist.domain.content.repository.ContentRepository;
-import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
 import com.codeit.playlist.domain.notification.entity.Level;
+import com.codeit.playlist.domain.notification.event.NotificationFanOutEvent;
 import com.codeit.playlist.domain.playlist.entity.Playlist;
 import com.codeit.playlist.domain.playlist.entity.PlaylistContent;
 import com.codeit.playlist.domain.playlist.exception.PlaylistAccessDeniedException;
@@ -15,16 +15,14 @@ import com.codeit.playlist.domain.playlist.repository.PlaylistContentRepository;
 import com.codeit.playlist.domain.playlist.repository.PlaylistRepository;
 import com.codeit.playlist.domain.playlist.repository.SubscribeRepository;
 import com.codeit.playlist.domain.playlist.service.PlaylistContentService;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -38,8 +36,7 @@ public class BasicPlaylistContentService implements PlaylistContentService {
     private final PlaylistContentRepository playlistContentRepository;
     private final SubscribeRepository subscribeRepository;
 
-    private final ObjectMapper objectMapper;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxEventWriter outboxEventWriter;
 
     @Override
     public void addContentToPlaylist(UUID playlistId, UUID contentId, UUID currentUserId) {
@@ -83,31 +80,25 @@ public class BasicPlaylistContentService implements PlaylistContentService {
             throw PlaylistContentAlreadyExistsException.withIds(playlistId, contentId);
         }
 
-        //플레이리스트를 구독 중인 모든 사용자에게 알림
-        List<UUID> subscriberIds = subscribeRepository.findSubscriberIdByPlaylistId(playlistId);
-
-        if (!subscriberIds.isEmpty()) {
+        //플레이리스트를 구독 중인 모든 사용자에게 알림 (fan-out 이벤트 한 건, 구독자별 알림은 컨슈머가 생성)
+        if (subscribeRepository.existsByPlaylist_Id(playlistId)) {
             String title = "구독중인 플레이리스트에 새 콘텐츠가 추가됐습니다.";
             String contentMsg = String.format("구독 중인 '%s' 플레이리스트에 '%s' 콘텐츠가 추가되었습니다.",
                     playlist.getTitle(), content.getTitle());
 
-            for (UUID subscriberId : subscriberIds) {
-                NotificationDto notificationDto = new NotificationDto(null, null, subscriberId,
-                                                                        title, contentMsg, Level.INFO);
-
-                try {
-                    String payload = objectMapper.writeValueAsString(notificationDto);
-                    kafkaTemplate.send("playlist.NotificationDto", payload);
-                } catch (JsonProcessingException e) {
-                    log.error("[플레이리스트] 구독자 알림 이벤트 직렬화 실패 : subscriberId= {}, playlistId= {}, contentId= {}",
-                            subscriberId, playlistId, contentId, e);
-                }
+            NotificationFanOutEvent event = NotificationFanOutEvent.toPlaylistSubscribers(playlistId, currentUserId,
+                    title, contentMsg, Level.INFO);
+
+            try {
+                outboxEventWriter.append("playlist.NotificationFanOut", event.audienceId(), event);
+                log.info("[플레이리스트] 구독자 알림 이벤트 발행 완료 : playlistId= {}, eventId= {}",
+                        playlistId, event.eventId());
+            } catch (JsonProcessingException e) {
+                log.error("[플레이리스트] 구독자 알림 이벤트 직렬화 실패 : playlistId= {}, contentId= {}",
+                        playlistId, contentId, e);
             }
-            log.info("[플레이리스트] 구독자 알림 이벤트 발행 완료 : playlistId= {}, subscriberCount= {}",
-                    playlistId, subscriberIds.size());
         }
 
-
         log.info("[플레이리스트] 콘텐츠 추가 : 저장 완료 및 종료 playlistId= {}, contentId= {}, userId= {}",
                 playlistId, contentId, currentUserId);
     }
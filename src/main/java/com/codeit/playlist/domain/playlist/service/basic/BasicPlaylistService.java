@@ -3,8 +3,8 @@ package com.codeit.playlist.domain.playlist.service.basic;
 import com.codeit.playlist.domain.base.SortDirection;
 import com.codeit.playlist.domain.content.repository.TagRepository;
 import com.codeit.playlist.domain.follow.repository.FollowRepository;
-import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
 import com.codeit.playlist.domain.notification.entity.Level;
+import com.codeit.playlist.domain.notification.event.NotificationFanOutEvent;
 import com.codeit.playlist.domain.playlist.dto.data.PlaylistDto;
 import com.codeit.playlist.domain.playlist.dto.request.PlaylistCreateRequest;
 import com.codeit.playlist.domain.playlist.dto.request.PlaylistUpdateRequest;
@@ -20,14 +20,13 @@ import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
 import com.codeit.playlist.domain.user.repository.UserRepository;
 import com.codeit.playlist.global.constant.S3Properties;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,8 +46,7 @@ public class BasicPlaylistService implements PlaylistService {
     private final PlaylistMapper playlistMapper;
     private final S3Properties s3Properties;
     private final FollowRepository followRepository;
-    private final ObjectMapper objectMapper;                       // Kafka payload 직렬화
-    private final KafkaTemplate<String, String> kafkaTemplate;    //  Kafka 발행
+    private final OutboxEventWriter outboxEventWriter;
     private final TagRepository tagRepository;
 
     //플레이리스트 생성
@@ -68,27 +66,21 @@ public class BasicPlaylistService implements PlaylistService {
 
         log.info("[플레이리스트] 생성 완료: id={}", dto.id());
 
-        List<UUID> followerIds = followRepository.findFollowerIdsByFolloweeId(ownerId);
-
-        if (!followerIds.isEmpty()) {
+        //팔로워 수와 관계없이 fan-out 이벤트 한 건만 발행, 팔로워별 알림은 컨슈머가 페이지 단위로 생성
+        if (followRepository.existsByFolloweeId(ownerId)) {
             String title = String.format("%s 님이 새 플레이리스트를 만들었어요.", owner.getName());
             String contentMsg = String.format("[ %s ] %s", saved.getTitle(), saved.getDescription());
 
-            for (UUID followerId : followerIds) {
-                NotificationDto notificationDto = new NotificationDto(null, null, followerId,
-                                                                        title, contentMsg, Level.INFO);
-
-                try {
-                    String payload = objectMapper.writeValueAsString(notificationDto);
-                    kafkaTemplate.send("playlist.NotificationDto", payload);
-                } catch (JsonProcessingException e) {
-                    log.error("[플레이리스트] 팔로워 알림 직렬화 실패: followerId= {}, playlistId= {}",
-                            followerId, saved.getId(), e);
-                }
-            }
+            NotificationFanOutEvent event = NotificationFanOutEvent.toFollowers(ownerId, title, contentMsg, Level.INFO);
 
-            log.info("[플레이리스트] 팔로우한 사용자들에게 새 플레이리스트 생성 알림 발행: ownerId= {}, followerCount= {}",
-                    ownerId, followerIds.size());
+            try {
+                outboxEventWriter.append("playlist.NotificationFanOut", event.audienceId(), event);
+                log.info("[플레이리스트] 팔로우한 사용자들에게 새 플레이리스트 생성 알림 발행: ownerId= {}, eventId= {}",
+                        ownerId, event.eventId());
+            } catch (JsonProcessingException e) {
+                log.error("[플레이리스트] 팔로워 알림 직렬화 실패: ownerId= {}, playlistId= {}",
+                        ownerId, saved.getId(), e);
+            }
         }
 
         return dto;
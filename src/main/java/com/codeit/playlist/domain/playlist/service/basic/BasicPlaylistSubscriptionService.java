@@ -15,11 +15,10 @@ import com.codeit.playlist.domain.playlist.service.PlaylistSubscriptionService;
 import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
 import com.codeit.playlist.domain.user.repository.UserRepository;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,8 +34,7 @@ public class BasicPlaylistSubscriptionService implements PlaylistSubscriptionSer
     private final SubscribeRepository subscribeRepository;
     private final UserRepository userRepository;
 
-    private final ObjectMapper objectMapper;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxEventWriter outboxEventWriter;
 
     @Override
     public void subscribe(UUID playlistId, UUID currentUserId) {
@@ -81,8 +79,7 @@ public class BasicPlaylistSubscriptionService implements PlaylistSubscriptionSer
                                                                 title, contentMsg, Level.INFO);
 
         try {
-            String payload = objectMapper.writeValueAsString(notificationDto);
-            kafkaTemplate.send("playlist.NotificationDto", payload);
+            outboxEventWriter.append("playlist.NotificationDto", ownerId, notificationDto);
 
             log.info("[구독] Playlist 구독 알림 이벤트 발행 완료 : ownerId= {}, subscriberId= {}",
                     ownerId, subscriber.getId());
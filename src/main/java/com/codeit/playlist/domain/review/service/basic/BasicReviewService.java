@@ -1,6 +1,7 @@
 package com.codeit.playlist.domain.review.service.basic;
 
 import com.codeit.playlist.domain.base.SortDirection;
+import com.codeit.playlist.domain.content.cache.ContentDtoCache;
 import com.codeit.playlist.domain.content.entity.Content;
 import com.codeit.playlist.domain.content.exception.ContentNotFoundException;
 import com.codeit.playlist.domain.content.repository.ContentRepository;
@@ -35,6 +36,7 @@ public class BasicReviewService implements ReviewService {
     private final ReviewMapper reviewMapper;
     private final UserRepository userRepository;
     private final ContentRepository contentRepository;
+    private final ContentDtoCache contentDtoCache;
 
     //리뷰 생성
     @Transactional
@@ -66,6 +68,7 @@ public class BasicReviewService implements ReviewService {
         content.applyReviewCreated(newRating);
         log.debug("[리뷰] 콘텐츠 평점 갱신(생성): contentId= {}, newReviewCount= {}, newAverageRating= {}",
                 content.getId(), content.getReviewCount(), content.getAverageRating());
+        contentDtoCache.evict(content.getId());
 
         //저장
         Review saved = reviewRepository.save(review);
@@ -108,6 +111,7 @@ public class BasicReviewService implements ReviewService {
         content.applyReviewUpdated(oldRating, newRating);
         log.debug("[리뷰] 콘텐츠 평점 갱신(수정): contentId={}, oldRating={}, newRating={}, newAverageRating={}",
                 content.getId(), oldRating, newRating, content.getAverageRating());
+        contentDtoCache.evict(content.getId());
 
         Review saved = reviewRepository.save(review);
 
@@ -240,6 +244,7 @@ public class BasicReviewService implements ReviewService {
 
         log.debug("[리뷰] 콘텐츠 평점 갱신: contentId= {}, newReviewCount= {}, newAverageRating= {}",
                 content.getId(), content.getReviewCount(), content.getAverageRating());
+        contentDtoCache.evict(content.getId());
 
         reviewRepository.delete(review);
 
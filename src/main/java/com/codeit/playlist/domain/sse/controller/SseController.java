@@ -2,11 +2,13 @@ package com.codeit.playlist.domain.sse.controller;
 
 import com.codeit.playlist.domain.security.PlaylistUserDetails;
 import com.codeit.playlist.domain.sse.service.SseService;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -21,9 +23,12 @@ public class SseController {
 
   @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
   public SseEmitter subscribe(@AuthenticationPrincipal PlaylistUserDetails userDetails,
-      @RequestParam(value = "LastEventId", required = false) UUID lastEventId){
+      @RequestParam(value = "LastEventId", required = false) String lastEventId,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+      @RequestParam(value = "channels", required = false) Set<String> channels){
     UUID userId = userDetails.getUserDto().id();
 
-    return sseService.connect(userId,lastEventId);
+    // channels 미지정 시 모든 이벤트 수신 (예: ?channels=notifications,direct-messages)
+    return sseService.connect(userId, lastEventId != null ? lastEventId : lastEventIdHeader, channels);
   }
 }
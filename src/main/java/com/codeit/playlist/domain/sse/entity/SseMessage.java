@@ -1,5 +1,6 @@
 package com.codeit.playlist.domain.sse.entity;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -19,6 +20,9 @@ public class SseMessage {
   private boolean broadcast;
   private String eventName;
   private Object eventData;
+  // 저장소에 저장될 때 부여되는 단조 증가 번호, SSE id(Last-Event-ID)로 사용
+  private long sequence;
+  private Instant createdAt;
 
   public static SseMessage create(Collection<UUID> receiverIds, String eventName, Object eventData) {
     return new SseMessage(
@@ -26,7 +30,9 @@ public class SseMessage {
         new HashSet<>(receiverIds),
         false,
         eventName,
-        eventData
+        eventData,
+        0L,
+        Instant.now()
     );
   }
 
@@ -36,17 +42,41 @@ public class SseMessage {
         new HashSet<>(),
         true,
         eventName,
-        eventData
+        eventData,
+        0L,
+        Instant.now()
     );
   }
 
+  // 외부 저장소(Redis)에서 읽어온 메시지 복원
+  public static SseMessage restore(UUID eventId, Collection<UUID> receiverIds, boolean broadcast,
+      String eventName, Object eventData, long sequence, Instant createdAt) {
+    return new SseMessage(
+        eventId,
+        new HashSet<>(receiverIds),
+        broadcast,
+        eventName,
+        eventData,
+        sequence,
+        createdAt
+    );
+  }
+
+  public SseMessage withSequence(long sequence) {
+    return new SseMessage(eventId, receiverIds, broadcast, eventName, eventData, sequence, createdAt);
+  }
+
   public boolean isReceivable(UUID receiverId) {
     return broadcast || receiverIds.contains(receiverId);
   }
 
   public Set<DataWithMediaType> toEvent(){
-    return SseEmitter.event()
-        .id(eventId.toString())
+    SseEmitter.SseEventBuilder event = SseEmitter.event();
+    // 저장에 실패해 sequence 가 없는 메시지는 id 없이 보내 클라이언트의 Last-Event-ID 를 유지
+    if (sequence > 0) {
+      event.id(String.valueOf(sequence));
+    }
+    return event
         .name(eventName)
         .data(eventData)
         .build();
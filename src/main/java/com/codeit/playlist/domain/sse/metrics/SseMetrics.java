@@ -0,0 +1,61 @@
+package com.codeit.playlist.domain.sse.metrics;
+
+import com.codeit.playlist.domain.sse.repository.SseEmitterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/*
+ * SSE 메트릭
+ * - sse.emitters.active / sse.receivers.active: 이 노드의 연결 수 / 연결된 사용자 수
+ * - sse.send.failures{scope=targeted|broadcast}: 전송 큐에 넣지 못한 연결 수
+ * - sse.replay.events: Last-Event-ID 재연결 시 재전송한 이벤트 수
+ * - sse.keepalive.evicted: keep-alive 에서 죽은 연결로 판단해 제거한 수
+ * 전송 지연/큐 길이/종료 사유는 SseEmitterDispatcher 의 sse.send.* 메트릭 참고
+ */
+@Component
+public class SseMetrics {
+
+  private final Counter targetedSendFailures;
+  private final Counter broadcastSendFailures;
+  private final Counter replayedEvents;
+  private final Counter keepAliveEvictions;
+
+  public SseMetrics(MeterRegistry meterRegistry, SseEmitterRepository sseEmitterRepository) {
+    Gauge.builder("sse.emitters.active", sseEmitterRepository, SseEmitterRepository::count)
+        .description("이 노드에 연결된 SSE emitter 수")
+        .register(meterRegistry);
+    Gauge.builder("sse.receivers.active", sseEmitterRepository, SseEmitterRepository::countReceivers)
+        .description("이 노드에 SSE 로 연결된 사용자 수")
+        .register(meterRegistry);
+
+    this.targetedSendFailures = sendFailureCounter(meterRegistry, "targeted");
+    this.broadcastSendFailures = sendFailureCounter(meterRegistry, "broadcast");
+    this.replayedEvents = Counter.builder("sse.replay.events")
+        .description("재연결 시 재전송한 SSE 이벤트 수")
+        .register(meterRegistry);
+    this.keepAliveEvictions = Counter.builder("sse.keepalive.evicted")
+        .description("keep-alive 실패로 제거된 SSE 연결 수")
+        .register(meterRegistry);
+  }
+
+  public void recordSendFailures(boolean broadcast, int count) {
+    (broadcast ? broadcastSendFailures : targetedSendFailures).increment(count);
+  }
+
+  public void recordReplay(int count) {
+    replayedEvents.increment(count);
+  }
+
+  public void recordKeepAliveEvictions(int count) {
+    keepAliveEvictions.increment(count);
+  }
+
+  private static Counter sendFailureCounter(MeterRegistry meterRegistry, String scope) {
+    return Counter.builder("sse.send.failures")
+        .description("전송 큐에 넣지 못한 SSE 연결 수")
+        .tag("scope", scope)
+        .register(meterRegistry);
+  }
+}
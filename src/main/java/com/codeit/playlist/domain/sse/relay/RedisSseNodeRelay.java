@@ -0,0 +1,247 @@
+package com.codeit.playlist.domain.sse.relay;
+
+import com.codeit.playlist.domain.sse.entity.SseMessage;
+import com.codeit.playlist.domain.sse.exception.SseSendFailedException;
+import com.codeit.playlist.domain.sse.repository.SseMessageRepository;
+import com.codeit.playlist.domain.sse.service.SseService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/*
+ * Redis 기반 SSE 노드 릴레이
+ * 1. ZSet sse:presence:{userId}
+ * member = nodeId, score = 만료 시각(ms)
+ * 연결 시 등록하고 keep-alive 주기마다 갱신, 갱신되지 않은 노드는 만료 시각이 지나 조회에서 제외된다.
+ *
+ * 2. 채널 sse-relay:node:{nodeId} (노드별 전달) / sse-relay:broadcast (전체 전달)
+ * 수신자들을 presence 로 노드별로 묶어 해당 노드 채널에만 PUBLISH 한다.
+ * 여러 메시지(Kafka 배치)는 forwardAll 로 presence 조회와 PUBLISH 를 각각 한 번의 파이프라인으로 보낸다.
+ * 브로드캐스트는 모든 노드가 구독하는 채널로 한 번만 PUBLISH 하며, 자기 자신이 보낸 메시지는 무시한다.
+ *
+ * 전달된 메시지는 원 노드가 발급한 sequence 를 SSE id 로 그대로 쓰므로 재전송 저장소도 노드 간 공유(sse.replay.store=redis)여야 한다.
+ * 노드 로컬 저장소(memory)와 함께 쓰면 다른 노드로 재연결할 때 Last-Event-ID 재전송이 누락/중복되므로 기동 시 실패시킨다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "sse.relay", name = "type", havingValue = "redis")
+@Slf4j
+public class RedisSseNodeRelay implements SseNodeRelay {
+
+  static final String NODE_CHANNEL_PREFIX = "sse-relay:node:";
+  static final String BROADCAST_CHANNEL = "sse-relay:broadcast";
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectProvider<SseService> sseService;
+  private final ObjectMapper objectMapper;
+  private final Duration presenceTtl;
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final MessageListener relayListener = (message, pattern) -> onRelayed(message.getBody());
+
+  public RedisSseNodeRelay(StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer,
+      ObjectProvider<SseService> sseService,
+      ObjectMapper objectMapper,
+      SseMessageRepository sseMessageRepository,
+      @Value("${sse.relay.presence-ttl-seconds:90}") long presenceTtlSeconds) {
+    if (!sseMessageRepository.isSharedAcrossNodes()) {
+      throw new IllegalStateException(
+          "sse.relay.type=redis 는 노드 간 공유 재전송 저장소가 필요합니다: sse.replay.store=redis 로 설정하세요");
+    }
+    this.redisTemplate = redisTemplate;
+    this.sseService = sseService;
+    this.objectMapper = objectMapper;
+    this.presenceTtl = Duration.ofSeconds(Math.max(1, presenceTtlSeconds));
+
+    listenerContainer.addMessageListener(relayListener,
+        List.of(new ChannelTopic(NODE_CHANNEL_PREFIX + nodeId), new ChannelTopic(BROADCAST_CHANNEL)));
+  }
+
+  @Override
+  public void registerPresence(UUID receiverId) {
+    refreshPresence(List.of(receiverId));
+  }
+
+  @Override
+  public void refreshPresence(Collection<UUID> receiverIds) {
+    if (receiverIds == null || receiverIds.isEmpty()) {
+      return;
+    }
+    double expiresAt = System.currentTimeMillis() + presenceTtl.toMillis();
+    try {
+      redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        StringRedisConnection stringConnection = (StringRedisConnection) connection;
+        for (UUID receiverId : receiverIds) {
+          stringConnection.zAdd(presenceKey(receiverId), expiresAt, nodeId);
+          stringConnection.pExpire(presenceKey(receiverId), presenceTtl.toMillis());
+        }
+        return null;
+      });
+    } catch (Exception e) {
+      log.error("[SSE] presence 갱신 실패: receiverCount={}, errorMsg={}", receiverIds.size(), e.getMessage());
+    }
+  }
+
+  @Override
+  public void forward(SseMessage message, Collection<UUID> receiverIds) {
+    if (receiverIds == null || receiverIds.isEmpty()) {
+      return;
+    }
+    try {
+      Map<UUID, List<String>> nodesByReceiver = findRemoteNodes(new ArrayList<>(new LinkedHashSet<>(receiverIds)));
+      for (Map.Entry<String, List<UUID>> entry : groupByNode(receiverIds, nodesByReceiver).entrySet()) {
+        redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + entry.getKey(), serialize(message, entry.getValue()));
+      }
+    } catch (Exception e) {
+      // 릴레이 실패가 로컬 전달을 막지 않도록 로그만 남김
+      log.error("[SSE] 노드 릴레이 발행 실패: eventId={}, errorMsg={}", message.getEventId(), e.getMessage());
+    }
+  }
+
+  // 메시지마다 forward 하면 메시지당 presence 조회 + PUBLISH 로 왕복이 2번씩 늘어나므로
+  // 전체 수신자의 presence 를 한 번에 조회하고, 모든 PUBLISH 를 메시지 순서대로 한 번의 파이프라인으로 보낸다
+  @Override
+  public void forwardAll(List<SseMessage> messages) {
+    if (messages == null || messages.isEmpty()) {
+      return;
+    }
+    try {
+      Set<UUID> receiverIds = new LinkedHashSet<>();
+      messages.forEach(message -> receiverIds.addAll(message.getReceiverIds()));
+      if (receiverIds.isEmpty()) {
+        return;
+      }
+      Map<UUID, List<String>> nodesByReceiver = findRemoteNodes(new ArrayList<>(receiverIds));
+      if (nodesByReceiver.isEmpty()) {
+        return;
+      }
+
+      List<Map.Entry<String, String>> publishes = new ArrayList<>();
+      for (SseMessage message : messages) {
+        for (Map.Entry<String, List<UUID>> entry : groupByNode(message.getReceiverIds(), nodesByReceiver).entrySet()) {
+          publishes.add(Map.entry(NODE_CHANNEL_PREFIX + entry.getKey(), serialize(message, entry.getValue())));
+        }
+      }
+      redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        StringRedisConnection stringConnection = (StringRedisConnection) connection;
+        for (Map.Entry<String, String> publish : publishes) {
+          stringConnection.publish(publish.getKey(), publish.getValue());
+        }
+        return null;
+      });
+    } catch (Exception e) {
+      log.error("[SSE] 노드 릴레이 일괄 발행 실패: messageCount={}, errorMsg={}", messages.size(), e.getMessage());
+    }
+  }
+
+  @Override
+  public void forwardBroadcast(SseMessage message) {
+    try {
+      redisTemplate.convertAndSend(BROADCAST_CHANNEL, serialize(message, List.of()));
+    } catch (Exception e) {
+      log.error("[SSE] 브로드캐스트 릴레이 발행 실패: eventId={}, errorMsg={}", message.getEventId(), e.getMessage());
+    }
+  }
+
+  // 수신자별 presence 를 한 번의 파이프라인으로 조회해, 수신자마다 emitter 를 가진 다른 노드 목록을 반환
+  private Map<UUID, List<String>> findRemoteNodes(List<UUID> receiverIds) {
+    double now = System.currentTimeMillis();
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection stringConnection = (StringRedisConnection) connection;
+      for (UUID receiverId : receiverIds) {
+        stringConnection.zRangeByScore(presenceKey(receiverId), now, Double.POSITIVE_INFINITY);
+      }
+      return null;
+    });
+
+    Map<UUID, List<String>> nodesByReceiver = new HashMap<>();
+    for (int i = 0; i < receiverIds.size(); i++) {
+      if (!(results.get(i) instanceof Collection<?> nodeIds)) {
+        continue;
+      }
+      for (Object node : nodeIds) {
+        String targetNodeId = node.toString();
+        if (!nodeId.equals(targetNodeId)) {
+          nodesByReceiver.computeIfAbsent(receiverIds.get(i), id -> new ArrayList<>()).add(targetNodeId);
+        }
+      }
+    }
+    return nodesByReceiver;
+  }
+
+  private Map<String, List<UUID>> groupByNode(Collection<UUID> receiverIds, Map<UUID, List<String>> nodesByReceiver) {
+    Map<String, List<UUID>> receiversByNode = new HashMap<>();
+    for (UUID receiverId : new LinkedHashSet<>(receiverIds)) {
+      for (String targetNodeId : nodesByReceiver.getOrDefault(receiverId, List.of())) {
+        receiversByNode.computeIfAbsent(targetNodeId, id -> new ArrayList<>()).add(receiverId);
+      }
+    }
+    return receiversByNode;
+  }
+
+  private String serialize(SseMessage message, List<UUID> receiverIds) throws JsonProcessingException {
+    return objectMapper.writeValueAsString(new RelayedSseMessage(
+        nodeId,
+        receiverIds,
+        message.isBroadcast(),
+        message.getEventId(),
+        message.getEventName(),
+        message.getEventData(),
+        message.getSequence(),
+        message.getCreatedAt().toEpochMilli()
+    ));
+  }
+
+  // 수신 (Redis pub/sub)
+  private void onRelayed(byte[] body) {
+    try {
+      RelayedSseMessage relayed = objectMapper.readValue(body, RelayedSseMessage.class);
+      if (nodeId.equals(relayed.nodeId())) {
+        return;
+      }
+
+      SseMessage message = SseMessage.restore(
+          relayed.eventId(),
+          relayed.receiverIds(),
+          relayed.broadcast(),
+          relayed.eventName(),
+          relayed.eventData(),
+          relayed.sequence(),
+          Instant.ofEpochMilli(relayed.createdAtEpoch())
+      );
+      if (relayed.broadcast()) {
+        sseService.getObject().deliverBroadcast(message);
+      } else {
+        sseService.getObject().deliver(message, relayed.receiverIds());
+      }
+    } catch (SseSendFailedException e) {
+      log.warn("[SSE] 릴레이 수신 메시지 일부 전송 실패: details={}", e.getDetails());
+    } catch (Exception e) {
+      log.error("[SSE] 노드 릴레이 수신 처리 실패: errorMsg={}", e.getMessage());
+    }
+  }
+
+  private static String presenceKey(UUID receiverId) {
+    return "sse:presence:" + receiverId;
+  }
+}
@@ -0,0 +1,17 @@
+package com.codeit.playlist.domain.sse.relay;
+
+import java.util.List;
+import java.util.UUID;
+
+// 노드 간 전달되는 SSE 메시지 (receiverIds 는 받는 노드에 연결된 수신자만 포함)
+public record RelayedSseMessage(
+    String nodeId,
+    List<UUID> receiverIds,
+    boolean broadcast,
+    UUID eventId,
+    String eventName,
+    Object eventData,
+    long sequence,
+    long createdAtEpoch
+) {
+}
@@ -0,0 +1,25 @@
+package com.codeit.playlist.domain.sse.relay;
+
+import com.codeit.playlist.domain.sse.entity.SseMessage;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * 여러 노드에 흩어진 SSE 연결로 이벤트를 전달하기 위한 노드 간 릴레이
+ * - presence: 어떤 사용자의 emitter 를 어느 노드가 가지고 있는지 등록/갱신
+ * - forward: 수신자의 emitter 를 가진 다른 노드로만 전달 (로컬 전달은 SseService 가 직접 처리)
+ */
+public interface SseNodeRelay {
+
+  void registerPresence(UUID receiverId);
+
+  void refreshPresence(Collection<UUID> receiverIds);
+
+  void forward(SseMessage message, Collection<UUID> receiverIds);
+
+  // 메시지별 수신자(SseMessage.getReceiverIds)에게 여러 메시지를 순서대로 한 번에 전달
+  void forwardAll(List<SseMessage> messages);
+
+  void forwardBroadcast(SseMessage message);
+}
@@ -0,0 +1,122 @@
+package com.codeit.playlist.domain.sse.repository;
+
+import com.codeit.playlist.domain.sse.entity.SseMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/*
+ * 재연결(Last-Event-ID) 재전송용 메시지 저장소 (단일 노드, sse.replay.store=memory)
+ * - 메시지는 sequence % maxTotalEvents 위치의 전역 링에 한 번만 저장 (전체 메모리 상한)
+ * - 수신자별/브로드캐스트 링 버퍼에는 sequence 만 보관하고, 재전송 시 이진 탐색으로 시작 위치를 찾는다
+ * - 전역 링에서 덮어써졌거나 maxAge 가 지난 메시지는 재전송하지 않는다
+ */
+@Repository
+@ConditionalOnProperty(prefix = "sse.replay", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySseMessageRepository implements SseMessageRepository {
+
+  private final int maxEventsPerReceiver;
+  private final Duration maxAge;
+
+  private final AtomicReferenceArray<SseMessage> messages;
+  private final Map<UUID, SequenceRingBuffer> receiverBuffers = new ConcurrentHashMap<>();
+  private final SequenceRingBuffer broadcastBuffer;
+  private long lastSequence;
+
+  public InMemorySseMessageRepository(
+      @Value("${sse.replay.max-events-per-receiver:100}") int maxEventsPerReceiver,
+      @Value("${sse.replay.max-age-seconds:300}") long maxAgeSeconds,
+      @Value("${sse.replay.max-total-events:10000}") int maxTotalEvents) {
+    this.maxEventsPerReceiver = Math.max(1, maxEventsPerReceiver);
+    this.maxAge = Duration.ofSeconds(Math.max(0, maxAgeSeconds));
+    this.messages = new AtomicReferenceArray<>(Math.max(1, maxTotalEvents));
+    this.broadcastBuffer = new SequenceRingBuffer(this.maxEventsPerReceiver);
+  }
+
+  // sequence 발급과 링 버퍼 추가를 한 번에 처리해야 버퍼 내 오름차순이 유지된다
+  @Override
+  public synchronized SseMessage save(SseMessage message) {
+    long sequence = ++lastSequence;
+    SseMessage saved = message.withSequence(sequence);
+    messages.set(slot(sequence), saved);
+
+    if (saved.isBroadcast()) {
+      broadcastBuffer.add(sequence);
+    } else {
+      for (UUID receiverId : saved.getReceiverIds()) {
+        receiverBuffers.computeIfAbsent(receiverId, id -> new SequenceRingBuffer(maxEventsPerReceiver))
+            .add(sequence);
+      }
+    }
+    return saved;
+  }
+
+  @Override
+  public synchronized List<SseMessage> saveAll(List<SseMessage> messages) {
+    List<SseMessage> saved = new ArrayList<>(messages.size());
+    for (SseMessage message : messages) {
+      saved.add(save(message));
+    }
+    return saved;
+  }
+
+  @Override
+  public List<SseMessage> findAllBySequenceAfterAndReceiverId(long sequence, UUID receiverId) {
+    SequenceRingBuffer receiverBuffer = receiverBuffers.get(receiverId);
+    long[] targeted = (receiverBuffer == null) ? new long[0] : receiverBuffer.findAllAfter(sequence);
+    long[] broadcast = broadcastBuffer.findAllAfter(sequence);
+
+    Instant expiredBefore = Instant.now().minus(maxAge);
+    List<SseMessage> result = new ArrayList<>(targeted.length + broadcast.length);
+    int i = 0;
+    int j = 0;
+    while (i < targeted.length || j < broadcast.length) {
+      long next = (j >= broadcast.length || (i < targeted.length && targeted[i] < broadcast[j]))
+          ? targeted[i++]
+          : broadcast[j++];
+      SseMessage message = findBySequence(next);
+      if (message != null && !message.getCreatedAt().isBefore(expiredBefore)) {
+        result.add(message);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public boolean isSharedAcrossNodes() {
+    return false;
+  }
+
+  // 만료되었거나 전역 링에서 밀려난 메시지만 남은 수신자 버퍼 정리
+  @Override
+  public synchronized void removeExpired() {
+    Instant expiredBefore = Instant.now().minus(maxAge);
+    for (int i = 0; i < messages.length(); i++) {
+      SseMessage message = messages.get(i);
+      if (message != null && message.getCreatedAt().isBefore(expiredBefore)) {
+        messages.compareAndSet(i, message, null);
+      }
+    }
+    receiverBuffers.entrySet().removeIf(entry -> findBySequence(entry.getValue().last()) == null);
+  }
+
+  private SseMessage findBySequence(long sequence) {
+    if (sequence <= 0) {
+      return null;
+    }
+    SseMessage message = messages.get(slot(sequence));
+    return (message != null && message.getSequence() == sequence) ? message : null;
+  }
+
+  private int slot(long sequence) {
+    return (int) (sequence % messages.length());
+  }
+}
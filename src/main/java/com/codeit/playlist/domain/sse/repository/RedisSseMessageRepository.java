@@ -0,0 +1,190 @@
+package com.codeit.playlist.domain.sse.repository;
+
+import com.codeit.playlist.domain.sse.entity.SseMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/*
+ * Redis 기반 SSE 재전송 저장소 (sse.replay.store=redis)
+ * 1. String sse:replay:sequence
+ * 모든 노드가 공유하는 sequence (INCR)
+ *
+ * 2. ZSet sse:replay:receiver:{receiverId} / sse:replay:broadcast
+ * member = {sequence}|{메시지 JSON}, score = sequence
+ * 키별로 sse.replay.max-events-per-receiver 개까지 보관하고 sse.replay.max-age-seconds 의 TTL 을 가진다.
+ *
+ * 저장은 Lua 스크립트(resources/redis/sse-replay-save.lua)로 여러 건을 한 번에, 재전송 조회는 수신자/브로드캐스트 키를
+ * 한 번의 파이프라인으로 읽는다. 스크립트가 여러 키를 다루므로 단일 노드(Standalone) Redis 를 전제로 한다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "sse.replay", name = "store", havingValue = "redis")
+public class RedisSseMessageRepository implements SseMessageRepository {
+
+  private static final RedisScript<List> SAVE_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/sse-replay-save.lua"), List.class);
+
+  private static final String SEQUENCE_KEY = "sse:replay:sequence";
+  private static final String BROADCAST_KEY = "sse:replay:broadcast";
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final int maxEventsPerReceiver;
+  private final Duration maxAge;
+
+  public RedisSseMessageRepository(StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      @Value("${sse.replay.max-events-per-receiver:100}") int maxEventsPerReceiver,
+      @Value("${sse.replay.max-age-seconds:300}") long maxAgeSeconds) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.maxEventsPerReceiver = Math.max(1, maxEventsPerReceiver);
+    this.maxAge = Duration.ofSeconds(Math.max(1, maxAgeSeconds));
+  }
+
+  @Override
+  public SseMessage save(SseMessage message) {
+    return saveAll(List.of(message)).get(0);
+  }
+
+  // 여러 메시지를 스크립트 한 번(왕복 1회)으로 저장
+  // Redis 저장에 실패해도 실시간 전송은 계속되도록 실패한 메시지는 sequence 없이 반환
+  @Override
+  public List<SseMessage> saveAll(List<SseMessage> messages) {
+    List<SseMessage> saved = new ArrayList<>(messages);
+    List<Integer> savedIndexes = new ArrayList<>(messages.size());
+    List<String> keys = new ArrayList<>();
+    List<String> args = new ArrayList<>();
+    keys.add(SEQUENCE_KEY);
+    args.add(String.valueOf(maxEventsPerReceiver));
+    args.add(String.valueOf(maxAge.toMillis()));
+
+    for (int i = 0; i < messages.size(); i++) {
+      SseMessage message = messages.get(i);
+      String payload;
+      try {
+        payload = objectMapper.writeValueAsString(new StoredSseMessage(
+            message.getEventId(),
+            message.getEventName(),
+            message.getEventData(),
+            message.getCreatedAt().toEpochMilli()
+        ));
+      } catch (JsonProcessingException e) {
+        log.warn("SSE 재전송 메시지 직렬화 실패 eventId={}, eventName={}", message.getEventId(), message.getEventName(), e);
+        continue;
+      }
+      List<String> messageKeys = message.isBroadcast()
+          ? List.of(BROADCAST_KEY)
+          : message.getReceiverIds().stream().map(RedisSseMessageRepository::receiverKey).toList();
+      keys.addAll(messageKeys);
+      args.add(String.valueOf(messageKeys.size()));
+      args.add(payload);
+      savedIndexes.add(i);
+    }
+    if (savedIndexes.isEmpty()) {
+      return saved;
+    }
+
+    try {
+      List<?> sequences = redisTemplate.execute(SAVE_SCRIPT, keys, args.toArray());
+      for (int i = 0; sequences != null && i < Math.min(savedIndexes.size(), sequences.size()); i++) {
+        int index = savedIndexes.get(i);
+        saved.set(index, messages.get(index).withSequence(((Number) sequences.get(i)).longValue()));
+      }
+    } catch (DataAccessException e) {
+      log.warn("SSE 재전송 메시지 저장 실패 count={}, eventName={}", savedIndexes.size(),
+          messages.get(savedIndexes.get(0)).getEventName(), e);
+    }
+    return saved;
+  }
+
+  @Override
+  public List<SseMessage> findAllBySequenceAfterAndReceiverId(long sequence, UUID receiverId) {
+    double min = sequence + 1;
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection stringConnection = (StringRedisConnection) connection;
+      stringConnection.zRangeByScore(receiverKey(receiverId), min, Double.POSITIVE_INFINITY);
+      stringConnection.zRangeByScore(BROADCAST_KEY, min, Double.POSITIVE_INFINITY);
+      return null;
+    });
+
+    List<SseMessage> targeted = parse(results.get(0), receiverId, false);
+    List<SseMessage> broadcast = parse(results.get(1), receiverId, true);
+
+    Instant expiredBefore = Instant.now().minus(maxAge);
+    List<SseMessage> merged = new ArrayList<>(targeted.size() + broadcast.size());
+    int i = 0;
+    int j = 0;
+    while (i < targeted.size() || j < broadcast.size()) {
+      SseMessage next = (j >= broadcast.size()
+          || (i < targeted.size() && targeted.get(i).getSequence() < broadcast.get(j).getSequence()))
+          ? targeted.get(i++)
+          : broadcast.get(j++);
+      if (!next.getCreatedAt().isBefore(expiredBefore)) {
+        merged.add(next);
+      }
+    }
+    return merged;
+  }
+
+  @Override
+  public boolean isSharedAcrossNodes() {
+    return true;
+  }
+
+  // 보관 개수와 키 TTL 로 Redis 가 정리하므로 별도 작업 없음
+  @Override
+  public void removeExpired() {
+  }
+
+  private List<SseMessage> parse(Object result, UUID receiverId, boolean broadcast) {
+    if (!(result instanceof Collection<?> members)) {
+      return List.of();
+    }
+    List<SseMessage> messages = new ArrayList<>(members.size());
+    for (Object member : members) {
+      String value = member.toString();
+      int separator = value.indexOf('|');
+      try {
+        long sequence = Long.parseLong(value.substring(0, separator));
+        StoredSseMessage stored = objectMapper.readValue(value.substring(separator + 1), StoredSseMessage.class);
+        messages.add(SseMessage.restore(
+            stored.eventId(),
+            broadcast ? Set.of() : Set.of(receiverId),
+            broadcast,
+            stored.eventName(),
+            stored.eventData(),
+            sequence,
+            Instant.ofEpochMilli(stored.createdAt())
+        ));
+      } catch (JsonProcessingException | RuntimeException e) {
+        log.warn("SSE 재전송 메시지 파싱 실패 receiverId={}, member={}", receiverId, value, e);
+      }
+    }
+    return messages;
+  }
+
+  private static String receiverKey(UUID receiverId) {
+    return "sse:replay:receiver:" + receiverId;
+  }
+
+  private record StoredSseMessage(UUID eventId, String eventName, Object eventData, long createdAt) {
+  }
+}
@@ -0,0 +1,59 @@
+package com.codeit.playlist.domain.sse.repository;
+
+/*
+ * 오름차순으로만 추가되는 sequence 를 고정 크기로 보관하는 링 버퍼
+ * - 가득 차면 가장 오래된 sequence 를 덮어쓴다
+ * - 정렬되어 있으므로 특정 sequence 이후 위치는 이진 탐색으로 찾는다
+ */
+class SequenceRingBuffer {
+
+  private final long[] sequences;
+  private int head;
+  private int size;
+
+  SequenceRingBuffer(int capacity) {
+    this.sequences = new long[Math.max(1, capacity)];
+  }
+
+  synchronized void add(long sequence) {
+    int tail = (head + size) % sequences.length;
+    sequences[tail] = sequence;
+    if (size < sequences.length) {
+      size++;
+    } else {
+      head = (head + 1) % sequences.length;
+    }
+  }
+
+  // sequence 보다 큰 값들을 오래된 순서로 반환
+  synchronized long[] findAllAfter(long sequence) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (get(mid) <= sequence) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    long[] result = new long[size - low];
+    for (int i = low; i < size; i++) {
+      result[i - low] = get(i);
+    }
+    return result;
+  }
+
+  synchronized long last() {
+    return (size == 0) ? -1L : get(size - 1);
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  private long get(int index) {
+    return sequences[(head + index) % sequences.length];
+  }
+}
@@ -1,59 +1,204 @@
 package com.codeit.playlist.domain.sse.repository;
 
 import com.codeit.playlist.domain.sse.exception.InvalidSseEmitterException;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/*
+ * 사용자별로 여러 개의 SseEmitter(여러 탭/기기)를 보관
+ * - 사용자별 Deque 는 compute 계열 안에서만 변경하고, 조회는 락 없이 읽는다
+ * - 사용자별 연결 수가 maxConnectionsPerUser 를 넘으면 가장 오래된 연결부터 종료
+ * - 마지막 연결이 제거되면 사용자 엔트리도 함께 제거
+ * - 연결별 구독 채널(= 이벤트 이름)을 채널 → 연결 역색인으로 보관해 브로드캐스트는 구독 중인 연결만 순회
+ *   구독 채널을 지정하지 않은 연결은 모든 채널을 수신(ALL_CHANNELS)
+ */
 @Repository
 public class SseEmitterRepository {
 
-  private final ConcurrentMap<UUID, SseEmitter> data = new ConcurrentHashMap<>();
+  @Value("${sse.max-connections-per-user:5}")
+  private int maxConnectionsPerUser;
+
+  private static final String ALL_CHANNELS = "*";
+
+  private final ConcurrentMap<UUID, ConcurrentLinkedDeque<SseEmitter>> data = new ConcurrentHashMap<>();
+  private final ConcurrentMap<SseEmitter, Set<String>> channelsByEmitter = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Set<Subscriber>> subscribersByChannel = new ConcurrentHashMap<>();
 
   public SseEmitter save(UUID receiverId, SseEmitter sseEmitter) {
+    return save(receiverId, sseEmitter, Set.of());
+  }
+
+  // channels 가 비어 있으면 모든 채널 구독
+  public SseEmitter save(UUID receiverId, SseEmitter sseEmitter, Set<String> channels) {
     if (receiverId == null || sseEmitter == null) {
       throw InvalidSseEmitterException.withId(receiverId, sseEmitter);
     }
-    SseEmitter old = data.put(receiverId, sseEmitter);
-    completeSafely(old);
+    subscribe(receiverId, sseEmitter, (channels == null || channels.isEmpty()) ? Set.of(ALL_CHANNELS) : Set.copyOf(channels));
+    int capacity = Math.max(1, maxConnectionsPerUser);
+    List<SseEmitter> evicted = new ArrayList<>();
+
+    data.compute(receiverId, (id, emitters) -> {
+      ConcurrentLinkedDeque<SseEmitter> target = (emitters != null) ? emitters : new ConcurrentLinkedDeque<>();
+      target.addLast(sseEmitter);
+      while (target.size() > capacity) {
+        evicted.add(target.removeFirst());
+      }
+      return target;
+    });
+    // complete 는 완료 콜백을 호출할 수 있으므로 compute 밖에서 처리
+    evicted.forEach(emitter -> {
+      unsubscribe(receiverId, emitter);
+      completeSafely(emitter);
+    });
 
-    sseEmitter.onCompletion(() -> data.remove(receiverId, sseEmitter));
-    sseEmitter.onTimeout(() -> data.remove(receiverId, sseEmitter));
-    sseEmitter.onError(e -> data.remove(receiverId, sseEmitter));
+    sseEmitter.onCompletion(() -> delete(receiverId, sseEmitter));
+    sseEmitter.onTimeout(() -> delete(receiverId, sseEmitter));
+    sseEmitter.onError(e -> delete(receiverId, sseEmitter));
 
     return sseEmitter;
   }
 
-  public Optional<SseEmitter> findByReceiverId(UUID receiverId) {
+  public List<SseEmitter> findByReceiverId(UUID receiverId) {
     if (receiverId == null) {
-      return Optional.empty();
+      return List.of();
     }
-    return Optional.ofNullable(data.get(receiverId));
+    ConcurrentLinkedDeque<SseEmitter> emitters = data.get(receiverId);
+    return (emitters == null) ? List.of() : List.copyOf(emitters);
   }
 
-  public Map<UUID, SseEmitter> findAllByReceiverIdsIn(Collection<UUID> receiverIds) {
+  // 수신자 k명에 대해 k번의 직접 조회만 수행
+  public Map<UUID, List<SseEmitter>> findAllByReceiverIdsIn(Collection<UUID> receiverIds) {
     if (receiverIds == null || receiverIds.isEmpty()) {
       return Map.of();
     }
-    return data.entrySet().stream()
-        .filter(entry -> receiverIds.contains(entry.getKey()))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    Map<UUID, List<SseEmitter>> result = new HashMap<>();
+    for (UUID receiverId : receiverIds) {
+      if (receiverId == null || result.containsKey(receiverId)) {
+        continue;
+      }
+      ConcurrentLinkedDeque<SseEmitter> emitters = data.get(receiverId);
+      if (emitters != null && !emitters.isEmpty()) {
+        result.put(receiverId, List.copyOf(emitters));
+      }
+    }
+    return result;
+  }
+
+  // 수신자들의 연결 중 channel 을 구독하는 연결만 조회
+  public Map<UUID, List<SseEmitter>> findAllByReceiverIdsInAndChannel(Collection<UUID> receiverIds, String channel) {
+    Map<UUID, List<SseEmitter>> result = new HashMap<>();
+    findAllByReceiverIdsIn(receiverIds).forEach((receiverId, emitters) -> {
+      List<SseEmitter> subscribed = emitters.stream()
+          .filter(emitter -> isSubscribed(emitter, channel))
+          .toList();
+      if (!subscribed.isEmpty()) {
+        result.put(receiverId, subscribed);
+      }
+    });
+    return result;
+  }
+
+  public Collection<SseEmitter> findAll() {
+    List<SseEmitter> result = new ArrayList<>();
+    data.values().forEach(result::addAll);
+    return result;
+  }
+
+  public Set<UUID> findAllReceiverIds() {
+    return Set.copyOf(data.keySet());
+  }
+
+  public void forEach(BiConsumer<UUID, SseEmitter> action) {
+    data.forEach((receiverId, emitters) -> emitters.forEach(emitter -> action.accept(receiverId, emitter)));
+  }
+
+  // channel 구독 연결과 전체 구독 연결만 순회
+  public void forEachByChannel(String channel, BiConsumer<UUID, SseEmitter> action) {
+    Set<Subscriber> all = subscribersByChannel.getOrDefault(ALL_CHANNELS, Set.of());
+    all.forEach(subscriber -> action.accept(subscriber.receiverId(), subscriber.emitter()));
+    if (channel == null || ALL_CHANNELS.equals(channel)) {
+      return;
+    }
+    subscribersByChannel.getOrDefault(channel, Set.of())
+        .forEach(subscriber -> action.accept(subscriber.receiverId(), subscriber.emitter()));
+  }
+
+  public boolean isSubscribed(SseEmitter sseEmitter, String channel) {
+    Set<String> channels = channelsByEmitter.get(sseEmitter);
+    return channels != null && (channels.contains(ALL_CHANNELS) || channels.contains(channel));
   }
 
-  public Collection<SseEmitter> findAll(){
-    return Collections.unmodifiableCollection(data.values());
+  public int count() {
+    return data.values().stream().mapToInt(ConcurrentLinkedDeque::size).sum();
   }
 
+  public int countReceivers() {
+    return data.size();
+  }
+
+  public int countByReceiverId(UUID receiverId) {
+    ConcurrentLinkedDeque<SseEmitter> emitters = (receiverId == null) ? null : data.get(receiverId);
+    return (emitters == null) ? 0 : emitters.size();
+  }
+
+  // 사용자의 모든 연결 종료 (로그아웃 등)
   public void delete(UUID receiverId) {
-    SseEmitter emitter = data.remove(receiverId);
-    completeSafely(emitter);
+    if (receiverId == null) {
+      return;
+    }
+    ConcurrentLinkedDeque<SseEmitter> emitters = data.remove(receiverId);
+    if (emitters != null) {
+      emitters.forEach(emitter -> {
+        unsubscribe(receiverId, emitter);
+        completeSafely(emitter);
+      });
+    }
+  }
+
+  // 특정 연결만 제거, 남은 연결이 없으면 사용자 엔트리도 제거
+  public void delete(UUID receiverId, SseEmitter sseEmitter) {
+    if (receiverId == null || sseEmitter == null) {
+      return;
+    }
+    data.computeIfPresent(receiverId, (id, emitters) -> {
+      emitters.remove(sseEmitter);
+      return emitters.isEmpty() ? null : emitters;
+    });
+    unsubscribe(receiverId, sseEmitter);
+  }
+
+  private void subscribe(UUID receiverId, SseEmitter sseEmitter, Set<String> channels) {
+    channelsByEmitter.put(sseEmitter, channels);
+    Subscriber subscriber = new Subscriber(receiverId, sseEmitter);
+    channels.forEach(channel -> subscribersByChannel.compute(channel, (key, subscribers) -> {
+      Set<Subscriber> target = (subscribers != null) ? subscribers : ConcurrentHashMap.newKeySet();
+      target.add(subscriber);
+      return target;
+    }));
+  }
+
+  private void unsubscribe(UUID receiverId, SseEmitter sseEmitter) {
+    Set<String> channels = channelsByEmitter.remove(sseEmitter);
+    if (channels == null) {
+      return;
+    }
+    Subscriber subscriber = new Subscriber(receiverId, sseEmitter);
+    channels.forEach(channel -> subscribersByChannel.computeIfPresent(channel, (key, subscribers) -> {
+      subscribers.remove(subscriber);
+      return subscribers.isEmpty() ? null : subscribers;
+    }));
   }
 
   private void completeSafely(SseEmitter emitter) {
@@ -67,4 +212,6 @@ public class SseEmitterRepository {
     }
   }
 
+  private record Subscriber(UUID receiverId, SseEmitter emitter) {
+  }
 }
@@ -2,51 +2,26 @@ package com.codeit.playlist.domain.sse.repository;
 
 import com.codeit.playlist.domain.sse.entity.SseMessage;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.stream.Collectors;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Repository;
 
-@Repository
-public class SseMessageRepository {
+/*
+ * SSE 재연결 재전송용 메시지 저장소
+ * - memory: 노드 로컬 링 버퍼 (InMemorySseMessageRepository)
+ * - redis: 노드 간 공유, 재시작 후에도 유지 (RedisSseMessageRepository)
+ */
+public interface SseMessageRepository {
 
-  @Value("${sse.event-queue-capacity:100}")
-  private int eventQueueCapacity;
+  // 단조 증가 sequence 를 부여해 저장하고, sequence 가 부여된 메시지를 반환
+  SseMessage save(SseMessage message);
 
-  private final ConcurrentLinkedDeque<UUID> eventIdQueue = new ConcurrentLinkedDeque<>();
-  private final Map<UUID, SseMessage> messages = new ConcurrentHashMap<>();
+  // 여러 메시지를 입력 순서대로 sequence 를 부여해 한 번에 저장하고, 같은 순서로 반환
+  List<SseMessage> saveAll(List<SseMessage> messages);
 
-  public SseMessage save(SseMessage message) {
-    makeAvailableCapacity();
+  // sequence 이후 수신자에게 전달되어야 할 메시지(브로드캐스트 포함)를 sequence 순서로 반환
+  List<SseMessage> findAllBySequenceAfterAndReceiverId(long sequence, UUID receiverId);
 
-    UUID eventId = message.getEventId();
-    eventIdQueue.addLast(eventId);
-    messages.put(eventId, message);
-    return message;
-  }
+  void removeExpired();
 
-  public List<SseMessage> findAllByEventIdAfterAndReceiverId(UUID eventId, UUID receiverId) {
-    return eventIdQueue.stream()
-        .filter(Objects::nonNull)
-        .dropWhile(id -> eventId != null && !id.equals(eventId))
-        .skip(eventId != null ? 1 : 0)
-        .map(messages::get)
-        .filter(Objects::nonNull) // 동시 삭제 대비
-        .filter(msg -> msg.isReceivable(receiverId))
-        .collect(Collectors.toList());
-  }
-
-  private void makeAvailableCapacity() {
-    int capacity = Math.max(1, eventQueueCapacity);
-    int availableCapacity = capacity - eventIdQueue.size();
-    while (availableCapacity < 1) {
-      UUID removedEventId = eventIdQueue.removeFirst();
-      messages.remove(removedEventId);
-      availableCapacity++;
-    }
-  }
+  // 모든 노드가 같은 sequence 를 공유하는지 (노드 릴레이로 전달된 메시지는 원 노드의 sequence 를 SSE id 로 쓴다)
+  boolean isSharedAcrossNodes();
 }
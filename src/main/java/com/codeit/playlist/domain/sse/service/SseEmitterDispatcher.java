@@ -0,0 +1,319 @@
+package com.codeit.playlist.domain.sse.service;
+
+import com.codeit.playlist.domain.sse.repository.SseEmitterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+ * emitter 별 bounded 큐에 이벤트를 넣고, 고정된 수(workers)의 전송 워커가 ready 큐의 emitter 를 돌아가며 전송
+ * - 호출 스레드(Kafka 리스너, 스케줄러)는 큐에 넣기만 하고 SseEmitter.send 를 기다리지 않는다
+ * - 보낼 이벤트가 있는 emitter 는 ready 큐에 한 번만 들어가고 한 워커만 꺼내 가므로 이벤트 순서가 유지된다
+ *   (ready 큐 크기는 연결 수를 넘지 않으므로 emitter 마다 executor 작업을 만들던 방식처럼 executor 큐가 넘치지 않는다)
+ * - 워커는 emitter 하나에서 최대 DRAIN_BATCH 개만 보내고 다음 emitter 로 넘어가, 이벤트가 몰린 연결이 워커를 독점하지 않는다
+ * - executor 가 워커 시작을 거부해도 연결은 닫지 않고 ready 큐에 남겨 다음 전송/heartbeat 때 다시 시작한다
+ * - 큐가 가득 찬(queueCapacity 만큼 밀린) 느린 클라이언트와 전송에 실패한 emitter 는 연결을 종료하고 제거
+ * - 진행 중인 send 가 sendTimeout 을 넘기면 watchdog 이 연결을 종료하고 그 워커 자리를 돌려줘 새 워커를 시작한다
+ *   (SseEmitter.send 는 TCP 쓰기가 막히면 풀릴 때까지 반환되지 않으므로, 막힌 스레드는 워커 수에서 빼고 버린다.
+ *    send 가 풀리면 그 스레드는 더 전송하지 않고 끝난다. sseSendExecutor 는 이런 스레드를 위한 여유 스레드를 둔다)
+ * 메트릭: sse.send.queue.depth, sse.send.ready.depth, sse.send.dropped{reason=slow_consumer|error|timeout},
+ *        sse.send.worker.rejected, sse.send.worker.abandoned, sse.send.latency
+ */
+@Slf4j
+@Component
+public class SseEmitterDispatcher {
+
+  private static final long IDLE = Long.MIN_VALUE;
+  private static final long ABANDONED = Long.MIN_VALUE + 1;
+  private static final int DRAIN_BATCH = 16;
+
+  private final SseEmitterRepository sseEmitterRepository;
+  private final Executor sseSendExecutor;
+  private final int workers;
+  private final int queueCapacity;
+  private final long sendTimeoutNanos;
+
+  private final ConcurrentMap<SseEmitter, Outbound> outbounds = new ConcurrentHashMap<>();
+  // 보낼 이벤트가 있는 emitter (emitter 당 최대 하나, scheduled 로 중복 방지)
+  private final Queue<Outbound> ready = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger activeWorkers = new AtomicInteger();
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicInteger readyDepth = new AtomicInteger();
+  // send 중인 emitter (최대 workers 개, watchdog 이 이것만 훑는다)
+  private final Set<Outbound> sending = ConcurrentHashMap.newKeySet();
+  // watchdog 이 버렸지만 아직 send 에서 돌아오지 않은 스레드 수
+  private final AtomicInteger abandonedWorkers = new AtomicInteger();
+
+  private final Counter slowConsumerCounter;
+  private final Counter errorCounter;
+  private final Counter timeoutCounter;
+  private final Counter workerRejectedCounter;
+  private final Timer sendTimer;
+
+  public SseEmitterDispatcher(SseEmitterRepository sseEmitterRepository,
+      @Qualifier("sseSendExecutor") Executor sseSendExecutor,
+      MeterRegistry meterRegistry,
+      @Value("${sse.send.workers:16}") int workers,
+      @Value("${sse.send.queue-capacity:256}") int queueCapacity,
+      @Value("${sse.send.timeout-ms:10000}") long sendTimeoutMs) {
+    this.sseEmitterRepository = sseEmitterRepository;
+    this.sseSendExecutor = sseSendExecutor;
+    this.workers = Math.max(1, workers);
+    this.queueCapacity = Math.max(1, queueCapacity);
+    this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, sendTimeoutMs));
+
+    Gauge.builder("sse.send.queue.depth", queueDepth, AtomicInteger::get)
+        .description("전송 대기 중인 SSE 이벤트 수")
+        .register(meterRegistry);
+    Gauge.builder("sse.send.ready.depth", readyDepth, AtomicInteger::get)
+        .description("전송 워커를 기다리는 SSE 연결 수")
+        .register(meterRegistry);
+    Gauge.builder("sse.send.worker.abandoned", abandonedWorkers, AtomicInteger::get)
+        .description("send 가 막혀 버려진 뒤 아직 돌아오지 않은 전송 스레드 수")
+        .register(meterRegistry);
+    this.slowConsumerCounter = droppedCounter(meterRegistry, "slow_consumer");
+    this.errorCounter = droppedCounter(meterRegistry, "error");
+    this.timeoutCounter = droppedCounter(meterRegistry, "timeout");
+    this.workerRejectedCounter = Counter.builder("sse.send.worker.rejected")
+        .description("executor 가 거부한 SSE 전송 워커 시작 수 (연결은 유지)")
+        .register(meterRegistry);
+    this.sendTimer = Timer.builder("sse.send.latency")
+        .description("큐에 넣은 시점부터 SseEmitter.send 완료까지 걸린 시간")
+        .register(meterRegistry);
+  }
+
+  // 큐에 넣었으면 true, 느린 클라이언트로 판단해 연결을 종료했으면 false
+  public boolean dispatch(UUID receiverId, SseEmitter emitter, Set<DataWithMediaType> event) {
+    return enqueue(receiverId, emitter, new Pending(event, System.nanoTime(), false));
+  }
+
+  // 앞서 넣은 이벤트와 event 까지 전송한 뒤 연결 종료 (드레인 시 재연결 안내)
+  public boolean dispatchAndComplete(UUID receiverId, SseEmitter emitter, Set<DataWithMediaType> event) {
+    return enqueue(receiverId, emitter, new Pending(event, System.nanoTime(), true));
+  }
+
+  // keep-alive 전송, 이미 종료된 연결이면 false
+  public boolean heartbeat(UUID receiverId, SseEmitter emitter, Set<DataWithMediaType> event) {
+    return dispatch(receiverId, emitter, event);
+  }
+
+  // sendTimeout 을 넘긴 send 의 연결을 종료하고 워커 자리를 돌려준다
+  @Scheduled(fixedDelayString = "${sse.send.watchdog-ms:1000}")
+  public void abandonStalledSends() {
+    long now = System.nanoTime();
+    for (Outbound outbound : sending) {
+      long sendingSince = outbound.sendingSince.get();
+      if (sendingSince == IDLE || sendingSince == ABANDONED || now - sendingSince <= sendTimeoutNanos) {
+        continue;
+      }
+      // 같은 순간 send 가 끝났으면 워커가 먼저 IDLE 로 바꾸므로 CAS 에 실패하고 넘어간다
+      abandonedWorkers.incrementAndGet();
+      if (!outbound.sendingSince.compareAndSet(sendingSince, ABANDONED)) {
+        abandonedWorkers.decrementAndGet();
+        continue;
+      }
+      sending.remove(outbound);
+      activeWorkers.decrementAndGet();
+      log.warn("SSE 전송 응답 지연으로 연결 종료, 워커 교체 receiverId={}, sendTimeoutMs={}",
+          outbound.receiverId, TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+      timeoutCounter.increment();
+      close(outbound);
+      startWorkerIfNeeded();
+    }
+  }
+
+  private boolean enqueue(UUID receiverId, SseEmitter emitter, Pending pending) {
+    Outbound outbound = outbounds.computeIfAbsent(emitter, key -> register(receiverId, key));
+    if (outbound.closed) {
+      return false;
+    }
+    if (!outbound.queue.offer(pending)) {
+      log.warn("SSE 전송 큐 초과로 연결 종료 receiverId={}, queueCapacity={}", receiverId, queueCapacity);
+      slowConsumerCounter.increment();
+      close(outbound);
+      return false;
+    }
+    queueDepth.incrementAndGet();
+    schedule(outbound);
+    return true;
+  }
+
+  private Outbound register(UUID receiverId, SseEmitter emitter) {
+    Outbound outbound = new Outbound(receiverId, emitter, new ArrayBlockingQueue<>(queueCapacity));
+    emitter.onCompletion(() -> discard(outbound));
+    emitter.onTimeout(() -> discard(outbound));
+    emitter.onError(e -> discard(outbound));
+    return outbound;
+  }
+
+  private void schedule(Outbound outbound) {
+    if (outbound.scheduled.compareAndSet(false, true)) {
+      readyDepth.incrementAndGet();
+      ready.offer(outbound);
+    }
+    // 이미 ready 큐에 있어도, 앞서 워커 시작이 거부되었다면 여기서 다시 시작
+    startWorkerIfNeeded();
+  }
+
+  // ready 큐에 emitter 가 있고 실행 중인 워커가 workers 미만이면 워커 하나 추가
+  private void startWorkerIfNeeded() {
+    while (true) {
+      int active = activeWorkers.get();
+      if (active >= workers || ready.isEmpty()) {
+        return;
+      }
+      if (activeWorkers.compareAndSet(active, active + 1)) {
+        break;
+      }
+    }
+    try {
+      sseSendExecutor.execute(this::runWorker);
+    } catch (RejectedExecutionException e) {
+      // 연결 문제가 아니므로 닫지 않는다. ready 큐에 남은 emitter 는 다음 schedule/워커 종료 시 다시 시도
+      activeWorkers.decrementAndGet();
+      workerRejectedCounter.increment();
+      log.warn("SSE 전송 워커 시작 거부, 다음 전송 때 재시도 readyDepth={}", readyDepth.get());
+    }
+  }
+
+  private void runWorker() {
+    boolean abandoned = false;
+    try {
+      Outbound outbound;
+      while ((outbound = ready.poll()) != null) {
+        readyDepth.decrementAndGet();
+        if (!drain(outbound)) {
+          // watchdog 이 이미 이 워커 자리를 넘겼으므로 더 전송하지 않고 끝낸다
+          abandoned = true;
+          return;
+        }
+      }
+    } finally {
+      if (!abandoned) {
+        activeWorkers.decrementAndGet();
+        // 종료 직전에 ready 에 들어온 emitter 가 있으면 워커를 다시 시작
+        startWorkerIfNeeded();
+      }
+    }
+  }
+
+  // watchdog 이 send 를 버렸으면 false
+  private boolean drain(Outbound outbound) {
+    Pending pending;
+    int sent = 0;
+    while (sent < DRAIN_BATCH && (pending = outbound.queue.poll()) != null) {
+      queueDepth.decrementAndGet();
+      if (outbound.closed) {
+        continue;
+      }
+      sent++;
+      long startedAt = System.nanoTime();
+      outbound.sendingSince.set(startedAt);
+      sending.add(outbound);
+      Exception failure = null;
+      try {
+        outbound.emitter.send(pending.event());
+      } catch (Exception e) {
+        failure = e;
+      } finally {
+        sending.remove(outbound);
+      }
+      if (!outbound.sendingSince.compareAndSet(startedAt, IDLE)) {
+        abandonedWorkers.decrementAndGet();
+        return false;
+      }
+
+      if (failure != null) {
+        log.warn("SSE 전송 실패로 연결 종료 receiverId={}, errorMsg={}", outbound.receiverId, failure.getMessage());
+        errorCounter.increment();
+        close(outbound);
+        continue;
+      }
+      sendTimer.record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+      if (pending.completeAfterSend()) {
+        close(outbound);
+      }
+    }
+
+    // 남은 이벤트가 있으면 scheduled 를 유지한 채 ready 큐 뒤로 (다른 emitter 에 차례를 넘김)
+    if (!outbound.closed && !outbound.queue.isEmpty()) {
+      readyDepth.incrementAndGet();
+      ready.offer(outbound);
+      return true;
+    }
+    outbound.scheduled.set(false);
+    // scheduled 해제 직전에 들어온 이벤트가 남아 있으면 다시 예약
+    if (!outbound.queue.isEmpty()) {
+      schedule(outbound);
+    }
+    return true;
+  }
+
+  private void close(Outbound outbound) {
+    discard(outbound);
+    sseEmitterRepository.delete(outbound.receiverId, outbound.emitter);
+    try {
+      outbound.emitter.complete();
+    } catch (Exception e) {
+      // 이미 완료되었거나 닫힌 emitter일 수 있으므로 무시
+    }
+  }
+
+  private void discard(Outbound outbound) {
+    outbound.closed = true;
+    outbounds.remove(outbound.emitter, outbound);
+    int cleared = 0;
+    while (outbound.queue.poll() != null) {
+      cleared++;
+    }
+    queueDepth.addAndGet(-cleared);
+  }
+
+  private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+    return Counter.builder("sse.send.dropped")
+        .description("전송하지 못하고 종료된 SSE 연결 수")
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+
+  private record Pending(Set<DataWithMediaType> event, long enqueuedAt, boolean completeAfterSend) {
+  }
+
+  private static final class Outbound {
+    private final UUID receiverId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Pending> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+    // 진행 중인 send 의 시작 시각(nanoTime), 전송 중이 아니면 IDLE, watchdog 이 버렸으면 ABANDONED
+    private final AtomicLong sendingSince = new AtomicLong(IDLE);
+
+    private Outbound(UUID receiverId, SseEmitter emitter, BlockingQueue<Pending> queue) {
+      this.receiverId = receiverId;
+      this.emitter = emitter;
+      this.queue = queue;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.codeit.playlist.domain.sse.service;
+
+import com.codeit.playlist.domain.sse.entity.SseMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+/*
+ * SseMessage 를 text/event-stream 프레임(id, event, data) 바이트로 한 번만 인코딩
+ * - SseEmitter.event().data(obj) 는 emitter 마다 메시지 컨버터가 eventData 를 다시 직렬화하므로
+ *   다수의 emitter 로 보내는 메시지는 미리 인코딩한 byte[] 하나를 그대로 공유한다
+ * - byte[] 는 ByteArrayHttpMessageConverter 가 변환 없이 그대로 쓴다
+ * - 문자열 데이터는 기존처럼 JSON 인용 없이 쓰고, 그 외 객체는 애플리케이션 ObjectMapper 로 직렬화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseEventEncoder {
+
+  private final ObjectMapper objectMapper;
+
+  public Set<DataWithMediaType> encode(SseMessage message) {
+    try {
+      return Set.of(new DataWithMediaType(toFrame(message), MediaType.TEXT_EVENT_STREAM));
+    } catch (JsonProcessingException e) {
+      // 인코딩에 실패하면 emitter 별 컨버터 직렬화 경로로 대체
+      log.warn("SSE 이벤트 사전 인코딩 실패 eventId={}, eventName={}", message.getEventId(), message.getEventName(), e);
+      return message.toEvent();
+    }
+  }
+
+  private byte[] toFrame(SseMessage message) throws JsonProcessingException {
+    StringBuilder frame = new StringBuilder(128);
+    // 저장에 실패해 sequence 가 없는 메시지는 id 없이 보내 클라이언트의 Last-Event-ID 를 유지
+    if (message.getSequence() > 0) {
+      frame.append("id:").append(message.getSequence()).append('\n');
+    }
+    frame.append("event:").append(message.getEventName()).append('\n');
+
+    Object eventData = message.getEventData();
+    String data = (eventData instanceof CharSequence text)
+        ? text.toString()
+        : objectMapper.writeValueAsString(eventData);
+    // 여러 줄 데이터는 줄마다 data: 필드로 분리
+    for (String line : data.split("\r\n|\r|\n", -1)) {
+      frame.append("data:").append(line).append('\n');
+    }
+    frame.append('\n');
+    return frame.toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,98 @@
+package com.codeit.playlist.domain.sse.service;
+
+import com.codeit.playlist.domain.sse.metrics.SseMetrics;
+import com.codeit.playlist.domain.sse.relay.SseNodeRelay;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+ * SSE keep-alive 타이밍 휠
+ * - interval / tick 개의 슬롯에 연결을 순서대로 나눠 담고, tick 마다 한 슬롯의 연결에만 keep-alive 를 보낸다
+ *   → 연결마다 자기 오프셋에서 interval 주기로 heartbeat 를 받고, 한 번의 tick 은 전체의 1/슬롯 수만 처리
+ * - 전송은 SseEmitterDispatcher 를 통해 sseSendExecutor 에서 병렬로 이루어지며,
+ *   전송 실패 / 큐 초과로 이미 종료된 연결은 같은 pass 에서 휠에서 제거된다 (막힌 send 는 dispatcher watchdog 이 종료)
+ * - 해당 슬롯 수신자의 노드 presence 도 함께 갱신
+ */
+@Slf4j
+@Component
+public class SseHeartbeatWheel {
+
+  private static final Set<DataWithMediaType> KEEP_ALIVE = SseEmitter.event().comment("keep-alive").build();
+
+  private final SseEmitterDispatcher sseEmitterDispatcher;
+  private final ObjectProvider<SseNodeRelay> sseNodeRelay;
+  private final SseMetrics sseMetrics;
+
+  private final List<Set<Heartbeat>> slots;
+  private final AtomicLong nextSlot = new AtomicLong();
+  private final AtomicLong cursor = new AtomicLong();
+
+  public SseHeartbeatWheel(SseEmitterDispatcher sseEmitterDispatcher,
+      ObjectProvider<SseNodeRelay> sseNodeRelay,
+      SseMetrics sseMetrics,
+      @Value("${sse.heartbeat.interval-ms:30000}") long intervalMs,
+      @Value("${sse.heartbeat.tick-ms:1000}") long tickMs) {
+    this.sseEmitterDispatcher = sseEmitterDispatcher;
+    this.sseNodeRelay = sseNodeRelay;
+    this.sseMetrics = sseMetrics;
+
+    int slotCount = (int) Math.max(1, intervalMs / Math.max(1, tickMs));
+    this.slots = IntStream.range(0, slotCount)
+        .mapToObj(i -> ConcurrentHashMap.<Heartbeat>newKeySet())
+        .toList();
+  }
+
+  // 연결을 다음 슬롯에 순서대로 배정해 슬롯별 연결 수를 고르게 유지
+  public void register(UUID receiverId, SseEmitter emitter) {
+    Set<Heartbeat> slot = slots.get((int) (nextSlot.getAndIncrement() % slots.size()));
+    Heartbeat heartbeat = new Heartbeat(receiverId, emitter);
+    slot.add(heartbeat);
+
+    emitter.onCompletion(() -> slot.remove(heartbeat));
+    emitter.onTimeout(() -> slot.remove(heartbeat));
+    emitter.onError(e -> slot.remove(heartbeat));
+  }
+
+  @Scheduled(fixedRateString = "${sse.heartbeat.tick-ms:1000}")
+  public void tick() {
+    Set<Heartbeat> slot = slots.get((int) (cursor.getAndIncrement() % slots.size()));
+    if (slot.isEmpty()) {
+      return;
+    }
+
+    Set<UUID> aliveReceiverIds = new HashSet<>();
+    int evicted = 0;
+    for (Heartbeat heartbeat : slot) {
+      if (sseEmitterDispatcher.heartbeat(heartbeat.receiverId(), heartbeat.emitter(), KEEP_ALIVE)) {
+        aliveReceiverIds.add(heartbeat.receiverId());
+      } else {
+        slot.remove(heartbeat);
+        evicted++;
+      }
+    }
+    if (evicted > 0) {
+      sseMetrics.recordKeepAliveEvictions(evicted);
+      log.warn("Keep-alive 실패 → emitter 제거 count={}", evicted);
+    }
+    sseNodeRelay.ifAvailable(relay -> relay.refreshPresence(aliveReceiverIds));
+  }
+
+  public int size() {
+    return slots.stream().mapToInt(Set::size).sum();
+  }
+
+  private record Heartbeat(UUID receiverId, SseEmitter emitter) {
+  }
+}
@@ -4,18 +4,26 @@ import com.codeit.playlist.domain.sse.entity.SseMessage;
 import com.codeit.playlist.domain.sse.exception.InvalidEventNameException;
 import com.codeit.playlist.domain.sse.exception.SseReconnectFailedException;
 import com.codeit.playlist.domain.sse.exception.SseSendFailedException;
+import com.codeit.playlist.domain.sse.metrics.SseMetrics;
+import com.codeit.playlist.domain.sse.relay.SseNodeRelay;
 import com.codeit.playlist.domain.sse.repository.SseEmitterRepository;
 import com.codeit.playlist.domain.sse.repository.SseMessageRepository;
+import com.codeit.playlist.global.lifecycle.ConnectionDrainState;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -26,32 +34,55 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @Service
 @RequiredArgsConstructor
 public class SseService {
+  private static final String RECONNECT_EVENT = "reconnect";
+
   @Value("${sse.timeout:300000}")
   private long timeout;
 
   private final SseEmitterRepository sseEmitterRepository;
   private final SseMessageRepository sseMessageRepository;
+  private final SseEmitterDispatcher sseEmitterDispatcher;
+  private final SseEventEncoder sseEventEncoder;
+  private final SseHeartbeatWheel sseHeartbeatWheel;
+  private final SseMetrics sseMetrics;
+  private final ConnectionDrainState connectionDrainState;
+  // 다중 노드 전달 (sse.relay.type=redis 일 때만 존재)
+  private final ObjectProvider<SseNodeRelay> sseNodeRelay;
+
+  public SseEmitter connect(UUID receiverId, String lastEventId) {
+    return connect(receiverId, lastEventId, Set.of());
+  }
 
-  public SseEmitter connect(UUID receiverId, UUID lastEventId) {
+  // channels: 구독할 이벤트 이름, 비어 있으면 모든 이벤트 수신
+  public SseEmitter connect(UUID receiverId, String lastEventId, Collection<String> channels) {
     if (receiverId == null) throw SseReconnectFailedException.withId(null, null);
 
-    SseEmitter emitter = new SseEmitter(timeout);
+    Set<String> subscribedChannels = normalizeChannels(channels);
 
-    emitter.onCompletion(() -> sseEmitterRepository.delete(receiverId));
-    emitter.onTimeout(() -> sseEmitterRepository.delete(receiverId));
-    emitter.onError(e -> sseEmitterRepository.delete(receiverId));
+    // 드레인 중에는 등록하지 않고 재연결 대기 시간만 알려 다른 노드로 다시 연결하게 한다
+    if (connectionDrainState.isDraining()) {
+      return rejectWhileDraining(receiverId);
+    }
+
+    // 완료/타임아웃/에러 시 정리는 SseEmitterRepository.save 에서 연결 단위로 등록
+    SseEmitter emitter = new SseEmitter(timeout);
 
-    Optional.ofNullable(lastEventId)
+    Optional.ofNullable(parseLastEventId(receiverId, lastEventId))
         .ifPresentOrElse(
-            id -> {
-              for (SseMessage sseMessage : sseMessageRepository.findAllByEventIdAfterAndReceiverId(id, receiverId)) {
+            sequence -> {
+              List<SseMessage> missed = sseMessageRepository.findAllBySequenceAfterAndReceiverId(sequence, receiverId)
+                  .stream()
+                  .filter(sseMessage -> subscribedChannels.isEmpty() || subscribedChannels.contains(sseMessage.getEventName()))
+                  .toList();
+              for (SseMessage sseMessage : missed) {
                 try {
-                  emitter.send(sseMessage.toEvent());
+                  emitter.send(sseEventEncoder.encode(sseMessage));
                 } catch (Exception e) {
                   log.error("SSE 재전송 실패 receiverId={}, eventId={}", receiverId, sseMessage.getEventId(), e);
                   throw SseReconnectFailedException.withId(receiverId, sseMessage.getEventId());
                 }
               }
+              sseMetrics.recordReplay(missed.size());
             },
             () -> {
               if (!ping(emitter)) {
@@ -61,7 +92,9 @@ public class SseService {
               }
             }
         );
-    sseEmitterRepository.save(receiverId, emitter);
+    sseEmitterRepository.save(receiverId, emitter, subscribedChannels);
+    sseHeartbeatWheel.register(receiverId, emitter);
+    sseNodeRelay.ifAvailable(relay -> relay.registerPresence(receiverId));
     return emitter;
   }
 
@@ -75,22 +108,81 @@ public class SseService {
     }
 
     SseMessage message = sseMessageRepository.save(SseMessage.create(receiverIds, eventName, data));
-    Set<DataWithMediaType> event = message.toEvent();
-    List<UUID> failedReceivers = new ArrayList<>();
+    sseNodeRelay.ifAvailable(relay -> relay.forward(message, receiverIds));
+    deliver(message, receiverIds);
+  }
+
+  // 수신자마다 서로 다른 이벤트를 여러 건 보낼 때 (Kafka 배치 소비)
+  // emitter 조회는 한 번만 하고, 수신자별로 이벤트를 순서대로 큐에 넣는다. 전송 실패는 예외 없이 집계만 한다
+  public void sendGrouped(String eventName, Map<UUID, List<Object>> dataByReceiver) {
+    if (dataByReceiver == null || dataByReceiver.isEmpty()) {
+      return;
+    }
+    if (eventName == null || eventName.isEmpty()) {
+      throw InvalidEventNameException.withEventName(eventName);
+    }
+
+    // 배치 전체를 저장 한 번, 릴레이 한 번으로 처리 (레코드마다 호출하면 Redis 왕복이 레코드 수에 비례)
+    List<SseMessage> created = new ArrayList<>();
+    dataByReceiver.forEach((receiverId, dataList) -> dataList.forEach(data ->
+        created.add(SseMessage.create(Set.of(receiverId), eventName, data))));
+    List<SseMessage> saved = sseMessageRepository.saveAll(created);
+    sseNodeRelay.ifAvailable(relay -> relay.forwardAll(saved));
 
-    Map<UUID, SseEmitter> emitterMap = sseEmitterRepository.findAllByReceiverIdsIn(receiverIds);
+    Map<UUID, List<SseMessage>> messagesByReceiver = new LinkedHashMap<>();
+    for (SseMessage message : saved) {
+      for (UUID receiverId : message.getReceiverIds()) {
+        messagesByReceiver.computeIfAbsent(receiverId, id -> new ArrayList<>()).add(message);
+      }
+    }
+
+    Map<UUID, List<SseEmitter>> emitterMap =
+        sseEmitterRepository.findAllByReceiverIdsInAndChannel(messagesByReceiver.keySet(), eventName);
+    int failureCount = 0;
+    for (Map.Entry<UUID, List<SseEmitter>> entry : emitterMap.entrySet()) {
+      UUID receiverId = entry.getKey();
+      List<Set<DataWithMediaType>> events = messagesByReceiver.getOrDefault(receiverId, List.of()).stream()
+          .map(sseEventEncoder::encode)
+          .toList();
+      for (SseEmitter sseEmitter : entry.getValue()) {
+        for (Set<DataWithMediaType> event : events) {
+          // 실패하면 연결이 종료되므로 같은 emitter 의 나머지 이벤트는 건너뛴다
+          if (!sseEmitterDispatcher.dispatch(receiverId, sseEmitter, event)) {
+            log.error("SSE send 실패 receiverId={}, eventName={}", receiverId, eventName);
+            failureCount++;
+            break;
+          }
+        }
+      }
+    }
+
+    if (failureCount > 0) {
+      sseMetrics.recordSendFailures(false, failureCount);
+    }
+  }
+
+  // 이 노드에 연결된 emitter 에만 전달 (다른 노드에서 릴레이된 메시지 포함)
+  public void deliver(SseMessage message, Collection<UUID> receiverIds) {
+    String eventName = message.getEventName();
+    // 수신 emitter 수와 관계없이 한 번만 직렬화
+    Set<DataWithMediaType> event = sseEventEncoder.encode(message);
+    Set<UUID> failedReceivers = new LinkedHashSet<>();
+    AtomicInteger failureCount = new AtomicInteger(0);
 
-    emitterMap.forEach((id, sseEmitter) -> {
-      try {
-        sseEmitter.send(event);
-      } catch (Exception e) {
-        log.error("SSE send 실패 receiverId={}, eventName={}, eventId={}", id, eventName, message.getEventId(), e);
+    Map<UUID, List<SseEmitter>> emitterMap = sseEmitterRepository.findAllByReceiverIdsInAndChannel(receiverIds, eventName);
+
+    // 큐에 넣기만 하고 실제 전송은 SseEmitterDispatcher 에서 비동기로 처리
+    emitterMap.forEach((id, sseEmitters) -> sseEmitters.forEach(sseEmitter -> {
+      if (!sseEmitterDispatcher.dispatch(id, sseEmitter, event)) {
+        log.error("SSE send 실패 receiverId={}, eventName={}, eventId={}", id, eventName, message.getEventId());
         failedReceivers.add(id);
+        failureCount.incrementAndGet();
       }
-    });
+    }));
 
     if (!failedReceivers.isEmpty()) {
-      throw SseSendFailedException.withIds(failedReceivers, message.getEventId());
+      sseMetrics.recordSendFailures(false, failureCount.get());
+      throw SseSendFailedException.withIds(new ArrayList<>(failedReceivers), message.getEventId());
     }
   }
 
@@ -100,45 +192,81 @@ public class SseService {
     }
 
     SseMessage message = sseMessageRepository.save(SseMessage.createBroadcast(eventName, data));
-    Set<DataWithMediaType> event = message.toEvent();
+    sseNodeRelay.ifAvailable(relay -> relay.forwardBroadcast(message));
+    deliverBroadcast(message);
+  }
+
+  public void deliverBroadcast(SseMessage message) {
+    String eventName = message.getEventName();
+    Set<DataWithMediaType> event = sseEventEncoder.encode(message);
     AtomicInteger failureCount = new AtomicInteger(0);
-    sseEmitterRepository.findAll().forEach(sseEmitter -> {
-      try {
-        sseEmitter.send(event);
-      } catch (Exception e) {
-        log.error("SSE broadcast 실패 eventName={}, eventId={}", eventName, message.getEventId(), e);
+    // 이벤트 이름을 구독하는 연결만 순회
+    sseEmitterRepository.forEachByChannel(eventName, (receiverId, sseEmitter) -> {
+      if (!sseEmitterDispatcher.dispatch(receiverId, sseEmitter, event)) {
+        log.error("SSE broadcast 실패 eventName={}, eventId={}", eventName, message.getEventId());
         failureCount.incrementAndGet();
       }
     });
     if (failureCount.get() > 0) {
+      sseMetrics.recordSendFailures(true, failureCount.get());
       log.error("SSE broadcast 실패 개수={}, eventId={}", failureCount.get(), message.getEventId());
     }
   }
 
+  // 대기 중인 이벤트를 모두 보낸 뒤 retryMs 후 재연결하라는 이벤트와 함께 연결 종료
+  public boolean closeWithReconnectHint(UUID receiverId, SseEmitter emitter, long retryMs) {
+    return sseEmitterDispatcher.dispatchAndComplete(receiverId, emitter, reconnectEvent(retryMs));
+  }
+
+  // keep-alive 와 죽은 연결 정리는 SseHeartbeatWheel 에서 연결별 오프셋으로 분산 처리
   @Scheduled(fixedRate = 1000 * 60 * 5)
   public void cleanUp() {
-    sseEmitterRepository.findAll().stream()
-        .filter(sseEmitter -> !ping(sseEmitter))
-        .forEach(sseEmitter -> {
-          try {
-            sseEmitter.complete();
-          } catch (Exception e) {
-            log.warn("Failed to complete dead emitter during cleanup", e);
-          }
-        });
+    sseMessageRepository.removeExpired();
   }
 
-  //30초
-  @Scheduled(fixedRate = 30000)
-  public void keepAlive() {
-    sseEmitterRepository.findAll().forEach(emitter -> {
-      try {
-        emitter.send(SseEmitter.event().comment("keep-alive"));
-      } catch (Exception e) {
-        log.warn("Keep-alive ping 실패 → emitter 제거", e);
-        emitter.complete();
-      }
-    });
+  private Set<String> normalizeChannels(Collection<String> channels) {
+    if (channels == null || channels.isEmpty()) {
+      return Set.of();
+    }
+    return channels.stream()
+        .filter(Objects::nonNull)
+        .map(String::trim)
+        .filter(channel -> !channel.isEmpty())
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  // 이전 형식(UUID)이거나 잘못된 Last-Event-ID 는 재전송 없이 새 연결로 처리
+  private Long parseLastEventId(UUID receiverId, String lastEventId) {
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return null;
+    }
+    try {
+      return Long.parseLong(lastEventId.trim());
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 Last-Event-ID 무시 receiverId={}, lastEventId={}", receiverId, lastEventId);
+      return null;
+    }
+  }
+
+  private SseEmitter rejectWhileDraining(UUID receiverId) {
+    SseEmitter emitter = new SseEmitter(timeout);
+    try {
+      emitter.send(reconnectEvent(connectionDrainState.nextReconnectBackoffMs()));
+      emitter.complete();
+    } catch (Exception e) {
+      log.warn("드레인 중 재연결 안내 실패 receiverId={}", receiverId, e);
+      emitter.completeWithError(e);
+    }
+    return emitter;
+  }
+
+  // retry 필드로 EventSource 의 재연결 대기 시간을 바꾸고, 직접 재연결하는 클라이언트를 위해 data 에도 담는다
+  private Set<DataWithMediaType> reconnectEvent(long retryMs) {
+    return SseEmitter.event()
+        .name(RECONNECT_EVENT)
+        .reconnectTime(retryMs)
+        .data(Map.of("retryAfterMs", retryMs))
+        .build();
   }
 
   private boolean ping(SseEmitter sseEmitter) {
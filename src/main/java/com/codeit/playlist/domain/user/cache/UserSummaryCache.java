@@ -0,0 +1,31 @@
+package com.codeit.playlist.domain.user.cache;
+
+import com.codeit.playlist.domain.user.dto.data.UserSummary;
+import com.codeit.playlist.domain.user.entity.User;
+import com.codeit.playlist.domain.user.exception.UserNotFoundException;
+import com.codeit.playlist.domain.user.mapper.UserMapper;
+import com.codeit.playlist.domain.user.repository.UserRepository;
+import com.codeit.playlist.global.config.CacheConfig;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/*
+ * UserSummary read-through 캐시
+ * 무효화: BasicUserService.updateUser (@CacheEvict)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSummaryCache {
+
+  private final UserRepository userRepository;
+  private final UserMapper userMapper;
+
+  @Cacheable(cacheNames = CacheConfig.USER_SUMMARY, key = "#userId")
+  public UserSummary get(UUID userId) {
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> UserNotFoundException.withId(userId));
+    return userMapper.toUserSummary(user);
+  }
+}
@@ -0,0 +1,10 @@
+package com.codeit.playlist.domain.user.dto.data;
+
+import java.util.UUID;
+
+public record UserNameChangedEvent(
+    UUID userId,
+    String name
+) {
+
+}
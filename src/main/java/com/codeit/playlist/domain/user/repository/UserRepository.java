@@ -1,8 +1,12 @@
 package com.codeit.playlist.domain.user.repository;
 
+import com.codeit.playlist.domain.user.dto.data.UserSummary;
 import com.codeit.playlist.domain.user.entity.AuthProvider;
 import com.codeit.playlist.domain.user.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -27,4 +31,11 @@ public interface UserRepository extends JpaRepository<User, UUID> {
   void updateUserLocked(@Param("userId") UUID userId, @Param("locked") boolean locked);
 
   Optional<User> findByEmailAndProvider(String email, AuthProvider provider);
+
+  @Query("select new com.codeit.playlist.domain.user.dto.data.UserSummary(u.id, u.name, u.profileImageUrl) "
+      + "from User u where u.id in :userIds")
+  List<UserSummary> findUserSummariesByIdIn(@Param("userIds") Collection<UUID> userIds);
+
+  @Query("select u.id from User u where u.id in :userIds")
+  Set<UUID> findIdsByIdIn(@Param("userIds") Collection<UUID> userIds);
 }
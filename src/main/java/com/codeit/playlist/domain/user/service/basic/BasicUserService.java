@@ -8,6 +8,7 @@ import com.codeit.playlist.domain.file.exception.InvalidImageTypeException;
 import com.codeit.playlist.domain.security.PlaylistUserDetails;
 import com.codeit.playlist.domain.security.jwt.JwtRegistry;
 import com.codeit.playlist.domain.user.dto.data.UserDto;
+import com.codeit.playlist.domain.user.dto.data.UserNameChangedEvent;
 import com.codeit.playlist.domain.user.dto.request.ChangePasswordRequest;
 import com.codeit.playlist.domain.user.dto.request.UserCreateRequest;
 import com.codeit.playlist.domain.user.dto.request.UserLockUpdateRequest;
@@ -26,6 +27,7 @@ import com.codeit.playlist.domain.user.mapper.UserMapper;
 import com.codeit.playlist.domain.user.repository.UserRepository;
 import com.codeit.playlist.domain.user.repository.UserRepositoryCustom;
 import com.codeit.playlist.domain.user.service.UserService;
+import com.codeit.playlist.global.config.CacheConfig;
 import com.codeit.playlist.global.constant.S3Properties;
 import com.codeit.playlist.global.redis.TemporaryPasswordStore;
 import java.io.IOException;
@@ -36,6 +38,8 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -58,6 +62,7 @@ public class BasicUserService implements UserService {
   private final TemporaryPasswordStore temporaryPasswordStore;
   private final S3Uploader s3Uploader;
   private final S3Properties s3Properties;
+  private final ApplicationEventPublisher applicationEventPublisher;
 
   private static final Set<String> ALLOWED_IMAGE_TYPES = Set.of("image/jpeg", "image/png");
 
@@ -220,6 +225,7 @@ public class BasicUserService implements UserService {
   }
 
   @Override
+  @CacheEvict(cacheNames = CacheConfig.USER_SUMMARY, key = "#userId")
   public UserDto updateUser(UUID userId, UserUpdateRequest request, MultipartFile image, Authentication authentication) {
     log.debug("[프로필 관리] 프로필 변경 시작 : userId = {}", userId);
 
@@ -238,7 +244,11 @@ public class BasicUserService implements UserService {
     if (request.name() == null || request.name().isBlank()) {
       throw new UserNameRequiredException();
     }
-    user.updateUsername(request.name());
+    if (!request.name().equals(user.getName())) {
+      user.updateUsername(request.name());
+      // 시청 중이면 실시간 시청자 이름 인덱스도 커밋 후 새 이름으로 교체
+      applicationEventPublisher.publishEvent(new UserNameChangedEvent(userId, request.name()));
+    }
 
     String oldProfileImageUrl = user.getProfileImageUrl();
 
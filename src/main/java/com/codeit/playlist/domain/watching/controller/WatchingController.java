@@ -2,6 +2,7 @@ package com.codeit.playlist.domain.watching.controller;
 
 import com.codeit.playlist.domain.base.SortDirection;
 import com.codeit.playlist.domain.watching.dto.data.WatchingSessionDto;
+import com.codeit.playlist.domain.watching.dto.response.CursorResponseContentChatDto;
 import com.codeit.playlist.domain.watching.dto.response.CursorResponseWatchingSessionDto;
 import com.codeit.playlist.domain.watching.service.WatchingService;
 import jakarta.validation.constraints.Max;
@@ -53,6 +54,23 @@ public class WatchingController {
                 .body(response);
     }
 
+    @GetMapping("/contents/{contentId}/chats")
+    public ResponseEntity<CursorResponseContentChatDto> getChatsByContent(@PathVariable("contentId") UUID contentId,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "30") @Min(1) @Max(100) int limit) {
+        log.debug("[실시간 같이 보기] 특정 콘텐츠의 채팅 내역 조회(커서 페이지네이션) 시작: contentId={}, cursor={}, limit={}",
+                contentId, cursor, limit);
+
+        CursorResponseContentChatDto response = watchingService.getChatsByContent(contentId, cursor, limit);
+
+        log.info("[실시간 같이 보기] 특정 콘텐츠의 채팅 내역 조회(커서 페이지네이션) 성공: contentId={}, size={}",
+                contentId, response.data().size());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(response);
+    }
+
     @GetMapping("/users/{watcherId}/watching-sessions")
     public ResponseEntity<WatchingSessionDto> getWatchingSessionByUser(@PathVariable("watcherId") UUID watcherId) {
         log.debug("[실시간 같이 보기] 특정 사용자의 시청 세션 조회(nullable) 시작: watcherId={}", watcherId);
@@ -2,5 +2,6 @@ package com.codeit.playlist.domain.watching.dto.data;
 
 public enum ChangeType {
     JOIN,
-    LEAVE
+    LEAVE,
+    DELTA
 }
\ No newline at end of file
@@ -2,8 +2,15 @@ package com.codeit.playlist.domain.watching.dto.data;
 
 import java.util.UUID;
 
+/*
+ * Redis Stream(content:{contentId}:chat-stream)에 저장된 채팅 한 건
+ * id: stream entry ID ("{epochMillis}-{seq}"), 커서로도 사용
+ */
+
 public record RawContentChat(
+        String id,
         UUID userId,
-        String content
+        String content,
+        long sentAtEpoch
 ) {
 }
@@ -0,0 +1,9 @@
+package com.codeit.playlist.domain.watching.dto.data;
+
+import java.util.List;
+
+public record RawContentChatPage(
+        List<RawContentChat> raws,
+        boolean hasNext
+) {
+}
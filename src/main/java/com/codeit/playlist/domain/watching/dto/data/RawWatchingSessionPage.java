@@ -2,8 +2,13 @@ package com.codeit.playlist.domain.watching.dto.data;
 
 import java.util.List;
 
+// nextCursor : 저장소가 정한 다음 페이지 커서 (이름 검색), null 이면 마지막 세션의 입장 시각
 public record RawWatchingSessionPage(
         List<RawWatchingSession> raws,
-        boolean hasNext
+        boolean hasNext,
+        String nextCursor
 ) {
+    public RawWatchingSessionPage(List<RawWatchingSession> raws, boolean hasNext) {
+        this(raws, hasNext, null);
+    }
 }
@@ -0,0 +1,13 @@
+package com.codeit.playlist.domain.watching.dto.data;
+
+/*
+ * 입장/퇴장 스크립트 실행 결과
+ * session: 입장하거나 퇴장한 시청 세션 (퇴장 시 시청 세션이 없었다면 null)
+ * watcherCount: 처리 직후 콘텐츠의 시청자 수
+ */
+
+public record WatchingSessionTransition(
+        RawWatchingSession session,
+        long watcherCount
+) {
+}
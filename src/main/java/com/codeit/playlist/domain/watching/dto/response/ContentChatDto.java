@@ -3,8 +3,12 @@ package com.codeit.playlist.domain.watching.dto.response;
 
 import com.codeit.playlist.domain.user.dto.data.UserSummary;
 
+import java.time.Instant;
+
 public record ContentChatDto(
+        String id,
         UserSummary sender,
-        String content
+        String content,
+        Instant createdAt
 ) {
 }
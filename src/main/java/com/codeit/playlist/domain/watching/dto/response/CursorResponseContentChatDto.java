@@ -0,0 +1,13 @@
+package com.codeit.playlist.domain.watching.dto.response;
+
+import java.util.List;
+
+/*
+ * 채팅 내역은 최신순, nextCursor 는 마지막(가장 오래된) 메시지 ID
+ */
+public record CursorResponseContentChatDto(
+        List<ContentChatDto> data,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,18 @@
+package com.codeit.playlist.domain.watching.dto.response;
+
+import com.codeit.playlist.domain.watching.dto.data.ChangeType;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * 대형 방에서 일정 시간(window) 동안의 JOIN/LEAVE 를 묶어 보내는 압축 프레임
+ * joinedUserIds / leftUserIds: window 내에서 상쇄된 입장/퇴장은 제외
+ */
+public record WatchingSessionDelta(
+        ChangeType type, // DELTA
+        List<UUID> joinedUserIds,
+        List<UUID> leftUserIds,
+        long watcherCount
+) {
+}
@@ -2,24 +2,49 @@ package com.codeit.playlist.domain.watching.event.publisher;
 
 import com.codeit.playlist.domain.watching.dto.response.ContentChatDto;
 import com.codeit.playlist.domain.watching.dto.response.WatchingSessionChange;
-import lombok.RequiredArgsConstructor;
+import com.codeit.playlist.domain.watching.dto.response.WatchingSessionDelta;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
 
+/*
+ * 메트릭: websocket.publish.latency{destination=watch|chat} (convertAndSend 소요 시간)
+ */
 @Component
-@RequiredArgsConstructor
 public class SimpWatchingSessionPublisher implements WatchingSessionPublisher {
     private final SimpMessagingTemplate messagingTemplate;
 
+    private final Timer watchTimer;
+    private final Timer chatTimer;
+
+    public SimpWatchingSessionPublisher(SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.watchTimer = publishTimer(meterRegistry, "watch");
+        this.chatTimer = publishTimer(meterRegistry, "chat");
+    }
+
     @Override
     public void publishWatching(UUID contentId, WatchingSessionChange event) {
-        messagingTemplate.convertAndSend("/sub/contents/" + contentId + "/watch", event);
+        watchTimer.record(() -> messagingTemplate.convertAndSend("/sub/contents/" + contentId + "/watch", event));
+    }
+
+    @Override
+    public void publishWatchingDelta(UUID contentId, WatchingSessionDelta delta) {
+        watchTimer.record(() -> messagingTemplate.convertAndSend("/sub/contents/" + contentId + "/watch", delta));
     }
 
     @Override
     public void publishChat(UUID contentId, ContentChatDto contentChatDto) {
-        messagingTemplate.convertAndSend("/sub/contents/" + contentId + "/chat", contentChatDto);
+        chatTimer.record(() -> messagingTemplate.convertAndSend("/sub/contents/" + contentId + "/chat", contentChatDto));
+    }
+
+    private static Timer publishTimer(MeterRegistry meterRegistry, String destination) {
+        return Timer.builder("websocket.publish.latency")
+                .description("STOMP 메시지 발행 시간")
+                .tag("destination", destination)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,125 @@
+package com.codeit.playlist.domain.watching.event.publisher;
+
+import com.codeit.playlist.domain.watching.dto.data.ChangeType;
+import com.codeit.playlist.domain.watching.dto.response.WatchingSessionDelta;
+import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * 시청자 수가 많은 방의 JOIN/LEAVE 이벤트를 콘텐츠별로 모아 window 마다 WatchingSessionDelta 하나로 발송
+ * - 시청자 수가 minWatchers 미만인 방은 기존처럼 이벤트마다 WatchingSessionChange 발송
+ * - 이미 모으는 중인 방은 순서 보장을 위해 시청자 수와 무관하게 계속 모은다
+ * - 이벤트 없이 시청자 수만 바뀐 경우(reaper 정리)도 여기로 모아, flush 시 Redis 의 최신 시청자 수로 발송한다
+ *   (직접 발송하면 아직 나가지 않은 DELTA 의 이전 시청자 수가 뒤에 도착해 화면의 수가 되돌아갈 수 있음)
+ */
+@Component
+@Slf4j
+public class WatchingSessionCoalescer {
+    private final WatchingSessionPublisher publisher;
+    private final RedisWatchingSessionRepository redisWatchingSessionRepository;
+    private final long minWatchers;
+
+    private final ConcurrentMap<UUID, PendingDelta> pendings = new ConcurrentHashMap<>();
+
+    public WatchingSessionCoalescer(WatchingSessionPublisher publisher,
+                                    RedisWatchingSessionRepository redisWatchingSessionRepository,
+                                    @Value("${watching.coalesce.min-watchers:100}") long minWatchers) {
+        this.publisher = publisher;
+        this.redisWatchingSessionRepository = redisWatchingSessionRepository;
+        this.minWatchers = minWatchers;
+    }
+
+    // 모았으면 true, 개별 이벤트로 보내야 하면 false
+    public boolean offer(UUID contentId, ChangeType type, UUID userId, long watcherCount) {
+        PendingDelta result = pendings.compute(contentId, (id, pending) -> {
+            if (pending == null && watcherCount < minWatchers) {
+                return null;
+            }
+            PendingDelta target = (pending != null) ? pending : new PendingDelta();
+            target.add(type, userId, watcherCount);
+            return target;
+        });
+        return result != null;
+    }
+
+    // 시청자 수 변경만 예약, 다음 flush 에서 최신 시청자 수로 DELTA 발송
+    public void offerRecount(UUID contentId) {
+        pendings.compute(contentId, (id, pending) -> {
+            PendingDelta target = (pending != null) ? pending : new PendingDelta();
+            target.markRecount();
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${watching.coalesce.window-ms:500}")
+    public void flush() {
+        for (UUID contentId : pendings.keySet()) {
+            PendingDelta pending = pendings.remove(contentId);
+            if (pending == null || pending.isEmpty()) {
+                continue;
+            }
+
+            try {
+                long watcherCount = pending.needsRecount()
+                        ? redisWatchingSessionRepository.countWatchingSessionByContentId(contentId)
+                        : pending.watcherCount;
+                publisher.publishWatchingDelta(contentId, pending.toDelta(watcherCount));
+            } catch (Exception e) {
+                log.error("[실시간 같이 보기] DELTA 이벤트 발송 실패: contentId={}, errorMsg={}", contentId, e.getMessage());
+            }
+        }
+    }
+
+    // compute 안에서만 변경되고 remove 이후에는 변경되지 않으므로 별도 동기화 불필요
+    private static class PendingDelta {
+        private final Set<UUID> joined = new LinkedHashSet<>();
+        private final Set<UUID> left = new LinkedHashSet<>();
+        private long watcherCount;
+        private boolean recount;
+
+        void add(ChangeType type, UUID userId, long watcherCount) {
+            // window 안에서 입장 후 퇴장(또는 퇴장 후 재입장)한 사용자는 상쇄
+            if (type == ChangeType.JOIN) {
+                if (!left.remove(userId)) {
+                    joined.add(userId);
+                }
+            } else if (type == ChangeType.LEAVE) {
+                if (!joined.remove(userId)) {
+                    left.add(userId);
+                }
+            }
+            this.watcherCount = watcherCount;
+        }
+
+        void markRecount() {
+            this.recount = true;
+        }
+
+        boolean needsRecount() {
+            return recount;
+        }
+
+        boolean isEmpty() {
+            return joined.isEmpty() && left.isEmpty() && !recount;
+        }
+
+        WatchingSessionDelta toDelta(long watcherCount) {
+            return new WatchingSessionDelta(
+                    ChangeType.DELTA,
+                    new ArrayList<>(joined),
+                    new ArrayList<>(left),
+                    watcherCount
+            );
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.codeit.playlist.domain.watching.event.publisher;
 
 import com.codeit.playlist.domain.watching.dto.response.ContentChatDto;
 import com.codeit.playlist.domain.watching.dto.response.WatchingSessionChange;
+import com.codeit.playlist.domain.watching.dto.response.WatchingSessionDelta;
 
 import java.util.UUID;
 
 public interface WatchingSessionPublisher {
     void publishWatching(UUID contentId, WatchingSessionChange event);
 
+    void publishWatchingDelta(UUID contentId, WatchingSessionDelta delta);
+
     void publishChat(UUID contentId, ContentChatDto contentChatDto);
 }
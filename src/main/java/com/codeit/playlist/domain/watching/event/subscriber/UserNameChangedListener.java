@@ -0,0 +1,29 @@
+package com.codeit.playlist.domain.watching.event.subscriber;
+
+import com.codeit.playlist.domain.user.dto.data.UserNameChangedEvent;
+import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 프로필 이름이 바뀌면 시청 중인 세션의 이름 인덱스를 갱신 (갱신하지 않으면 옛 이름으로만 검색된다)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserNameChangedListener {
+    private final RedisWatchingSessionRepository redisWatchingSessionRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserNameChanged(UserNameChangedEvent event) {
+        try {
+            if (redisWatchingSessionRepository.renameWatcher(event.userId(), event.name())) {
+                log.debug("[실시간 같이 보기] 시청자 이름 인덱스 갱신: userId={}", event.userId());
+            }
+        } catch (RuntimeException e) {
+            // 이름 변경은 이미 커밋됐으므로 실패해도 재입장 시 새 이름으로 다시 색인된다
+            log.warn("[실시간 같이 보기] 시청자 이름 인덱스 갱신 실패: userId={}", event.userId(), e);
+        }
+    }
+}
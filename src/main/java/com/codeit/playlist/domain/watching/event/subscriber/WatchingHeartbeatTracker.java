@@ -0,0 +1,57 @@
+package com.codeit.playlist.domain.watching.event.subscriber;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * clientInboundChannel 인터셉터: STOMP heartbeat(또는 다른 프레임)를 보낸 웹소켓 세션을 모아 둔다
+ * - WatchingHeartbeatScheduler 가 주기마다 drain() 해서 세션 키 TTL 을 갱신
+ * - CONNECT 에서 클라이언트 heartbeat 를 끈(0) 세션은 연결되어 있는 동안 항상 살아있는 것으로 본다
+ */
+@Component
+public class WatchingHeartbeatTracker implements ChannelInterceptor {
+    private final Set<String> activeSessions = ConcurrentHashMap.newKeySet();
+    private final Set<String> heartbeatDisabledSessions = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (sessionId == null || type == null) {
+            return message;
+        }
+
+        if (type == SimpMessageType.CONNECT) {
+            long[] heartbeat = SimpMessageHeaderAccessor.getHeartbeat(message.getHeaders());
+            if (heartbeat == null || heartbeat[0] <= 0) {
+                heartbeatDisabledSessions.add(sessionId);
+            }
+        } else if (type == SimpMessageType.DISCONNECT) {
+            heartbeatDisabledSessions.remove(sessionId);
+            activeSessions.remove(sessionId);
+            return message;
+        }
+
+        activeSessions.add(sessionId);
+        return message;
+    }
+
+    // 지난 주기 이후 살아있음이 확인된 세션
+    public Set<String> drain() {
+        Set<String> sessionIds = new HashSet<>(heartbeatDisabledSessions);
+        for (String sessionId : activeSessions) {
+            if (activeSessions.remove(sessionId)) {
+                sessionIds.add(sessionId);
+            }
+        }
+        return sessionIds;
+    }
+}
@@ -0,0 +1,16 @@
+package com.codeit.playlist.domain.watching.exception;
+
+import java.util.UUID;
+
+public class ChatRateLimitExceededException extends WatchingException {
+    public ChatRateLimitExceededException() {
+        super(WatchingErrorCode.CHAT_RATE_LIMIT_EXCEEDED);
+    }
+
+    public static ChatRateLimitExceededException withContentIdUserId(UUID contentId, UUID userId) {
+        ChatRateLimitExceededException exception = new ChatRateLimitExceededException();
+        exception.addDetail("contentId", contentId);
+        exception.addDetail("userId", userId);
+        return exception;
+    }
+}
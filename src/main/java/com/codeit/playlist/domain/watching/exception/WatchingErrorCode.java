@@ -12,6 +12,7 @@ public enum WatchingErrorCode implements ErrorCode {
     WATCHING_SESSION_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR.value(), "실시간 세션 정보 업데이트 중 오류가 발생했습니다."),
     WATCHING_SESSION_MISMATCH(HttpStatus.BAD_REQUEST.value(), "시청 세션 정보가 일치하지 않습니다."),
     EVENT_BROADCAST_FAILED(HttpStatus.INTERNAL_SERVER_ERROR.value(), "이벤트 발송에 실패했습니다."),
+    CHAT_RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS.value(), "채팅 전송 한도를 초과했습니다."),
     JSON_SERIALIZATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR.value(), "JSON 직렬화 실패");
 
     private final int status;
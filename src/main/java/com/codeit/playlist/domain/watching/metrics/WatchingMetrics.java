@@ -0,0 +1,104 @@
+package com.codeit.playlist.domain.watching.metrics;
+
+import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/*
+ * 실시간 같이 보기 메트릭
+ * - websocket.sessions.active: 이 노드에 연결된 STOMP 세션 수 (CONNECTED ~ DISCONNECT)
+ * - watching.contents.active / watching.watchers.total: 시청 중인 콘텐츠 수 / 전체 시청자 수 (Redis 기준, 모든 노드가 같은 값)
+ * - watching.watchers.top{rank}: 시청자 수 상위 N 개 콘텐츠의 시청자 수
+ *   contentId 를 태그로 쓰면 카디널리티가 콘텐츠 수만큼 늘어나므로 순위(1..N)만 태그로 사용
+ * Redis 집계는 스크레이프마다 하지 않고 refresh-ms 주기로 갱신한 값을 노출
+ */
+@Component
+@Slf4j
+public class WatchingMetrics {
+    private final RedisWatchingSessionRepository redisWatchingSessionRepository;
+    private final int topN;
+    private final int scanCount;
+
+    private final Set<String> stompSessionIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong activeContents = new AtomicLong();
+    private final AtomicLong totalWatchers = new AtomicLong();
+    private final MultiGauge topWatchers;
+
+    public WatchingMetrics(RedisWatchingSessionRepository redisWatchingSessionRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${watching.metrics.top-n:10}") int topN,
+                           @Value("${watching.reaper.batch-size:200}") int scanCount) {
+        this.redisWatchingSessionRepository = redisWatchingSessionRepository;
+        this.topN = Math.max(1, topN);
+        this.scanCount = Math.max(1, scanCount);
+
+        Gauge.builder("websocket.sessions.active", stompSessionIds, Set::size)
+                .description("이 노드에 연결된 STOMP 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("watching.contents.active", activeContents, AtomicLong::get)
+                .description("시청자가 있는 콘텐츠 수")
+                .register(meterRegistry);
+        Gauge.builder("watching.watchers.total", totalWatchers, AtomicLong::get)
+                .description("전체 시청자 수")
+                .register(meterRegistry);
+        this.topWatchers = MultiGauge.builder("watching.watchers.top")
+                .description("시청자 수 상위 콘텐츠의 시청자 수 (rank 태그)")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            stompSessionIds.add(sessionId);
+        }
+    }
+
+    // DISCONNECT 이벤트는 세션당 여러 번 발생할 수 있으므로 세션 ID 로 관리
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        stompSessionIds.remove(event.getSessionId());
+    }
+
+    @Scheduled(fixedDelayString = "${watching.metrics.refresh-ms:30000}")
+    public void refresh() {
+        try {
+            List<UUID> contentIds = redisWatchingSessionRepository.findWatchingContentIds(scanCount);
+            Map<UUID, Long> counts = redisWatchingSessionRepository.countWatchingSessionsByContentIds(contentIds);
+
+            List<Long> top = counts.values().stream()
+                    .filter(count -> count > 0)
+                    .sorted(Comparator.reverseOrder())
+                    .limit(topN)
+                    .toList();
+
+            activeContents.set(counts.values().stream().filter(count -> count > 0).count());
+            totalWatchers.set(counts.values().stream().mapToLong(Long::longValue).sum());
+            List<MultiGauge.Row<?>> rows = IntStream.range(0, top.size())
+                    .<MultiGauge.Row<?>>mapToObj(i -> MultiGauge.Row.of(Tags.of("rank", String.valueOf(i + 1)), top.get(i)))
+                    .toList();
+            topWatchers.register(rows, true);
+        } catch (Exception e) {
+            log.warn("[실시간 같이 보기] 시청자 메트릭 갱신 실패: errorMsg={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.codeit.playlist.domain.watching.ratelimit;
+
+import com.codeit.playlist.domain.security.PlaylistUserDetails;
+import com.codeit.playlist.domain.watching.exception.ChatRateLimitExceededException;
+import com.codeit.playlist.global.error.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * clientInboundChannel 인터셉터: /pub/contents/{contentId}/chat SEND 를 컨트롤러(sendChat) 전에 제한
+ * - 한도를 넘으면 프레임만 버리고(null 반환) 보낸 사용자에게 /user/queue/errors 로 ErrorResponse 를 보낸다
+ *   (예외를 던지면 STOMP ERROR 프레임과 함께 WebSocket 연결이 닫히므로 시청 세션까지 끊긴다)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatRateLimitInterceptor implements ChannelInterceptor {
+    private static final Pattern CHAT_DESTINATION = Pattern.compile("^/pub/contents/([^/]+)/chat$");
+    static final String ERROR_DESTINATION = "/queue/errors";
+
+    private final ChatRateLimiter chatRateLimiter;
+    // WebSocketConfig 가 이 인터셉터를 주입받으므로 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        Principal principal = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+        if (destination == null || !(principal instanceof Authentication authentication)
+                || !(authentication.getPrincipal() instanceof PlaylistUserDetails userDetails)) {
+            return message;
+        }
+
+        Matcher matcher = CHAT_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return message;
+        }
+
+        UUID contentId;
+        try {
+            contentId = UUID.fromString(matcher.group(1));
+        } catch (IllegalArgumentException e) {
+            return message;
+        }
+
+        UUID userId = userDetails.getUserDto().id();
+        if (!chatRateLimiter.tryAcquire(contentId, userId)) {
+            log.warn("[실시간 같이 보기] 채팅 전송 한도 초과: contentId={}, userId={}", contentId, userId);
+            notifyThrottled(authentication, ChatRateLimitExceededException.withContentIdUserId(contentId, userId));
+            return null;
+        }
+        return message;
+    }
+
+    private void notifyThrottled(Principal principal, ChatRateLimitExceededException exception) {
+        try {
+            messagingTemplate.getObject()
+                    .convertAndSendToUser(principal.getName(), ERROR_DESTINATION, new ErrorResponse(exception));
+        } catch (Exception e) {
+            log.warn("[실시간 같이 보기] 채팅 전송 한도 초과 알림 실패: errorMsg={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.codeit.playlist.domain.watching.ratelimit;
+
+import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/*
+ * (사용자, 콘텐츠) 단위 채팅 전송 제한
+ * 1. 로컬: 인메모리 토큰 버킷(bucket4j 로컬 버킷, CAS 기반 lock-free). 일정 시간 전송이 없으면 버킷 제거
+ * 2. 노드 공통(선택): Redis fixed window, 멀티 노드에서 노드를 옮겨 다니며 한도를 우회하는 것을 막는다
+ * 메트릭: watching.chat.throttled{scope=local|global}
+ */
+@Component
+@Slf4j
+public class ChatRateLimiter {
+    private final RedisWatchingSessionRepository redisWatchingSessionRepository;
+
+    private final Bandwidth bandwidth;
+    private final Cache<BucketKey, Bucket> buckets;
+
+    private final boolean globalEnabled;
+    private final long globalMaxPerWindow;
+    private final long globalWindowMs;
+
+    private final Counter localThrottledCounter;
+    private final Counter globalThrottledCounter;
+
+    public ChatRateLimiter(RedisWatchingSessionRepository redisWatchingSessionRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${watching.chat.rate-limit.capacity:5}") long capacity,
+                           @Value("${watching.chat.rate-limit.refill-per-second:1}") long refillPerSecond,
+                           @Value("${watching.chat.rate-limit.idle-seconds:300}") long idleSeconds,
+                           @Value("${watching.chat.rate-limit.global.enabled:false}") boolean globalEnabled,
+                           @Value("${watching.chat.rate-limit.global.max-per-window:30}") long globalMaxPerWindow,
+                           @Value("${watching.chat.rate-limit.global.window-seconds:10}") long globalWindowSeconds) {
+        this.redisWatchingSessionRepository = redisWatchingSessionRepository;
+
+        this.bandwidth = Bandwidth.builder()
+                .capacity(Math.max(1, capacity))
+                .refillGreedy(Math.max(1, refillPerSecond), Duration.ofSeconds(1))
+                .build();
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(Math.max(1, idleSeconds)))
+                .build();
+
+        this.globalEnabled = globalEnabled;
+        this.globalMaxPerWindow = Math.max(1, globalMaxPerWindow);
+        this.globalWindowMs = Math.max(1, globalWindowSeconds) * 1000;
+
+        this.localThrottledCounter = Counter.builder("watching.chat.throttled")
+                .description("전송 한도 초과로 거절된 채팅 수")
+                .tag("scope", "local")
+                .register(meterRegistry);
+        this.globalThrottledCounter = Counter.builder("watching.chat.throttled")
+                .description("전송 한도 초과로 거절된 채팅 수")
+                .tag("scope", "global")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire(UUID contentId, UUID userId) {
+        Bucket bucket = buckets.get(new BucketKey(contentId, userId),
+                key -> Bucket.builder().addLimit(bandwidth).build());
+        if (!bucket.tryConsume(1)) {
+            localThrottledCounter.increment();
+            log.debug("[실시간 같이 보기] 채팅 전송 제한(로컬): contentId={}, userId={}", contentId, userId);
+            return false;
+        }
+
+        if (!globalEnabled) {
+            return true;
+        }
+
+        try {
+            long count = redisWatchingSessionRepository.incrementChatCount(contentId, userId, globalWindowMs);
+            if (count > globalMaxPerWindow) {
+                globalThrottledCounter.increment();
+                log.debug("[실시간 같이 보기] 채팅 전송 제한(노드 공통): contentId={}, userId={}, count={}",
+                        contentId, userId, count);
+                return false;
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 로컬 제한만 적용
+            log.warn("[실시간 같이 보기] 노드 공통 채팅 전송 제한 확인 실패: errorMsg={}", e.getMessage());
+        }
+        return true;
+    }
+
+    private record BucketKey(UUID contentId, UUID userId) {
+    }
+}
@@ -2,20 +2,34 @@ package com.codeit.playlist.domain.watching.repository;
 
 import com.codeit.playlist.domain.base.SortDirection;
 import com.codeit.playlist.domain.watching.dto.data.RawContentChat;
+import com.codeit.playlist.domain.watching.dto.data.RawContentChatPage;
 import com.codeit.playlist.domain.watching.dto.data.RawWatchingSession;
 import com.codeit.playlist.domain.watching.dto.data.RawWatchingSessionPage;
-import com.codeit.playlist.domain.watching.exception.JsonSerializationFailedException;
+import com.codeit.playlist.domain.watching.dto.data.WatchingSessionTransition;
 import com.codeit.playlist.domain.watching.exception.WatchingNotFoundException;
 import com.codeit.playlist.domain.watching.exception.WatchingSessionMismatch;
 import com.codeit.playlist.global.error.InvalidCursorException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /*
  * Redis 설계
@@ -33,24 +47,71 @@ import java.util.*;
  * userId
  * createdAt
  *
- * 4. ZSet: 콘텐츠별 채팅 내역 보관
- * content:{contentId}:chat
- * members = JSON { "userId" : "uuid", "content" : "String" }
- * score = sentAt(currentTimeMillis)
+ * 4. Stream: 콘텐츠별 채팅 내역 보관
+ * content:{contentId}:chat-stream
+ * entry ID = 메시지 ID(커서), fields = userId, content
+ * 길이(watching.chat.max-length)와 시간(watching.chat.retention-seconds) 기준으로 trim 되므로
+ * 퇴장 시 사용자별 채팅을 따로 지우지 않는다.
  *
- * 5. List: 특정 유저가 보낸 메시지 리스트
- * content:{contentId}:chat:{userId}
- *
- * 6. String ws:session:{sessionId}
+ * 5. String ws:session:{sessionId}
  * value: userId
+ *
+ * 6. ZSet content:{contentId}:watcher-names (시청자 이름 인덱스)
+ * members = {소문자 이름}|{입장 시각}|{watchingId}, score = 0 (ZRANGEBYLEX 로 이름 prefix 검색)
+ * 이름 검색 결과는 멤버의 사전 순(이름, 입장 시각)으로 정렬되고, 마지막 멤버를 커서로 삼아 Redis 에서 limit 만큼만 읽는다.
+ * (입장 시각은 13자리 epoch millis 라 사전 순이 시간 순과 같다)
+ * 입장/퇴장/이름 변경 스크립트에서 함께 갱신되며, watching:{watchingId} 의 nameMember 필드에 멤버를 보관한다.
+ *
+ * 7. ZSet watching:nodes (노드별 마지막 heartbeat 시각) / Set watching:node:{nodeId}:sessions (노드가 가진 웹소켓 세션)
+ * 1, 3, 5 번 키는 TTL(watching.heartbeat.session-ttl-seconds)을 가지며 STOMP heartbeat 로 갱신된다.
+ * 노드가 죽으면 WatchingSessionReaper 가 노드의 세션을 퇴장 처리하고, TTL 로 사라진 세션은 ZSet 에서 정리한다.
+ *
+ * 입장/퇴장은 Lua 스크립트(resources/redis/watching-*.lua)로 한 번의 라운드트립에 원자적으로 처리한다.
+ * 스크립트 내부에서 기존 세션/채팅 키를 조합하므로 단일 노드(Standalone) Redis 를 전제로 한다.
  * */
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class RedisWatchingSessionRepository {
+    private static final RedisScript<Long> JOIN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/watching-join.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LEAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/watching-leave.lua"), List.class);
+    private static final RedisScript<Long> RENAME_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/watching-rename.lua"), Long.class);
+    private static final RedisScript<Long> TOUCH_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/watching-touch.lua"), Long.class);
+    private static final RedisScript<Long> CHAT_RATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/watching-chat-rate.lua"), Long.class);
+    private static final RedisScript<String> CHAT_ADD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/watching-chat-add.lua"), String.class);
+
+    private static final Pattern CHAT_CURSOR_PATTERN = Pattern.compile("\\d+-\\d+");
+
+    private static final char NAME_MEMBER_SEPARATOR = '|';
+
+    private static final String NODES_KEY = "watching:nodes";
+    private static final String REAPER_LOCK_KEY = "watching:reaper:lock";
+
     private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+
+    // 이 인스턴스의 ID (heartbeat / 노드별 세션 목록)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 대형 방에서 파이프라인 한 번에 보낼 HMGET 개수
+    @Value("${watching.redis.pipeline-chunk-size:500}")
+    private int pipelineChunkSize;
+
+    @Value("${watching.heartbeat.session-ttl-seconds:90}")
+    private long sessionTtlSeconds;
+
+    @Value("${watching.chat.max-length:1000}")
+    private long chatMaxLength;
+
+    @Value("${watching.chat.retention-seconds:21600}")
+    private long chatRetentionSeconds;
 
     private String userKey(UUID userId) {
         return "user:" + userId + ":watching";
@@ -65,86 +126,212 @@ public class RedisWatchingSessionRepository {
     }
 
     private String chatKey(UUID contentId) {
-        return "content:" + contentId + ":chat";
-    }
-
-    private String chatUserKey(UUID contentId, UUID userId) {
-        return "content:" + contentId + ":chat:" + userId;
+        return "content:" + contentId + ":chat-stream";
     }
 
     private String sessionKey(String sessionId) {
         return "ws:session:" + sessionId;
     }
 
-    public void addWebSocketSession(String sessionId, UUID userId) {
-        redisTemplate.opsForValue()
-                .set(sessionKey(sessionId), userId.toString());
+    private String watcherNamesKey(UUID contentId) {
+        return "content:" + contentId + ":watcher-names";
     }
 
-    public void removeWebSocketSession(String sessionId) {
-        redisTemplate.delete(sessionKey(sessionId));
+    private String nodeSessionsKey(String nodeId) {
+        return "watching:node:" + nodeId + ":sessions";
     }
 
-    public UUID findUserBySession(String sessionId) {
-        String userId = redisTemplate.opsForValue().get(sessionKey(sessionId));
-        return userId != null ? UUID.fromString(userId) : null;
+    private String sessionTtlMillis() {
+        return String.valueOf(Math.max(1, sessionTtlSeconds) * 1000);
     }
 
-    // 입장
-    public RawWatchingSession addWatchingSession(UUID watchingId, UUID contentId, UUID userId) {
-        // 기존 세션이 있으면 먼저 제거
-        String existingWatchingId = redisTemplate.opsForValue()
-                .get(userKey(userId));
-        if (existingWatchingId != null) {
-            removeWatchingSession(userId);
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // 입장 (스크립트: 기존 세션 제거 + 세션 저장 + 웹소켓 세션 매핑 + 시청자 수 조회)
+    public WatchingSessionTransition joinWatchingSession(String sessionId,
+                                                         UUID watchingId,
+                                                         UUID contentId,
+                                                         UUID userId,
+                                                         String watcherName) {
+        long now = System.currentTimeMillis();
+        String nameMember = (watcherName == null || watcherName.isBlank())
+                ? ""
+                : normalizeName(watcherName) + NAME_MEMBER_SEPARATOR + now + NAME_MEMBER_SEPARATOR + watchingId;
+
+        Long watcherCount = redisTemplate.execute(
+                JOIN_SCRIPT,
+                List.of(userKey(userId), contentKey(contentId), watchingKey(watchingId), sessionKey(sessionId),
+                        nodeSessionsKey(nodeId), watcherNamesKey(contentId)),
+                watchingId.toString(), contentId.toString(), userId.toString(), String.valueOf(now),
+                sessionId, sessionTtlMillis(), nameMember);
+        if (watcherCount == null) {
+            return null;
         }
 
-        redisTemplate.opsForValue()
-                .set(userKey(userId), watchingId.toString());
+        return new WatchingSessionTransition(
+                new RawWatchingSession(watchingId, contentId, userId, now),
+                watcherCount
+        );
+    }
 
-        long now = System.currentTimeMillis();
+    // 퇴장 (스크립트: 웹소켓 세션 매핑 제거 + 세션 제거 + 시청자 수 조회)
+    public WatchingSessionTransition leaveWatchingSession(String sessionId) {
+        return leaveWatchingSession(nodeId, sessionId);
+    }
+
+    // 다른(죽은) 노드가 가진 세션 퇴장 (reaper)
+    public WatchingSessionTransition leaveWatchingSession(String ownerNodeId, String sessionId) {
+        List<?> result = redisTemplate.execute(LEAVE_SCRIPT,
+                List.of(sessionKey(sessionId), nodeSessionsKey(ownerNodeId)), sessionId);
+        if (result == null || result.isEmpty()) {
+            return null;
+        }
+        if (result.size() < 5) {
+            log.debug("[실시간 같이 보기] 퇴장 처리할 시청 세션 없음: sessionId={}, userId={}", sessionId, result.get(0));
+            return new WatchingSessionTransition(null, 0L);
+        }
+
+        RawWatchingSession raw = new RawWatchingSession(
+                UUID.fromString(result.get(1).toString()),
+                UUID.fromString(result.get(2).toString()),
+                UUID.fromString(result.get(0).toString()),
+                Long.parseLong(result.get(3).toString())
+        );
+        return new WatchingSessionTransition(raw, Long.parseLong(result.get(4).toString()));
+    }
+
+    // 시청 중인 사용자의 이름이 바뀌면 이름 인덱스 멤버를 교체 (스크립트, 시청 중이 아니면 false)
+    public boolean renameWatcher(UUID userId, String watcherName) {
+        String name = (watcherName == null || watcherName.isBlank()) ? "" : normalizeName(watcherName);
+        Long renamed = redisTemplate.execute(RENAME_SCRIPT, List.of(userKey(userId)), name);
+        return renamed != null && renamed > 0;
+    }
+
+    // heartbeat 받은 세션들의 TTL 갱신 (스크립트, 청크 단위)
+    public long touchWatchingSessions(Collection<String> sessionIds) {
+        List<String> keys = sessionIds.stream()
+                .map(this::sessionKey)
+                .toList();
+        int chunkSize = Math.max(1, pipelineChunkSize);
+
+        long touched = 0;
+        for (int from = 0; from < keys.size(); from += chunkSize) {
+            Long result = redisTemplate.execute(TOUCH_SCRIPT,
+                    keys.subList(from, Math.min(from + chunkSize, keys.size())), sessionTtlMillis());
+            touched += (result != null) ? result : 0L;
+        }
+        return touched;
+    }
+
+    // 노드 heartbeat
+    public void heartbeat() {
         redisTemplate.opsForZSet()
-                .add(contentKey(contentId), watchingId.toString(), now);
+                .add(NODES_KEY, nodeId, System.currentTimeMillis());
+    }
 
-        Map<String, String> map = new HashMap<>();
-        map.put("contentId", contentId.toString());
-        map.put("userId", userId.toString());
-        map.put("createdAt", String.valueOf(now));
-        redisTemplate.opsForHash()
-                .putAll(watchingKey(watchingId), map);
+    // staleBefore 이전에 마지막 heartbeat 를 보낸 노드 목록 (자기 자신 제외)
+    public Set<String> findDeadNodes(long staleBefore) {
+        Set<String> nodes = redisTemplate.opsForZSet()
+                .rangeByScore(NODES_KEY, 0, staleBefore);
+        if (nodes == null) {
+            return Set.of();
+        }
 
-        return new RawWatchingSession(watchingId, contentId, userId, now);
+        Set<String> deadNodes = new LinkedHashSet<>(nodes);
+        deadNodes.remove(nodeId);
+        return deadNodes;
     }
 
-    // 퇴장
-    public RawWatchingSession removeWatchingSession(UUID userId) {
-        String watchingIdStr = redisTemplate.opsForValue()
-                .get(userKey(userId));
-        if (watchingIdStr == null) {
-            return null;
+    // 죽은 노드의 웹소켓 세션을 batchSize 개씩 꺼냄
+    public List<String> popNodeSessions(String deadNodeId, int batchSize) {
+        List<String> sessionIds = redisTemplate.opsForSet()
+                .pop(nodeSessionsKey(deadNodeId), batchSize);
+        return (sessionIds != null) ? sessionIds : List.of();
+    }
+
+    public void removeNode(String deadNodeId) {
+        redisTemplate.opsForZSet().remove(NODES_KEY, deadNodeId);
+        redisTemplate.delete(nodeSessionsKey(deadNodeId));
+    }
+
+    // 한 주기에 한 노드만 reaper 를 실행 (락은 만료로만 해제)
+    public boolean tryAcquireReaperLock(long ttlMillis) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(REAPER_LOCK_KEY, nodeId, Duration.ofMillis(Math.max(1, ttlMillis))));
+    }
+
+    // 시청 세션 ZSet 이 있는 콘텐츠 목록 (SCAN)
+    public List<UUID> findWatchingContentIds(int scanCount) {
+        List<UUID> contentIds = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match("content:*:watching")
+                .count(Math.max(1, scanCount))
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                contentIds.add(UUID.fromString(key.substring("content:".length(), key.length() - ":watching".length())));
+            }
         }
-        UUID watchingId = UUID.fromString(watchingIdStr);
+        return contentIds;
+    }
 
-        Map<Object, Object> map = redisTemplate.opsForHash()
-                .entries(watchingKey(watchingId));
-        if (map.isEmpty()) {
-            redisTemplate.delete(userKey(userId));
-            return null;
+    // TTL 로 상세 정보(HASH)가 사라진 ZSet 멤버 제거, 제거한 수 반환
+    public long removeOrphanedWatchingSessions(UUID contentId) {
+        Set<String> watchingIds = redisTemplate.opsForZSet()
+                .range(contentKey(contentId), 0, -1);
+        if (watchingIds == null || watchingIds.isEmpty()) {
+            return 0L;
         }
 
-        UUID contentId = UUID.fromString(map.get("contentId").toString());
-        UUID uid = UUID.fromString(map.get("userId").toString());
-        long createdAtEpoch = Long.parseLong(map.get("createdAt").toString());
+        List<String> ids = new ArrayList<>(watchingIds);
+        List<String> orphaned = new ArrayList<>();
+        int chunkSize = Math.max(1, pipelineChunkSize);
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String watchingId : chunk) {
+                    stringConnection.exists("watching:" + watchingId);
+                }
+                return null;
+            });
+
+            for (int i = 0; i < chunk.size(); i++) {
+                if (!Boolean.TRUE.equals(results.get(i))) {
+                    orphaned.add(chunk.get(i));
+                }
+            }
+        }
 
-        redisTemplate.opsForZSet()
-                .remove(contentKey(contentId), watchingIdStr);
-        redisTemplate.delete(watchingKey(watchingId));
-        redisTemplate.delete(userKey(userId));
+        if (orphaned.isEmpty()) {
+            return 0L;
+        }
+        Long removed = redisTemplate.opsForZSet()
+                .remove(contentKey(contentId), orphaned.toArray());
+        removeOrphanedNames(contentId, new HashSet<>(orphaned));
+        return (removed != null) ? removed : 0L;
+    }
 
-        // 채팅 삭제
-        removeChat(contentId, uid);
+    // 이름 인덱스에서 만료된 세션의 멤버 제거 (reaper 에서만 호출되므로 전체 조회)
+    private void removeOrphanedNames(UUID contentId, Set<String> orphanedWatchingIds) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .range(watcherNamesKey(contentId), 0, -1);
+        if (members == null) {
+            return;
+        }
 
-        return new RawWatchingSession(watchingId, contentId, uid, createdAtEpoch);
+        Object[] orphanedMembers = members.stream()
+                .filter(member -> orphanedWatchingIds.contains(watchingIdOf(member)))
+                .toArray();
+        if (orphanedMembers.length > 0) {
+            redisTemplate.opsForZSet().remove(watcherNamesKey(contentId), orphanedMembers);
+        }
     }
 
     // 콘텐츠별 사용자 목록 전체 조회
@@ -193,6 +380,46 @@ public class RedisWatchingSessionRepository {
         );
     }
 
+    // 이름 prefix 로 콘텐츠별 사용자 목록 조회(커서페이지네이션)
+    // 이름 인덱스의 사전 순(이름, 입장 시각)으로 정렬하고 sortDirection 은 그 방향, 커서는 페이지 마지막 인덱스 멤버
+    // 커서를 lex 경계로 넘겨 Redis 가 limit + 1 개만 돌려주고, 그중 limit 개만 HMGET (O(log N + limit))
+    public RawWatchingSessionPage getWatchingSessionsByContentIdAndName(UUID contentId,
+                                                                        String watcherNameLike,
+                                                                        String cursor,
+                                                                        int limit,
+                                                                        SortDirection sortDirection) {
+        String prefix = normalizeName(watcherNameLike);
+        if (cursor != null && !cursor.startsWith(prefix)) {
+            log.error("[실시간 같이 보기] 유효하지 않은 커서: cursor={}", cursor);
+            throw InvalidCursorException.withCursor(cursor);
+        }
+        boolean ascending = sortDirection.equals(SortDirection.ASCENDING);
+
+        List<String> members = findNameIndexMembers(contentId, namePageRange(prefix, cursor, ascending), limit + 1, ascending);
+
+        boolean hasNext = (members.size() > limit);
+        List<String> pageMembers = hasNext ? members.subList(0, limit) : members;
+        Set<String> pageWatchingIds = pageMembers.stream()
+                .map(RedisWatchingSessionRepository::watchingIdOf)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return new RawWatchingSessionPage(
+                getPageDetails(contentId, pageWatchingIds),
+                hasNext,
+                hasNext ? pageMembers.get(pageMembers.size() - 1) : null
+        );
+    }
+
+    // 이름 prefix 에 매칭되는 사용자 수
+    public long countWatchingSessionByContentIdAndName(UUID contentId, String watcherNameLike) {
+        byte[] key = watcherNamesKey(contentId).getBytes(StandardCharsets.UTF_8);
+        Range<byte[]> range = namePrefixRange(watcherNameLike);
+
+        Long count = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.zSetCommands().zLexCount(key, range));
+        return count != null ? count : 0L;
+    }
+
     // 콘텐츠별 사용자 수 조회
     public long countWatchingSessionByContentId(UUID contentId) {
         Long count = redisTemplate.opsForZSet()
@@ -200,6 +427,30 @@ public class RedisWatchingSessionRepository {
         return count != null ? count : 0L;
     }
 
+    // 여러 콘텐츠의 사용자 수를 파이프라인 한 번(청크 단위)으로 조회
+    public Map<UUID, Long> countWatchingSessionsByContentIds(List<UUID> contentIds) {
+        Map<UUID, Long> counts = new HashMap<>();
+        int chunkSize = Math.max(1, pipelineChunkSize);
+
+        for (int from = 0; from < contentIds.size(); from += chunkSize) {
+            List<UUID> chunk = contentIds.subList(from, Math.min(from + chunkSize, contentIds.size()));
+
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (UUID contentId : chunk) {
+                    stringConnection.zCard(contentKey(contentId));
+                }
+                return null;
+            });
+
+            for (int i = 0; i < chunk.size(); i++) {
+                Object count = results.get(i);
+                counts.put(chunk.get(i), (count instanceof Number number) ? number.longValue() : 0L);
+            }
+        }
+        return counts;
+    }
+
     // 특정 사용자의 시청 세션 조회
     public RawWatchingSession getWatchingSessionByUser(UUID userId) {
         String watchingIdStr = redisTemplate.opsForValue()
@@ -229,43 +480,71 @@ public class RedisWatchingSessionRepository {
         );
     }
 
-    // 채팅
+    // 채팅 (스크립트: XADD + 길이/시간 기준 trim + 만료시간 갱신)
     public RawContentChat addChat(UUID contentId, UUID senderId, String content) {
         long now = System.currentTimeMillis();
 
-        RawContentChat rawContentChat = new RawContentChat(
-                senderId,
-                content
-        );
-
-        String chatData;
-        try {
-            chatData = objectMapper.writeValueAsString(rawContentChat);
-        } catch (JsonProcessingException e) {
-            log.error("[실시간 같이 보기] 채팅 데이터 JSON 직렬화 실패: error={}", e.getMessage());
-            throw JsonSerializationFailedException.withContentIdAndUserId(contentId, senderId);
+        String id = redisTemplate.execute(
+                CHAT_ADD_SCRIPT,
+                List.of(chatKey(contentId)),
+                String.valueOf(Math.max(1, chatMaxLength)),
+                String.valueOf(Math.max(1, chatRetentionSeconds) * 1000),
+                String.valueOf(now),
+                senderId.toString(),
+                Objects.requireNonNullElse(content, ""));
+        if (id == null) {
+            return null;
         }
 
-        redisTemplate.opsForZSet()
-                .add(chatKey(contentId), chatData, now);
-        redisTemplate.opsForList()
-                .rightPush(chatUserKey(contentId, senderId), chatData);
+        return new RawContentChat(id, senderId, content, RecordId.of(id).getTimestamp());
+    }
 
-        return rawContentChat;
+    // 노드 공통 채팅 전송 횟수 (fixed window, 스크립트: INCR + 첫 전송 시 만료시간 설정)
+    public long incrementChatCount(UUID contentId, UUID senderId, long windowMillis) {
+        Long count = redisTemplate.execute(
+                CHAT_RATE_SCRIPT,
+                List.of("chat:rate:" + contentId + ":" + senderId),
+                String.valueOf(Math.max(1, windowMillis)));
+        return count != null ? count : 0L;
     }
 
-    public void removeChat(UUID contentId, UUID senderId) {
-        List<String> messages = redisTemplate.opsForList()
-                .range(chatUserKey(contentId, senderId), 0, -1);
+    // 콘텐츠별 채팅 내역 조회(최신순, 커서 = 마지막으로 받은 메시지 ID)
+    public RawContentChatPage getChatsByContentId(UUID contentId, String cursor, int limit) {
+        Range<String> range = Range.unbounded();
+        if (cursor != null) {
+            if (!CHAT_CURSOR_PATTERN.matcher(cursor).matches()) {
+                log.error("[실시간 같이 보기] 유효하지 않은 채팅 커서: cursor={}", cursor);
+                throw InvalidCursorException.withCursor(cursor);
+            }
+            range = Range.leftUnbounded(Range.Bound.inclusive(cursor));
+        }
 
-        if (messages != null) {
-            for (String message : messages) {
-                redisTemplate.opsForZSet()
-                        .remove(chatKey(contentId), message);
+        // 커서는 inclusive 로 조회되므로 한 건 더 가져온 뒤 제외
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .reverseRange(chatKey(contentId), range, Limit.limit().count(limit + 2));
+
+        List<RawContentChat> raws = new ArrayList<>();
+        if (records != null) {
+            for (MapRecord<String, Object, Object> record : records) {
+                String id = record.getId().getValue();
+                if (id.equals(cursor)) continue;
+
+                Map<Object, Object> fields = record.getValue();
+                raws.add(new RawContentChat(
+                        id,
+                        convertObjectToUuid(fields, "userId"),
+                        fields.get("content").toString(),
+                        record.getId().getTimestamp()
+                ));
             }
         }
 
-        redisTemplate.delete(chatUserKey(contentId, senderId));
+        boolean hasNext = (raws.size() > limit);
+        if (hasNext) {
+            raws = raws.subList(0, limit);
+        }
+
+        return new RawContentChatPage(raws, hasNext);
     }
 
     // 헬퍼 메서드
@@ -285,13 +564,7 @@ public class RedisWatchingSessionRepository {
                                     String cursor,
                                     int limit,
                                     SortDirection sortDirection) {
-        long cursorLong;
-        try {
-            cursorLong = Long.parseLong(cursor);
-        } catch (NumberFormatException e) {
-            log.error("[실시간 같이 보기] 유효하지 않은 커서: cursor={}", cursor);
-            throw InvalidCursorException.withCursor(cursor);
-        }
+        long cursorLong = parseCursor(cursor);
 
         if (sortDirection.equals(SortDirection.ASCENDING)) {
             return redisTemplate.opsForZSet()
@@ -302,6 +575,60 @@ public class RedisWatchingSessionRepository {
                 .reverseRangeByScore(contentKey(contentId), 0, cursorLong - 1, 0, limit + 1);
     }
 
+    private long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            log.error("[실시간 같이 보기] 유효하지 않은 커서: cursor={}", cursor);
+            throw InvalidCursorException.withCursor(cursor);
+        }
+    }
+
+    private List<String> findNameIndexMembers(UUID contentId, Range<byte[]> range, int count, boolean ascending) {
+        byte[] key = watcherNamesKey(contentId).getBytes(StandardCharsets.UTF_8);
+        Limit pageLimit = Limit.limit().count(count);
+
+        Set<byte[]> members = redisTemplate.execute((RedisCallback<Set<byte[]>>) connection -> ascending
+                ? connection.zSetCommands().zRangeByLex(key, range, pageLimit)
+                : connection.zSetCommands().zRevRangeByLex(key, range, pageLimit));
+        if (members == null) {
+            return List.of();
+        }
+
+        List<String> result = new ArrayList<>(members.size());
+        for (byte[] member : members) {
+            result.add(new String(member, StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+
+    private Range<byte[]> namePrefixRange(String watcherNameLike) {
+        return namePageRange(normalizeName(watcherNameLike), null, true);
+    }
+
+    // [prefix, prefix + 0xFF] : UTF-8 에 0xFF 바이트는 나오지 않으므로 prefix 로 시작하는 모든 멤버
+    // 커서가 있으면 커서 멤버를 빼고 그 뒤(오름차순) 또는 앞(내림차순)으로 좁힌다
+    private Range<byte[]> namePageRange(String prefix, String cursor, boolean ascending) {
+        byte[] lower = prefix.getBytes(StandardCharsets.UTF_8);
+        byte[] upper = Arrays.copyOf(lower, lower.length + 1);
+        upper[lower.length] = (byte) 0xFF;
+        if (cursor == null) {
+            return Range.closed(lower, upper);
+        }
+
+        byte[] cursorMember = cursor.getBytes(StandardCharsets.UTF_8);
+        return ascending ? Range.leftOpen(cursorMember, upper) : Range.rightOpen(lower, cursorMember);
+    }
+
+    private static String normalizeName(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // 이름 인덱스 멤버 {소문자 이름}|{입장 시각}|{watchingId}, 이름에 구분자가 있어도 뒤에서부터 자른다
+    private static String watchingIdOf(String nameMember) {
+        return nameMember.substring(nameMember.lastIndexOf(NAME_MEMBER_SEPARATOR) + 1);
+    }
+
     private List<RawWatchingSession> getPageDetails(UUID contentId, Set<String> watchingIds) {
         List<RawWatchingSession> raws = new ArrayList<>();
         if (watchingIds == null) {
@@ -313,18 +640,33 @@ public class RedisWatchingSessionRepository {
         return raws;
     }
 
+    // ZSet 페이지의 watchingId 들을 파이프라인으로 묶어 한 번의 라운드트립(청크 단위)으로 조회
     private void getRawSessions(UUID contentId, Set<String> watchingIds, List<RawWatchingSession> raws) {
-        for (String id : watchingIds) {
-            UUID watchingId = UUID.fromString(id);
-
-            Map<Object, Object> map = redisTemplate.opsForHash()
-                    .entries(watchingKey(watchingId));
-            if (map.isEmpty()) continue;
-
-            UUID userId = UUID.fromString(map.get("userId").toString());
-            long createdAtEpoch = Long.parseLong(map.get("createdAt").toString());
-
-            raws.add(new RawWatchingSession(watchingId, contentId, userId, createdAtEpoch));
+        List<UUID> ids = watchingIds.stream()
+                .map(UUID::fromString)
+                .toList();
+        int chunkSize = Math.max(1, pipelineChunkSize);
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (UUID watchingId : chunk) {
+                    stringConnection.hMGet(watchingKey(watchingId), "userId", "createdAt");
+                }
+                return null;
+            });
+
+            for (int i = 0; i < chunk.size(); i++) {
+                List<?> fields = (List<?>) results.get(i);
+                if (fields == null || fields.get(0) == null || fields.get(1) == null) continue;
+
+                UUID userId = UUID.fromString(fields.get(0).toString());
+                long createdAtEpoch = Long.parseLong(fields.get(1).toString());
+
+                raws.add(new RawWatchingSession(chunk.get(i), contentId, userId, createdAtEpoch));
+            }
         }
     }
 
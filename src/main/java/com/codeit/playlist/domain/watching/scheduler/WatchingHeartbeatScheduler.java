@@ -0,0 +1,42 @@
+package com.codeit.playlist.domain.watching.scheduler;
+
+import com.codeit.playlist.domain.watching.event.subscriber.WatchingHeartbeatTracker;
+import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/*
+ * 노드 heartbeat + 살아있는 웹소켓 세션의 키 TTL 갱신
+ * - 주기(watching.heartbeat.interval-ms)는 세션 TTL 보다 충분히 짧아야 한다
+ * - 다른 @Scheduled 작업에 밀리지 않도록 전용 스케줄러(watchingLivenessScheduler)에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WatchingHeartbeatScheduler {
+    private final RedisWatchingSessionRepository redisWatchingSessionRepository;
+    private final WatchingHeartbeatTracker heartbeatTracker;
+
+    @Scheduled(fixedDelayString = "${watching.heartbeat.interval-ms:10000}", scheduler = "watchingLivenessScheduler")
+    public void heartbeat() {
+        try {
+            redisWatchingSessionRepository.heartbeat();
+
+            Set<String> sessionIds = heartbeatTracker.drain();
+            if (sessionIds.isEmpty()) {
+                return;
+            }
+
+            long touched = redisWatchingSessionRepository.touchWatchingSessions(sessionIds);
+            log.debug("[실시간 같이 보기] 세션 TTL 갱신: nodeId={}, sessions={}, touched={}",
+                    redisWatchingSessionRepository.getNodeId(), sessionIds.size(), touched);
+        } catch (Exception e) {
+            log.error("[실시간 같이 보기] heartbeat 실패: nodeId={}, errorMsg={}",
+                    redisWatchingSessionRepository.getNodeId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.codeit.playlist.domain.watching.scheduler;
+
+import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
+import com.codeit.playlist.domain.watching.service.WatchingSessionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * 비정상 종료된 노드의 시청 세션(유령 시청자) 정리
+ * 1. heartbeat 가 node-timeout 이상 끊긴 노드의 세션을 batch-size 개씩 퇴장 처리 (LEAVE 브로드캐스트)
+ * 2. TTL 로 상세 정보가 사라진 content:{id}:watching 멤버를 제거하고 정리된 시청자 수 브로드캐스트
+ * - 락으로 한 주기에 한 노드만 실행, heartbeat 와 같은 전용 스케줄러(watchingLivenessScheduler)에서 실행
+ * 메트릭: watching.reaper.sessions.reaped{reason=node|orphan}, watching.reaper.scan.duration
+ */
+@Component
+@Slf4j
+public class WatchingSessionReaper {
+    private final RedisWatchingSessionRepository redisWatchingSessionRepository;
+    private final WatchingSessionService watchingSessionService;
+
+    private final long intervalMs;
+    private final long nodeTimeoutMs;
+    private final int batchSize;
+
+    private final Counter nodeReapedCounter;
+    private final Counter orphanReapedCounter;
+    private final Timer scanTimer;
+
+    public WatchingSessionReaper(RedisWatchingSessionRepository redisWatchingSessionRepository,
+                                 WatchingSessionService watchingSessionService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${watching.reaper.interval-ms:30000}") long intervalMs,
+                                 @Value("${watching.heartbeat.node-timeout-ms:30000}") long nodeTimeoutMs,
+                                 @Value("${watching.reaper.batch-size:200}") int batchSize) {
+        this.redisWatchingSessionRepository = redisWatchingSessionRepository;
+        this.watchingSessionService = watchingSessionService;
+        this.intervalMs = intervalMs;
+        this.nodeTimeoutMs = nodeTimeoutMs;
+        this.batchSize = Math.max(1, batchSize);
+
+        this.nodeReapedCounter = Counter.builder("watching.reaper.sessions.reaped")
+                .description("reaper 가 정리한 시청 세션 수")
+                .tag("reason", "node")
+                .register(meterRegistry);
+        this.orphanReapedCounter = Counter.builder("watching.reaper.sessions.reaped")
+                .description("reaper 가 정리한 시청 세션 수")
+                .tag("reason", "orphan")
+                .register(meterRegistry);
+        this.scanTimer = Timer.builder("watching.reaper.scan.duration")
+                .description("reaper 1회 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${watching.reaper.interval-ms:30000}",
+            initialDelayString = "${watching.reaper.interval-ms:30000}",
+            scheduler = "watchingLivenessScheduler")
+    public void reap() {
+        if (!redisWatchingSessionRepository.tryAcquireReaperLock(intervalMs)) {
+            return;
+        }
+
+        scanTimer.record(() -> {
+            try {
+                reapDeadNodes();
+                reapOrphanedSessions();
+            } catch (Exception e) {
+                log.error("[실시간 같이 보기] 시청 세션 정리 실패: errorMsg={}", e.getMessage(), e);
+            }
+        });
+    }
+
+    private void reapDeadNodes() {
+        long staleBefore = System.currentTimeMillis() - nodeTimeoutMs;
+
+        for (String deadNodeId : redisWatchingSessionRepository.findDeadNodes(staleBefore)) {
+            long reaped = 0;
+            List<String> sessionIds;
+            while (!(sessionIds = redisWatchingSessionRepository.popNodeSessions(deadNodeId, batchSize)).isEmpty()) {
+                for (String sessionId : sessionIds) {
+                    try {
+                        if (watchingSessionService.expireWatching(deadNodeId, sessionId)) {
+                            reaped++;
+                        }
+                    } catch (Exception e) {
+                        log.warn("[실시간 같이 보기] 세션 정리 중 오류: nodeId={}, sessionId={}, errorMsg={}",
+                                deadNodeId, sessionId, e.getMessage());
+                    }
+                }
+            }
+
+            redisWatchingSessionRepository.removeNode(deadNodeId);
+            nodeReapedCounter.increment(reaped);
+            log.info("[실시간 같이 보기] 중단된 노드 세션 정리 완료: nodeId={}, reaped={}", deadNodeId, reaped);
+        }
+    }
+
+    private void reapOrphanedSessions() {
+        for (UUID contentId : redisWatchingSessionRepository.findWatchingContentIds(batchSize)) {
+            long removed = redisWatchingSessionRepository.removeOrphanedWatchingSessions(contentId);
+            if (removed == 0) {
+                continue;
+            }
+
+            orphanReapedCounter.increment(removed);
+            log.info("[실시간 같이 보기] 만료된 시청 세션 정리: contentId={}, removed={}", contentId, removed);
+            try {
+                watchingSessionService.broadcastWatcherCount(contentId);
+            } catch (Exception e) {
+                log.warn("[실시간 같이 보기] 정리된 시청자 수 브로드캐스트 실패: contentId={}, errorMsg={}",
+                        contentId, e.getMessage());
+            }
+        }
+    }
+}
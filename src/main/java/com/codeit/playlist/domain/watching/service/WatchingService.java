@@ -2,6 +2,7 @@ package com.codeit.playlist.domain.watching.service;
 
 import com.codeit.playlist.domain.base.SortDirection;
 import com.codeit.playlist.domain.watching.dto.data.WatchingSessionDto;
+import com.codeit.playlist.domain.watching.dto.response.CursorResponseContentChatDto;
 import com.codeit.playlist.domain.watching.dto.response.CursorResponseWatchingSessionDto;
 
 import java.util.UUID;
@@ -16,4 +17,6 @@ public interface WatchingService {
                                                                   String sortBy);
 
     WatchingSessionDto getWatchingSessionByUser(UUID userId);
+
+    CursorResponseContentChatDto getChatsByContent(UUID contentId, String cursor, int limit);
 }
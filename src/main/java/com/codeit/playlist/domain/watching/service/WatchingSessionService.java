@@ -10,6 +10,12 @@ public interface WatchingSessionService {
 
     void leaveWatching(String sessionId);
 
+    // 죽은 노드가 가진 세션 정리 (reaper)
+    boolean expireWatching(String nodeId, String sessionId);
+
+    // 정리된 시청자 수 브로드캐스트 (reaper)
+    void broadcastWatcherCount(UUID contentId);
+
     long count(UUID contentId);
 
     void sendChat(UUID contentId, UUID userId, ContentChatSendRequest request);
@@ -1,19 +1,25 @@
 package com.codeit.playlist.domain.watching.service.basic;
 
 import com.codeit.playlist.domain.base.SortDirection;
+import com.codeit.playlist.domain.content.dto.data.ContentDto;
 import com.codeit.playlist.domain.content.entity.Content;
 import com.codeit.playlist.domain.content.entity.Tag;
 import com.codeit.playlist.domain.content.exception.ContentNotFoundException;
 import com.codeit.playlist.domain.content.mapper.ContentMapper;
 import com.codeit.playlist.domain.content.repository.ContentRepository;
 import com.codeit.playlist.domain.content.repository.TagRepository;
+import com.codeit.playlist.domain.user.dto.data.UserSummary;
 import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
 import com.codeit.playlist.domain.user.mapper.UserMapper;
 import com.codeit.playlist.domain.user.repository.UserRepository;
+import com.codeit.playlist.domain.watching.dto.data.RawContentChat;
+import com.codeit.playlist.domain.watching.dto.data.RawContentChatPage;
 import com.codeit.playlist.domain.watching.dto.data.RawWatchingSession;
 import com.codeit.playlist.domain.watching.dto.data.RawWatchingSessionPage;
 import com.codeit.playlist.domain.watching.dto.data.WatchingSessionDto;
+import com.codeit.playlist.domain.watching.dto.response.ContentChatDto;
+import com.codeit.playlist.domain.watching.dto.response.CursorResponseContentChatDto;
 import com.codeit.playlist.domain.watching.dto.response.CursorResponseWatchingSessionDto;
 import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
 import com.codeit.playlist.domain.watching.service.WatchingService;
@@ -22,8 +28,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -49,22 +60,32 @@ public class BasicWatchingService implements WatchingService {
                         "contentId = {}, watcherNameLike = {}, cursor={}, idAfter={}, limit={}, sortDirection={}, sortBy={}",
                 contentId, watcherNameLike, cursor, idAfter, limit, sortDirection, sortBy);
 
-        RawWatchingSessionPage page = redisWatchingSessionRepository.getWatchingSessionsByContentId(
+        // watcherNameLike 는 이름 prefix 검색 (대소문자 무시, 이름 인덱스 사용, 이름 순 정렬)
+        boolean filterByName = (watcherNameLike != null && !watcherNameLike.isBlank());
+
+        RawWatchingSessionPage page = filterByName
+                ? redisWatchingSessionRepository.getWatchingSessionsByContentIdAndName(
+                contentId,
+                watcherNameLike,
+                cursor,
+                limit,
+                sortDirection)
+                : redisWatchingSessionRepository.getWatchingSessionsByContentId(
                 contentId,
                 cursor,
                 limit,
                 sortDirection);
 
-        List<WatchingSessionDto> dtos = page.raws().stream()
-                .map(this::createWatchingSessionDto)
-                .toList();
+        List<WatchingSessionDto> dtos = createWatchingSessionDtos(contentId, page.raws());
 
-        long totalCount = redisWatchingSessionRepository.countWatchingSessionByContentId(contentId);
+        long totalCount = filterByName
+                ? redisWatchingSessionRepository.countWatchingSessionByContentIdAndName(contentId, watcherNameLike)
+                : redisWatchingSessionRepository.countWatchingSessionByContentId(contentId);
         String nextCursor = null;
         UUID nextIdAfter = null;
         if (page.hasNext()) {
             RawWatchingSession last = page.raws().get(page.raws().size() - 1);
-            nextCursor = String.valueOf(last.createdAtEpoch());
+            nextCursor = (page.nextCursor() != null) ? page.nextCursor() : String.valueOf(last.createdAtEpoch());
             nextIdAfter = last.watchingId();
         }
 
@@ -93,6 +114,70 @@ public class BasicWatchingService implements WatchingService {
         return createWatchingSessionDto(raw);
     }
 
+    @Override
+    public CursorResponseContentChatDto getChatsByContent(UUID contentId, String cursor, int limit) {
+        log.debug("[실시간 같이 보기] 채팅 내역 조회 시작: contentId={}, cursor={}, limit={}", contentId, cursor, limit);
+
+        RawContentChatPage page = redisWatchingSessionRepository.getChatsByContentId(contentId, cursor, limit);
+
+        Set<UUID> senderIds = page.raws().stream()
+                .map(RawContentChat::userId)
+                .collect(Collectors.toSet());
+        Map<UUID, UserSummary> senders = senderIds.isEmpty()
+                ? Map.of()
+                : userRepository.findUserSummariesByIdIn(senderIds).stream()
+                .collect(Collectors.toMap(UserSummary::userId, Function.identity()));
+
+        List<ContentChatDto> dtos = page.raws().stream()
+                .map(raw -> new ContentChatDto(
+                        raw.id(),
+                        senders.get(raw.userId()),
+                        raw.content(),
+                        Instant.ofEpochMilli(raw.sentAtEpoch())))
+                .toList();
+
+        String nextCursor = page.hasNext() ? page.raws().get(page.raws().size() - 1).id() : null;
+
+        log.info("[실시간 같이 보기] 채팅 내역 조회 성공: contentId={}, size={}", contentId, dtos.size());
+
+        return new CursorResponseContentChatDto(dtos, nextCursor, page.hasNext());
+    }
+
+    // 페이지의 모든 세션은 같은 콘텐츠를 공유하므로 콘텐츠/태그는 한 번, 사용자는 IN 쿼리 한 번으로 조회
+    private List<WatchingSessionDto> createWatchingSessionDtos(UUID contentId, List<RawWatchingSession> raws) {
+        if (raws.isEmpty()) {
+            return List.of();
+        }
+
+        Content content = contentRepository.findById(contentId)
+                .orElseThrow(() -> ContentNotFoundException.withId(contentId));
+        List<Tag> tags = tagRepository.findByContentId(contentId);
+        ContentDto contentDto = contentMapper.toDto(content, tags);
+
+        Set<UUID> userIds = raws.stream()
+                .map(RawWatchingSession::userId)
+                .collect(Collectors.toSet());
+        Map<UUID, UserSummary> watchers = userRepository.findUserSummariesByIdIn(userIds).stream()
+                .collect(Collectors.toMap(UserSummary::userId, Function.identity()));
+
+        List<WatchingSessionDto> dtos = new ArrayList<>(raws.size());
+        for (RawWatchingSession raw : raws) {
+            UserSummary watcher = watchers.get(raw.userId());
+            if (watcher == null) {
+                log.warn("[실시간 같이 보기] 시청자 정보 없음, 목록에서 제외: watchingId={}, userId={}", raw.watchingId(), raw.userId());
+                continue;
+            }
+
+            dtos.add(new WatchingSessionDto(
+                    raw.watchingId(),
+                    Instant.ofEpochMilli(raw.createdAtEpoch()),
+                    watcher,
+                    contentDto
+            ));
+        }
+        return dtos;
+    }
+
     private WatchingSessionDto createWatchingSessionDto(RawWatchingSession raw) {
         User user = userRepository.findById(raw.userId())
                 .orElseThrow(() -> UserNotFoundException.withId(raw.userId()));
@@ -1,23 +1,19 @@
 package com.codeit.playlist.domain.watching.service.basic;
 
-import com.codeit.playlist.domain.content.entity.Content;
-import com.codeit.playlist.domain.content.entity.Tag;
+import com.codeit.playlist.domain.content.cache.ContentDtoCache;
 import com.codeit.playlist.domain.content.exception.ContentNotFoundException;
-import com.codeit.playlist.domain.content.mapper.ContentMapper;
-import com.codeit.playlist.domain.content.repository.ContentRepository;
-import com.codeit.playlist.domain.content.repository.TagRepository;
+import com.codeit.playlist.domain.user.cache.UserSummaryCache;
 import com.codeit.playlist.domain.user.dto.data.UserSummary;
-import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
-import com.codeit.playlist.domain.user.mapper.UserMapper;
-import com.codeit.playlist.domain.user.repository.UserRepository;
 import com.codeit.playlist.domain.watching.dto.data.ChangeType;
 import com.codeit.playlist.domain.watching.dto.data.RawContentChat;
 import com.codeit.playlist.domain.watching.dto.data.RawWatchingSession;
 import com.codeit.playlist.domain.watching.dto.data.WatchingSessionDto;
+import com.codeit.playlist.domain.watching.dto.data.WatchingSessionTransition;
 import com.codeit.playlist.domain.watching.dto.request.ContentChatSendRequest;
 import com.codeit.playlist.domain.watching.dto.response.ContentChatDto;
 import com.codeit.playlist.domain.watching.dto.response.WatchingSessionChange;
+import com.codeit.playlist.domain.watching.event.publisher.WatchingSessionCoalescer;
 import com.codeit.playlist.domain.watching.event.publisher.WatchingSessionPublisher;
 import com.codeit.playlist.domain.watching.exception.EventBroadcastFailedException;
 import com.codeit.playlist.domain.watching.exception.WatchingSessionUpdateException;
@@ -28,7 +24,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -37,12 +32,10 @@ import java.util.UUID;
 public class BasicWatchingSessionService implements WatchingSessionService {
     private final RedisWatchingSessionRepository redisWatchingSessionRepository;
     private final WatchingSessionPublisher publisher;
+    private final WatchingSessionCoalescer coalescer;
 
-    private final UserMapper userMapper;
-    private final UserRepository userRepository;
-    private final ContentRepository contentRepository;
-    private final ContentMapper contentMapper;
-    private final TagRepository tagRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final ContentDtoCache contentDtoCache;
 
     @Override
     public void joinWatching(String sessionId, UUID contentId, UUID userId) {
@@ -50,32 +43,48 @@ public class BasicWatchingSessionService implements WatchingSessionService {
         log.debug("[실시간 같이 보기] 콘텐츠 시청 세션 시작: " +
                 "watchingId={}, contentId={}, userId={}", watchingId, contentId, userId);
 
-        RawWatchingSession raw = redisWatchingSessionRepository.addWatchingSession(watchingId, contentId, userId);
-        redisWatchingSessionRepository.addWebSocketSession(sessionId, userId);
-        if (raw == null) {
+        WatchingSessionTransition transition = redisWatchingSessionRepository.joinWatchingSession(
+                sessionId, watchingId, contentId, userId, findWatcherName(userId));
+        if (transition == null || transition.session() == null) {
             log.error("[실시간 같이 보기] Redis 사용자 입장 처리 오류(NPE): watchingId={}, contentId={}, userId={}", watchingId, contentId, userId);
             throw new WatchingSessionUpdateException();
         }
 
-        broadcastWatchingEvent(raw, ChangeType.JOIN);
+        broadcastWatchingEvent(transition.session(), ChangeType.JOIN, transition.watcherCount());
     }
 
     @Override
     public void leaveWatching(String sessionId) {
-        UUID userId = redisWatchingSessionRepository.findUserBySession(sessionId);
-        if (userId == null) {
+        WatchingSessionTransition transition = redisWatchingSessionRepository.leaveWatchingSession(sessionId);
+        if (transition == null) {
             log.error("[실시간 같이 보기] 유효하지 않은 세션: sessionId={}", sessionId);
             throw WatchingSessionUpdateException.watchingSessionId(sessionId);
         }
-
-        redisWatchingSessionRepository.removeWebSocketSession(sessionId);
-        RawWatchingSession raw = redisWatchingSessionRepository.removeWatchingSession(userId);
-        if (raw == null) {
-            log.error("[실시간 같이 보기] Redis 사용자 퇴장 처리 오류(NPE): userId={}", userId);
+        if (transition.session() == null) {
+            log.error("[실시간 같이 보기] Redis 사용자 퇴장 처리 오류(NPE): sessionId={}", sessionId);
             throw new WatchingSessionUpdateException();
         }
 
-        broadcastWatchingEvent(raw, ChangeType.LEAVE);
+        broadcastWatchingEvent(transition.session(), ChangeType.LEAVE, transition.watcherCount());
+    }
+
+    @Override
+    public boolean expireWatching(String nodeId, String sessionId) {
+        WatchingSessionTransition transition = redisWatchingSessionRepository.leaveWatchingSession(nodeId, sessionId);
+        if (transition == null || transition.session() == null) {
+            log.debug("[실시간 같이 보기] 정리할 시청 세션 없음: nodeId={}, sessionId={}", nodeId, sessionId);
+            return false;
+        }
+
+        broadcastWatchingEvent(transition.session(), ChangeType.LEAVE, transition.watcherCount());
+        return true;
+    }
+
+    // 시청자 수 순서가 JOIN/LEAVE DELTA 와 섞이지 않도록 coalescer 를 거쳐 다음 window 에 발송
+    @Override
+    public void broadcastWatcherCount(UUID contentId) {
+        coalescer.offerRecount(contentId);
+        log.info("[실시간 같이 보기] 정리된 시청자 수 브로드캐스트 예약: contentId={}", contentId);
     }
 
     @Override
@@ -98,41 +107,46 @@ public class BasicWatchingSessionService implements WatchingSessionService {
         log.info("[실시간 같이 보기] 채팅 수신 비즈니스 로직 성공");
     }
 
-    private WatchingSessionDto createWatchingSessionDto(RawWatchingSession raw) {
-        User user = userRepository.findById(raw.userId())
-                .orElseThrow(() -> UserNotFoundException.withId(raw.userId()));
-        Content content = contentRepository.findById(raw.contentId())
-                .orElseThrow(() -> ContentNotFoundException.withId(raw.contentId()));
-        List<Tag> tags = tagRepository.findByContentId(raw.contentId());
+    // 이름 인덱스(watcherNameLike 검색)용, 사용자가 없으면 인덱싱하지 않음
+    private String findWatcherName(UUID userId) {
+        try {
+            return userSummaryCache.get(userId).name();
+        } catch (UserNotFoundException e) {
+            log.warn("[실시간 같이 보기] 이름 인덱스 생략(사용자 없음): userId={}", userId);
+            return null;
+        }
+    }
 
+    // 브로드캐스트마다 DB 를 조회하지 않도록 로컬 캐시(UserSummaryCache, ContentDtoCache) 사용
+    private WatchingSessionDto createWatchingSessionDto(RawWatchingSession raw) {
         Instant createdAt =
                 Instant.ofEpochMilli(raw.createdAtEpoch());
 
         return new WatchingSessionDto(
                 raw.watchingId(),
                 createdAt,
-                userMapper.toUserSummary(user),
-                contentMapper.toDto(content, tags)
+                userSummaryCache.get(raw.userId()),
+                contentDtoCache.get(raw.contentId())
         );
     }
 
     private ContentChatDto createContentChatDto(RawContentChat raw) {
-        User user = userRepository.findById(raw.userId())
-                .orElseThrow(() -> UserNotFoundException.withId(raw.userId()));
-        UserSummary sender = new UserSummary(
-                user.getId(),
-                user.getName(),
-                user.getProfileImageUrl()
-        );
+        UserSummary sender = userSummaryCache.get(raw.userId());
 
         return new ContentChatDto(
+                raw.id(),
                 sender,
-                raw.content()
+                raw.content(),
+                Instant.ofEpochMilli(raw.sentAtEpoch())
         );
     }
 
-    private void broadcastWatchingEvent(RawWatchingSession raw, ChangeType type) {
-        long watcherCount = count(raw.contentId());
+    private void broadcastWatchingEvent(RawWatchingSession raw, ChangeType type, long watcherCount) {
+        if (coalescer.offer(raw.contentId(), type, raw.userId(), watcherCount)) {
+            log.debug("[실시간 같이 보기] {} 이벤트 DELTA 로 병합: contentId={}, watcherCount={}", type, raw.contentId(), watcherCount);
+            return;
+        }
+
         try {
             WatchingSessionDto watchingSessionDto = createWatchingSessionDto(raw);
             WatchingSessionChange event = new WatchingSessionChange(type, watchingSessionDto, watcherCount);
@@ -3,6 +3,7 @@ package com.codeit.playlist.global.config;
 import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.annotation.EnableRetry;
@@ -49,6 +50,21 @@ public class AsyncConfig implements AsyncConfigurer {
     return executor;
   }
 
+  // SSE 전송 워커 (SseEmitterDispatcher 가 동시에 최대 sse.send.workers 개의 워커만 실행)
+  // send 가 막혀 버려진 스레드가 남아 있어도 교체 워커가 바로 돌도록 큐 없이 워커 수만큼 여유 스레드를 둔다
+  // 여유 스레드까지 모두 막히면 시작이 거부되고, dispatcher 가 다음 전송 때 다시 시도한다
+  @Bean(name = "sseSendExecutor")
+  public Executor sseSendExecutor(@Value("${sse.send.workers:16}") int workers) {
+    int poolSize = Math.max(1, workers);
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize * 2);
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("sse-");
+    executor.initialize();
+    return executor;
+  }
+
   @Override
   public Executor getAsyncExecutor() {
     return asyncExecutor();
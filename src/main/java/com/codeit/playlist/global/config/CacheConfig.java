@@ -0,0 +1,40 @@
+package com.codeit.playlist.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+ * 실시간 브로드캐스트(시청 세션 JOIN/LEAVE, 채팅)에서 반복 조회되는 DTO 의 노드 로컬 캐시
+ * - 노드 간 무효화는 하지 않으므로 TTL 을 짧게 유지한다.
+ * - transactionAware: 트랜잭션 안의 evict/put 은 커밋 이후에 반영 (커밋 전 재조회로 이전 값이 다시 캐시되는 것 방지)
+ * - recordStats: actuator metrics(cache.gets, cache.evictions ...), caches 엔드포인트로 노출
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String USER_SUMMARY = "userSummary";
+    public static final String CONTENT_DTO = "contentDto";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.realtime.maximum-size:10000}") long maximumSize,
+            @Value("${cache.realtime.ttl-seconds:60}") long ttlSeconds
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+        cacheManager.setCacheNames(List.of(USER_SUMMARY, CONTENT_DTO));
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+}
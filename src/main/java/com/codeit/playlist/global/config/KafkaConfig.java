@@ -1,9 +1,66 @@
 package com.codeit.playlist.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
 
+/*
+ * Kafka 토픽 / 리스너 컨테이너 설정
+ * - 이벤트는 수신자 ID 를 키로 발행되므로 같은 수신자의 이벤트는 항상 같은 파티션 → 한 컨슈머 스레드가 순서대로 처리
+ * - 파티션 수가 소비 병렬도의 상한이므로 리스너 concurrency 는 kafka.topics.partitions 를 넘지 않게 맞춘다
+ *   (넘는 스레드는 파티션을 배정받지 못하고 놀게 됨)
+ * - 토픽 생성은 KafkaAdmin 이 기동 시 수행하며, 이미 있는 토픽은 파티션 수가 부족할 때만 늘린다
+ */
 @EnableKafka
 @Configuration
 public class KafkaConfig {
+
+    private final int partitions;
+    private final int concurrency;
+
+    public KafkaConfig(@Value("${kafka.topics.partitions:6}") int partitions,
+                       @Value("${kafka.listener.concurrency:${kafka.topics.partitions:6}}") int concurrency) {
+        this.partitions = Math.max(1, partitions);
+        this.concurrency = Math.min(Math.max(1, concurrency), this.partitions);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "kafka.topics", name = "create", havingValue = "true", matchIfMissing = true)
+    public KafkaAdmin.NewTopics playlistTopics() {
+        return new KafkaAdmin.NewTopics(
+                TopicBuilder.name("playlist.NotificationDto").partitions(partitions).build(),
+                TopicBuilder.name("playlist.DirectMessageDto").partitions(partitions).build(),
+                TopicBuilder.name("playlist.NotificationFanOut").partitions(partitions).build()
+        );
+    }
+
+    // 레코드 단위 리스너 기본 팩토리 (Boot 기본 팩토리를 대체해 concurrency 를 파티션 수에 맞춤)
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> kafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setConcurrency(concurrency);
+        return factory;
+    }
+
+    // poll 한 번에 받은 레코드를 List 로 전달하는 리스너용 (spring.kafka.* 설정은 기본 팩토리와 동일하게 적용)
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        return factory;
+    }
 }
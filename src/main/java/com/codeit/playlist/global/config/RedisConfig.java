@@ -1,5 +1,7 @@
 package com.codeit.playlist.global.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,8 +10,13 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
 
 @Configuration
+@Slf4j
 public class RedisConfig {
 
     @Bean
@@ -36,4 +43,34 @@ public class RedisConfig {
     public StringRedisTemplate redisTemplate(RedisConnectionFactory redisConnectionFactory) {
         return new StringRedisTemplate(redisConnectionFactory);
     }
+
+    /*
+     * pub/sub 수신 메시지 디스패치 전용 executor
+     * - 지정하지 않으면 SimpleAsyncTaskExecutor 가 메시지마다 스레드를 만들어 스레드 수 제한도, 채널 내 순서도 없다
+     * - 단일 스레드로 채널별 발행 순서를 그대로 유지 (리스너는 로컬 채널/큐로 넘기기만 하므로 한 스레드로 충분)
+     * - 큐가 가득 차면 수신 스레드(Lettuce 이벤트 루프)를 막지 않도록 버리고 경고만 남긴다
+     */
+    @Bean
+    public Executor redisListenerExecutor(
+            @Value("${redis.listener.queue-capacity:10000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("redis-listener-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("[Redis] pub/sub 수신 큐 포화로 메시지 폐기: queueSize={}", pool.getQueue().size()));
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       @Qualifier("redisListenerExecutor") Executor redisListenerExecutor) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(redisListenerExecutor);
+        return container;
+    }
 }
@@ -0,0 +1,44 @@
+package com.codeit.playlist.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/*
+ * @Scheduled 작업 스케줄러
+ * - taskScheduler: scheduler 를 지정하지 않은 작업의 기본 스케줄러 (spring.task.scheduling.pool.size)
+ *   콘텐츠 배치처럼 오래 걸리는 작업이 있어도 SSE keep-alive tick, 시청자 수 병합 등이 밀리지 않도록 여러 스레드를 둔다
+ * - watchingLivenessScheduler: 노드 heartbeat 와 reaper 전용
+ *   heartbeat 가 node-timeout 동안 밀리면 다른 노드가 이 노드의 살아있는 세션을 정리하므로 다른 작업과 스레드를 나누지 않는다
+ * - outboxRelayScheduler: outbox relay 전용 (send/flush/ack 대기가 최대 send-timeout-ms 동안 블로킹)
+ * STOMP simple broker 의 heartbeat 는 WebSocketConfig 의 messageBrokerTaskScheduler 를 따로 쓴다
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(1, poolSize));
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    // heartbeat 1 + reaper 1 (reaper 가 오래 걸려도 heartbeat 는 제 주기에 실행)
+    @Bean(name = "watchingLivenessScheduler")
+    public ThreadPoolTaskScheduler watchingLivenessScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("watching-liveness-");
+        return scheduler;
+    }
+
+    @Bean(name = "outboxRelayScheduler")
+    public ThreadPoolTaskScheduler outboxRelayScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("outbox-relay-");
+        return scheduler;
+    }
+}
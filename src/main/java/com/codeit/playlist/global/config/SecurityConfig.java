@@ -63,6 +63,7 @@ public class SecurityConfig {
             .requestMatchers(HttpMethod.POST, "/api/users").permitAll()
             .requestMatchers("/api/auth/csrf-token").permitAll()
             .requestMatchers("/actuator/health").permitAll()
+            .requestMatchers("/actuator/drain").hasRole("ADMIN")
 
             // 웹 소켓 핸드웨이크를 위한 엔드포인트
             .requestMatchers("/ws/**").permitAll()
@@ -1,26 +1,54 @@
 package com.codeit.playlist.global.config;
 
+import com.codeit.playlist.domain.watching.event.subscriber.WatchingHeartbeatTracker;
+import com.codeit.playlist.domain.watching.ratelimit.ChatRateLimitInterceptor;
+import com.codeit.playlist.global.error.StompErrorHandler;
 import com.codeit.playlist.global.interceptor.WebSocketAuthInterceptor;
+import com.codeit.playlist.global.websocket.StompBrokerRelay;
+import com.codeit.playlist.global.websocket.WebSocketSessionRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+    private final WatchingHeartbeatTracker watchingHeartbeatTracker;
+    private final ChatRateLimitInterceptor chatRateLimitInterceptor;
+    private final StompErrorHandler stompErrorHandler;
+    private final ObjectProvider<StompBrokerRelay> stompBrokerRelay;
+    private final WebSocketSessionRegistry webSocketSessionRegistry;
 
     @Value("${websocket.allowed-origins}")
     private String allowedOrigins;
 
+    // 서버/클라이언트 STOMP heartbeat 주기 (시청 세션 TTL 갱신에 사용)
+    @Value("${websocket.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.setErrorHandler(stompErrorHandler);
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns(allowedOrigins.split(","))
                 .withSockJS(); // SockJS fallback 지원
@@ -30,11 +58,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/pub");
 
-        registry.enableSimpleBroker("/sub");
+        // /queue: 사용자 전용 알림 (/user/queue/errors, 채팅 전송 한도 초과 등)
+        registry.enableSimpleBroker("/sub", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(messageBrokerTaskScheduler);
+
+        // 멀티 인스턴스: 서버 발행 메시지를 다른 인스턴스의 SimpleBroker 로도 전달
+        stompBrokerRelay.ifAvailable(relay -> registry.configureBrokerChannel().interceptors(relay));
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(webSocketAuthInterceptor);
+        registration.interceptors(webSocketAuthInterceptor, watchingHeartbeatTracker, chatRateLimitInterceptor);
+    }
+
+    // 드레인 시 세션을 직접 닫기 위해 열린 WebSocket 세션을 추적
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(webSocketSessionRegistry);
     }
-}
\ No newline at end of file
+}
@@ -10,7 +10,8 @@ public enum BaseErrorCode implements ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 내부 오류가 발생했습니다."),
     INVALID_SORT_DIRECTION(HttpStatus.BAD_REQUEST.value(), "sortDirection은 'ASCENDING' 또는 'DESCENDING'만 가능합니다."),
     INVALID_SORT_BY(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 'sortBy' 값입니다."),
-    INVALID_CURSOR(HttpStatus.BAD_REQUEST.value(), "cursor는 'yyyy-MM-ddTHH:mm:ss' 형식이어야 합니다.");
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST.value(), "cursor는 'yyyy-MM-ddTHH:mm:ss' 형식이어야 합니다."),
+    SERVER_DRAINING(HttpStatus.SERVICE_UNAVAILABLE.value(), "서버가 재시작 준비 중입니다. 잠시 후 다시 연결해 주세요.");
 
     private final int status;
     private final String message;
@@ -0,0 +1,14 @@
+package com.codeit.playlist.global.error;
+
+public class ServerDrainingException extends BusinessException {
+
+  public ServerDrainingException() {
+    super(BaseErrorCode.SERVER_DRAINING);
+  }
+
+  public static ServerDrainingException withRetryAfter(long retryAfterMs) {
+    ServerDrainingException exception = new ServerDrainingException();
+    exception.addDetail("retryAfterMs", retryAfterMs);
+    return exception;
+  }
+}
@@ -0,0 +1,51 @@
+package com.codeit.playlist.global.error;
+
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * 인바운드 처리 중 BusinessException 이 발생하면 ERROR 프레임의 message 헤더에 에러 코드, 본문에 메시지를 담는다
+ * details 는 같은 이름의 헤더로 전달 (예: 드레인 중 거절 시 retryAfterMs)
+ * (기본 구현은 MessageDeliveryException 메시지를 그대로 노출)
+ */
+@Component
+public class StompErrorHandler extends StompSubProtocolErrorHandler {
+
+    @Override
+    protected Message<byte[]> handleInternal(StompHeaderAccessor errorHeaderAccessor,
+                                             byte[] errorPayload,
+                                             @Nullable Throwable cause,
+                                             @Nullable StompHeaderAccessor clientHeaderAccessor) {
+        BusinessException businessException = findBusinessException(cause);
+        if (businessException == null) {
+            return super.handleInternal(errorHeaderAccessor, errorPayload, cause, clientHeaderAccessor);
+        }
+
+        errorHeaderAccessor.setMessage(businessException.getErrorCodeName());
+        businessException.getDetails().forEach((key, value) ->
+                errorHeaderAccessor.setNativeHeader(key, String.valueOf(value)));
+        if (clientHeaderAccessor != null && clientHeaderAccessor.getReceipt() != null) {
+            errorHeaderAccessor.setReceiptId(clientHeaderAccessor.getReceipt());
+        }
+
+        byte[] payload = businessException.getMessage().getBytes(StandardCharsets.UTF_8);
+        return MessageBuilder.createMessage(payload, errorHeaderAccessor.getMessageHeaders());
+    }
+
+    private BusinessException findBusinessException(@Nullable Throwable cause) {
+        Throwable current = cause;
+        while (current != null) {
+            if (current instanceof BusinessException businessException) {
+                return businessException;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+}
@@ -8,6 +8,8 @@ import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
 import com.codeit.playlist.domain.user.mapper.UserMapper;
 import com.codeit.playlist.domain.user.repository.UserRepository;
+import com.codeit.playlist.global.error.ServerDrainingException;
+import com.codeit.playlist.global.lifecycle.ConnectionDrainState;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -29,6 +31,7 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ConnectionDrainState connectionDrainState;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -38,6 +41,11 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
         }
 
         if (StompCommand.CONNECT == accessor.getCommand()) {
+            // 드레인 중에는 인증(DB 조회) 전에 거절하고 ERROR 프레임으로 재연결 대기 시간을 알린다
+            if (connectionDrainState.isDraining()) {
+                throw ServerDrainingException.withRetryAfter(connectionDrainState.nextReconnectBackoffMs());
+            }
+
             String authHeader = accessor.getFirstNativeHeader("Authorization");
             if (authHeader == null) {
                 log.error("[WebSocket] 웹 소켓 인증을 위한 Authorization 헤더 없음");
@@ -2,44 +2,36 @@ package com.codeit.playlist.global.kafka;
 
 import com.codeit.playlist.domain.message.event.message.DirectMessageSentEvent;
 import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+// 커밋 직전에 발행 트랜잭션 안에서 outbox 에 기록 → 실제 Kafka 발행은 OutboxRelay 가 담당 (수신자 ID 를 키로 사용)
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class KafkaProduceRequiredEventListener {
 
-  private final KafkaTemplate<String, String> kafkaTemplate;
-  private final ObjectMapper objectMapper;
+  private final OutboxEventWriter outboxEventWriter;
 
-  @Async("eventTaskExecutor")
-  @TransactionalEventListener
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void onDirectMessageEvent(DirectMessageSentEvent event) {
-    sendToKafka("playlist.DirectMessageDto", event.message());
+    appendToOutbox("playlist.DirectMessageDto", event.message().receiver().userId(), event.message());
   }
 
-  @Async("eventTaskExecutor")
-  @TransactionalEventListener
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
   public void onNotificationEvent(NotificationDto notification) {
-    sendToKafka("playlist.NotificationDto", notification);
+    appendToOutbox("playlist.NotificationDto", notification.receiverId(), notification);
   }
 
-  private <T> void sendToKafka(String topic, T event) {
+  private <T> void appendToOutbox(String topic, UUID key, T event) {
     try {
-      String payload = objectMapper.writeValueAsString(event);
-      kafkaTemplate.send(topic, payload)
-          .whenComplete((result, ex) -> {
-            if (ex != null) {
-          log.error("[Kafka] 메시지 전송 실패: topic={}", topic, ex);
-        }
-          });
+      outboxEventWriter.append(topic, key, event);
     } catch (JsonProcessingException e) {
       log.error("[Kafka] DTO 직렬화 실패", e);
       throw new RuntimeException(e);
@@ -3,91 +3,194 @@ package com.codeit.playlist.global.kafka;
 import com.codeit.playlist.domain.message.dto.data.DirectMessageDto;
 import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
 import com.codeit.playlist.domain.notification.entity.Level;
+import com.codeit.playlist.domain.notification.event.NotificationFanOutEvent;
+import com.codeit.playlist.domain.notification.fanout.NotificationAudienceReader;
+import com.codeit.playlist.domain.notification.fanout.NotificationFanOutWriter;
 import com.codeit.playlist.domain.notification.service.NotificationService;
-import com.codeit.playlist.domain.sse.entity.SseMessage;
 import com.codeit.playlist.domain.sse.service.SseService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+/*
+ * 알림 토픽 배치 소비
+ * - 값은 토픽별 바이너리 Deserializer(NotificationDtoDeserializer, DirectMessageDtoDeserializer)가 컨슈머에서 바로 DTO 로 변환
+ * - poll 한 번에 받은 레코드의 알림을 한 트랜잭션에서 일괄 저장
+ * - SSE 는 수신자별로 묶어 SseService.sendGrouped 로 전달 (저장 후 전송 실패로 배치가 재처리되지 않도록 예외는 로그만 남김)
+ * - 역직렬화에 실패한 레코드는 ErrorHandlingDeserializer 가 null 값으로 넘기므로 건너뛴다
+ * fan-out 토픽은 대상 집단(팔로워, 플레이리스트 구독자)만 담긴 이벤트를 받아 수신자를 페이지 단위로 펼친다
+ * (페이지 저장과 진행 위치를 함께 커밋하므로 재전달되어도 이미 저장한 수신자에게 다시 알리지 않는다)
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class NotificationRequiredTopicListener {
 
+  private static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+  private static final String MAX_POLL_RECORDS = "max.poll.records=${kafka.notification.max-poll-records:500}";
+  private static final String ERROR_HANDLING_VALUE_DESERIALIZER =
+      "value.deserializer=org.springframework.kafka.support.serializer.ErrorHandlingDeserializer";
+  private static final String NOTIFICATION_VALUE_DESERIALIZER =
+      "spring.deserializer.value.delegate.class=com.codeit.playlist.global.kafka.serialization.NotificationDtoDeserializer";
+  private static final String DIRECT_MESSAGE_VALUE_DESERIALIZER =
+      "spring.deserializer.value.delegate.class=com.codeit.playlist.global.kafka.serialization.DirectMessageDtoDeserializer";
+
   private final ObjectMapper objectMapper;
   private final SseService sseService;
   private final NotificationService notificationService;
+  private final NotificationAudienceReader notificationAudienceReader;
+  private final NotificationFanOutWriter notificationFanOutWriter;
+
+  @Value("${kafka.notification.fan-out-page-size:1000}")
+  private int fanOutPageSize;
+
+  @KafkaListener(topics = "playlist.DirectMessageDto",
+      containerFactory = BATCH_LISTENER_CONTAINER_FACTORY,
+      properties = {MAX_POLL_RECORDS, ERROR_HANDLING_VALUE_DESERIALIZER, DIRECT_MESSAGE_VALUE_DESERIALIZER})
+  public void onDirectMessageEvents(List<ConsumerRecord<String, DirectMessageDto>> kafkaEvents) {
+    List<DirectMessageDto> events = valuesOf(kafkaEvents);
+    if (events.isEmpty()) {
+      return;
+    }
 
-  @KafkaListener(topics = "playlist.DirectMessageDto")
-  public void onDirectMessageEvent(String kafkaEvent) {
-    try {
-      DirectMessageDto event = objectMapper.readValue(kafkaEvent, DirectMessageDto.class);
-
-      UUID receiverId = event.receiver().userId();
-
-      String title = String.format("[DM] %s", event.sender().name());
-      String rawMessage = event.content();
-      String preview = rawMessage.length() > 30 ? rawMessage.substring(0, 30) + "..." : rawMessage;
-
-      String content = String.format("%s", preview);
-      notificationService.saveNotification(receiverId, title, content, Level.INFO);
+    List<NotificationDto> notifications = events.stream()
+        .map(event -> {
+          String title = String.format("[DM] %s", event.sender().name());
+          String rawMessage = event.content();
+          String preview = rawMessage.length() > 30 ? rawMessage.substring(0, 30) + "..." : rawMessage;
+          return new NotificationDto(null, null, event.receiver().userId(), title, preview, Level.INFO);
+        })
+        .toList();
+    notificationService.saveNotifications(notifications);
+
+    Map<UUID, List<Object>> dataByReceiver = new LinkedHashMap<>();
+    events.forEach(event ->
+        dataByReceiver.computeIfAbsent(event.receiver().userId(), id -> new ArrayList<>()).add(event));
+    sendGrouped("direct-messages", dataByReceiver);
+
+    log.info("[Notification] DM SSE 배치 전송 완료: records={}, receivers={}", events.size(), dataByReceiver.size());
+  }
 
-      SseMessage sseMessage = SseMessage.create(
-          Set.of(receiverId),
-          "direct-messages",
-          event
-      );
+  @KafkaListener(topics = "playlist.NotificationDto",
+      containerFactory = BATCH_LISTENER_CONTAINER_FACTORY,
+      properties = {MAX_POLL_RECORDS, ERROR_HANDLING_VALUE_DESERIALIZER, NOTIFICATION_VALUE_DESERIALIZER})
+  public void onNotificationEvents(List<ConsumerRecord<String, NotificationDto>> kafkaEvents) {
+    List<NotificationDto> events = valuesOf(kafkaEvents);
+    if (events.isEmpty()) {
+      return;
+    }
 
-      sseService.send(sseMessage.getReceiverIds(), sseMessage.getEventName(), sseMessage.getEventData());
+    int saved = saveAndSend(events);
 
-      log.info("[Notification] DM SSE 전송 완료: receiverId={}, conversationId={}",
-          receiverId,
-          event.conversationId());
+    log.info("[Notification] 알림 SSE 배치 전송 완료: records={}, saved={}", events.size(), saved);
+  }
 
+  // fan-out 이벤트 한 건을 수신자 페이지 단위로 알림 저장 + SSE 전송 (페이지마다 별도 트랜잭션)
+  // 재전달되면 NotificationFanOutWriter 의 checkpoint 다음 수신자부터 이어서 펼친다
+  @KafkaListener(topics = "playlist.NotificationFanOut")
+  public void onNotificationFanOutEvent(String kafkaEvent) {
+    NotificationFanOutEvent event;
+    try {
+      event = objectMapper.readValue(kafkaEvent, NotificationFanOutEvent.class);
     } catch (JsonProcessingException e) {
-      log.error("[Notification] Kafka 메시지에서 DirectMessageDto 변환 실패", e);
+      log.error("[Notification] Kafka 메시지에서 NotificationFanOutEvent 변환 실패", e);
+      return;
+    }
+    if (event.eventId() == null) {
+      log.error("[Notification] eventId 가 없는 fan-out 이벤트는 처리하지 않음: audience={}, audienceId={}",
+          event.audience(), event.audienceId());
+      return;
     }
-  }
 
-  @KafkaListener(topics = "playlist.NotificationDto")
-  public void onNotificationEvent(String kafkaEvent) {
-    try {
-      NotificationDto event = objectMapper.readValue(kafkaEvent, NotificationDto.class);
+    Optional<UUID> resumeAfter = notificationFanOutWriter.resumeAfter(event.eventId());
+    if (resumeAfter.isEmpty()) {
+      log.info("[Notification] 이미 처리된 fan-out 이벤트: eventId={}", event.eventId());
+      return;
+    }
 
-      UUID receiverId = event.receiverId();
+    int pageSize = Math.max(1, fanOutPageSize);
+    UUID after = resumeAfter.get();
+    int total = 0;
+    while (true) {
+      List<UUID> receiverIds = notificationAudienceReader.readPage(event, after, pageSize);
+      boolean lastPage = receiverIds.size() < pageSize;
+      UUID lastReceiverId = receiverIds.isEmpty() ? after : receiverIds.get(receiverIds.size() - 1);
+
+      List<NotificationDto> notifications = receiverIds.stream()
+          .map(receiverId -> new NotificationDto(null, null, receiverId, event.title(), event.content(), event.level()))
+          .toList();
+      Optional<List<NotificationDto>> saved =
+          notificationFanOutWriter.savePage(event.eventId(), after, lastReceiverId, notifications, lastPage);
+      if (saved.isEmpty()) {
+        return;
+      }
+      total += send(saved.get());
+
+      if (lastPage) {
+        break;
+      }
+      after = lastReceiverId;
+    }
+
+    log.info("[Notification] fan-out 알림 전송 완료: eventId={}, audience={}, audienceId={}, receivers={}",
+        event.eventId(), event.audience(), event.audienceId(), total);
+  }
 
-      NotificationDto notification = notificationService.saveNotification(receiverId, event.title(), event.content(), event.level());
+  private int saveAndSend(List<NotificationDto> events) {
+    return send(notificationService.saveNotifications(events));
+  }
 
+  private int send(List<NotificationDto> notifications) {
+    if (notifications.isEmpty()) {
+      return 0;
+    }
+    Map<UUID, List<Object>> dataByReceiver = new LinkedHashMap<>();
+    for (NotificationDto notification : notifications) {
       LinkedHashMap<String, Object> ssePayloadData = new LinkedHashMap<>();
 
       ssePayloadData.put("id", notification.id());
       ssePayloadData.put("createdAt", notification.createdAt());
-      ssePayloadData.put("receiverId", receiverId.toString());
-
-      ssePayloadData.put("title", event.title());
-      ssePayloadData.put("content", event.content());
-      ssePayloadData.put("level", event.level());
-
+      ssePayloadData.put("receiverId", notification.receiverId().toString());
 
-      SseMessage sseMessage = SseMessage.create(
-          Set.of(receiverId),
-          "notifications",
-          ssePayloadData
-      );
+      ssePayloadData.put("title", notification.title());
+      ssePayloadData.put("content", notification.content());
+      ssePayloadData.put("level", notification.level());
 
-      sseService.send(sseMessage.getReceiverIds(), sseMessage.getEventName(), sseMessage.getEventData());
+      dataByReceiver.computeIfAbsent(notification.receiverId(), id -> new ArrayList<>()).add(ssePayloadData);
+    }
+    sendGrouped("notifications", dataByReceiver);
+    return notifications.size();
+  }
 
-      log.info("[Notification] 알림 SSE 전송 완료: receiverId={}", receiverId);
+  private <T> List<T> valuesOf(List<ConsumerRecord<String, T>> kafkaEvents) {
+    List<T> events = new ArrayList<>(kafkaEvents.size());
+    for (ConsumerRecord<String, T> kafkaEvent : kafkaEvents) {
+      if (kafkaEvent.value() == null) {
+        log.error("[Notification] Kafka 메시지 역직렬화 실패: topic={}, partition={}, offset={}",
+            kafkaEvent.topic(), kafkaEvent.partition(), kafkaEvent.offset());
+        continue;
+      }
+      events.add(kafkaEvent.value());
+    }
+    return events;
+  }
 
-    } catch (JsonProcessingException e) {
-      log.error("[Notification] Kafka 메시지에서 NotificationDto 변환 실패", e);
+  private void sendGrouped(String eventName, Map<UUID, List<Object>> dataByReceiver) {
+    try {
+      sseService.sendGrouped(eventName, dataByReceiver);
+    } catch (Exception e) {
+      log.error("[Notification] SSE 배치 전송 실패: eventName={}, receivers={}", eventName, dataByReceiver.size(), e);
     }
   }
 }
@@ -0,0 +1,68 @@
+package com.codeit.playlist.global.kafka.outbox;
+
+import com.codeit.playlist.domain.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * Kafka 로 발행할 이벤트를 비즈니스 트랜잭션과 같은 트랜잭션에 기록하는 outbox 레코드
+ * - 커밋된 레코드만 OutboxRelay 가 읽어 발행하고, 발행이 확인되면 삭제한다
+ * - messageKey 는 Kafka 레코드 키 (수신자 ID 등) → 같은 키의 이벤트는 같은 파티션으로 발행된다
+ * - 순서 보장: relay 는 한 번에 한 노드만 돌고(advisory lock), 같은 키의 행은 기록 순서(createdAt)대로 발행된다.
+ *   발행에 실패하면 그 행과 뒤따르는 같은 키의 행을 모두 남겨 다음 주기에 다시 순서대로 발행하므로,
+ *   소비자는 같은 키의 이벤트를 중복해서 받을 수 있지만 마지막으로 받는 이벤트 순서는 기록 순서와 같다 (at-least-once)
+ *   단, createdAt 이 같은 행끼리는 조회 순서가 정해지지 않아 순서를 보장하지 않는다
+ * - payload 는 토픽 값 그대로의 바이트 (OutboxEventWriter 참고), relay 는 재인코딩 없이 전송한다
+ * - 발행 실패마다 attempts / lastError 를 남기고, 최대 시도 횟수에 도달하거나 재시도해도 성공할 수 없는 오류면
+ *   parkedAt 을 기록해 relay 대상에서 제외한다 (보류된 행 뒤의 같은 키 행은 그때부터 다시 발행된다)
+ *   보류된 행은 삭제하지 않으므로 원인을 해결한 뒤 parked_at 을 비우면 다시 발행된다
+ */
+@Entity
+@Table(name = "outbox_events", indexes = @Index(name = "idx_outbox_events_created_at", columnList = "createdAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+
+  private static final int LAST_ERROR_LENGTH = 1000;
+
+  @Column(nullable = false, length = 255)
+  private String topic;
+
+  @Column(name = "message_key", length = 64)
+  private String messageKey;
+
+  @Column(nullable = false, columnDefinition = "BYTEA")
+  private byte[] payload;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(name = "last_error", length = LAST_ERROR_LENGTH)
+  private String lastError;
+
+  @Column(name = "parked_at")
+  private Instant parkedAt;
+
+  public OutboxEvent(String topic, String messageKey, byte[] payload) {
+    this.topic = topic;
+    this.messageKey = messageKey;
+    this.payload = payload;
+  }
+
+  // 발행 실패 기록, 보류(parked) 처리했으면 true
+  public boolean recordFailure(String error, int maxAttempts, boolean permanent) {
+    this.attempts++;
+    this.lastError = (error != null && error.length() > LAST_ERROR_LENGTH) ? error.substring(0, LAST_ERROR_LENGTH) : error;
+    if (permanent || attempts >= maxAttempts) {
+      this.parkedAt = Instant.now();
+      return true;
+    }
+    return false;
+  }
+}
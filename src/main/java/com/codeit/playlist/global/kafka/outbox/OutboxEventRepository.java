@@ -0,0 +1,32 @@
+package com.codeit.playlist.global.kafka.outbox;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+  // relay 는 한 번에 한 노드만 돌도록 트랜잭션 범위 advisory lock 을 잡는다 (커밋/롤백 시 자동 해제)
+  // 못 잡으면 다른 노드가 발행 중이므로 이번 주기는 건너뛴다
+  @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+  boolean tryRelayLock(@Param("lockKey") long lockKey);
+
+  // 보류되지 않은 행을 오래된 순으로 limit 개 잠근다 (relay 락을 가진 노드만 호출하므로 SKIP LOCKED 는 수동 조작 등에 대한 방어)
+  @Query(value = """
+      SELECT * FROM outbox_events
+      WHERE parked_at IS NULL
+      ORDER BY created_at
+      LIMIT :limit
+      FOR UPDATE SKIP LOCKED
+      """, nativeQuery = true)
+  List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+  // 같은 트랜잭션에서 기록한 실패 정보(attempts 등)가 clear 로 사라지지 않도록 먼저 flush
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from OutboxEvent o where o.id in :ids")
+  int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
+}
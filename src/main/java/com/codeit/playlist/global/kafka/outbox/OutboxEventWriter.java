@@ -0,0 +1,48 @@
+package com.codeit.playlist.global.kafka.outbox;
+
+import com.codeit.playlist.domain.message.dto.data.DirectMessageDto;
+import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.global.kafka.serialization.DirectMessageDtoSerializer;
+import com.codeit.playlist.global.kafka.serialization.NotificationDtoSerializer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * kafkaTemplate.send 대신 호출하는 outbox 기록기
+ * - 호출한 서비스의 트랜잭션에 참여하므로 롤백되면 이벤트도 남지 않고, 커밋되면 relay 가 반드시 발행한다
+ * - 요청 스레드는 브로커를 기다리지 않고 INSERT 한 건만 수행
+ * - payload 는 토픽 값 포맷으로 미리 인코딩: NotificationDto / DirectMessageDto 는 바이너리, 그 외(fan-out 등)는 JSON UTF-8
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventWriter {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+  private final NotificationDtoSerializer notificationDtoSerializer = new NotificationDtoSerializer();
+  private final DirectMessageDtoSerializer directMessageDtoSerializer = new DirectMessageDtoSerializer();
+
+  // key: 순서를 보장해야 하는 단위 (보통 수신자 ID), 같은 key 는 같은 파티션으로 발행된다
+  @Transactional
+  public void append(String topic, UUID key, Object event) throws JsonProcessingException {
+    byte[] payload = encode(topic, event);
+    outboxEventRepository.save(new OutboxEvent(topic, key != null ? key.toString() : null, payload));
+    log.debug("[Outbox] 이벤트 기록: topic={}, key={}, bytes={}", topic, key, payload.length);
+  }
+
+  private byte[] encode(String topic, Object event) throws JsonProcessingException {
+    if (event instanceof NotificationDto notification) {
+      return notificationDtoSerializer.serialize(topic, notification);
+    }
+    if (event instanceof DirectMessageDto message) {
+      return directMessageDtoSerializer.serialize(topic, message);
+    }
+    return objectMapper.writeValueAsBytes(event);
+  }
+}
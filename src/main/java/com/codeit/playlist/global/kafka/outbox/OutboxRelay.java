@@ -0,0 +1,164 @@
+package com.codeit.playlist.global.kafka.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.InvalidTopicException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * outbox_events 를 주기적으로 읽어 Kafka 로 발행하는 relay
+ * - 배치마다 advisory lock(RELAY_LOCK_KEY)을 잡은 한 노드만 발행한다
+ *   여러 노드가 SKIP LOCKED 로 나눠 가져가면 같은 키의 행이 노드별 배치로 섞여 발행 순서가 뒤바뀔 수 있다
+ * - 배치 전체를 비동기로 send 한 뒤 한 번에 flush → 프로듀서가 파티션별로 묶고 압축해서 전송
+ *   (messageKey 로 파티션이 정해지므로 같은 수신자의 이벤트는 기록된 순서대로 한 파티션에 쌓인다)
+ * - 브로커 ack 를 받은 행만 한 번의 DELETE 로 지우고, 실패한 행은 남겨 다음 주기에 재시도 (at-least-once)
+ *   실패한 행 뒤에 있는 같은 키의 행은 ack 를 받았더라도 남겨, 다음 주기에 실패한 행부터 순서대로 다시 발행한다
+ * - 프로듀서가 실패로 완료한 send 를 max-attempts 번 겪었거나, 재시도해도 성공할 수 없는 오류(레코드 크기 초과,
+ *   잘못된 토픽, 직렬화)면 행을 보류(parked)해 뒤따르는 이벤트를 막지 않는다. 보류는 ERROR 로그와 outbox.events.parked 카운터로 알린다
+ *   (send-timeout-ms 안에 ack 가 오지 않은 경우는 브로커 지연일 수 있어 시도 횟수에 넣지 않는다)
+ * - send/flush/ack 대기가 블로킹이므로 전용 스케줄러(outboxRelayScheduler)에서 실행해 다른 @Scheduled 작업을 막지 않는다
+ * - 꽉 찬 배치를 발행했다면 밀린 이벤트가 더 있다고 보고 대기 없이 다음 배치를 처리
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+  // pg_try_advisory_xact_lock 키 ("outbox" ASCII), 다른 advisory lock 과 겹치지 않게 relay 전용으로 쓴다
+  static final long RELAY_LOCK_KEY = 0x6F7574626F78L;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter parkedCounter;
+  private final int batchSize;
+  private final long sendTimeoutMs;
+  private final int maxAttempts;
+
+  public OutboxRelay(OutboxEventRepository outboxEventRepository,
+      KafkaTemplate<String, byte[]> kafkaTemplate,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${kafka.outbox.batch-size:500}") int batchSize,
+      @Value("${kafka.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+      @Value("${kafka.outbox.max-attempts:10}") int maxAttempts) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.kafkaTemplate = kafkaTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.parkedCounter = Counter.builder("outbox.events.parked")
+        .description("발행을 포기하고 보류한 outbox 행 수")
+        .register(meterRegistry);
+    this.batchSize = Math.max(1, batchSize);
+    this.sendTimeoutMs = Math.max(1, sendTimeoutMs);
+    this.maxAttempts = Math.max(1, maxAttempts);
+  }
+
+  @Scheduled(fixedDelayString = "${kafka.outbox.poll-interval-ms:200}", scheduler = "outboxRelayScheduler")
+  public void relay() {
+    try {
+      Integer published;
+      do {
+        published = transactionTemplate.execute(status -> relayBatch());
+      } while (published != null && published == batchSize);
+    } catch (Exception e) {
+      log.error("[Outbox] 이벤트 발행 중 오류, 다음 주기에 재시도", e);
+    }
+  }
+
+  private int relayBatch() {
+    if (!outboxEventRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+      log.debug("[Outbox] 다른 노드가 발행 중, 이번 주기 건너뜀");
+      return 0;
+    }
+    List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(batch.size());
+    for (OutboxEvent event : batch) {
+      futures.add(send(event));
+    }
+    kafkaTemplate.flush();
+
+    List<UUID> publishedIds = new ArrayList<>(batch.size());
+    Set<String> failedKeys = new HashSet<>();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+    for (int i = 0; i < batch.size(); i++) {
+      OutboxEvent event = batch.get(i);
+      try {
+        futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        if (event.getMessageKey() == null || !failedKeys.contains(event.getMessageKey())) {
+          publishedIds.add(event.getId());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (TimeoutException e) {
+        // ack 를 기다리다 시간이 다 된 경우(브로커 지연/장애)는 레코드 문제인지 알 수 없으므로 시도 횟수에 넣지 않는다
+        if (event.getMessageKey() != null) {
+          failedKeys.add(event.getMessageKey());
+        }
+        log.warn("[Outbox] 이벤트 발행 ack 대기 시간 초과: id={}, topic={}", event.getId(), event.getTopic());
+      } catch (ExecutionException e) {
+        if (event.getMessageKey() != null) {
+          failedKeys.add(event.getMessageKey());
+        }
+        // KafkaTemplate 은 프로듀서 예외를 KafkaProducerException 으로 감싸므로 가장 안쪽 원인으로 판단
+        recordFailure(event, NestedExceptionUtils.getMostSpecificCause(e));
+      }
+    }
+
+    if (!publishedIds.isEmpty()) {
+      outboxEventRepository.deleteAllByIdIn(publishedIds);
+    }
+    log.debug("[Outbox] 배치 발행 완료: published={}, failed={}", publishedIds.size(), batch.size() - publishedIds.size());
+    return publishedIds.size();
+  }
+
+  // 프로듀서 버퍼/메타데이터 대기 중 동기적으로 던진 예외도 실패한 future 로 바꿔 같은 경로로 처리
+  private CompletableFuture<SendResult<String, byte[]>> send(OutboxEvent event) {
+    try {
+      return kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload());
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private void recordFailure(OutboxEvent event, Throwable cause) {
+    String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    if (event.recordFailure(error, maxAttempts, isPermanent(cause))) {
+      parkedCounter.increment();
+      log.error("[Outbox] 이벤트 발행 포기, 보류 처리: id={}, topic={}, key={}, attempts={}, error={}",
+          event.getId(), event.getTopic(), event.getMessageKey(), event.getAttempts(), error);
+      return;
+    }
+    log.warn("[Outbox] 이벤트 발행 실패: id={}, topic={}, attempts={}, error={}",
+        event.getId(), event.getTopic(), event.getAttempts(), error);
+  }
+
+  // 같은 레코드를 다시 보내도 성공할 수 없는 오류
+  private static boolean isPermanent(Throwable cause) {
+    return cause instanceof RecordTooLargeException
+        || cause instanceof InvalidTopicException
+        || cause instanceof SerializationException;
+  }
+}
@@ -0,0 +1,110 @@
+package com.codeit.playlist.global.kafka.serialization;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import org.apache.kafka.common.errors.SerializationException;
+
+/*
+ * BinaryEventOutput 으로 기록한 이벤트 읽기
+ * - MAGIC 으로 시작하지 않는 payload 는 바이너리 포맷 도입 전 JSON 으로 보고 Jackson 으로 읽는다
+ *   (배포 중 토픽/outbox 에 남아 있는 이전 메시지 처리용)
+ * - 잘린 payload 등 읽기 실패는 SerializationException 으로 던진다
+ */
+final class BinaryEventInput {
+
+  private static final ObjectMapper LEGACY_JSON = JsonMapper.builder()
+      .findAndAddModules()
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+      .build();
+
+  private final byte[] data;
+  private int position;
+
+  BinaryEventInput(byte[] data) {
+    this.data = data;
+  }
+
+  static boolean isBinary(byte[] data) {
+    return data.length >= 2 && data[0] == BinaryEventOutput.MAGIC;
+  }
+
+  static <T> T readLegacyJson(byte[] data, Class<T> type) {
+    try {
+      return LEGACY_JSON.readValue(data, type);
+    } catch (IOException e) {
+      throw new SerializationException(type.getSimpleName() + " JSON 역직렬화 실패", e);
+    }
+  }
+
+  // MAGIC 을 건너뛰고 스키마 버전을 반환
+  byte readVersion() {
+    position = 1;
+    return readByte();
+  }
+
+  UUID readUuid() {
+    if (readByte() == 0) {
+      return null;
+    }
+    return new UUID(readLong(), readLong());
+  }
+
+  Instant readInstant() {
+    if (readByte() == 0) {
+      return null;
+    }
+    long zigzag = readVarLong();
+    long epochSecond = (zigzag >>> 1) ^ -(zigzag & 1);
+    return Instant.ofEpochSecond(epochSecond, readVarLong());
+  }
+
+  String readString() {
+    long length = readVarLong();
+    if (length == 0) {
+      return null;
+    }
+    int size = (int) (length - 1);
+    require(size);
+    String value = new String(data, position, size, StandardCharsets.UTF_8);
+    position += size;
+    return value;
+  }
+
+  private byte readByte() {
+    require(1);
+    return data[position++];
+  }
+
+  private long readLong() {
+    require(Long.BYTES);
+    long value = 0;
+    for (int i = 0; i < Long.BYTES; i++) {
+      value = (value << 8) | (data[position++] & 0xFF);
+    }
+    return value;
+  }
+
+  private long readVarLong() {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new SerializationException("잘못된 varint");
+  }
+
+  private void require(int size) {
+    if (size < 0 || position + size > data.length) {
+      throw new SerializationException("payload 가 잘렸습니다: position=" + position + ", size=" + size
+          + ", length=" + data.length);
+    }
+  }
+}
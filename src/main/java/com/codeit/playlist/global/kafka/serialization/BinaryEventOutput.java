@@ -0,0 +1,93 @@
+package com.codeit.playlist.global.kafka.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/*
+ * Kafka 이벤트 바이너리 포맷 쓰기
+ * - 헤더: MAGIC(1) + 스키마 버전(1)
+ * - UUID: 존재 여부(1) + 16바이트, Instant: 존재 여부(1) + epochSecond(zigzag varlong) + nano(varint)
+ * - 문자열: (UTF-8 길이 + 1)(varint, 0 이면 null) + UTF-8 바이트
+ * 필드 이름 없이 스키마 버전별로 정해진 순서대로 기록하므로, 필드를 바꾸면 버전을 올려야 한다
+ */
+final class BinaryEventOutput {
+
+  static final byte MAGIC = (byte) 0xCE;
+
+  private byte[] buffer;
+  private int position;
+
+  BinaryEventOutput(int initialCapacity) {
+    this.buffer = new byte[Math.max(16, initialCapacity)];
+  }
+
+  void writeHeader(byte version) {
+    writeByte(MAGIC);
+    writeByte(version);
+  }
+
+  void writeUuid(UUID value) {
+    if (value == null) {
+      writeByte((byte) 0);
+      return;
+    }
+    writeByte((byte) 1);
+    writeLong(value.getMostSignificantBits());
+    writeLong(value.getLeastSignificantBits());
+  }
+
+  void writeInstant(Instant value) {
+    if (value == null) {
+      writeByte((byte) 0);
+      return;
+    }
+    writeByte((byte) 1);
+    writeVarLong((value.getEpochSecond() << 1) ^ (value.getEpochSecond() >> 63));
+    writeVarLong(value.getNano());
+  }
+
+  void writeString(String value) {
+    if (value == null) {
+      writeVarLong(0);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarLong(bytes.length + 1L);
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buffer, position);
+  }
+
+  private void writeByte(byte value) {
+    ensureCapacity(1);
+    buffer[position++] = value;
+  }
+
+  private void writeLong(long value) {
+    ensureCapacity(Long.BYTES);
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      buffer[position++] = (byte) (value >>> shift);
+    }
+  }
+
+  private void writeVarLong(long value) {
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[position++] = (byte) value;
+  }
+
+  private void ensureCapacity(int additional) {
+    if (position + additional > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.codeit.playlist.global.kafka.serialization;
+
+import com.codeit.playlist.domain.message.dto.data.DirectMessageDto;
+import com.codeit.playlist.domain.user.dto.data.UserSummary;
+import java.util.UUID;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class DirectMessageDtoDeserializer implements Deserializer<DirectMessageDto> {
+
+  @Override
+  public DirectMessageDto deserialize(String topic, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    if (!BinaryEventInput.isBinary(data)) {
+      return BinaryEventInput.readLegacyJson(data, DirectMessageDto.class);
+    }
+
+    BinaryEventInput input = new BinaryEventInput(data);
+    byte version = input.readVersion();
+    if (version != DirectMessageDtoSerializer.VERSION) {
+      throw new SerializationException("지원하지 않는 DirectMessageDto 스키마 버전: " + version);
+    }
+    return new DirectMessageDto(
+        input.readUuid(),
+        input.readUuid(),
+        input.readInstant(),
+        readUser(input),
+        readUser(input),
+        input.readString()
+    );
+  }
+
+  private static UserSummary readUser(BinaryEventInput input) {
+    UUID userId = input.readUuid();
+    if (userId == null) {
+      return null;
+    }
+    return new UserSummary(userId, input.readString(), input.readString());
+  }
+}
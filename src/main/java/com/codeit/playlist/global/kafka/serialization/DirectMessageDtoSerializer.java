@@ -0,0 +1,36 @@
+package com.codeit.playlist.global.kafka.serialization;
+
+import com.codeit.playlist.domain.message.dto.data.DirectMessageDto;
+import com.codeit.playlist.domain.user.dto.data.UserSummary;
+import org.apache.kafka.common.serialization.Serializer;
+
+// playlist.DirectMessageDto 토픽 값 직렬화 (스키마 버전 1: id, conversationId, createdAt, sender, receiver, content)
+public class DirectMessageDtoSerializer implements Serializer<DirectMessageDto> {
+
+  static final byte VERSION = 1;
+
+  @Override
+  public byte[] serialize(String topic, DirectMessageDto data) {
+    if (data == null) {
+      return null;
+    }
+    BinaryEventOutput output = new BinaryEventOutput(128 + NotificationDtoSerializer.estimatedLength(data.content()));
+    output.writeHeader(VERSION);
+    output.writeUuid(data.id());
+    output.writeUuid(data.conversationId());
+    output.writeInstant(data.createdAt());
+    writeUser(output, data.sender());
+    writeUser(output, data.receiver());
+    output.writeString(data.content());
+    return output.toByteArray();
+  }
+
+  // userId 가 없는 UserSummary 는 null 로 취급 (UserSummary 는 항상 userId 를 가진다)
+  private static void writeUser(BinaryEventOutput output, UserSummary user) {
+    output.writeUuid(user != null ? user.userId() : null);
+    if (user != null && user.userId() != null) {
+      output.writeString(user.name());
+      output.writeString(user.profileImageUrl());
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.codeit.playlist.global.kafka.serialization;
+
+import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.domain.notification.entity.Level;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class NotificationDtoDeserializer implements Deserializer<NotificationDto> {
+
+  @Override
+  public NotificationDto deserialize(String topic, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    if (!BinaryEventInput.isBinary(data)) {
+      return BinaryEventInput.readLegacyJson(data, NotificationDto.class);
+    }
+
+    BinaryEventInput input = new BinaryEventInput(data);
+    byte version = input.readVersion();
+    if (version != NotificationDtoSerializer.VERSION) {
+      throw new SerializationException("지원하지 않는 NotificationDto 스키마 버전: " + version);
+    }
+    try {
+      return new NotificationDto(
+          input.readUuid(),
+          input.readInstant(),
+          input.readUuid(),
+          input.readString(),
+          input.readString(),
+          toLevel(input.readString())
+      );
+    } catch (IllegalArgumentException e) {
+      throw new SerializationException("NotificationDto 역직렬화 실패", e);
+    }
+  }
+
+  private static Level toLevel(String name) {
+    return name != null ? Level.valueOf(name) : null;
+  }
+}
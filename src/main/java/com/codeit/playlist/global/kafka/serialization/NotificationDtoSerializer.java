@@ -0,0 +1,31 @@
+package com.codeit.playlist.global.kafka.serialization;
+
+import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import org.apache.kafka.common.serialization.Serializer;
+
+// playlist.NotificationDto 토픽 값 직렬화 (스키마 버전 1: id, createdAt, receiverId, title, content, level)
+public class NotificationDtoSerializer implements Serializer<NotificationDto> {
+
+  static final byte VERSION = 1;
+
+  @Override
+  public byte[] serialize(String topic, NotificationDto data) {
+    if (data == null) {
+      return null;
+    }
+    BinaryEventOutput output = new BinaryEventOutput(64 + estimatedLength(data.title()) + estimatedLength(data.content()));
+    output.writeHeader(VERSION);
+    output.writeUuid(data.id());
+    output.writeInstant(data.createdAt());
+    output.writeUuid(data.receiverId());
+    output.writeString(data.title());
+    output.writeString(data.content());
+    output.writeString(data.level() != null ? data.level().name() : null);
+    return output.toByteArray();
+  }
+
+  // 한글은 UTF-8 로 3바이트라 넉넉히 잡아 재할당을 줄인다
+  static int estimatedLength(String value) {
+    return value != null ? value.length() * 3 : 0;
+  }
+}
@@ -0,0 +1,45 @@
+package com.codeit.playlist.global.lifecycle;
+
+import com.codeit.playlist.domain.sse.repository.SseEmitterRepository;
+import com.codeit.playlist.global.websocket.WebSocketSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/*
+ * GET  /actuator/drain : 드레인 상태와 남은 연결 수
+ * POST /actuator/drain : 드레인 시작 (백그라운드 실행, 배포 전 수동 호출용)
+ */
+@Component
+@Endpoint(id = "drain")
+@RequiredArgsConstructor
+public class ConnectionDrainEndpoint {
+    private final ConnectionDrainer connectionDrainer;
+    private final ConnectionDrainState connectionDrainState;
+    private final SseEmitterRepository sseEmitterRepository;
+    private final WebSocketSessionRegistry webSocketSessionRegistry;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of(
+                "draining", connectionDrainState.isDraining(),
+                "sseConnections", sseEmitterRepository.count(),
+                "webSocketSessions", webSocketSessionRegistry.count()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> drain() {
+        boolean started = !connectionDrainState.isDraining();
+        if (started) {
+            Thread drainThread = new Thread(connectionDrainer::drain, "connection-drain");
+            drainThread.setDaemon(true);
+            drainThread.start();
+        }
+        return Map.of("started", started);
+    }
+}
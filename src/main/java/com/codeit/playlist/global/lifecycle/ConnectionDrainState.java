@@ -0,0 +1,39 @@
+package com.codeit.playlist.global.lifecycle;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * 드레인 모드 여부와 클라이언트 재연결 대기 시간
+ * - 드레인 중에는 새 SSE / STOMP 연결을 받지 않는다
+ * - 재연결 대기 시간은 [min, max] 구간에서 무작위로 골라 재연결 시점을 분산
+ */
+@Component
+public class ConnectionDrainState {
+    private final long reconnectBackoffMinMs;
+    private final long reconnectBackoffMaxMs;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public ConnectionDrainState(@Value("${drain.reconnect-backoff-min-ms:1000}") long reconnectBackoffMinMs,
+                                @Value("${drain.reconnect-backoff-max-ms:15000}") long reconnectBackoffMaxMs) {
+        this.reconnectBackoffMinMs = Math.max(0, reconnectBackoffMinMs);
+        this.reconnectBackoffMaxMs = Math.max(this.reconnectBackoffMinMs, reconnectBackoffMaxMs);
+    }
+
+    public boolean isDraining() {
+        return draining.get();
+    }
+
+    // 처음 전환한 경우에만 true
+    public boolean startDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    public long nextReconnectBackoffMs() {
+        return ThreadLocalRandom.current().nextLong(reconnectBackoffMinMs, reconnectBackoffMaxMs + 1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.codeit.playlist.global.lifecycle;
+
+import com.codeit.playlist.domain.sse.repository.SseEmitterRepository;
+import com.codeit.playlist.domain.sse.service.SseService;
+import com.codeit.playlist.global.websocket.WebSocketSessionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * SSE / STOMP 연결 드레인 (배포 시 재연결 폭주 완화)
+ * 1. 드레인 모드로 전환해 새 연결을 받지 않는다 (SseService.connect, WebSocketAuthInterceptor)
+ * 2. 열린 연결을 섞어 waves 개의 묶음으로 나누고 wave-interval-ms 간격으로 닫는다
+ *    - SSE: retry 필드와 reconnect 이벤트로 무작위 재연결 대기 시간을 알린 뒤 종료
+ *    - STOMP: 1012(Service Restart) close 코드와 reason 에 재연결 대기 시간을 담아 종료
+ * 종료 시(ContextClosedEvent, 웹 서버 graceful shutdown 과 STOMP 핸들러 stop 보다 먼저 발행) 또는 actuator drain 엔드포인트로 시작
+ */
+@Component
+@Slf4j
+public class ConnectionDrainer {
+    private final ConnectionDrainState connectionDrainState;
+    private final SseEmitterRepository sseEmitterRepository;
+    private final SseService sseService;
+    private final WebSocketSessionRegistry webSocketSessionRegistry;
+
+    private final int waves;
+    private final long waveIntervalMs;
+
+    public ConnectionDrainer(ConnectionDrainState connectionDrainState,
+                             SseEmitterRepository sseEmitterRepository,
+                             SseService sseService,
+                             WebSocketSessionRegistry webSocketSessionRegistry,
+                             @Value("${drain.waves:5}") int waves,
+                             @Value("${drain.wave-interval-ms:3000}") long waveIntervalMs) {
+        this.connectionDrainState = connectionDrainState;
+        this.sseEmitterRepository = sseEmitterRepository;
+        this.sseService = sseService;
+        this.webSocketSessionRegistry = webSocketSessionRegistry;
+        this.waves = Math.max(1, waves);
+        this.waveIntervalMs = Math.max(0, waveIntervalMs);
+    }
+
+    // 이미 드레인 중이면 false
+    public boolean drain() {
+        if (!connectionDrainState.startDraining()) {
+            return false;
+        }
+
+        List<Runnable> closers = new ArrayList<>();
+        sseEmitterRepository.forEach((receiverId, emitter) -> closers.add(() ->
+                sseService.closeWithReconnectHint(receiverId, emitter, connectionDrainState.nextReconnectBackoffMs())));
+        webSocketSessionRegistry.findAll().forEach(session -> closers.add(() ->
+                webSocketSessionRegistry.close(session, CloseStatus.SERVICE_RESTARTED
+                        .withReason("reconnect-after-ms=" + connectionDrainState.nextReconnectBackoffMs()))));
+        Collections.shuffle(closers);
+
+        log.info("[Drain] 연결 드레인 시작: connections={}, waves={}, waveIntervalMs={}",
+                closers.size(), waves, waveIntervalMs);
+
+        int waveSize = (closers.size() + waves - 1) / waves;
+        for (int from = 0; from < closers.size(); from += waveSize) {
+            if (from > 0 && !pause()) {
+                break;
+            }
+            closers.subList(from, Math.min(from + waveSize, closers.size())).forEach(this::closeSafely);
+        }
+
+        log.info("[Drain] 연결 드레인 완료");
+        return true;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(waveIntervalMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[Drain] 드레인 대기 중단");
+            return false;
+        }
+    }
+
+    private void closeSafely(Runnable closer) {
+        try {
+            closer.run();
+        } catch (Exception e) {
+            log.warn("[Drain] 연결 종료 실패: errorMsg={}", e.getMessage());
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        drain();
+    }
+}
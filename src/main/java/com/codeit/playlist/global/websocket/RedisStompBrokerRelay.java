@@ -0,0 +1,221 @@
+package com.codeit.playlist.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * Redis pub/sub 기반 STOMP 릴레이
+ * - 발행: 로컬에서 발행된 대상 destination 메시지를 stomp-relay:{destination} 채널로 PUBLISH (로컬 전달은 그대로 진행)
+ * - 구독: 이 인스턴스에 구독자가 있는 destination 채널만 SUBSCRIBE, 마지막 구독자가 나가면 UNSUBSCRIBE
+ *   (구독 수는 compute 로 원자적으로 갱신하고, 블로킹되는 SUBSCRIBE/UNSUBSCRIBE 는 compute 밖에서 destination 별 락으로 맞춘다)
+ * - 수신: 다른 노드가 보낸 메시지만 relayedFrom 헤더를 붙여 로컬 brokerChannel 로 재발행 (자기 자신이 보낸 메시지는 무시)
+ */
+@Component
+@ConditionalOnProperty(prefix = "websocket.relay", name = "type", havingValue = "redis")
+@Slf4j
+public class RedisStompBrokerRelay implements StompBrokerRelay {
+    static final String CHANNEL_PREFIX = "stomp-relay:";
+    private static final int SUBSCRIPTION_LOCK_STRIPES = 64;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<String> destinationPrefixes;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final MessageListener relayListener = (message, pattern) -> onRelayed(message.getBody());
+
+    // destination -> 로컬 구독 수
+    private final ConcurrentMap<String, Integer> localSubscriptions = new ConcurrentHashMap<>();
+    // 실제로 Redis 채널을 SUBSCRIBE 중인 destination (reconcile 에서 destination 별 락을 잡고만 변경)
+    private final Set<String> subscribedDestinations = ConcurrentHashMap.newKeySet();
+    private final Object[] subscriptionLocks = new Object[SUBSCRIPTION_LOCK_STRIPES];
+    // sessionId -> (subscriptionId -> destination), UNSUBSCRIBE/DISCONNECT 에는 destination 이 없으므로 보관
+    private final ConcurrentMap<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    public RedisStompBrokerRelay(StringRedisTemplate redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${websocket.relay.destination-prefixes:/sub/contents/,/sub/conversations/}")
+                                 List<String> destinationPrefixes) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.destinationPrefixes = List.copyOf(destinationPrefixes);
+        for (int i = 0; i < subscriptionLocks.length; i++) {
+            subscriptionLocks[i] = new Object();
+        }
+    }
+
+    // 발행 (brokerChannel 인터셉터)
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || accessor.getHeader(RELAYED_FROM_HEADER) != null
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (!isRelayed(destination)) {
+            return message;
+        }
+
+        try {
+            MimeType contentType = accessor.getContentType();
+            RelayedStompMessage relayed = new RelayedStompMessage(
+                    nodeId,
+                    destination,
+                    (contentType != null) ? contentType.toString() : null,
+                    payload
+            );
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + destination, objectMapper.writeValueAsString(relayed));
+        } catch (Exception e) {
+            // 릴레이 실패가 로컬 전달을 막지 않도록 로그만 남김
+            log.error("[WebSocket] Redis 릴레이 발행 실패: destination={}, errorMsg={}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    // 수신 (Redis pub/sub)
+    private void onRelayed(byte[] body) {
+        try {
+            RelayedStompMessage relayed = objectMapper.readValue(body, RelayedStompMessage.class);
+            if (nodeId.equals(relayed.nodeId())) {
+                return;
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            if (relayed.contentType() != null) {
+                accessor.setContentType(MimeType.valueOf(relayed.contentType()));
+            }
+            accessor.setHeader(RELAYED_FROM_HEADER, relayed.nodeId());
+            accessor.setLeaveMutable(true);
+
+            messagingTemplate.getObject().send(relayed.destination(),
+                    MessageBuilder.createMessage(relayed.payload(), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("[WebSocket] Redis 릴레이 수신 처리 실패: errorMsg={}", e.getMessage());
+        }
+    }
+
+    // 로컬 구독 추적
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || !isRelayed(destination)) {
+            return;
+        }
+
+        sessionSubscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        Integer count = localSubscriptions.merge(destination, 1, Integer::sum);
+        if (count == 1) {
+            reconcile(destination);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (destination != null) {
+            release(destination);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.values().forEach(this::release);
+    }
+
+    int localSubscriptionCount(String destination) {
+        return localSubscriptions.getOrDefault(destination, 0);
+    }
+
+    private void release(String destination) {
+        Integer count = localSubscriptions.computeIfPresent(destination,
+                (key, current) -> (current > 1) ? current - 1 : null);
+        if (count == null) {
+            reconcile(destination);
+        }
+    }
+
+    // 구독 수와 실제 채널 구독 상태를 맞춘다
+    // 0 -> 1 과 1 -> 0 이 동시에 일어나도 락 안에서 현재 구독 수를 다시 보므로 마지막 상태로 수렴한다
+    private void reconcile(String destination) {
+        synchronized (subscriptionLocks[Math.floorMod(destination.hashCode(), subscriptionLocks.length)]) {
+            boolean wanted = localSubscriptions.containsKey(destination);
+            boolean subscribed = subscribedDestinations.contains(destination);
+            if (wanted && !subscribed) {
+                listenerContainer.addMessageListener(relayListener, new ChannelTopic(CHANNEL_PREFIX + destination));
+                subscribedDestinations.add(destination);
+                log.debug("[WebSocket] Redis 릴레이 채널 구독: destination={}", destination);
+            } else if (!wanted && subscribed) {
+                listenerContainer.removeMessageListener(relayListener, new ChannelTopic(CHANNEL_PREFIX + destination));
+                subscribedDestinations.remove(destination);
+                log.debug("[WebSocket] Redis 릴레이 채널 구독 해제: destination={}", destination);
+            }
+        }
+    }
+
+    private boolean isRelayed(String destination) {
+        if (destination == null) {
+            return false;
+        }
+        for (String prefix : destinationPrefixes) {
+            if (destination.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,10 @@
+package com.codeit.playlist.global.websocket;
+
+// Redis pub/sub 로 전달되는 STOMP 메시지 (payload 는 SimpMessagingTemplate 이 변환한 바이트 그대로)
+public record RelayedStompMessage(
+        String nodeId,
+        String destination,
+        String contentType,
+        byte[] payload
+) {
+}
@@ -0,0 +1,13 @@
+package com.codeit.playlist.global.websocket;
+
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/*
+ * 서버에서 발행한 STOMP 메시지(brokerChannel)를 다른 인스턴스의 SimpleBroker 로 전달하는 릴레이
+ * - WebSocketConfig 에서 빈이 있을 때만 brokerChannel 인터셉터로 등록된다 (websocket.relay.type)
+ */
+public interface StompBrokerRelay extends ChannelInterceptor {
+
+    // 다른 인스턴스에서 전달받아 로컬 brokerChannel 로 재발행한 메시지에 붙는 헤더 (값: 발행 노드 ID)
+    String RELAYED_FROM_HEADER = "relayedFrom";
+}
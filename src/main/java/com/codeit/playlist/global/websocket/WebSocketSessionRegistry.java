@@ -0,0 +1,60 @@
+package com.codeit.playlist.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 이 노드에 열려 있는 WebSocket(STOMP) 세션 목록
+ * 드레인 시 세션을 나눠 닫기 위해 WebSocketConfig 에서 transport 데코레이터로 등록
+ */
+@Component
+@Slf4j
+public class WebSocketSessionRegistry implements WebSocketHandlerDecoratorFactory {
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    public List<WebSocketSession> findAll() {
+        return List.copyOf(sessions.values());
+    }
+
+    public int count() {
+        return sessions.size();
+    }
+
+    public void close(WebSocketSession session, CloseStatus closeStatus) {
+        try {
+            if (session.isOpen()) {
+                session.close(closeStatus);
+            }
+        } catch (Exception e) {
+            log.warn("[WebSocket] 세션 종료 실패: sessionId={}, errorMsg={}", session.getId(), e.getMessage());
+        } finally {
+            sessions.remove(session.getId());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+-- SSE 재전송 메시지 저장 (메시지별 sequence 발급 + 수신자별 ZSet 추가/trim/TTL), 여러 건을 한 번에 처리
+-- KEYS[1] = sse:replay:sequence
+-- KEYS[2..n] = 메시지 순서대로 이어 붙인 sse:replay:receiver:{receiverId} 또는 sse:replay:broadcast
+-- ARGV[1] = 키별 최대 보관 개수, ARGV[2] = 보관 기간(ms)
+-- ARGV[3..] = 메시지마다 (이 메시지가 쓰는 키 개수, 메시지 JSON) 쌍
+-- return: 메시지 순서대로 발급된 sequence 목록
+
+local maxLength = tonumber(ARGV[1])
+local ttlMs = tonumber(ARGV[2])
+
+local sequences = {}
+local keyIndex = 2
+for argIndex = 3, #ARGV, 2 do
+    local keyCount = tonumber(ARGV[argIndex])
+    local sequence = redis.call('INCR', KEYS[1])
+    local member = sequence .. '|' .. ARGV[argIndex + 1]
+
+    for i = keyIndex, keyIndex + keyCount - 1 do
+        redis.call('ZADD', KEYS[i], sequence, member)
+        redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(maxLength + 1))
+        redis.call('PEXPIRE', KEYS[i], ttlMs)
+    end
+
+    keyIndex = keyIndex + keyCount
+    sequences[#sequences + 1] = sequence
+end
+
+return sequences
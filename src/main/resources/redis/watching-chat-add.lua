@@ -0,0 +1,16 @@
+-- 콘텐츠 채팅 추가 (Redis Stream, 길이/시간 기준 trim)
+-- KEYS[1] = content:{contentId}:chat-stream
+-- ARGV[1] = 최대 길이(MAXLEN ~), ARGV[2] = 보관 기간(ms), ARGV[3] = 현재 시각(ms)
+-- ARGV[4] = userId, ARGV[5] = content
+-- return: 메시지 ID(stream entry ID)
+
+local chatKey = KEYS[1]
+local maxLength = ARGV[1]
+local retentionMs = tonumber(ARGV[2])
+local now = tonumber(ARGV[3])
+
+local id = redis.call('XADD', chatKey, 'MAXLEN', '~', maxLength, '*', 'userId', ARGV[4], 'content', ARGV[5])
+redis.call('XTRIM', chatKey, 'MINID', '~', tostring(now - retentionMs))
+redis.call('PEXPIRE', chatKey, retentionMs)
+
+return id
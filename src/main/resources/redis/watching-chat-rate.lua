@@ -0,0 +1,10 @@
+-- 채팅 전송 횟수 (노드 공통 fixed window)
+-- KEYS[1] = chat:rate:{contentId}:{userId}
+-- ARGV[1] = window(millis)
+-- return: 현재 window 의 전송 횟수
+
+local count = redis.call('INCR', KEYS[1])
+if count == 1 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[1])
+end
+return count
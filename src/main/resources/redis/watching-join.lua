@@ -0,0 +1,54 @@
+-- 시청 세션 입장 (단일 라운드트립)
+-- KEYS[1] = user:{userId}:watching
+-- KEYS[2] = content:{contentId}:watching
+-- KEYS[3] = watching:{watchingId}
+-- KEYS[4] = ws:session:{sessionId}
+-- KEYS[5] = watching:node:{nodeId}:sessions
+-- KEYS[6] = content:{contentId}:watcher-names
+-- ARGV[1] = watchingId, ARGV[2] = contentId, ARGV[3] = userId, ARGV[4] = createdAt(epoch millis)
+-- ARGV[5] = sessionId, ARGV[6] = 세션 키 TTL(millis, heartbeat 로 갱신)
+-- ARGV[7] = 이름 인덱스 멤버({소문자 이름}|{입장 시각}|{watchingId}, 이름이 없으면 빈 문자열)
+-- return: 입장 후 콘텐츠의 시청자 수
+
+local userKey = KEYS[1]
+local contentKey = KEYS[2]
+local watchingKey = KEYS[3]
+local sessionKey = KEYS[4]
+local nodeSessionsKey = KEYS[5]
+local namesKey = KEYS[6]
+
+local watchingId = ARGV[1]
+local contentId = ARGV[2]
+local userId = ARGV[3]
+local createdAt = ARGV[4]
+local sessionId = ARGV[5]
+local ttl = ARGV[6]
+local nameMember = ARGV[7]
+
+-- 기존 세션이 있으면 먼저 제거
+local previousWatchingId = redis.call('GET', userKey)
+if previousWatchingId then
+    local previousWatchingKey = 'watching:' .. previousWatchingId
+    local previous = redis.call('HMGET', previousWatchingKey, 'contentId', 'nameMember')
+    if previous[1] then
+        redis.call('ZREM', 'content:' .. previous[1] .. ':watching', previousWatchingId)
+        if previous[2] then
+            redis.call('ZREM', 'content:' .. previous[1] .. ':watcher-names', previous[2])
+        end
+    end
+    redis.call('DEL', previousWatchingKey)
+end
+
+redis.call('SET', userKey, watchingId, 'PX', ttl)
+redis.call('ZADD', contentKey, createdAt, watchingId)
+redis.call('HSET', watchingKey, 'contentId', contentId, 'userId', userId, 'createdAt', createdAt, 'sessionId', sessionId)
+redis.call('PEXPIRE', watchingKey, ttl)
+if nameMember ~= '' then
+    -- 같은 score(0) 로 넣어 ZRANGEBYLEX 로 이름 prefix 검색
+    redis.call('ZADD', namesKey, 0, nameMember)
+    redis.call('HSET', watchingKey, 'nameMember', nameMember)
+end
+redis.call('SET', sessionKey, userId, 'PX', ttl)
+redis.call('SADD', nodeSessionsKey, sessionId)
+
+return redis.call('ZCARD', contentKey)
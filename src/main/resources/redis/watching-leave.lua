@@ -0,0 +1,46 @@
+-- 시청 세션 퇴장 (단일 라운드트립)
+-- KEYS[1] = ws:session:{sessionId}
+-- KEYS[2] = watching:node:{nodeId}:sessions (세션을 가진 노드, reaper 는 죽은 노드의 키를 넘긴다)
+-- ARGV[1] = sessionId
+-- return:
+--   {}                                                            : 웹소켓 세션 정보 없음
+--   { userId }                                                    : 사용자의 시청 세션 없음
+--   { userId, watchingId, contentId, createdAt, watcherCount }    : 퇴장 완료
+
+local sessionKey = KEYS[1]
+redis.call('SREM', KEYS[2], ARGV[1])
+
+local userId = redis.call('GET', sessionKey)
+if not userId then
+    return {}
+end
+redis.call('DEL', sessionKey)
+
+local userKey = 'user:' .. userId .. ':watching'
+local watchingId = redis.call('GET', userKey)
+if not watchingId then
+    return { userId }
+end
+
+local watchingKey = 'watching:' .. watchingId
+local session = redis.call('HMGET', watchingKey, 'contentId', 'createdAt', 'sessionId', 'nameMember')
+local contentId = session[1]
+local createdAt = session[2]
+if not contentId then
+    redis.call('DEL', userKey)
+    return { userId }
+end
+
+-- 같은 사용자가 다른 웹소켓 세션(다른 노드 포함)으로 다시 입장한 경우 새 세션은 유지
+if session[3] and session[3] ~= ARGV[1] then
+    return { userId }
+end
+
+local contentKey = 'content:' .. contentId .. ':watching'
+redis.call('ZREM', contentKey, watchingId)
+if session[4] then
+    redis.call('ZREM', 'content:' .. contentId .. ':watcher-names', session[4])
+end
+redis.call('DEL', watchingKey, userKey)
+
+return { userId, watchingId, contentId, createdAt or '0', tostring(redis.call('ZCARD', contentKey)) }
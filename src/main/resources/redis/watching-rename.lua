@@ -0,0 +1,29 @@
+-- 시청 중인 사용자의 이름 인덱스 멤버 교체 (프로필 이름 변경)
+-- KEYS[1] = user:{userId}:watching
+-- ARGV[1] = 새 소문자 이름 (이름이 없으면 빈 문자열)
+-- return: 교체했으면 1, 시청 중이 아니면 0
+
+local watchingId = redis.call('GET', KEYS[1])
+if not watchingId then
+    return 0
+end
+
+local watchingKey = 'watching:' .. watchingId
+local session = redis.call('HMGET', watchingKey, 'contentId', 'createdAt', 'nameMember')
+if not session[1] then
+    return 0
+end
+
+local namesKey = 'content:' .. session[1] .. ':watcher-names'
+if session[3] then
+    redis.call('ZREM', namesKey, session[3])
+    redis.call('HDEL', watchingKey, 'nameMember')
+end
+if ARGV[1] ~= '' then
+    -- 입장 시각은 그대로 두어 입장 스크립트와 같은 형식({소문자 이름}|{입장 시각}|{watchingId})으로 다시 넣는다
+    local nameMember = ARGV[1] .. '|' .. session[2] .. '|' .. watchingId
+    redis.call('ZADD', namesKey, 0, nameMember)
+    redis.call('HSET', watchingKey, 'nameMember', nameMember)
+end
+
+return 1
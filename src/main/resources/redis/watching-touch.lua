@@ -0,0 +1,24 @@
+-- 시청 세션 TTL 갱신 (STOMP heartbeat)
+-- KEYS = ws:session:{sessionId} 목록
+-- ARGV[1] = 세션 키 TTL(millis)
+-- return: 갱신한 세션 수
+
+local ttl = ARGV[1]
+local touched = 0
+
+for _, sessionKey in ipairs(KEYS) do
+    local userId = redis.call('GET', sessionKey)
+    if userId then
+        redis.call('PEXPIRE', sessionKey, ttl)
+
+        local userKey = 'user:' .. userId .. ':watching'
+        local watchingId = redis.call('GET', userKey)
+        if watchingId then
+            redis.call('PEXPIRE', userKey, ttl)
+            redis.call('PEXPIRE', 'watching:' .. watchingId, ttl)
+        end
+        touched = touched + 1
+    end
+end
+
+return touched
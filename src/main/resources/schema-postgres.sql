@@ -88,4 +88,27 @@ CREATE SEQUENCE IF NOT EXISTS BATCH_JOB_EXECUTION_SEQ
 
 CREATE SEQUENCE IF NOT EXISTS BATCH_JOB_SEQ
   MAXVALUE 9223372036854775807
-  NO CYCLE;
\ No newline at end of file
+  NO CYCLE;
+
+-- Kafka 발행 대기 이벤트 (transactional outbox)
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id          UUID PRIMARY KEY,
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    topic       VARCHAR(255) NOT NULL,
+    message_key VARCHAR(64),
+    payload     BYTEA NOT NULL,
+    attempts    INT NOT NULL DEFAULT 0,
+    last_error  VARCHAR(1000),
+    parked_at   TIMESTAMP WITH TIME ZONE
+);
+
+-- relay 는 보류되지 않은 행만 오래된 순으로 읽는다
+CREATE INDEX IF NOT EXISTS idx_outbox_events_created_at ON outbox_events (created_at) WHERE parked_at IS NULL;
+
+-- fan-out 알림 이벤트별 진행 위치 (재전달 시 이어서 펼치기)
+CREATE TABLE IF NOT EXISTS notification_fan_out_checkpoints (
+    event_id         UUID PRIMARY KEY,
+    last_receiver_id UUID NOT NULL,
+    completed        BOOLEAN NOT NULL,
+    updated_at       TIMESTAMP WITH TIME ZONE NOT NULL
+);
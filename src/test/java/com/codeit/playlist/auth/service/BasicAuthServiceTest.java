@@ -10,7 +10,6 @@ import static org.mockito.Mockito.when;
 
 import com.codeit.playlist.domain.auth.exception.InvalidOrExpiredException;
 import com.codeit.playlist.domain.auth.service.basic.BasicAuthService;
-import com.codeit.playlist.domain.playlist.entity.Playlist;
 import com.codeit.playlist.domain.security.PlaylistUserDetails;
 import com.codeit.playlist.domain.security.jwt.JwtInformation;
 import com.codeit.playlist.domain.security.jwt.JwtRegistry;
@@ -23,7 +22,7 @@ import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
 import com.codeit.playlist.domain.user.mapper.UserMapper;
 import com.codeit.playlist.domain.user.repository.UserRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,7 +35,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -83,10 +81,7 @@ public class BasicAuthServiceTest {
   private SecurityContext securityContext;
 
   @Mock
-  ObjectMapper objectMapper;
-
-  @Mock
-  KafkaTemplate<String, Playlist> kafkaTemplate;
+  OutboxEventWriter outboxEventWriter;
 
   @Mock
   private SseEmitterRepository sseEmitterRepository;
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -28,8 +30,8 @@ import com.codeit.playlist.domain.user.entity.Role;
 import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
 import com.codeit.playlist.domain.user.repository.UserRepository;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.lang.reflect.Field;
 import java.time.Instant;
 import java.util.Optional;
@@ -41,7 +43,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -59,10 +60,7 @@ public class BasicFollowServiceTest {
   private UserRepository userRepository;
 
   @Mock
-  private ObjectMapper objectMapper;
-
-  @Mock
-  private KafkaTemplate<String, Object> kafkaTemplate;
+  private OutboxEventWriter outboxEventWriter;
 
   @InjectMocks
   private BasicFollowService followService;
@@ -247,7 +245,7 @@ public class BasicFollowServiceTest {
   }
 
   @Test
-  @DisplayName("팔로우 알림 직렬화 실패 시 예외 발생 없이 log.error 호출되고 Kafka 전송은 하지 않는다")
+  @DisplayName("팔로우 알림 직렬화 실패 시 예외 발생 없이 log.error 호출되고 팔로우는 정상 생성된다")
   void createFollowNotificationJsonError() throws JsonProcessingException {
     // given
     UUID followeeId = UUID.randomUUID();
@@ -264,14 +262,14 @@ public class BasicFollowServiceTest {
 
     when(followMapper.toDto(any(Follow.class)))
         .thenReturn(new FollowDto(follow.getId(), followerId, followeeId));
-    when(objectMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("error") {});
+    doThrow(new JsonProcessingException("error") {}).when(outboxEventWriter).append(any(), any(), any());
 
     // when
     FollowDto dto = followService.create(followRequest);
 
     // then
     assertNotNull(dto);
-    verify(kafkaTemplate, never()).send(any(), any());
+    verify(outboxEventWriter, times(1)).append(eq("playlist.NotificationDto"), eq(followeeId), any());
   }
 
   private void setId(Object entity, UUID id) {
@@ -9,6 +9,8 @@ import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
 import com.codeit.playlist.domain.user.mapper.UserMapper;
 import com.codeit.playlist.domain.user.repository.UserRepository;
+import com.codeit.playlist.global.error.ServerDrainingException;
+import com.codeit.playlist.global.lifecycle.ConnectionDrainState;
 import com.codeit.playlist.watching.fixture.WatchingSessionFixtures;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +29,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +46,28 @@ class WebSocketAuthInterceptorTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private ConnectionDrainState connectionDrainState;
+
+    @Test
+    @DisplayName("드레인 중 CONNECT 는 인증 전에 ServerDrainingException 으로 거절")
+    void drainingRejectsConnect() {
+        // given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.addNativeHeader("Authorization", "Bearer valid-token");
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        when(connectionDrainState.isDraining()).thenReturn(true);
+        when(connectionDrainState.nextReconnectBackoffMs()).thenReturn(3000L);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(ServerDrainingException.class)
+                .satisfies(e -> assertThat(((ServerDrainingException) e).getDetails())
+                        .containsEntry("retryAfterMs", 3000L));
+        verifyNoInteractions(jwtTokenProvider, userRepository);
+    }
+
     @Test
     @DisplayName("CONNECT 시 Authorization 헤더가 없으면 AuthHeaderMissingException 발생")
     void missingAuthHeaderThrowsException() {
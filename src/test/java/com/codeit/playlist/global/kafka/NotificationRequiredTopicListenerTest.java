@@ -0,0 +1,258 @@
+package com.codeit.playlist.global.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codeit.playlist.domain.message.dto.data.DirectMessageDto;
+import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.domain.notification.entity.Level;
+import com.codeit.playlist.domain.notification.event.NotificationFanOutEvent;
+import com.codeit.playlist.domain.notification.fanout.NotificationAudienceReader;
+import com.codeit.playlist.domain.notification.fanout.NotificationFanOutWriter;
+import com.codeit.playlist.domain.notification.service.NotificationService;
+import com.codeit.playlist.domain.sse.service.SseService;
+import com.codeit.playlist.domain.user.dto.data.UserSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationRequiredTopicListenerTest {
+
+  @Mock
+  private SseService sseService;
+
+  @Mock
+  private NotificationService notificationService;
+
+  @Mock
+  private NotificationAudienceReader notificationAudienceReader;
+
+  @Mock
+  private NotificationFanOutWriter notificationFanOutWriter;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  private NotificationRequiredTopicListener listener;
+
+  private final UUID RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private final UUID OTHER_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+  private final UUID THIRD_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+  private final UUID EVENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000010");
+
+  @BeforeEach
+  void setUp() {
+    listener = new NotificationRequiredTopicListener(objectMapper,
+        sseService, notificationService, notificationAudienceReader, notificationFanOutWriter);
+    ReflectionTestUtils.setField(listener, "fanOutPageSize", 2);
+  }
+
+  @Test
+  @DisplayName("onNotificationEvents: poll 한 번의 알림을 한 번에 저장하고, 모든 수신자를 한 번의 sendGrouped 로 전달")
+  void onNotificationEvents_batch() {
+    // given
+    NotificationDto first = notification(RECEIVER_ID, "first");
+    NotificationDto second = notification(RECEIVER_ID, "second");
+    NotificationDto third = notification(OTHER_RECEIVER_ID, "third");
+    when(notificationService.saveNotifications(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // when
+    listener.onNotificationEvents(List.of(
+        record("playlist.NotificationDto", 0, first),
+        record("playlist.NotificationDto", 1, null),
+        record("playlist.NotificationDto", 2, second),
+        record("playlist.NotificationDto", 3, third)
+    ));
+
+    // then: 역직렬화에 실패한(null) 레코드는 저장하지 않는다
+    ArgumentCaptor<List<NotificationDto>> savedCaptor = ArgumentCaptor.forClass(List.class);
+    verify(notificationService, times(1)).saveNotifications(savedCaptor.capture());
+    assertThat(savedCaptor.getValue()).containsExactly(first, second, third);
+
+    ArgumentCaptor<Map<UUID, List<Object>>> sentCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(sseService, times(1)).sendGrouped(eq("notifications"), sentCaptor.capture());
+    assertThat(sentCaptor.getValue().keySet()).containsExactly(RECEIVER_ID, OTHER_RECEIVER_ID);
+    assertThat(sentCaptor.getValue().get(RECEIVER_ID)).hasSize(2);
+    assertThat(sentCaptor.getValue().get(OTHER_RECEIVER_ID)).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("onNotificationEvents: 모든 레코드가 역직렬화에 실패하면 저장/전송하지 않음")
+  void onNotificationEvents_allNull() {
+    // when
+    listener.onNotificationEvents(List.of(record("playlist.NotificationDto", 0, null)));
+
+    // then
+    verify(notificationService, never()).saveNotifications(any());
+    verify(sseService, never()).sendGrouped(any(), anyMap());
+  }
+
+  @Test
+  @DisplayName("onNotificationEvents: SSE 전송이 실패해도 예외를 다시 던지지 않음 (배치 재처리 방지)")
+  void onNotificationEvents_sseFailure() {
+    // given
+    when(notificationService.saveNotifications(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    doThrow(new IllegalStateException("sse down")).when(sseService).sendGrouped(eq("notifications"), anyMap());
+
+    // when & then
+    assertDoesNotThrow(() -> listener.onNotificationEvents(
+        List.of(record("playlist.NotificationDto", 0, notification(RECEIVER_ID, "first")))));
+    verify(notificationService, times(1)).saveNotifications(anyList());
+  }
+
+  @Test
+  @DisplayName("onDirectMessageEvents: DM 알림을 한 번에 저장하고 수신자별로 묶어 한 번의 sendGrouped 로 전달")
+  void onDirectMessageEvents_batch() {
+    // given
+    DirectMessageDto first = directMessage(RECEIVER_ID, "안녕하세요");
+    DirectMessageDto second = directMessage(OTHER_RECEIVER_ID, "a".repeat(40));
+
+    // when
+    listener.onDirectMessageEvents(List.of(
+        record("playlist.DirectMessageDto", 0, first),
+        record("playlist.DirectMessageDto", 1, null),
+        record("playlist.DirectMessageDto", 2, second)
+    ));
+
+    // then
+    ArgumentCaptor<List<NotificationDto>> savedCaptor = ArgumentCaptor.forClass(List.class);
+    verify(notificationService, times(1)).saveNotifications(savedCaptor.capture());
+    assertThat(savedCaptor.getValue()).extracting(NotificationDto::receiverId)
+        .containsExactly(RECEIVER_ID, OTHER_RECEIVER_ID);
+    assertThat(savedCaptor.getValue().get(1).content()).isEqualTo("a".repeat(30) + "...");
+
+    ArgumentCaptor<Map<UUID, List<Object>>> sentCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(sseService, times(1)).sendGrouped(eq("direct-messages"), sentCaptor.capture());
+    assertThat(sentCaptor.getValue()).containsEntry(RECEIVER_ID, List.of(first))
+        .containsEntry(OTHER_RECEIVER_ID, List.of(second));
+  }
+
+  @Test
+  @DisplayName("onNotificationFanOutEvent: 수신자를 페이지 단위로 펼치고, 페이지 크기보다 작은 페이지에서 멈춘다")
+  void onNotificationFanOutEvent_multiPage() throws Exception {
+    // given: 페이지 크기 2, 수신자 3명 → [1, 2], [3]
+    NotificationFanOutEvent event = fanOutEvent();
+    when(notificationFanOutWriter.resumeAfter(EVENT_ID)).thenReturn(Optional.of(NotificationAudienceReader.FIRST_PAGE));
+    when(notificationAudienceReader.readPage(any(), eq(NotificationAudienceReader.FIRST_PAGE), eq(2)))
+        .thenReturn(List.of(RECEIVER_ID, OTHER_RECEIVER_ID));
+    when(notificationAudienceReader.readPage(any(), eq(OTHER_RECEIVER_ID), eq(2)))
+        .thenReturn(List.of(THIRD_RECEIVER_ID));
+    when(notificationFanOutWriter.savePage(eq(EVENT_ID), any(), any(), anyList(), anyBoolean()))
+        .thenAnswer(invocation -> Optional.of(invocation.getArgument(3)));
+
+    // when
+    listener.onNotificationFanOutEvent(objectMapper.writeValueAsString(event));
+
+    // then
+    ArgumentCaptor<List<NotificationDto>> pageCaptor = ArgumentCaptor.forClass(List.class);
+    verify(notificationFanOutWriter).savePage(eq(EVENT_ID), eq(NotificationAudienceReader.FIRST_PAGE),
+        eq(OTHER_RECEIVER_ID), pageCaptor.capture(), eq(false));
+    verify(notificationFanOutWriter).savePage(eq(EVENT_ID), eq(OTHER_RECEIVER_ID),
+        eq(THIRD_RECEIVER_ID), pageCaptor.capture(), eq(true));
+    assertThat(pageCaptor.getAllValues().get(0)).extracting(NotificationDto::receiverId)
+        .containsExactly(RECEIVER_ID, OTHER_RECEIVER_ID);
+    assertThat(pageCaptor.getAllValues().get(1)).extracting(NotificationDto::receiverId)
+        .containsExactly(THIRD_RECEIVER_ID);
+    // 마지막 페이지가 페이지 크기보다 작으므로 더 조회하지 않는다
+    verify(notificationAudienceReader, times(2)).readPage(any(), any(), eq(2));
+    verify(sseService, times(2)).sendGrouped(eq("notifications"), anyMap());
+    verify(notificationService, never()).saveNotifications(any());
+  }
+
+  @Test
+  @DisplayName("onNotificationFanOutEvent: 재전달되면 checkpoint 다음 수신자부터 이어서 펼친다")
+  void onNotificationFanOutEvent_resumesFromCheckpoint() throws Exception {
+    // given: 첫 페이지 [1, 2] 는 이전 시도에서 커밋됨
+    NotificationFanOutEvent event = fanOutEvent();
+    when(notificationFanOutWriter.resumeAfter(EVENT_ID)).thenReturn(Optional.of(OTHER_RECEIVER_ID));
+    when(notificationAudienceReader.readPage(any(), eq(OTHER_RECEIVER_ID), eq(2)))
+        .thenReturn(List.of(THIRD_RECEIVER_ID));
+    when(notificationFanOutWriter.savePage(eq(EVENT_ID), eq(OTHER_RECEIVER_ID), eq(THIRD_RECEIVER_ID), anyList(), eq(true)))
+        .thenAnswer(invocation -> Optional.of(invocation.getArgument(3)));
+
+    // when
+    listener.onNotificationFanOutEvent(objectMapper.writeValueAsString(event));
+
+    // then
+    verify(notificationAudienceReader, never()).readPage(any(), eq(NotificationAudienceReader.FIRST_PAGE), anyInt());
+    ArgumentCaptor<Map<UUID, List<Object>>> sentCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(sseService, times(1)).sendGrouped(eq("notifications"), sentCaptor.capture());
+    assertThat(sentCaptor.getValue().keySet()).containsExactly(THIRD_RECEIVER_ID);
+  }
+
+  @Test
+  @DisplayName("onNotificationFanOutEvent: 이미 완료된 이벤트가 재전달되면 저장/전송하지 않음")
+  void onNotificationFanOutEvent_completed() throws Exception {
+    // given
+    when(notificationFanOutWriter.resumeAfter(EVENT_ID)).thenReturn(Optional.empty());
+
+    // when
+    listener.onNotificationFanOutEvent(objectMapper.writeValueAsString(fanOutEvent()));
+
+    // then
+    verify(notificationAudienceReader, never()).readPage(any(), any(), anyInt());
+    verify(sseService, never()).sendGrouped(any(), anyMap());
+  }
+
+  @Test
+  @DisplayName("onNotificationFanOutEvent: 다른 컨슈머가 커서를 옮겼으면 전송하지 않고 멈춘다")
+  void onNotificationFanOutEvent_cursorMoved() throws Exception {
+    // given
+    when(notificationFanOutWriter.resumeAfter(EVENT_ID)).thenReturn(Optional.of(NotificationAudienceReader.FIRST_PAGE));
+    when(notificationAudienceReader.readPage(any(), eq(NotificationAudienceReader.FIRST_PAGE), eq(2)))
+        .thenReturn(List.of(RECEIVER_ID, OTHER_RECEIVER_ID));
+    when(notificationFanOutWriter.savePage(eq(EVENT_ID), any(), any(), anyList(), anyBoolean()))
+        .thenReturn(Optional.empty());
+
+    // when
+    listener.onNotificationFanOutEvent(objectMapper.writeValueAsString(fanOutEvent()));
+
+    // then
+    verify(notificationAudienceReader, times(1)).readPage(any(), any(), anyInt());
+    verify(sseService, never()).sendGrouped(any(), anyMap());
+  }
+
+  private NotificationFanOutEvent fanOutEvent() {
+    return new NotificationFanOutEvent(EVENT_ID, NotificationFanOutEvent.Audience.FOLLOWERS, RECEIVER_ID, RECEIVER_ID,
+        "새로운 플레이리스트", "팔로우한 사용자가 새 플레이리스트를 만들었습니다", Level.INFO);
+  }
+
+  private NotificationDto notification(UUID receiverId, String content) {
+    return new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "새로운 알림", content, Level.INFO);
+  }
+
+  private DirectMessageDto directMessage(UUID receiverId, String content) {
+    return new DirectMessageDto(UUID.randomUUID(), UUID.randomUUID(), Instant.now(),
+        new UserSummary(UUID.randomUUID(), "보낸사람", null),
+        new UserSummary(receiverId, "받는사람", null),
+        content);
+  }
+
+  private <T> ConsumerRecord<String, T> record(String topic, long offset, T value) {
+    return new ConsumerRecord<>(topic, 0, offset, null, value);
+  }
+}
@@ -0,0 +1,95 @@
+package com.codeit.playlist.global.kafka.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codeit.playlist.global.config.JpaConfig;
+import com.codeit.playlist.global.config.QuerydslConfig;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({QuerydslConfig.class, JpaConfig.class})
+public class OutboxEventRepositoryTest {
+
+  @Autowired
+  OutboxEventRepository outboxEventRepository;
+
+  @Test
+  @DisplayName("lockNextBatch - limit 개수만큼만 잠가서 가져온다")
+  void lockNextBatchLimit() {
+    // given
+    outboxEventRepository.saveAllAndFlush(List.of(
+        outboxEvent("playlist.NotificationDto", 1),
+        outboxEvent("playlist.NotificationDto", 2),
+        outboxEvent("playlist.DirectMessageDto", 3)
+    ));
+
+    // when
+    List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(2);
+
+    // then
+    assertThat(batch).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("lockNextBatch - 보류(parked)된 행은 가져오지 않는다")
+  void lockNextBatchSkipsParked() {
+    // given
+    OutboxEvent parked = outboxEvent("playlist.NotificationDto", 1);
+    parked.recordFailure("RecordTooLargeException: too large", 10, true);
+    OutboxEvent pending = outboxEvent("playlist.NotificationDto", 2);
+    outboxEventRepository.saveAllAndFlush(List.of(parked, pending));
+
+    // when
+    List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(2);
+
+    // then
+    assertThat(batch).extracting(OutboxEvent::getId).containsExactly(pending.getId());
+  }
+
+  @Test
+  @DisplayName("recordFailure - 최대 시도 횟수에 도달하면 보류 처리")
+  void recordFailureParksAtMaxAttempts() {
+    // given
+    OutboxEvent event = outboxEvent("playlist.NotificationDto", 1);
+
+    // when & then
+    assertThat(event.recordFailure("TimeoutException: metadata", 2, false)).isFalse();
+    assertThat(event.getParkedAt()).isNull();
+    assertThat(event.recordFailure("TimeoutException: metadata", 2, false)).isTrue();
+    assertThat(event.getAttempts()).isEqualTo(2);
+    assertThat(event.getLastError()).isEqualTo("TimeoutException: metadata");
+    assertThat(event.getParkedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("deleteAllByIdIn - 발행된 id 만 한 번에 삭제하고 나머지는 남긴다")
+  void deleteAllByIdIn() {
+    // given
+    List<OutboxEvent> saved = outboxEventRepository.saveAllAndFlush(List.of(
+        outboxEvent("playlist.NotificationDto", 1),
+        outboxEvent("playlist.NotificationDto", 2),
+        outboxEvent("playlist.NotificationDto", 3)
+    ));
+    List<UUID> published = List.of(saved.get(0).getId(), saved.get(1).getId());
+
+    // when
+    int deleted = outboxEventRepository.deleteAllByIdIn(published);
+
+    // then
+    assertThat(deleted).isEqualTo(2);
+    assertThat(outboxEventRepository.findAll())
+        .extracting(OutboxEvent::getId)
+        .containsExactly(saved.get(2).getId());
+  }
+
+  private OutboxEvent outboxEvent(String topic, int n) {
+    return new OutboxEvent(topic, UUID.randomUUID().toString(), ("{\"n\":" + n + "}").getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,216 @@
+package com.codeit.playlist.global.kafka.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+
+  @Mock
+  private OutboxEventRepository outboxEventRepository;
+
+  @Mock
+  private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private OutboxRelay outboxRelay;
+
+  private final String RECEIVER_KEY = "00000000-0000-0000-0000-000000000001";
+  private final String OTHER_RECEIVER_KEY = "00000000-0000-0000-0000-000000000002";
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    outboxRelay = new OutboxRelay(outboxEventRepository, kafkaTemplate, transactionManager, meterRegistry, 2, 1000, 3);
+  }
+
+  @Test
+  @DisplayName("relay_fullBatch: 레코드 키와 함께 발행하고, 꽉 찬 배치 뒤에는 바로 다음 배치를 조회하며 발행된 id 를 한 번에 삭제")
+  void relay_fullBatch() {
+    // given
+    OutboxEvent first = outboxEvent("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":1}"));
+    OutboxEvent second = outboxEvent("playlist.NotificationDto", OTHER_RECEIVER_KEY, bytes("{\"n\":2}"));
+    OutboxEvent third = outboxEvent("playlist.DirectMessageDto", RECEIVER_KEY, bytes("{\"n\":3}"));
+    givenRelayLock(true);
+    when(outboxEventRepository.lockNextBatch(2))
+        .thenReturn(List.of(first, second))
+        .thenReturn(List.of(third));
+    when(kafkaTemplate.send(any(String.class), any(String.class), any(byte[].class)))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    verify(outboxEventRepository, times(2)).lockNextBatch(2);
+    verify(kafkaTemplate).send("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":1}"));
+    verify(kafkaTemplate).send("playlist.NotificationDto", OTHER_RECEIVER_KEY, bytes("{\"n\":2}"));
+    verify(kafkaTemplate).send("playlist.DirectMessageDto", RECEIVER_KEY, bytes("{\"n\":3}"));
+    verify(kafkaTemplate, times(2)).flush();
+    verify(outboxEventRepository).deleteAllByIdIn(List.of(first.getId(), second.getId()));
+    verify(outboxEventRepository).deleteAllByIdIn(List.of(third.getId()));
+  }
+
+  @Test
+  @DisplayName("relay_partialFailure: 발행에 실패한 행은 실패를 기록하고 삭제하지 않고 남겨 다음 주기에 재시도")
+  void relay_partialFailure() {
+    // given
+    OutboxEvent published = outboxEvent("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":1}"));
+    OutboxEvent failed = outboxEvent("playlist.NotificationDto", OTHER_RECEIVER_KEY, bytes("{\"n\":2}"));
+    givenRelayLock(true);
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(published, failed));
+    when(kafkaTemplate.send("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":1}")))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+    when(kafkaTemplate.send("playlist.NotificationDto", OTHER_RECEIVER_KEY, bytes("{\"n\":2}")))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    verify(outboxEventRepository, times(1)).lockNextBatch(2);
+    verify(outboxEventRepository).deleteAllByIdIn(List.of(published.getId()));
+    verify(failed).recordFailure("IllegalStateException: broker unavailable", 3, false);
+    assertThat(meterRegistry.counter("outbox.events.parked").count()).isZero();
+  }
+
+  @Test
+  @DisplayName("relay_permanentFailure: 다시 보내도 성공할 수 없는 오류는 감싼 예외를 벗겨 판단하고 바로 보류 처리")
+  void relay_permanentFailureParks() {
+    // given
+    OutboxEvent tooLarge = outboxEvent("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":1}"));
+    givenRelayLock(true);
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(tooLarge));
+    when(kafkaTemplate.send("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":1}")))
+        .thenReturn(CompletableFuture.failedFuture(new KafkaProducerException(
+            null, "Failed to send", new RecordTooLargeException("too large"))));
+    when(tooLarge.recordFailure(anyString(), eq(3), eq(true))).thenReturn(true);
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    verify(tooLarge).recordFailure("RecordTooLargeException: too large", 3, true);
+    verify(outboxEventRepository, never()).deleteAllByIdIn(any());
+    assertThat(meterRegistry.counter("outbox.events.parked").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("relay_sendThrows: send 가 동기적으로 던진 예외도 실패로 기록하고 같은 배치의 다른 행은 발행")
+  void relay_sendThrows() {
+    // given
+    OutboxEvent failed = outboxEvent("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":1}"));
+    OutboxEvent published = outboxEvent("playlist.NotificationDto", OTHER_RECEIVER_KEY, bytes("{\"n\":2}"));
+    givenRelayLock(true);
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(failed, published));
+    when(kafkaTemplate.send("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":1}")))
+        .thenThrow(new IllegalStateException("metadata unavailable"));
+    when(kafkaTemplate.send("playlist.NotificationDto", OTHER_RECEIVER_KEY, bytes("{\"n\":2}")))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    verify(failed).recordFailure("IllegalStateException: metadata unavailable", 3, false);
+    verify(outboxEventRepository).deleteAllByIdIn(List.of(published.getId()));
+  }
+
+  @Test
+  @DisplayName("relay_failedKey: 실패한 행 뒤의 같은 키 행은 ack 를 받아도 남겨 다음 주기에 순서대로 재발행")
+  void relay_failedKeyKeepsLaterRows() {
+    // given
+    OutboxEvent failed = outboxEvent("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":1}"));
+    OutboxEvent sameKeyAfter = outboxEvent("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":2}"));
+    givenRelayLock(true);
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of(failed, sameKeyAfter));
+    when(kafkaTemplate.send("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":1}")))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+    when(kafkaTemplate.send("playlist.NotificationDto", RECEIVER_KEY, bytes("{\"n\":2}")))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    verify(outboxEventRepository, times(1)).lockNextBatch(2);
+    verify(outboxEventRepository, never()).deleteAllByIdIn(any());
+  }
+
+  @Test
+  @DisplayName("relay_lockHeldElsewhere: 다른 노드가 relay 락을 가지고 있으면 조회/발행하지 않음")
+  void relay_lockHeldElsewhere() {
+    // given
+    givenRelayLock(false);
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    verify(outboxEventRepository, never()).lockNextBatch(anyInt());
+    verify(kafkaTemplate, never()).flush();
+  }
+
+  @Test
+  @DisplayName("relay_empty: outbox 가 비어 있으면 발행/삭제하지 않음")
+  void relay_empty() {
+    // given
+    givenRelayLock(true);
+    when(outboxEventRepository.lockNextBatch(2)).thenReturn(List.of());
+
+    // when
+    outboxRelay.relay();
+
+    // then
+    verify(kafkaTemplate, never()).flush();
+    verify(outboxEventRepository, never()).deleteAllByIdIn(any());
+  }
+
+  private void givenRelayLock(boolean acquired) {
+    when(outboxEventRepository.tryRelayLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(acquired);
+  }
+
+  private OutboxEvent outboxEvent(String topic, String key, byte[] payload) {
+    OutboxEvent event = mock(OutboxEvent.class);
+    when(event.getTopic()).thenReturn(topic);
+    when(event.getMessageKey()).thenReturn(key);
+    when(event.getPayload()).thenReturn(payload);
+    // 같은 키가 앞에서 실패해 남겨지는 행은 id 를 읽지 않는다
+    lenient().when(event.getId()).thenReturn(UUID.randomUUID());
+    return event;
+  }
+
+  private byte[] bytes(String payload) {
+    return payload.getBytes(StandardCharsets.UTF_8);
+  }
+}
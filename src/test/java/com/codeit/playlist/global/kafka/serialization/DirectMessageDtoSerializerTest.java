@@ -0,0 +1,63 @@
+package com.codeit.playlist.global.kafka.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codeit.playlist.domain.message.dto.data.DirectMessageDto;
+import com.codeit.playlist.domain.user.dto.data.UserSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class DirectMessageDtoSerializerTest {
+
+  private static final String TOPIC = "playlist.DirectMessageDto";
+
+  private final DirectMessageDtoSerializer serializer = new DirectMessageDtoSerializer();
+  private final DirectMessageDtoDeserializer deserializer = new DirectMessageDtoDeserializer();
+
+  private final DirectMessageDto TEST_MESSAGE = new DirectMessageDto(
+      UUID.fromString("00000000-0000-0000-0000-000000000001"),
+      UUID.fromString("00000000-0000-0000-0000-000000000002"),
+      Instant.parse("2025-01-01T09:30:00Z"),
+      new UserSummary(UUID.fromString("00000000-0000-0000-0000-000000000003"), "보낸사람",
+          "https://example.com/profile.png"),
+      new UserSummary(UUID.fromString("00000000-0000-0000-0000-000000000004"), "받는사람", null),
+      "안녕하세요"
+  );
+
+  @Test
+  @DisplayName("roundTrip: 직렬화한 바이트를 역직렬화하면 같은 DTO (프로필 이미지 null 포함)")
+  void roundTrip() {
+    // when
+    byte[] bytes = serializer.serialize(TOPIC, TEST_MESSAGE);
+
+    // then
+    assertThat(bytes[1]).isEqualTo(DirectMessageDtoSerializer.VERSION);
+    assertThat(deserializer.deserialize(TOPIC, bytes)).isEqualTo(TEST_MESSAGE);
+  }
+
+  @Test
+  @DisplayName("deserialize_legacyJson: 앱 ObjectMapper 가 만든 JSON(ISO-8601 시간) payload 도 읽는다")
+  void deserialize_legacyJson() throws Exception {
+    // given
+    ObjectMapper objectMapper = JsonMapper.builder()
+        .findAndAddModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    byte[] json = objectMapper.writeValueAsBytes(TEST_MESSAGE);
+
+    // when & then
+    assertThat(deserializer.deserialize(TOPIC, json)).isEqualTo(TEST_MESSAGE);
+  }
+
+  @Test
+  @DisplayName("serialize_null: null 값은 null 로 (tombstone)")
+  void serialize_null() {
+    assertThat(serializer.serialize(TOPIC, null)).isNull();
+    assertThat(deserializer.deserialize(TOPIC, null)).isNull();
+  }
+}
@@ -0,0 +1,107 @@
+package com.codeit.playlist.global.kafka.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.domain.notification.entity.Level;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class NotificationDtoSerializerTest {
+
+  private static final String TOPIC = "playlist.NotificationDto";
+
+  private final NotificationDtoSerializer serializer = new NotificationDtoSerializer();
+  private final NotificationDtoDeserializer deserializer = new NotificationDtoDeserializer();
+
+  private final NotificationDto TEST_NOTIFICATION = new NotificationDto(
+      UUID.fromString("00000000-0000-0000-0000-000000000001"),
+      Instant.parse("2025-01-01T00:00:00.123456789Z"),
+      UUID.fromString("00000000-0000-0000-0000-000000000002"),
+      "새로운 팔로워",
+      "테스트 님이 사용자님을 팔로우하기 시작했습니다.",
+      Level.INFO
+  );
+
+  @Test
+  @DisplayName("roundTrip: 직렬화한 바이트를 역직렬화하면 같은 DTO")
+  void roundTrip() {
+    // when
+    byte[] bytes = serializer.serialize(TOPIC, TEST_NOTIFICATION);
+
+    // then
+    assertThat(bytes[0]).isEqualTo(BinaryEventOutput.MAGIC);
+    assertThat(bytes[1]).isEqualTo(NotificationDtoSerializer.VERSION);
+    assertThat(deserializer.deserialize(TOPIC, bytes)).isEqualTo(TEST_NOTIFICATION);
+  }
+
+  @Test
+  @DisplayName("roundTrip_nullFields: 발행 시점에 없는 id / createdAt 은 null 로 유지")
+  void roundTrip_nullFields() {
+    // given
+    NotificationDto notification = new NotificationDto(null, null, TEST_NOTIFICATION.receiverId(),
+        "제목", "", null);
+
+    // when
+    NotificationDto result = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, notification));
+
+    // then
+    assertThat(result).isEqualTo(notification);
+  }
+
+  @Test
+  @DisplayName("smallerThanJson: 같은 DTO 의 JSON 보다 작다")
+  void smallerThanJson() throws Exception {
+    // given
+    ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    // when
+    byte[] binary = serializer.serialize(TOPIC, TEST_NOTIFICATION);
+    byte[] json = objectMapper.writeValueAsBytes(TEST_NOTIFICATION);
+
+    // then
+    assertThat(binary.length).isLessThan(json.length);
+  }
+
+  @Test
+  @DisplayName("deserialize_legacyJson: 바이너리 포맷 도입 전 JSON payload 도 읽는다")
+  void deserialize_legacyJson() throws Exception {
+    // given
+    ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    byte[] json = objectMapper.writeValueAsBytes(TEST_NOTIFICATION);
+
+    // when & then
+    assertThat(deserializer.deserialize(TOPIC, json)).isEqualTo(TEST_NOTIFICATION);
+  }
+
+  @Test
+  @DisplayName("deserialize_unknownVersion: 모르는 스키마 버전이면 SerializationException")
+  void deserialize_unknownVersion() {
+    // given
+    byte[] bytes = serializer.serialize(TOPIC, TEST_NOTIFICATION);
+    bytes[1] = 99;
+
+    // when & then
+    assertThatThrownBy(() -> deserializer.deserialize(TOPIC, bytes))
+        .isInstanceOf(SerializationException.class);
+  }
+
+  @Test
+  @DisplayName("deserialize_truncated: 잘린 payload 면 SerializationException")
+  void deserialize_truncated() {
+    // given
+    byte[] bytes = serializer.serialize(TOPIC, TEST_NOTIFICATION);
+    byte[] truncated = Arrays.copyOf(bytes, bytes.length - 5);
+
+    // when & then
+    assertThatThrownBy(() -> deserializer.deserialize(TOPIC, truncated))
+        .isInstanceOf(SerializationException.class);
+  }
+}
@@ -0,0 +1,93 @@
+package com.codeit.playlist.global.lifecycle;
+
+import com.codeit.playlist.domain.sse.repository.SseEmitterRepository;
+import com.codeit.playlist.domain.sse.service.SseService;
+import com.codeit.playlist.global.websocket.WebSocketSessionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectionDrainerTest {
+    private static final UUID RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID OTHER_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    private ConnectionDrainState connectionDrainState;
+    private SseEmitterRepository sseEmitterRepository;
+    private SseService sseService;
+    private WebSocketSessionRegistry webSocketSessionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        connectionDrainState = new ConnectionDrainState(1000, 2000);
+        sseEmitterRepository = new SseEmitterRepository();
+        sseService = mock(SseService.class);
+        webSocketSessionRegistry = mock(WebSocketSessionRegistry.class);
+    }
+
+    @Test
+    @DisplayName("drain 시 새 연결을 막고 열린 SSE / STOMP 연결을 모두 재연결 안내와 함께 종료")
+    void drainClosesAllConnections() {
+        // given
+        SseEmitter emitter1 = new SseEmitter();
+        SseEmitter emitter2 = new SseEmitter();
+        sseEmitterRepository.save(RECEIVER_ID, emitter1);
+        sseEmitterRepository.save(OTHER_RECEIVER_ID, emitter2);
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(webSocketSessionRegistry.findAll()).thenReturn(List.of(session));
+
+        ConnectionDrainer drainer = new ConnectionDrainer(
+                connectionDrainState, sseEmitterRepository, sseService, webSocketSessionRegistry, 2, 0);
+
+        // when
+        boolean started = drainer.drain();
+
+        // then
+        assertThat(started).isTrue();
+        assertThat(connectionDrainState.isDraining()).isTrue();
+
+        ArgumentCaptor<Long> retryCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(sseService).closeWithReconnectHint(eq(RECEIVER_ID), eq(emitter1), retryCaptor.capture());
+        verify(sseService).closeWithReconnectHint(eq(OTHER_RECEIVER_ID), eq(emitter2), retryCaptor.capture());
+        assertThat(retryCaptor.getAllValues()).allSatisfy(retry -> assertThat(retry).isBetween(1000L, 2000L));
+
+        ArgumentCaptor<CloseStatus> statusCaptor = ArgumentCaptor.forClass(CloseStatus.class);
+        verify(webSocketSessionRegistry).close(eq(session), statusCaptor.capture());
+        assertThat(statusCaptor.getValue().getCode()).isEqualTo(CloseStatus.SERVICE_RESTARTED.getCode());
+        assertThat(statusCaptor.getValue().getReason()).startsWith("reconnect-after-ms=");
+    }
+
+    @Test
+    @DisplayName("이미 드레인 중이면 다시 실행하지 않는다")
+    void drainOnlyOnce() {
+        // given
+        when(webSocketSessionRegistry.findAll()).thenReturn(List.of());
+        ConnectionDrainer drainer = new ConnectionDrainer(
+                connectionDrainState, sseEmitterRepository, sseService, webSocketSessionRegistry, 2, 0);
+        drainer.drain();
+
+        // when
+        boolean startedAgain = drainer.drain();
+
+        // then
+        assertThat(startedAgain).isFalse();
+        verify(webSocketSessionRegistry, times(1)).findAll();
+        verify(sseService, never()).closeWithReconnectHint(any(), any(), anyLong());
+    }
+}
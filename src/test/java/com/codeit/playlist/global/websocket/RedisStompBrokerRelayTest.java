@@ -0,0 +1,211 @@
+package com.codeit.playlist.global.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 한 JVM 안에 애플리케이션 컨텍스트 두 개(노드 A, B)를 띄우고 로컬 Redis(localhost:6379)로 릴레이를 검증
+ */
+class RedisStompBrokerRelayTest {
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+    private String destination;
+
+    @BeforeEach
+    void setup() {
+        nodeA = new AnnotationConfigApplicationContext(NodeConfig.class);
+        nodeB = new AnnotationConfigApplicationContext(NodeConfig.class);
+        destination = "/sub/contents/" + UUID.randomUUID() + "/watch";
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 발행한 메시지가 구독자가 있는 노드의 brokerChannel 로 전달되고, 발행 노드에는 한 번만 전달된다")
+    void relaysToSubscribedNode() throws Exception {
+        // given
+        nodeB.publishEvent(subscribeEvent("session-b", "sub-0", destination));
+        assertThat(nodeB.getBean(RedisStompBrokerRelay.class).localSubscriptionCount(destination)).isEqualTo(1);
+
+        // when: 구독이 Redis 에 반영될 때까지 재발행
+        Message<?> relayed = sendUntilRelayed("hello");
+
+        // then
+        assertThat(relayed).isNotNull();
+        assertThat(new String((byte[]) relayed.getPayload(), StandardCharsets.UTF_8)).isEqualTo("\"hello\"");
+        assertThat(SimpMessageHeaderAccessor.getDestination(relayed.getHeaders())).isEqualTo(destination);
+        assertThat(relayed.getHeaders().get(StompBrokerRelay.RELAYED_FROM_HEADER)).isNotNull();
+
+        // 노드 A 는 자기 자신이 보낸 메시지를 다시 받지 않음 (로컬 전달 1회씩만)
+        BlockingQueue<Message<?>> deliveredA = delivered(nodeA);
+        assertThat(deliveredA).allSatisfy(message ->
+                assertThat(message.getHeaders().get(StompBrokerRelay.RELAYED_FROM_HEADER)).isNull());
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 나가면 해당 토픽은 더 이상 전달받지 않는다")
+    void stopsRelayingAfterLastUnsubscribe() throws Exception {
+        // given
+        nodeB.publishEvent(subscribeEvent("session-b", "sub-0", destination));
+        nodeB.publishEvent(subscribeEvent("session-c", "sub-0", destination));
+        assertThat(sendUntilRelayed("warm-up")).isNotNull();
+
+        RedisStompBrokerRelay relayB = nodeB.getBean(RedisStompBrokerRelay.class);
+        assertThat(relayB.localSubscriptionCount(destination)).isEqualTo(2);
+
+        // when
+        nodeB.publishEvent(unsubscribeEvent("session-b", "sub-0"));
+        nodeB.publishEvent(new SessionDisconnectEvent(this, disconnectMessage("session-c"), "session-c", CloseStatus.NORMAL));
+
+        // then
+        assertThat(relayB.localSubscriptionCount(destination)).isZero();
+
+        // 구독 해제 반영 대기 후 발행한 메시지는 전달되지 않아야 함
+        Thread.sleep(500);
+        delivered(nodeB).clear();
+        nodeA.getBean(SimpMessagingTemplate.class).convertAndSend(destination, "after-unsubscribe");
+        assertThat(delivered(nodeB).poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("릴레이 대상이 아닌 destination 은 구독 추적하지 않는다")
+    void ignoresNonRelayedDestination() {
+        nodeB.publishEvent(subscribeEvent("session-b", "sub-0", "/sub/other"));
+
+        assertThat(nodeB.getBean(RedisStompBrokerRelay.class).localSubscriptionCount("/sub/other")).isZero();
+    }
+
+    private Message<?> sendUntilRelayed(String payload) throws InterruptedException {
+        SimpMessagingTemplate templateA = nodeA.getBean(SimpMessagingTemplate.class);
+        BlockingQueue<Message<?>> deliveredB = delivered(nodeB);
+
+        for (int i = 0; i < 50; i++) {
+            templateA.convertAndSend(destination, payload);
+            Message<?> message = deliveredB.poll(100, TimeUnit.MILLISECONDS);
+            if (message != null) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BlockingQueue<Message<?>> delivered(AnnotationConfigApplicationContext node) {
+        return node.getBean("delivered", BlockingQueue.class);
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private SessionUnsubscribeEvent unsubscribeEvent(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private Message<byte[]> disconnectMessage(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Configuration
+    static class NodeConfig {
+
+        @Bean
+        public LettuceConnectionFactory redisConnectionFactory() {
+            return new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        }
+
+        @Bean
+        public StringRedisTemplate redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+            return new StringRedisTemplate(redisConnectionFactory);
+        }
+
+        @Bean
+        public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(redisConnectionFactory);
+            return container;
+        }
+
+        // SimpleBroker 대신 brokerChannel 로 들어온 메시지를 모으는 핸들러
+        @Bean
+        public BlockingQueue<Message<?>> delivered() {
+            return new LinkedBlockingQueue<>();
+        }
+
+        @Bean
+        public ExecutorSubscribableChannel brokerChannel(BlockingQueue<Message<?>> delivered) {
+            ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+            channel.subscribe(delivered::add);
+            return channel;
+        }
+
+        @Bean
+        public SimpMessagingTemplate messagingTemplate(ExecutorSubscribableChannel brokerChannel) {
+            SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+            template.setMessageConverter(new MappingJackson2MessageConverter());
+            return template;
+        }
+
+        @Bean
+        public RedisStompBrokerRelay redisStompBrokerRelay(StringRedisTemplate redisTemplate,
+                                                           RedisMessageListenerContainer redisMessageListenerContainer,
+                                                           ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+                                                           ExecutorSubscribableChannel brokerChannel) {
+            RedisStompBrokerRelay relay = new RedisStompBrokerRelay(
+                    redisTemplate,
+                    redisMessageListenerContainer,
+                    messagingTemplate,
+                    new ObjectMapper(),
+                    List.of("/sub/contents/", "/sub/conversations/"));
+            brokerChannel.addInterceptor(relay);
+            return relay;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.codeit.playlist.loadtest;
+
+import com.codeit.playlist.domain.message.dto.data.DirectMessageDto;
+import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.domain.notification.entity.Level;
+import com.codeit.playlist.domain.user.dto.data.UserSummary;
+import com.codeit.playlist.global.kafka.serialization.DirectMessageDtoDeserializer;
+import com.codeit.playlist.global.kafka.serialization.DirectMessageDtoSerializer;
+import com.codeit.playlist.global.kafka.serialization.NotificationDtoDeserializer;
+import com.codeit.playlist.global.kafka.serialization.NotificationDtoSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+/**
+ * Kafka 이벤트 값 인코딩 비교 마이크로벤치마크 (JSON String vs 바이너리 Serializer)
+ * <p>
+ * - json: ObjectMapper.writeValueAsString + StringSerializer / StringDeserializer + readValue (변경 전 프로듀서·리스너 경로)
+ * - binary: NotificationDtoSerializer, DirectMessageDtoSerializer 와 각 Deserializer
+ * DTO 별로 레코드 1건 평균 크기와 인코딩/디코딩 ns/op 를 출력한다.
+ * -Dbench.samples, -Dbench.iterations 로 조정할 수 있다.
+ */
+public class KafkaEventSerializationBenchmark {
+
+  private static final int WARMUP = 5;
+
+  public static void main(String[] args) throws Exception {
+    int samples = Integer.getInteger("bench.samples", 10_000);
+    int iterations = Integer.getInteger("bench.iterations", 20);
+
+    ObjectMapper objectMapper = JsonMapper.builder()
+        .findAndAddModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    List<NotificationDto> notifications = new ArrayList<>(samples);
+    List<DirectMessageDto> messages = new ArrayList<>(samples);
+    for (int i = 0; i < samples; i++) {
+      notifications.add(new NotificationDto(UUID.randomUUID(), Instant.now(), UUID.randomUUID(),
+          "새로운 플레이리스트", "구독 중인 사용자가 새 플레이리스트를 만들었습니다 #" + i, Level.INFO));
+      messages.add(new DirectMessageDto(UUID.randomUUID(), UUID.randomUUID(), Instant.now(),
+          new UserSummary(UUID.randomUUID(), "보낸사람" + i, "https://cdn.example.com/profile/" + i + ".png"),
+          new UserSummary(UUID.randomUUID(), "받는사람" + i, null),
+          "안녕하세요, 오늘 같이 볼 콘텐츠 추천해 주세요 #" + i));
+    }
+
+    compare("NotificationDto", "playlist.NotificationDto", notifications, NotificationDto.class,
+        objectMapper, new NotificationDtoSerializer(), new NotificationDtoDeserializer(), iterations);
+    compare("DirectMessageDto", "playlist.DirectMessageDto", messages, DirectMessageDto.class,
+        objectMapper, new DirectMessageDtoSerializer(), new DirectMessageDtoDeserializer(), iterations);
+  }
+
+  private static <T> void compare(String label, String topic, List<T> samples, Class<T> type,
+      ObjectMapper objectMapper, Serializer<T> serializer, Deserializer<T> deserializer, int iterations)
+      throws Exception {
+    StringSerializer stringSerializer = new StringSerializer();
+    StringDeserializer stringDeserializer = new StringDeserializer();
+
+    Codec<T> json = new Codec<>() {
+      @Override
+      public byte[] encode(T value) throws Exception {
+        return stringSerializer.serialize(topic, objectMapper.writeValueAsString(value));
+      }
+
+      @Override
+      public T decode(byte[] bytes) throws Exception {
+        return objectMapper.readValue(stringDeserializer.deserialize(topic, bytes), type);
+      }
+    };
+    Codec<T> binary = new Codec<>() {
+      @Override
+      public byte[] encode(T value) {
+        return serializer.serialize(topic, value);
+      }
+
+      @Override
+      public T decode(byte[] bytes) {
+        return deserializer.deserialize(topic, bytes);
+      }
+    };
+
+    Result jsonResult = run(json, samples, iterations);
+    Result binaryResult = run(binary, samples, iterations);
+
+    print(label, "json", jsonResult);
+    print(label, "binary", binaryResult);
+  }
+
+  private static <T> Result run(Codec<T> codec, List<T> samples, int iterations) throws Exception {
+    List<byte[]> encoded = new ArrayList<>(samples.size());
+    long totalBytes = 0;
+    for (T sample : samples) {
+      byte[] bytes = codec.encode(sample);
+      encoded.add(bytes);
+      totalBytes += bytes.length;
+    }
+
+    long sink = 0;
+    for (int i = 0; i < WARMUP; i++) {
+      sink += encodeAll(codec, samples) + decodeAll(codec, encoded);
+    }
+
+    long encodeNanos = 0;
+    long decodeNanos = 0;
+    for (int i = 0; i < iterations; i++) {
+      long start = System.nanoTime();
+      sink += encodeAll(codec, samples);
+      encodeNanos += System.nanoTime() - start;
+
+      start = System.nanoTime();
+      sink += decodeAll(codec, encoded);
+      decodeNanos += System.nanoTime() - start;
+    }
+
+    long operations = (long) samples.size() * iterations;
+    return new Result((double) totalBytes / samples.size(), (double) encodeNanos / operations,
+        (double) decodeNanos / operations, sink);
+  }
+
+  private static <T> long encodeAll(Codec<T> codec, List<T> samples) throws Exception {
+    long sink = 0;
+    for (T sample : samples) {
+      sink += codec.encode(sample).length;
+    }
+    return sink;
+  }
+
+  private static <T> long decodeAll(Codec<T> codec, List<byte[]> encoded) throws Exception {
+    long sink = 0;
+    for (byte[] bytes : encoded) {
+      sink += codec.decode(bytes).hashCode();
+    }
+    return sink;
+  }
+
+  private static void print(String label, String codec, Result result) {
+    System.out.printf("%-17s %-7s 평균 %6.1f bytes, encode %8.1f ns/op, decode %8.1f ns/op (sink=%d)%n",
+        label, codec, result.averageBytes(), result.encodeNanosPerOp(), result.decodeNanosPerOp(), result.sink() & 0xF);
+  }
+
+  private interface Codec<T> {
+
+    byte[] encode(T value) throws Exception;
+
+    T decode(byte[] bytes) throws Exception;
+  }
+
+  private record Result(double averageBytes, double encodeNanosPerOp, double decodeNanosPerOp, long sink) {
+  }
+}
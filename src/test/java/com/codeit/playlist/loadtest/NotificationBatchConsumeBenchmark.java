@@ -0,0 +1,224 @@
+package com.codeit.playlist.loadtest;
+
+import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.domain.notification.entity.Level;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * 알림 토픽 소비 처리량 비교 벤치마크 (레코드 단위 리스너 vs 배치 리스너)
+ * <p>
+ * 임베디드 Kafka 브로커에 NotificationDto JSON 을 적재한 뒤, 두 방식의 DB 접근 패턴을 H2(메모리)에 재현해 소비한다.
+ * - record: 레코드마다 수신자 SELECT + INSERT 한 건을 각각의 트랜잭션으로 실행 (변경 전 onNotificationEvent)
+ * - batch: poll 단위로 수신자 존재 여부를 한 번에 조회하고 INSERT 를 JDBC 배치로 실행 (onNotificationEvents)
+ * SSE 전송은 두 방식 모두 큐에 넣기만 하므로 측정에서 제외한다.
+ * -Dbench.records, -Dbench.receivers, -Dbench.max-poll-records 로 조정할 수 있다.
+ */
+public class NotificationBatchConsumeBenchmark {
+
+  private static final String RECORD_TOPIC = "bench.notification.record";
+  private static final String BATCH_TOPIC = "bench.notification.batch";
+  private static final String INSERT_NOTIFICATION =
+      "INSERT INTO notifications (id, created_at, receiver_id, title, content, level) VALUES (?, ?, ?, ?, ?, ?)";
+
+  public static void main(String[] args) throws Exception {
+    int records = Integer.getInteger("bench.records", 20_000);
+    int receivers = Integer.getInteger("bench.receivers", 1_000);
+    int maxPollRecords = Integer.getInteger("bench.max-poll-records", 500);
+
+    EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, 1, RECORD_TOPIC, BATCH_TOPIC);
+    broker.afterPropertiesSet();
+    try {
+      ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+      DataSource dataSource = dataSource();
+      List<UUID> receiverIds = createSchema(dataSource, receivers);
+
+      produce(broker.getBrokersAsString(), objectMapper, receiverIds, records);
+
+      long recordNanos = consume(broker.getBrokersAsString(), RECORD_TOPIC, maxPollRecords, records,
+          polled -> handleRecords(dataSource, objectMapper, polled));
+      long batchNanos = consume(broker.getBrokersAsString(), BATCH_TOPIC, maxPollRecords, records,
+          polled -> handleBatch(dataSource, objectMapper, polled));
+
+      print("record listener", records, recordNanos);
+      print("batch listener", records, batchNanos);
+    } finally {
+      broker.destroy();
+    }
+  }
+
+  private static DataSource dataSource() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:notification-bench;DB_CLOSE_DELAY=-1");
+    dataSource.setUser("sa");
+    return dataSource;
+  }
+
+  private static List<UUID> createSchema(DataSource dataSource, int receivers) throws SQLException {
+    List<UUID> receiverIds = new ArrayList<>(receivers);
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE users (id UUID PRIMARY KEY)");
+      statement.execute("CREATE TABLE notifications (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL, "
+          + "receiver_id UUID NOT NULL REFERENCES users (id), title VARCHAR(255) NOT NULL, "
+          + "content TEXT NOT NULL, level VARCHAR(20) NOT NULL)");
+      try (PreparedStatement insert = connection.prepareStatement("INSERT INTO users (id) VALUES (?)")) {
+        for (int i = 0; i < receivers; i++) {
+          UUID receiverId = UUID.randomUUID();
+          insert.setObject(1, receiverId);
+          insert.addBatch();
+          receiverIds.add(receiverId);
+        }
+        insert.executeBatch();
+      }
+    }
+    return receiverIds;
+  }
+
+  private static void produce(String bootstrapServers, ObjectMapper objectMapper, List<UUID> receiverIds,
+      int records) throws Exception {
+    Properties properties = new Properties();
+    properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    try (KafkaProducer<String, String> producer = new KafkaProducer<>(properties)) {
+      for (int i = 0; i < records; i++) {
+        NotificationDto notification = new NotificationDto(null, null, receiverIds.get(i % receiverIds.size()),
+            "새로운 플레이리스트", "구독 중인 사용자가 새 플레이리스트를 만들었습니다 #" + i, Level.INFO);
+        String payload = objectMapper.writeValueAsString(notification);
+        producer.send(new ProducerRecord<>(RECORD_TOPIC, payload));
+        producer.send(new ProducerRecord<>(BATCH_TOPIC, payload));
+      }
+      producer.flush();
+    }
+  }
+
+  private static long consume(String bootstrapServers, String topic, int maxPollRecords, int records,
+      PollHandler handler) throws Exception {
+    Properties properties = new Properties();
+    properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    properties.put(ConsumerConfig.GROUP_ID_CONFIG, topic + "-group");
+    properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+    properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+
+    try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(properties)) {
+      consumer.subscribe(List.of(topic));
+      int consumed = 0;
+      long start = System.nanoTime();
+      while (consumed < records) {
+        ConsumerRecords<String, String> polled = consumer.poll(Duration.ofMillis(500));
+        if (polled.isEmpty()) {
+          continue;
+        }
+        List<String> values = new ArrayList<>(polled.count());
+        for (ConsumerRecord<String, String> record : polled) {
+          values.add(record.value());
+        }
+        handler.handle(values);
+        consumer.commitSync();
+        consumed += values.size();
+      }
+      return System.nanoTime() - start;
+    }
+  }
+
+  // 변경 전: 레코드마다 findById + save(트랜잭션 1개)
+  private static void handleRecords(DataSource dataSource, ObjectMapper objectMapper, List<String> values)
+      throws Exception {
+    try (Connection connection = dataSource.getConnection()) {
+      for (String value : values) {
+        NotificationDto notification = objectMapper.readValue(value, NotificationDto.class);
+        try (PreparedStatement select = connection.prepareStatement("SELECT id FROM users WHERE id = ?")) {
+          select.setObject(1, notification.receiverId());
+          try (ResultSet resultSet = select.executeQuery()) {
+            if (!resultSet.next()) {
+              continue;
+            }
+          }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_NOTIFICATION)) {
+          bind(insert, notification);
+          insert.executeUpdate();
+        }
+      }
+    }
+  }
+
+  // 변경 후: poll 단위로 수신자 일괄 확인 + JDBC 배치 INSERT(트랜잭션 1개)
+  private static void handleBatch(DataSource dataSource, ObjectMapper objectMapper, List<String> values)
+      throws Exception {
+    List<NotificationDto> notifications = new ArrayList<>(values.size());
+    for (String value : values) {
+      notifications.add(objectMapper.readValue(value, NotificationDto.class));
+    }
+
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      Set<UUID> existing = new HashSet<>();
+      try (PreparedStatement select = connection.prepareStatement("SELECT id FROM users WHERE id = ANY(?)")) {
+        select.setObject(1, notifications.stream().map(NotificationDto::receiverId).distinct().toArray(UUID[]::new));
+        try (ResultSet resultSet = select.executeQuery()) {
+          while (resultSet.next()) {
+            existing.add(resultSet.getObject(1, UUID.class));
+          }
+        }
+      }
+      try (PreparedStatement insert = connection.prepareStatement(INSERT_NOTIFICATION)) {
+        for (NotificationDto notification : notifications) {
+          if (existing.contains(notification.receiverId())) {
+            bind(insert, notification);
+            insert.addBatch();
+          }
+        }
+        insert.executeBatch();
+      }
+      connection.commit();
+    }
+  }
+
+  private static void bind(PreparedStatement insert, NotificationDto notification) throws SQLException {
+    insert.setObject(1, UUID.randomUUID());
+    insert.setTimestamp(2, Timestamp.from(Instant.now()));
+    insert.setObject(3, notification.receiverId());
+    insert.setString(4, notification.title());
+    insert.setString(5, notification.content());
+    insert.setString(6, notification.level().name());
+  }
+
+  private static void print(String label, int records, long nanos) {
+    double seconds = nanos / 1_000_000_000.0;
+    System.out.printf("%-16s 레코드 %,d건: %.2fs, %.0f records/s%n", label, records, seconds, records / seconds);
+  }
+
+  @FunctionalInterface
+  private interface PollHandler {
+    void handle(List<String> values) throws Exception;
+  }
+}
@@ -0,0 +1,214 @@
+package com.codeit.playlist.loadtest;
+
+import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.domain.notification.entity.Level;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+/**
+ * 알림 토픽 end-to-end 지연 벤치마크 (컨슈머 concurrency 별)
+ * <p>
+ * 임베디드 Kafka 에 수신자 ID 를 키로 NotificationDto JSON 을 일정 속도로 발행하고,
+ * 배치 리스너 컨테이너(concurrency 1..N)가 소비해 처리를 마칠 때까지의 지연(발행 시각 → 처리 완료)을 측정한다.
+ * - 레코드 처리 비용(알림 저장 + SSE 전송)은 -Dbench.work-micros 만큼 대기하는 것으로 대신한다
+ * - 같은 키(수신자)의 레코드가 발행 순서대로 처리됐는지도 함께 검사한다
+ * -Dbench.records, -Dbench.receivers, -Dbench.partitions, -Dbench.rate(초당 발행 수),
+ * -Dbench.concurrency(쉼표 구분, 예: 1,2,4,6), -Dbench.work-micros 로 조정할 수 있다.
+ */
+public class NotificationConsumerConcurrencyBenchmark {
+
+  private static final String SENT_AT = "bench-sent-at";
+  private static final String SEQUENCE = "bench-seq";
+
+  public static void main(String[] args) throws Exception {
+    int records = Integer.getInteger("bench.records", 20_000);
+    int receivers = Integer.getInteger("bench.receivers", 1_000);
+    int partitions = Integer.getInteger("bench.partitions", 6);
+    int rate = Integer.getInteger("bench.rate", 4_000);
+    long workMicros = Long.getLong("bench.work-micros", 500);
+    int[] concurrencyLevels = Arrays.stream(System.getProperty("bench.concurrency", "1,2,4,6").split(","))
+        .map(String::trim)
+        .mapToInt(Integer::parseInt)
+        .toArray();
+
+    String[] topics = Arrays.stream(concurrencyLevels).mapToObj(c -> "bench.notification.c" + c).toArray(String[]::new);
+    EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, partitions, topics);
+    broker.afterPropertiesSet();
+    try {
+      ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+      List<UUID> receiverIds = new ArrayList<>(receivers);
+      for (int i = 0; i < receivers; i++) {
+        receiverIds.add(UUID.randomUUID());
+      }
+
+      for (int i = 0; i < concurrencyLevels.length; i++) {
+        Result result = run(broker.getBrokersAsString(), topics[i], concurrencyLevels[i], objectMapper,
+            receiverIds, records, rate, workMicros);
+        print(concurrencyLevels[i], partitions, records, result);
+      }
+    } finally {
+      broker.destroy();
+    }
+  }
+
+  private static Result run(String bootstrapServers, String topic, int concurrency, ObjectMapper objectMapper,
+      List<UUID> receiverIds, int records, int rate, long workMicros) throws Exception {
+    long[] latencies = new long[records];
+    AtomicInteger received = new AtomicInteger();
+    AtomicInteger outOfOrder = new AtomicInteger();
+    Map<String, Integer> lastSequenceByKey = new ConcurrentHashMap<>();
+    CountDownLatch done = new CountDownLatch(records);
+
+    BatchMessageListener<String, String> listener = batch -> {
+      for (ConsumerRecord<String, String> record : batch) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(workMicros));
+        long latency = System.nanoTime() - readLong(record.headers().lastHeader(SENT_AT));
+
+        int sequence = (int) readLong(record.headers().lastHeader(SEQUENCE));
+        Integer previous = lastSequenceByKey.put(record.key(), sequence);
+        if (previous != null && previous > sequence) {
+          outOfOrder.incrementAndGet();
+        }
+
+        int index = received.getAndIncrement();
+        if (index < latencies.length) {
+          latencies[index] = latency;
+        }
+        done.countDown();
+      }
+    };
+
+    ContainerProperties containerProperties = new ContainerProperties(topic);
+    containerProperties.setMessageListener(listener);
+    ConcurrentMessageListenerContainer<String, String> container =
+        new ConcurrentMessageListenerContainer<>(consumerFactory(bootstrapServers, topic), containerProperties);
+    container.setConcurrency(concurrency);
+    container.start();
+    try {
+      waitForAssignment(container, concurrency);
+
+      long start = System.nanoTime();
+      produce(bootstrapServers, topic, objectMapper, receiverIds, records, rate);
+      if (!done.await(5, TimeUnit.MINUTES)) {
+        throw new IllegalStateException("소비 시간 초과: received=" + received.get());
+      }
+      long elapsed = System.nanoTime() - start;
+
+      Arrays.sort(latencies);
+      return new Result(latencies, elapsed, outOfOrder.get());
+    } finally {
+      container.stop();
+    }
+  }
+
+  private static DefaultKafkaConsumerFactory<String, String> consumerFactory(String bootstrapServers, String topic) {
+    return new DefaultKafkaConsumerFactory<>(Map.of(
+        ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+        ConsumerConfig.GROUP_ID_CONFIG, topic + "-group",
+        ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+        ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500,
+        ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+        ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class
+    ));
+  }
+
+  // 파티션이 배정되기 전에 발행하면 리밸런싱 시간이 지연에 섞이므로 배정을 기다린다
+  private static void waitForAssignment(ConcurrentMessageListenerContainer<String, String> container, int concurrency)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (System.nanoTime() < deadline) {
+      long assignedConsumers = container.getContainers().stream()
+          .filter(child -> child.getAssignedPartitions() != null && !child.getAssignedPartitions().isEmpty())
+          .count();
+      if (assignedConsumers >= Math.min(concurrency, container.getContainers().size())) {
+        return;
+      }
+      Thread.sleep(100);
+    }
+  }
+
+  private static void produce(String bootstrapServers, String topic, ObjectMapper objectMapper,
+      List<UUID> receiverIds, int records, int rate) throws Exception {
+    Map<String, Object> properties = Map.of(
+        ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+        ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+        ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+        ProducerConfig.ACKS_CONFIG, "all",
+        ProducerConfig.LINGER_MS_CONFIG, 10,
+        ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4"
+    );
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, rate);
+    int[] sequences = new int[receiverIds.size()];
+    try (KafkaProducer<String, String> producer = new KafkaProducer<>(properties)) {
+      long next = System.nanoTime();
+      for (int i = 0; i < records; i++) {
+        int receiver = i % receiverIds.size();
+        UUID receiverId = receiverIds.get(receiver);
+        NotificationDto notification = new NotificationDto(null, null, receiverId,
+            "새로운 플레이리스트", "구독 중인 사용자가 새 플레이리스트를 만들었습니다 #" + i, Level.INFO);
+
+        long now = System.nanoTime();
+        if (now < next) {
+          LockSupport.parkNanos(next - now);
+        }
+        next += intervalNanos;
+
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic, receiverId.toString(),
+            objectMapper.writeValueAsString(notification));
+        record.headers().add(SEQUENCE, longBytes(sequences[receiver]++));
+        record.headers().add(SENT_AT, longBytes(System.nanoTime()));
+        producer.send(record);
+      }
+      producer.flush();
+    }
+  }
+
+  private static byte[] longBytes(long value) {
+    return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+  }
+
+  private static long readLong(Header header) {
+    return ByteBuffer.wrap(header.value()).getLong();
+  }
+
+  private static void print(int concurrency, int partitions, int records, Result result) {
+    double seconds = result.elapsedNanos() / 1_000_000_000.0;
+    System.out.printf("concurrency %d (partitions %d) 레코드 %,d건: %.0f records/s, "
+            + "p50 %.1fms, p95 %.1fms, p99 %.1fms, max %.1fms, 순서 위반 %d건%n",
+        concurrency, partitions, records, records / seconds,
+        result.percentileMillis(0.50), result.percentileMillis(0.95), result.percentileMillis(0.99),
+        result.percentileMillis(1.0), result.outOfOrder());
+  }
+
+  private record Result(long[] sortedLatencies, long elapsedNanos, int outOfOrder) {
+
+    double percentileMillis(double percentile) {
+      int index = (int) Math.min(sortedLatencies.length - 1, Math.ceil(percentile * sortedLatencies.length) - 1);
+      return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.codeit.playlist.loadtest;
+
+import com.codeit.playlist.domain.sse.entity.SseMessage;
+import com.codeit.playlist.domain.sse.service.SseEventEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+/**
+ * 브로드캐스트 한 건을 N 개의 emitter 로 쓰는 비용 비교 마이크로벤치마크
+ * (SseMessage.toEvent() + emitter 별 컨버터 직렬화 vs SseEventEncoder 사전 인코딩)
+ * <p>
+ * emitter 쓰기는 ResponseBodyEmitterReturnValueHandler 와 같은 방식으로 메시지 컨버터를 골라 메모리 버퍼에 쓴다.
+ * -Dbench.emitters, -Dbench.iterations 로 조정할 수 있다.
+ */
+public class SseEventEncodingBenchmark {
+
+  private static final int WARMUP = 20;
+
+  public static void main(String[] args) throws IOException {
+    int emitters = Integer.getInteger("bench.emitters", 10_000);
+    int iterations = Integer.getInteger("bench.iterations", 100);
+
+    ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    SseEventEncoder encoder = new SseEventEncoder(objectMapper);
+    List<HttpMessageConverter<?>> converters = List.of(
+        new ByteArrayHttpMessageConverter(),
+        new StringHttpMessageConverter(),
+        new MappingJackson2HttpMessageConverter(objectMapper)
+    );
+    SseMessage message = SseMessage.createBroadcast("notifications", Map.of(
+        "id", UUID.randomUUID(),
+        "title", "새로운 플레이리스트가 등록되었습니다",
+        "content", "구독 중인 사용자가 새 플레이리스트를 만들었습니다",
+        "level", "INFO",
+        "createdAt", Instant.now().toString()
+    )).withSequence(1L);
+
+    runLegacy(message, converters, WARMUP, emitters);
+    runEncoded(message, encoder, converters, WARMUP, emitters);
+
+    long legacyNanos = runLegacy(message, converters, iterations, emitters);
+    long encodedNanos = runEncoded(message, encoder, converters, iterations, emitters);
+
+    print("legacy (toEvent)", iterations, emitters, legacyNanos);
+    print("pre-encoded frame", iterations, emitters, encodedNanos);
+  }
+
+  // 변경 전 SseService.deliverBroadcast: 이벤트를 한 번 만들고 emitter 마다 컨버터가 eventData 를 직렬화
+  private static long runLegacy(SseMessage message, List<HttpMessageConverter<?>> converters,
+      int iterations, int emitters) throws IOException {
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      Set<DataWithMediaType> event = message.toEvent();
+      for (int e = 0; e < emitters; e++) {
+        write(event, converters);
+      }
+    }
+    return System.nanoTime() - start;
+  }
+
+  private static long runEncoded(SseMessage message, SseEventEncoder encoder, List<HttpMessageConverter<?>> converters,
+      int iterations, int emitters) throws IOException {
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      Set<DataWithMediaType> event = encoder.encode(message);
+      for (int e = 0; e < emitters; e++) {
+        write(event, converters);
+      }
+    }
+    return System.nanoTime() - start;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void write(Set<DataWithMediaType> event, List<HttpMessageConverter<?>> converters) throws IOException {
+    MockHttpOutputMessage output = new MockHttpOutputMessage();
+    for (DataWithMediaType item : event) {
+      Object data = item.getData();
+      MediaType mediaType = item.getMediaType();
+      for (HttpMessageConverter<?> converter : converters) {
+        if (converter.canWrite(data.getClass(), mediaType)) {
+          ((HttpMessageConverter<Object>) converter).write(data, mediaType, output);
+          break;
+        }
+      }
+    }
+  }
+
+  private static void print(String label, int iterations, int emitters, long nanos) {
+    double perBroadcastMillis = nanos / 1_000_000.0 / iterations;
+    double writesPerSecond = (double) iterations * emitters / (nanos / 1_000_000_000.0);
+    System.out.printf("%-20s emitter %,d개 broadcast %,d회: 평균 %.2fms, %.0f writes/s%n",
+        label, emitters, iterations, perBroadcastMillis, writesPerSecond);
+  }
+}
@@ -0,0 +1,112 @@
+package com.codeit.playlist.loadtest;
+
+import com.codeit.playlist.domain.content.dto.data.ContentDto;
+import com.codeit.playlist.domain.user.dto.data.UserSummary;
+import com.codeit.playlist.domain.watching.dto.data.ChangeType;
+import com.codeit.playlist.domain.watching.dto.data.WatchingSessionDto;
+import com.codeit.playlist.domain.watching.dto.response.ContentChatDto;
+import com.codeit.playlist.domain.watching.dto.response.WatchingSessionChange;
+import com.codeit.playlist.domain.watching.dto.response.WatchingSessionDelta;
+import com.codeit.playlist.domain.watching.event.publisher.WatchingSessionCoalescer;
+import com.codeit.playlist.domain.watching.event.publisher.WatchingSessionPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * /sub/contents/{id}/watch 아웃바운드 프레임/바이트 부하 측정 (개별 JOIN 프레임 vs DELTA 병합)
+ * <p>
+ * 이미 -Dload.initial-watchers 명이 있는 방에 -Dload.joins 명이 -Dload.seconds 초 동안 고르게 입장하는 상황을
+ * 시뮬레이션한다. 발행된 프레임은 그 시점의 방 인원 전원(구독자)에게 전달된다고 보고 JSON 크기로 바이트를 계산한다.
+ */
+public class WatchingPresenceFanOutLoadTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+  public static void main(String[] args) {
+    int initialWatchers = Integer.getInteger("load.initial-watchers", 1_500);
+    int joins = Integer.getInteger("load.joins", 500);
+    int seconds = Integer.getInteger("load.seconds", 60);
+    long windowMs = Long.getLong("load.window-ms", 500L);
+    long minWatchers = Long.getLong("load.min-watchers", 100L);
+
+    UUID contentId = UUID.randomUUID();
+    ContentDto content = new ContentDto(contentId, "movie", "title", "description".repeat(10),
+        "https://example.com/thumbnail.jpg", List.of("액션", "모험", "코미디"), 4.2, 120, initialWatchers);
+
+    // 변경 전: 입장마다 WatchingSessionChange 전체를 방 전원에게 발송
+    CountingPublisher before = new CountingPublisher();
+    for (int i = 0; i < joins; i++) {
+      long watcherCount = initialWatchers + i + 1;
+      before.watcherCount = watcherCount;
+      before.publishWatching(contentId, new WatchingSessionChange(ChangeType.JOIN,
+          new WatchingSessionDto(UUID.randomUUID(), Instant.now(),
+              new UserSummary(UUID.randomUUID(), "tester" + i, "https://example.com/profile.png"), content),
+          watcherCount));
+    }
+
+    // 변경 후: window 마다 DELTA 하나
+    CountingPublisher after = new CountingPublisher();
+    // JOIN 만 발생하므로 recount(Redis 조회) 경로는 타지 않는다
+    WatchingSessionCoalescer coalescer = new WatchingSessionCoalescer(after, null, minWatchers);
+    long totalMs = seconds * 1_000L;
+    long nextFlushAt = windowMs;
+    for (int i = 0; i < joins; i++) {
+      long eventAt = totalMs * i / joins;
+      while (eventAt >= nextFlushAt) {
+        coalescer.flush();
+        nextFlushAt += windowMs;
+      }
+
+      long watcherCount = initialWatchers + i + 1;
+      after.watcherCount = watcherCount;
+      if (!coalescer.offer(contentId, ChangeType.JOIN, UUID.randomUUID(), watcherCount)) {
+        after.publishWatching(contentId, new WatchingSessionChange(ChangeType.JOIN, null, watcherCount));
+      }
+    }
+    coalescer.flush();
+
+    print("per-event frames", before, seconds);
+    print("coalesced delta", after, seconds);
+  }
+
+  private static void print(String label, CountingPublisher publisher, int seconds) {
+    System.out.printf("%-18s publish %,d회, 아웃바운드 %,.0f frames/s, %,.0f bytes/s%n",
+        label, publisher.publishes, (double) publisher.frames / seconds, (double) publisher.bytes / seconds);
+  }
+
+  private static class CountingPublisher implements WatchingSessionPublisher {
+    long watcherCount;
+    long publishes;
+    long frames;
+    long bytes;
+
+    @Override
+    public void publishWatching(UUID contentId, WatchingSessionChange event) {
+      count(event);
+    }
+
+    @Override
+    public void publishWatchingDelta(UUID contentId, WatchingSessionDelta delta) {
+      count(delta);
+    }
+
+    @Override
+    public void publishChat(UUID contentId, ContentChatDto contentChatDto) {
+    }
+
+    private void count(Object payload) {
+      try {
+        int size = OBJECT_MAPPER.writeValueAsBytes(payload).length;
+        publishes++;
+        frames += watcherCount;
+        bytes += size * watcherCount;
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.codeit.playlist.loadtest;
+
+import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 시청 세션 입장/퇴장 마이크로벤치마크 (기존 다중 명령 방식 vs Lua 스크립트 방식)
+ * <p>
+ * 로컬 Redis(기본 localhost:6379, 테스트와 동일)를 대상으로 실행하며 실행 시 DB 를 비운다.
+ * -Dbench.redis.host, -Dbench.redis.port, -Dbench.iterations 로 조정할 수 있다.
+ */
+public class WatchingSessionJoinLeaveBenchmark {
+
+  private static final int WARMUP = 1_000;
+
+  public static void main(String[] args) {
+    String host = System.getProperty("bench.redis.host", "localhost");
+    int port = Integer.getInteger("bench.redis.port", 6379);
+    int iterations = Integer.getInteger("bench.iterations", 10_000);
+
+    LettuceConnectionFactory connectionFactory =
+        new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+
+    try {
+      StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+      RedisWatchingSessionRepository repository = new RedisWatchingSessionRepository(redisTemplate);
+      UUID contentId = UUID.randomUUID();
+
+      flush(redisTemplate);
+      runLegacy(redisTemplate, contentId, WARMUP);
+      runScript(repository, contentId, WARMUP);
+
+      flush(redisTemplate);
+      long legacyNanos = runLegacy(redisTemplate, contentId, iterations);
+      flush(redisTemplate);
+      long scriptNanos = runScript(repository, contentId, iterations);
+
+      print("legacy (multi command)", iterations, legacyNanos);
+      print("lua script", iterations, scriptNanos);
+    } finally {
+      connectionFactory.destroy();
+    }
+  }
+
+  // 변경 전 BasicWatchingSessionService 의 호출 순서(입장 → 세션 매핑 → 카운트 / 조회 → 매핑 삭제 → 퇴장 → 카운트)를 그대로 재현
+  private static long runLegacy(StringRedisTemplate redisTemplate, UUID contentId, int iterations) {
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      String sessionId = "bench-legacy-" + i;
+      UUID userId = UUID.randomUUID();
+
+      legacyAdd(redisTemplate, UUID.randomUUID(), contentId, userId);
+      redisTemplate.opsForValue().set("ws:session:" + sessionId, userId.toString());
+      redisTemplate.opsForZSet().size("content:" + contentId + ":watching");
+
+      UUID found = UUID.fromString(redisTemplate.opsForValue().get("ws:session:" + sessionId));
+      redisTemplate.delete("ws:session:" + sessionId);
+      legacyRemove(redisTemplate, found);
+      redisTemplate.opsForZSet().size("content:" + contentId + ":watching");
+    }
+    return System.nanoTime() - start;
+  }
+
+  // 변경 전 RedisWatchingSessionRepository.addWatchingSession (명령마다 왕복 1회, 원자성 없음)
+  private static void legacyAdd(StringRedisTemplate redisTemplate, UUID watchingId, UUID contentId, UUID userId) {
+    String userKey = "user:" + userId + ":watching";
+    if (redisTemplate.opsForValue().get(userKey) != null) {
+      legacyRemove(redisTemplate, userId);
+    }
+
+    redisTemplate.opsForValue().set(userKey, watchingId.toString());
+    long now = System.currentTimeMillis();
+    redisTemplate.opsForZSet().add("content:" + contentId + ":watching", watchingId.toString(), now);
+    redisTemplate.opsForHash().putAll("watching:" + watchingId, Map.of(
+        "contentId", contentId.toString(),
+        "userId", userId.toString(),
+        "createdAt", String.valueOf(now)));
+  }
+
+  // 변경 전 RedisWatchingSessionRepository.removeWatchingSession
+  private static void legacyRemove(StringRedisTemplate redisTemplate, UUID userId) {
+    String userKey = "user:" + userId + ":watching";
+    String watchingId = redisTemplate.opsForValue().get(userKey);
+    if (watchingId == null) {
+      return;
+    }
+
+    Map<Object, Object> map = redisTemplate.opsForHash().entries("watching:" + watchingId);
+    if (!map.isEmpty()) {
+      redisTemplate.opsForZSet().remove("content:" + map.get("contentId") + ":watching", watchingId);
+      redisTemplate.delete("watching:" + watchingId);
+    }
+    redisTemplate.delete(userKey);
+  }
+
+  private static long runScript(RedisWatchingSessionRepository repository, UUID contentId, int iterations) {
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      String sessionId = "bench-script-" + i;
+
+      repository.joinWatchingSession(sessionId, UUID.randomUUID(), contentId, UUID.randomUUID(), "tester" + i);
+      repository.leaveWatchingSession(sessionId);
+    }
+    return System.nanoTime() - start;
+  }
+
+  private static void flush(StringRedisTemplate redisTemplate) {
+    redisTemplate.execute((RedisCallback<Object>) connection -> {
+      connection.serverCommands().flushDb();
+      return null;
+    });
+  }
+
+  private static void print(String label, int iterations, long nanos) {
+    double perPairMicros = nanos / 1_000.0 / iterations;
+    double pairsPerSecond = iterations / (nanos / 1_000_000_000.0);
+    System.out.printf("%-24s join+leave %,d회: 평균 %.1fµs, %.0f ops/s%n",
+        label, iterations, perPairMicros, pairsPerSecond);
+  }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -33,7 +34,7 @@ import com.codeit.playlist.domain.user.dto.data.UserSummary;
 import com.codeit.playlist.domain.user.entity.Role;
 import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.global.error.InvalidCursorException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import java.lang.reflect.Field;
 import java.security.Principal;
 import java.time.Instant;
@@ -53,7 +54,6 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -75,10 +75,7 @@ class BasicMessageServiceTest {
   private ApplicationEventPublisher eventPublisher;
 
   @Mock
-  private ObjectMapper objectMapper;
-
-  @Mock
-  private KafkaTemplate<String, String> kafkaTemplate;
+  private OutboxEventWriter outboxEventWriter;
 
   @InjectMocks
   private BasicMessageService messageService;
@@ -236,25 +233,21 @@ class BasicMessageServiceTest {
     when(messageRepository.save(any(Message.class))).thenReturn(savedMessage);
     when(messageMapper.toDto(any(Message.class))).thenReturn(mock(DirectMessageDto.class));
 
-    String kafkaPayload = "{\"content\":\"" + expectedPreview + "\", ...}";
-    when(objectMapper.writeValueAsString(any())).thenReturn(kafkaPayload);
-
-    ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<com.codeit.playlist.domain.notification.dto.data.NotificationDto> notificationDtoCaptor = ArgumentCaptor.forClass(com.codeit.playlist.domain.notification.dto.data.NotificationDto.class);
 
     // when
     messageService.save(conversationId, sendRequest, authentication);
 
     // then
-    verify(kafkaTemplate, times(1)).send(org.mockito.ArgumentMatchers.eq("playlist.NotificationDto"), payloadCaptor.capture());
-
-    ArgumentCaptor<com.codeit.playlist.domain.notification.dto.data.NotificationDto> notificationDtoCaptor = ArgumentCaptor.forClass(com.codeit.playlist.domain.notification.dto.data.NotificationDto.class);
-    verify(objectMapper, times(1)).writeValueAsString(notificationDtoCaptor.capture());
+    ArgumentCaptor<UUID> keyCaptor = ArgumentCaptor.forClass(UUID.class);
+    verify(outboxEventWriter, times(1)).append(org.mockito.ArgumentMatchers.eq("playlist.NotificationDto"), keyCaptor.capture(), notificationDtoCaptor.capture());
+    assertEquals(notificationDtoCaptor.getValue().receiverId(), keyCaptor.getValue());
 
     assertEquals(expectedPreview, notificationDtoCaptor.getValue().content());
   }
 
   @Test
-  @DisplayName("메시지 저장 성공 - 알림 직렬화 실패 시 예외 처리 확인 (Kafka 전송 안 됨)")
+  @DisplayName("메시지 저장 성공 - 알림 직렬화 실패 시 예외 처리 확인 (outbox 기록 안 됨)")
   void saveMessageJsonProcessingException() throws Exception {
     // given
     DirectMessageSendRequest sendRequest = new DirectMessageSendRequest("Short message");
@@ -267,14 +260,14 @@ class BasicMessageServiceTest {
     when(messageRepository.save(any(Message.class))).thenReturn(savedMessage);
     when(messageMapper.toDto(any(Message.class))).thenReturn(mock(DirectMessageDto.class));
 
-    when(objectMapper.writeValueAsString(any())).thenThrow(new com.fasterxml.jackson.core.JsonProcessingException("Test serialization failure") {});
+    doThrow(new com.fasterxml.jackson.core.JsonProcessingException("Test serialization failure") {})
+        .when(outboxEventWriter).append(any(), any(), any());
 
     // when
     DirectMessageDto result = messageService.save(conversationId, sendRequest, authentication);
 
     // then
     assertNotNull(result);
-    verify(kafkaTemplate, never()).send(any(), any());
 
     verify(messageRepository, times(1)).save(any(Message.class));
     verify(eventPublisher, times(1)).publishEvent(any(DirectMessageSentEvent.class));
@@ -0,0 +1,120 @@
+package com.codeit.playlist.notification.fanout;
+
+import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.domain.notification.entity.Level;
+import com.codeit.playlist.domain.notification.entity.NotificationFanOutCheckpoint;
+import com.codeit.playlist.domain.notification.fanout.NotificationAudienceReader;
+import com.codeit.playlist.domain.notification.fanout.NotificationFanOutWriter;
+import com.codeit.playlist.domain.notification.repository.NotificationFanOutCheckpointRepository;
+import com.codeit.playlist.domain.notification.service.NotificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationFanOutWriterTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private NotificationFanOutCheckpointRepository checkpointRepository;
+
+    @InjectMocks
+    private NotificationFanOutWriter notificationFanOutWriter;
+
+    private final UUID EVENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000010");
+    private final UUID RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final UUID OTHER_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Test
+    @DisplayName("resumeAfter - checkpoint 가 없으면 첫 페이지, 진행 중이면 마지막 수신자, 완료됐으면 empty")
+    void resumeAfter() {
+        //given
+        UUID completedEventId = UUID.randomUUID();
+        UUID startedEventId = UUID.randomUUID();
+        given(checkpointRepository.findById(EVENT_ID)).willReturn(Optional.empty());
+        given(checkpointRepository.findById(startedEventId))
+                .willReturn(Optional.of(new NotificationFanOutCheckpoint(startedEventId, RECEIVER_ID, false)));
+        given(checkpointRepository.findById(completedEventId))
+                .willReturn(Optional.of(new NotificationFanOutCheckpoint(completedEventId, RECEIVER_ID, true)));
+
+        //when & then
+        assertThat(notificationFanOutWriter.resumeAfter(EVENT_ID)).contains(NotificationAudienceReader.FIRST_PAGE);
+        assertThat(notificationFanOutWriter.resumeAfter(startedEventId)).contains(RECEIVER_ID);
+        assertThat(notificationFanOutWriter.resumeAfter(completedEventId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("savePage 첫 페이지 - 알림을 저장하고 마지막 수신자로 checkpoint 를 만든다")
+    void savePageFirstPage() {
+        //given
+        List<NotificationDto> page = List.of(notification(RECEIVER_ID), notification(OTHER_RECEIVER_ID));
+        given(checkpointRepository.findByIdForUpdate(EVENT_ID)).willReturn(Optional.empty());
+        given(notificationService.saveNotifications(page)).willReturn(page);
+
+        //when
+        Optional<List<NotificationDto>> saved = notificationFanOutWriter.savePage(
+                EVENT_ID, NotificationAudienceReader.FIRST_PAGE, OTHER_RECEIVER_ID, page, false);
+
+        //then
+        assertThat(saved).contains(page);
+        ArgumentCaptor<NotificationFanOutCheckpoint> captor = ArgumentCaptor.forClass(NotificationFanOutCheckpoint.class);
+        then(checkpointRepository).should().save(captor.capture());
+        assertThat(captor.getValue().getLastReceiverId()).isEqualTo(OTHER_RECEIVER_ID);
+        assertThat(captor.getValue().isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("savePage 마지막 페이지 - 기존 checkpoint 를 옮기고 완료로 표시")
+    void savePageLastPage() {
+        //given
+        NotificationFanOutCheckpoint checkpoint = new NotificationFanOutCheckpoint(EVENT_ID, RECEIVER_ID, false);
+        List<NotificationDto> page = List.of(notification(OTHER_RECEIVER_ID));
+        given(checkpointRepository.findByIdForUpdate(EVENT_ID)).willReturn(Optional.of(checkpoint));
+        given(notificationService.saveNotifications(page)).willReturn(page);
+
+        //when
+        notificationFanOutWriter.savePage(EVENT_ID, RECEIVER_ID, OTHER_RECEIVER_ID, page, true);
+
+        //then
+        assertThat(checkpoint.getLastReceiverId()).isEqualTo(OTHER_RECEIVER_ID);
+        assertThat(checkpoint.isCompleted()).isTrue();
+        then(checkpointRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("savePage 커서 불일치 - 다른 컨슈머가 이미 저장한 페이지는 다시 저장하지 않는다")
+    void savePageCursorMoved() {
+        //given
+        NotificationFanOutCheckpoint checkpoint = new NotificationFanOutCheckpoint(EVENT_ID, OTHER_RECEIVER_ID, false);
+        given(checkpointRepository.findByIdForUpdate(EVENT_ID)).willReturn(Optional.of(checkpoint));
+
+        //when
+        Optional<List<NotificationDto>> saved = notificationFanOutWriter.savePage(
+                EVENT_ID, NotificationAudienceReader.FIRST_PAGE, OTHER_RECEIVER_ID,
+                List.of(notification(RECEIVER_ID), notification(OTHER_RECEIVER_ID)), false);
+
+        //then
+        assertThat(saved).isEmpty();
+        then(notificationService).should(never()).saveNotifications(any());
+    }
+
+    private NotificationDto notification(UUID receiverId) {
+        return new NotificationDto(null, null, receiverId, "새로운 플레이리스트", "내용", Level.INFO);
+    }
+}
@@ -18,6 +18,7 @@ import com.codeit.playlist.global.error.InvalidCursorException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -32,11 +33,13 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
@@ -116,6 +119,73 @@ public class BasicNotificationServiceTest {
         then(sseService).shouldHaveNoInteractions();
     }
 
+    @Test
+    @DisplayName("알림 일괄 저장 성공 - 수신자는 한 번에 확인 후 참조로 연결하고 saveAll 로 저장")
+    void saveNotificationsSuccess() {
+        // given
+        UUID receiverId = UUID.randomUUID();
+        UUID otherReceiverId = UUID.randomUUID();
+        NotificationDto request1 = new NotificationDto(null, null, receiverId, "제목1", "내용1", Level.INFO);
+        NotificationDto request2 = new NotificationDto(null, null, receiverId, "제목2", "내용2", Level.INFO);
+        NotificationDto request3 = new NotificationDto(null, null, otherReceiverId, "제목3", "내용3", Level.INFO);
+
+        User receiver = Mockito.mock(User.class);
+        User otherReceiver = Mockito.mock(User.class);
+        Notification saved1 = Mockito.mock(Notification.class);
+        Notification saved2 = Mockito.mock(Notification.class);
+        Notification saved3 = Mockito.mock(Notification.class);
+        NotificationDto dto1 = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "제목1", "내용1", Level.INFO);
+        NotificationDto dto2 = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "제목2", "내용2", Level.INFO);
+        NotificationDto dto3 = new NotificationDto(UUID.randomUUID(), Instant.now(), otherReceiverId, "제목3", "내용3", Level.INFO);
+
+        given(userRepository.findIdsByIdIn(Set.of(receiverId, otherReceiverId)))
+                .willReturn(Set.of(receiverId, otherReceiverId));
+        given(userRepository.getReferenceById(receiverId)).willReturn(receiver);
+        given(userRepository.getReferenceById(otherReceiverId)).willReturn(otherReceiver);
+        given(notificationRepository.saveAll(anyList())).willReturn(List.of(saved1, saved2, saved3));
+        given(notificationMapper.toDto(saved1)).willReturn(dto1);
+        given(notificationMapper.toDto(saved2)).willReturn(dto2);
+        given(notificationMapper.toDto(saved3)).willReturn(dto3);
+
+        // when
+        List<NotificationDto> result = notificationService.saveNotifications(List.of(request1, request2, request3));
+
+        // then
+        assertThat(result).containsExactly(dto1, dto2, dto3);
+        then(userRepository).should(never()).findById(any());
+        then(notificationRepository).should(never()).save(any(Notification.class));
+        then(sseService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("알림 일괄 저장 - 존재하지 않는 수신자의 알림은 제외하고 저장")
+    void saveNotificationsSkipsUnknownReceiver() {
+        // given
+        UUID receiverId = UUID.randomUUID();
+        UUID unknownReceiverId = UUID.randomUUID();
+        NotificationDto request = new NotificationDto(null, null, receiverId, "제목", "내용", Level.INFO);
+        NotificationDto unknownRequest = new NotificationDto(null, null, unknownReceiverId, "제목", "내용", Level.INFO);
+
+        User receiver = Mockito.mock(User.class);
+        Notification saved = Mockito.mock(Notification.class);
+        NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "제목", "내용", Level.INFO);
+
+        given(userRepository.findIdsByIdIn(Set.of(receiverId, unknownReceiverId))).willReturn(Set.of(receiverId));
+        given(userRepository.getReferenceById(receiverId)).willReturn(receiver);
+        given(notificationRepository.saveAll(anyList())).willReturn(List.of(saved));
+        given(notificationMapper.toDto(saved)).willReturn(dto);
+
+        // when
+        List<NotificationDto> result = notificationService.saveNotifications(List.of(request, unknownRequest));
+
+        // then
+        assertThat(result).containsExactly(dto);
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        then(notificationRepository).should().saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        then(userRepository).should(never()).getReferenceById(unknownReceiverId);
+    }
+
     @Test
     @DisplayName("알림 생성 실패 - 알림 저장 중 예외 발생 시 그대로 전파")
     void createNotificationFailWithSaveError() {
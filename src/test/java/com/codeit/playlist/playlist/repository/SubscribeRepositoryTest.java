@@ -14,8 +14,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -94,6 +98,34 @@ public class SubscribeRepositoryTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("findSubscriberIdsByPlaylistIdAfter - 구독자 ID 를 after 이후부터 ID 순으로 페이지 크기만큼 반환한다")
+    void findSubscriberIdsByPlaylistIdAfterPaging() {
+        // given
+        User owner = userRepository.save(createUser("owner@mail.com"));
+        Playlist playlist = playlistRepository.save(createPlaylist(owner));
+        List<UUID> subscriberIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User subscriber = userRepository.save(createUser("subscriber" + i + "@mail.com"));
+            subscribeRepository.save(new Subscribe(subscriber, playlist));
+            subscriberIds.add(subscriber.getId());
+        }
+
+        // when
+        List<UUID> firstPage = subscribeRepository.findSubscriberIdsByPlaylistIdAfter(
+                playlist.getId(), new UUID(0L, 0L), PageRequest.of(0, 3));
+        List<UUID> secondPage = subscribeRepository.findSubscriberIdsByPlaylistIdAfter(
+                playlist.getId(), firstPage.get(firstPage.size() - 1), PageRequest.of(0, 3));
+
+        // then
+        assertThat(firstPage).hasSize(3);
+        assertThat(secondPage).hasSize(2);
+        List<UUID> all = new ArrayList<>(firstPage);
+        all.addAll(secondPage);
+        assertThat(all).containsExactlyInAnyOrderElementsOf(subscriberIds);
+        assertThat(subscribeRepository.existsByPlaylist_Id(playlist.getId())).isTrue();
+    }
+
     // ====== 테스트용 엔티티 생성 메서드 ======
     public static User createUser(String email) {
         return new User(email, "password", "test-user", null, Role.USER);
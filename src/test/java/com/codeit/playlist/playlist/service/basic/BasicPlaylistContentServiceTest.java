@@ -3,7 +3,7 @@ package com.codeit.playlist.playlist.service.basic;
 import com.codeit.playlist.domain.content.entity.Content;
 import com.codeit.playlist.domain.content.exception.ContentNotFoundException;
 import com.codeit.playlist.domain.content.repository.ContentRepository;
-import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.domain.notification.event.NotificationFanOutEvent;
 import com.codeit.playlist.domain.playlist.entity.Playlist;
 import com.codeit.playlist.domain.playlist.entity.PlaylistContent;
 import com.codeit.playlist.domain.playlist.exception.PlaylistAccessDeniedException;
@@ -16,26 +16,25 @@ import com.codeit.playlist.domain.playlist.repository.SubscribeRepository;
 import com.codeit.playlist.domain.playlist.service.basic.BasicPlaylistContentService;
 import com.codeit.playlist.domain.user.entity.Role;
 import com.codeit.playlist.domain.user.entity.User;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -68,10 +67,7 @@ public class BasicPlaylistContentServiceTest {
     private SubscribeRepository subscribeRepository;
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
-
-    @Mock
-    private ObjectMapper objectMapper;
+    private OutboxEventWriter outboxEventWriter;
 
     @InjectMocks
     private BasicPlaylistContentService basicPlaylistContentService;
@@ -227,11 +223,11 @@ public class BasicPlaylistContentServiceTest {
 
         // 알림 관련 의존성은 호출되지 않아야 함
         then(subscribeRepository).shouldHaveNoInteractions();
-        then(kafkaTemplate).shouldHaveNoInteractions();
+        then(outboxEventWriter).shouldHaveNoInteractions();
     }
 
     @Test
-    @DisplayName("addContentToPlaylist 성공 - 구독자가 있으면 각 구독자에게 알림 이벤트를 발행한다")
+    @DisplayName("addContentToPlaylist 성공 - 구독자가 있으면 구독자 수와 관계없이 fan-out 이벤트를 한 번 발행한다")
     void addContentToPlaylistSuccessWithSubscribers() throws Exception {
         // given
         Playlist playlist = mock(Playlist.class);
@@ -250,32 +246,27 @@ public class BasicPlaylistContentServiceTest {
         given(playlistContentRepository.existsByPlaylist_IdAndContent_Id(PLAYLIST_ID, CONTENT_ID))
                 .willReturn(false);
 
-        // 구독자 2명 존재
-        UUID subscriber1 = UUID.randomUUID();
-        UUID subscriber2 = UUID.randomUUID();
-        given(subscribeRepository.findSubscriberIdByPlaylistId(PLAYLIST_ID))
-                .willReturn(List.of(subscriber1, subscriber2));
-
-        given(objectMapper.writeValueAsString(any(NotificationDto.class)))
-                .willReturn("serialized-notification");
-
+        given(subscribeRepository.existsByPlaylist_Id(PLAYLIST_ID)).willReturn(true);
 
-        given(kafkaTemplate.send(eq("playlist.NotificationDto"), anyString()))
-                .willReturn(null);
+        ArgumentCaptor<NotificationFanOutEvent> eventCaptor = ArgumentCaptor.forClass(NotificationFanOutEvent.class);
 
         // when
         basicPlaylistContentService.addContentToPlaylist(PLAYLIST_ID, CONTENT_ID, OWNER_ID);
 
         // then
         then(playlistContentRepository).should().save(any(PlaylistContent.class));
-        then(objectMapper).should(times(2))
-                .writeValueAsString(any(NotificationDto.class));
-        then(kafkaTemplate).should(times(2))
-                .send(eq("playlist.NotificationDto"), anyString());
+        then(subscribeRepository).should(never()).findSubscriberIdByPlaylistId(any());
+        then(outboxEventWriter).should(times(1))
+                .append(eq("playlist.NotificationFanOut"), eq(PLAYLIST_ID), eventCaptor.capture());
+
+        NotificationFanOutEvent event = eventCaptor.getValue();
+        assertThat(event.audience()).isEqualTo(NotificationFanOutEvent.Audience.PLAYLIST_SUBSCRIBERS);
+        assertThat(event.audienceId()).isEqualTo(PLAYLIST_ID);
+        assertThat(event.content()).isEqualTo("구독 중인 '내 플레이리스트' 플레이리스트에 '새 콘텐츠' 콘텐츠가 추가되었습니다.");
     }
 
     @Test
-    @DisplayName("addContentToPlaylist 성공 - 알림 직렬화 실패(JsonProcessingException) 시 해당 구독자 알림 전송을 건너뛴다")
+    @DisplayName("addContentToPlaylist 성공 - 알림 직렬화 실패(JsonProcessingException) 시 알림 발행을 건너뛴다")
     void addContentToPlaylistWhenNotificationSerializationFails() throws Exception {
         // given
         Playlist playlist = mock(Playlist.class);
@@ -294,20 +285,17 @@ public class BasicPlaylistContentServiceTest {
         given(playlistContentRepository.existsByPlaylist_IdAndContent_Id(PLAYLIST_ID, CONTENT_ID))
                 .willReturn(false);
 
-        UUID subscriberId = UUID.randomUUID();
-        given(subscribeRepository.findSubscriberIdByPlaylistId(PLAYLIST_ID))
-                .willReturn(List.of(subscriberId));
+        given(subscribeRepository.existsByPlaylist_Id(PLAYLIST_ID)).willReturn(true);
 
-        given(objectMapper.writeValueAsString(any(NotificationDto.class)))
-                .willThrow(new JsonProcessingException("serialize fail") {});
+        willThrow(new JsonProcessingException("serialize fail") {})
+                .given(outboxEventWriter).append(eq("playlist.NotificationFanOut"), eq(PLAYLIST_ID), any(NotificationFanOutEvent.class));
 
         // when
         basicPlaylistContentService.addContentToPlaylist(PLAYLIST_ID, CONTENT_ID, OWNER_ID);
 
         // then
         then(playlistContentRepository).should().save(any(PlaylistContent.class));
-        then(objectMapper).should().writeValueAsString(any(NotificationDto.class));
-        then(kafkaTemplate).shouldHaveNoInteractions();
+        then(outboxEventWriter).should().append(eq("playlist.NotificationFanOut"), eq(PLAYLIST_ID), any(NotificationFanOutEvent.class));
     }
 
 
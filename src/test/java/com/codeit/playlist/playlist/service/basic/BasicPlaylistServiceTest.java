@@ -4,7 +4,7 @@ import com.codeit.playlist.domain.base.SortDirection;
 import com.codeit.playlist.domain.content.dto.data.ContentSummary;
 import com.codeit.playlist.domain.content.repository.TagRepository;
 import com.codeit.playlist.domain.follow.repository.FollowRepository;
-import com.codeit.playlist.domain.notification.dto.data.NotificationDto;
+import com.codeit.playlist.domain.notification.event.NotificationFanOutEvent;
 import com.codeit.playlist.domain.playlist.dto.data.PlaylistDto;
 import com.codeit.playlist.domain.playlist.dto.request.PlaylistCreateRequest;
 import com.codeit.playlist.domain.playlist.dto.request.PlaylistUpdateRequest;
@@ -21,19 +21,19 @@ import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
 import com.codeit.playlist.domain.user.repository.UserRepository;
 import com.codeit.playlist.global.constant.S3Properties;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Constructor;
@@ -56,6 +56,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -89,10 +90,7 @@ public class BasicPlaylistServiceTest {
     private SubscribeRepository subscribeRepository;
 
     @Mock
-    private ObjectMapper objectMapper;
-
-    @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private OutboxEventWriter outboxEventWriter;
 
     @Mock
     private S3Properties s3Properties;
@@ -104,7 +102,7 @@ public class BasicPlaylistServiceTest {
     @BeforeEach
     void setUp() {
         basicPlaylistService = new BasicPlaylistService(playlistRepository, subscribeRepository, userRepository, playlistMapper,
-                                                        s3Properties, followRepository, objectMapper, kafkaTemplate, tagRepository);
+                                                        s3Properties, followRepository, outboxEventWriter, tagRepository);
     }
 
     @Test
@@ -158,7 +156,7 @@ public class BasicPlaylistServiceTest {
     }
 
     @Test
-    @DisplayName("createPlaylist 성공 - 팔로워가 있으면 각 팔로워에게 알림 이벤트를 발행한다")
+    @DisplayName("createPlaylist 성공 - 팔로워가 있으면 팔로워 수와 관계없이 fan-out 이벤트를 한 번 발행한다")
     void createPlaylistSuccessWithFollowers() throws Exception {
         // given
         UUID ownerId = CURRENT_USER_ID;
@@ -179,16 +177,9 @@ public class BasicPlaylistServiceTest {
         );
         when(playlistMapper.toDto(eq(saved), eq(s3Properties))).thenReturn(expected);
 
-        UUID follower1 = UUID.randomUUID();
-        UUID follower2 = UUID.randomUUID();
-        when(followRepository.findFollowerIdsByFolloweeId(ownerId))
-                .thenReturn(List.of(follower1, follower2));
+        when(followRepository.existsByFolloweeId(ownerId)).thenReturn(true);
 
-        when(objectMapper.writeValueAsString(any(NotificationDto.class)))
-                .thenReturn("serialized-notification");
-
-        when(kafkaTemplate.send(eq("playlist.NotificationDto"), anyString()))
-                .thenReturn(null);
+        ArgumentCaptor<NotificationFanOutEvent> eventCaptor = ArgumentCaptor.forClass(NotificationFanOutEvent.class);
 
         // when
         PlaylistDto actual = basicPlaylistService.createPlaylist(request, ownerId);
@@ -199,19 +190,22 @@ public class BasicPlaylistServiceTest {
         verify(playlistRepository).save(any(Playlist.class));
         verify(playlistMapper).toDto(eq(saved), eq(s3Properties));
 
-        verify(followRepository).findFollowerIdsByFolloweeId(ownerId);
-        verify(objectMapper, times(2))
-                .writeValueAsString(any(NotificationDto.class));
-        verify(kafkaTemplate, times(2))
-                .send(eq("playlist.NotificationDto"), anyString());
+        verify(followRepository).existsByFolloweeId(ownerId);
+        verify(outboxEventWriter, times(1))
+                .append(eq("playlist.NotificationFanOut"), eq(ownerId), eventCaptor.capture());
+
+        NotificationFanOutEvent event = eventCaptor.getValue();
+        assertThat(event.audience()).isEqualTo(NotificationFanOutEvent.Audience.FOLLOWERS);
+        assertThat(event.audienceId()).isEqualTo(ownerId);
+        assertThat(event.title()).isEqualTo("테스트유저 님이 새 플레이리스트를 만들었어요.");
         verifyNoMoreInteractions(
                 userRepository, playlistRepository, playlistMapper,
-                followRepository, objectMapper, kafkaTemplate
+                followRepository, outboxEventWriter
         );
     }
 
     @Test
-    @DisplayName("createPlaylist 성공 - 알림 직렬화 실패 시 예외는 밖으로 전파되지 않고 해당 팔로워에 대한 전송만 건너뛴다")
+    @DisplayName("createPlaylist 성공 - 알림 직렬화 실패 시 예외는 밖으로 전파되지 않고 알림 발행만 건너뛴다")
     void createPlaylistWhenNotificationSerializationFails() throws Exception {
         // given
         UUID ownerId = CURRENT_USER_ID;
@@ -233,12 +227,10 @@ public class BasicPlaylistServiceTest {
         );
         when(playlistMapper.toDto(eq(saved), eq(s3Properties))).thenReturn(expected);
 
-        UUID followerId = UUID.randomUUID();
-        when(followRepository.findFollowerIdsByFolloweeId(ownerId))
-                .thenReturn(List.of(followerId));
+        when(followRepository.existsByFolloweeId(ownerId)).thenReturn(true);
 
-        when(objectMapper.writeValueAsString(any(NotificationDto.class)))
-                .thenThrow(new JsonProcessingException("serialize fail") {});
+        doThrow(new JsonProcessingException("serialize fail") {})
+                .when(outboxEventWriter).append(eq("playlist.NotificationFanOut"), eq(ownerId), any(NotificationFanOutEvent.class));
 
         // when
         PlaylistDto actual = basicPlaylistService.createPlaylist(request, ownerId);
@@ -249,12 +241,11 @@ public class BasicPlaylistServiceTest {
         verify(playlistRepository).save(any(Playlist.class));
         verify(playlistMapper).toDto(eq(saved), eq(s3Properties));
 
-        verify(followRepository).findFollowerIdsByFolloweeId(ownerId);
-        verify(objectMapper).writeValueAsString(any(NotificationDto.class));
-        verifyNoInteractions(kafkaTemplate);
+        verify(followRepository).existsByFolloweeId(ownerId);
+        verify(outboxEventWriter).append(eq("playlist.NotificationFanOut"), eq(ownerId), any(NotificationFanOutEvent.class));
         verifyNoMoreInteractions(
                 userRepository, playlistRepository, playlistMapper,
-                followRepository, objectMapper
+                followRepository, outboxEventWriter
         );
     }
 
@@ -20,7 +20,7 @@ import com.codeit.playlist.domain.playlist.service.basic.BasicPlaylistSubscripti
 import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
 import com.codeit.playlist.domain.user.repository.UserRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.codeit.playlist.global.kafka.outbox.OutboxEventWriter;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -29,7 +29,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
 
 @ExtendWith(MockitoExtension.class)
 public class BasicPlaylistSubscriptionServiceTest {
@@ -43,10 +42,7 @@ public class BasicPlaylistSubscriptionServiceTest {
     UserRepository userRepository;
 
     @Mock
-    ObjectMapper objectMapper;
-
-    @Mock
-    KafkaTemplate<String, Playlist> kafkaTemplate;
+    OutboxEventWriter outboxEventWriter;
 
     @InjectMocks
     BasicPlaylistSubscriptionService service;
@@ -1,6 +1,7 @@
 package com.codeit.playlist.review.service.basic;
 
 import com.codeit.playlist.domain.base.SortDirection;
+import com.codeit.playlist.domain.content.cache.ContentDtoCache;
 import com.codeit.playlist.domain.content.entity.Content;
 import com.codeit.playlist.domain.content.exception.ContentNotFoundException;
 import com.codeit.playlist.domain.content.repository.ContentRepository;
@@ -58,6 +59,9 @@ public class BasicReviewServiceTest {
     @Mock
     private ContentRepository contentRepository;
 
+    @Mock
+    private ContentDtoCache contentDtoCache;
+
     @InjectMocks
     private BasicReviewService basicReviewService;
 
@@ -88,6 +92,7 @@ public class BasicReviewServiceTest {
 
         given(userRepository.findById(reviewerId)).willReturn(Optional.of(reviewer));
         given(contentRepository.findById(contentId)).willReturn(Optional.of(content));
+        given(content.getId()).willReturn(contentId);
         given(reviewMapper.toEntity(request, content, reviewer)).willReturn(reviewEntity);
         given(reviewRepository.save(reviewEntity)).willReturn(savedReview);
         given(reviewMapper.toDto(savedReview)).willReturn(expectedDto);
@@ -103,6 +108,7 @@ public class BasicReviewServiceTest {
         then(reviewMapper).should().toEntity(request, content, reviewer);
         then(reviewRepository).should().save(reviewEntity);
         then(reviewMapper).should().toDto(savedReview);
+        then(contentDtoCache).should().evict(contentId);
     }
 
     @Test
@@ -197,7 +203,9 @@ public class BasicReviewServiceTest {
         User reviewer = mock(User.class);
         given(reviewer.getId()).willReturn(currentUserId);
 
+        UUID contentId = UUID.randomUUID();
         Content content = mock(Content.class);
+        given(content.getId()).willReturn(contentId);
 
         Review review = mock(Review.class);
         given(review.getUser()).willReturn(reviewer);
@@ -229,6 +237,7 @@ public class BasicReviewServiceTest {
         then(content).should().applyReviewUpdated(3, 4);
         then(reviewRepository).should().save(review);
         then(reviewMapper).should().toDto(savedReview);
+        then(contentDtoCache).should().evict(contentId);
     }
 
     @Test
@@ -493,7 +502,9 @@ public class BasicReviewServiceTest {
 
         Review review = mock(Review.class);
         User author = mock(User.class);
+        UUID contentId = UUID.randomUUID();
         Content content = mock(Content.class);
+        given(content.getId()).willReturn(contentId);
 
         int rating = 5;
 
@@ -511,6 +522,7 @@ public class BasicReviewServiceTest {
         then(review).should().getUser();
         then(content).should().applyReviewDeleted(rating);  // 평점 반영
         then(reviewRepository).should().delete(review);     // 하드 딜리트
+        then(contentDtoCache).should().evict(contentId);    // 평점/리뷰수 캐시 무효화
     }
 
     @Test
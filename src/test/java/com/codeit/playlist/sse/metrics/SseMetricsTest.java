@@ -0,0 +1,56 @@
+package com.codeit.playlist.sse.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.codeit.playlist.domain.sse.metrics.SseMetrics;
+import com.codeit.playlist.domain.sse.repository.SseEmitterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public class SseMetricsTest {
+
+  @Test
+  @DisplayName("gauge: 연결 수와 사용자 수를 저장소에서 조회")
+  void gauges() {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SseEmitterRepository sseEmitterRepository = new SseEmitterRepository();
+    ReflectionTestUtils.setField(sseEmitterRepository, "maxConnectionsPerUser", 5);
+    new SseMetrics(meterRegistry, sseEmitterRepository);
+    UUID receiverId = UUID.randomUUID();
+
+    // when
+    sseEmitterRepository.save(receiverId, mock(SseEmitter.class));
+    sseEmitterRepository.save(receiverId, mock(SseEmitter.class));
+    sseEmitterRepository.save(UUID.randomUUID(), mock(SseEmitter.class));
+
+    // then
+    assertThat(meterRegistry.get("sse.emitters.active").gauge().value()).isEqualTo(3);
+    assertThat(meterRegistry.get("sse.receivers.active").gauge().value()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("counter: 실패/재전송/keep-alive 제거 수 누적")
+  void counters() {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    SseMetrics sseMetrics = new SseMetrics(meterRegistry, new SseEmitterRepository());
+
+    // when
+    sseMetrics.recordSendFailures(false, 2);
+    sseMetrics.recordSendFailures(true, 3);
+    sseMetrics.recordReplay(4);
+    sseMetrics.recordKeepAliveEvictions(1);
+
+    // then
+    assertThat(meterRegistry.get("sse.send.failures").tag("scope", "targeted").counter().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("sse.send.failures").tag("scope", "broadcast").counter().count()).isEqualTo(3);
+    assertThat(meterRegistry.get("sse.replay.events").counter().count()).isEqualTo(4);
+    assertThat(meterRegistry.get("sse.keepalive.evicted").counter().count()).isEqualTo(1);
+  }
+}
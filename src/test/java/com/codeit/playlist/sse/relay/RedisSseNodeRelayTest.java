@@ -0,0 +1,229 @@
+package com.codeit.playlist.sse.relay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.codeit.playlist.domain.sse.metrics.SseMetrics;
+import com.codeit.playlist.domain.sse.relay.RedisSseNodeRelay;
+import com.codeit.playlist.domain.sse.relay.SseNodeRelay;
+import com.codeit.playlist.domain.sse.repository.InMemorySseMessageRepository;
+import com.codeit.playlist.domain.sse.repository.RedisSseMessageRepository;
+import com.codeit.playlist.domain.sse.repository.SseEmitterRepository;
+import com.codeit.playlist.domain.sse.repository.SseMessageRepository;
+import com.codeit.playlist.domain.sse.service.SseEmitterDispatcher;
+import com.codeit.playlist.domain.sse.service.SseEventEncoder;
+import com.codeit.playlist.domain.sse.service.SseHeartbeatWheel;
+import com.codeit.playlist.domain.sse.service.SseService;
+import com.codeit.playlist.global.lifecycle.ConnectionDrainState;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+ * 한 JVM 안에 애플리케이션 컨텍스트 두 개(노드 A, B)를 띄우고 로컬 Redis(localhost:6379)로 노드 간 SSE 전달을 검증
+ */
+class RedisSseNodeRelayTest {
+
+  private AnnotationConfigApplicationContext nodeA;
+  private AnnotationConfigApplicationContext nodeB;
+  private UUID receiverId;
+
+  @BeforeEach
+  void setUp() {
+    nodeA = new AnnotationConfigApplicationContext(NodeConfig.class);
+    nodeB = new AnnotationConfigApplicationContext(NodeConfig.class);
+    receiverId = UUID.randomUUID();
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodeA.close();
+    nodeB.close();
+  }
+
+  @Test
+  @DisplayName("노드 로컬 재전송 저장소(memory)와 함께 쓰면 기동 시 실패한다")
+  void rejectsNodeLocalReplayStore() {
+    assertThatThrownBy(() -> new RedisSseNodeRelay(
+        nodeA.getBean(StringRedisTemplate.class),
+        nodeA.getBean(RedisMessageListenerContainer.class),
+        mock(ObjectProvider.class),
+        JsonMapper.builder().findAndAddModules().build(),
+        new InMemorySseMessageRepository(100, 300, 1000),
+        90))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 소비한 알림이 수신자의 emitter 를 가진 노드로 전달된다")
+  void forwardsToNodeHoldingEmitter() throws Exception {
+    // given: 수신자는 노드 B 에만 연결
+    BlockingQueue<Set<DataWithMediaType>> deliveredB = connect(nodeB, receiverId);
+
+    // when: 노드 A 가 전송 (리스너 구독이 Redis 에 반영될 때까지 재시도)
+    Set<DataWithMediaType> delivered = null;
+    for (int i = 0; i < 50 && delivered == null; i++) {
+      nodeA.getBean(SseService.class).send(List.of(receiverId), "notifications", Map.of("title", "hello"));
+      delivered = deliveredB.poll(100, TimeUnit.MILLISECONDS);
+    }
+
+    // then
+    assertThat(delivered).isNotNull();
+    assertThat(text(delivered)).contains("event:notifications").contains("hello");
+  }
+
+  @Test
+  @DisplayName("같은 사용자가 두 노드에 연결되어 있으면 각 노드에 한 번씩만 전달된다")
+  void deliversOncePerNode() throws Exception {
+    // given
+    BlockingQueue<Set<DataWithMediaType>> deliveredA = connect(nodeA, receiverId);
+    BlockingQueue<Set<DataWithMediaType>> deliveredB = connect(nodeB, receiverId);
+    warmUp(receiverId, deliveredB);
+    deliveredA.clear();
+
+    // when
+    nodeA.getBean(SseService.class).send(List.of(receiverId), "notifications", Map.of("title", "once"));
+
+    // then
+    assertThat(deliveredB.poll(2, TimeUnit.SECONDS)).isNotNull();
+    assertThat(deliveredA.poll(100, TimeUnit.MILLISECONDS)).isNotNull();
+    Thread.sleep(300);
+    assertThat(deliveredA).isEmpty();
+    assertThat(deliveredB).isEmpty();
+  }
+
+  @Test
+  @DisplayName("브로드캐스트는 모든 노드의 emitter 로 전달된다")
+  void broadcastsToAllNodes() throws Exception {
+    // given
+    UUID otherReceiverId = UUID.randomUUID();
+    BlockingQueue<Set<DataWithMediaType>> deliveredB = connect(nodeB, otherReceiverId);
+    warmUp(otherReceiverId, deliveredB);
+
+    // when
+    nodeA.getBean(SseService.class).broadcast("notice", Map.of("title", "broadcast"));
+
+    // then
+    Set<DataWithMediaType> delivered = deliveredB.poll(2, TimeUnit.SECONDS);
+    assertThat(delivered).isNotNull();
+    assertThat(text(delivered)).contains("event:notice").contains("broadcast");
+  }
+
+  // 노드 채널 구독이 반영될 때까지 노드 A 에서 전송
+  private void warmUp(UUID receiverId, BlockingQueue<Set<DataWithMediaType>> delivered) throws Exception {
+    for (int i = 0; i < 50; i++) {
+      nodeA.getBean(SseService.class).send(List.of(receiverId), "warm-up", Map.of());
+      if (delivered.poll(100, TimeUnit.MILLISECONDS) != null) {
+        break;
+      }
+    }
+    Thread.sleep(300);
+    delivered.clear();
+  }
+
+  private static String text(Set<DataWithMediaType> event) {
+    StringBuilder builder = new StringBuilder();
+    event.forEach(item -> builder.append(item.getData() instanceof byte[] bytes
+        ? new String(bytes, StandardCharsets.UTF_8)
+        : item.getData()));
+    return builder.toString();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static BlockingQueue<Set<DataWithMediaType>> connect(AnnotationConfigApplicationContext node, UUID receiverId)
+      throws Exception {
+    BlockingQueue<Set<DataWithMediaType>> delivered = new LinkedBlockingQueue<>();
+    SseEmitter emitter = mock(SseEmitter.class);
+    doAnswer(invocation -> {
+      delivered.add(invocation.getArgument(0));
+      return null;
+    }).when(emitter).send(any(Set.class));
+
+    node.getBean(SseEmitterRepository.class).save(receiverId, emitter);
+    node.getBean(SseNodeRelay.class).registerPresence(receiverId);
+    return delivered;
+  }
+
+  @Configuration
+  static class NodeConfig {
+
+    @Bean
+    public LettuceConnectionFactory redisConnectionFactory() {
+      return new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+    }
+
+    @Bean
+    public StringRedisTemplate redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+      return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+      RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+      container.setConnectionFactory(redisConnectionFactory);
+      return container;
+    }
+
+    @Bean
+    public SseEmitterRepository sseEmitterRepository() {
+      return new SseEmitterRepository();
+    }
+
+    // 노드 릴레이는 노드 간 공유 재전송 저장소가 필요
+    @Bean
+    public SseMessageRepository sseMessageRepository(StringRedisTemplate redisTemplate) {
+      return new RedisSseMessageRepository(redisTemplate, JsonMapper.builder().findAndAddModules().build(), 100, 300);
+    }
+
+    @Bean
+    public SseEmitterDispatcher sseEmitterDispatcher(SseEmitterRepository sseEmitterRepository) {
+      return new SseEmitterDispatcher(sseEmitterRepository, Runnable::run, new SimpleMeterRegistry(), 2, 256, 10000);
+    }
+
+    @Bean
+    public SseService sseService(SseEmitterRepository sseEmitterRepository,
+        SseMessageRepository sseMessageRepository,
+        SseEmitterDispatcher sseEmitterDispatcher,
+        ObjectProvider<SseNodeRelay> sseNodeRelay) {
+      SseMetrics sseMetrics = new SseMetrics(new SimpleMeterRegistry(), sseEmitterRepository);
+      return new SseService(sseEmitterRepository, sseMessageRepository, sseEmitterDispatcher,
+          new SseEventEncoder(JsonMapper.builder().findAndAddModules().build()),
+          new SseHeartbeatWheel(sseEmitterDispatcher, sseNodeRelay, sseMetrics, 30000, 1000),
+          sseMetrics, new ConnectionDrainState(1000, 15000), sseNodeRelay);
+    }
+
+    @Bean
+    public RedisSseNodeRelay redisSseNodeRelay(StringRedisTemplate redisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        ObjectProvider<SseService> sseService,
+        SseMessageRepository sseMessageRepository) {
+      return new RedisSseNodeRelay(redisTemplate, redisMessageListenerContainer, sseService,
+          JsonMapper.builder().findAndAddModules().build(), sseMessageRepository, 90);
+    }
+  }
+}
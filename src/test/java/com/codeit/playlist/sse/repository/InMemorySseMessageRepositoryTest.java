@@ -0,0 +1,104 @@
+package com.codeit.playlist.sse.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codeit.playlist.domain.sse.entity.SseMessage;
+import com.codeit.playlist.domain.sse.repository.InMemorySseMessageRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class InMemorySseMessageRepositoryTest {
+
+  private final UUID TEST_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private final UUID TEST_OTHER_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+  private final String TEST_EVENT_NAME = "testEvent";
+  private final Object TEST_DATA = Map.of("message", "hello");
+
+  @Test
+  @DisplayName("save: 저장 순서대로 단조 증가하는 sequence 부여")
+  void save_assignsIncreasingSequence() {
+    // given
+    InMemorySseMessageRepository repository = new InMemorySseMessageRepository(100, 300, 1000);
+
+    // when
+    SseMessage first = repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    SseMessage second = repository.save(SseMessage.createBroadcast(TEST_EVENT_NAME, TEST_DATA));
+
+    // then
+    assertThat(first.getSequence()).isEqualTo(1L);
+    assertThat(second.getSequence()).isEqualTo(2L);
+    assertThat(second.getEventId()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("findAllBySequenceAfterAndReceiverId: 본인 메시지와 브로드캐스트를 sequence 순서로 반환")
+  void findAllBySequenceAfter_mergesBroadcast() {
+    // given
+    InMemorySseMessageRepository repository = new InMemorySseMessageRepository(100, 300, 1000);
+    SseMessage first = repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    repository.save(SseMessage.create(List.of(TEST_OTHER_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    SseMessage broadcast = repository.save(SseMessage.createBroadcast(TEST_EVENT_NAME, TEST_DATA));
+    SseMessage last = repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+
+    // when
+    List<SseMessage> all = repository.findAllBySequenceAfterAndReceiverId(0L, TEST_RECEIVER_ID);
+    List<SseMessage> afterFirst = repository.findAllBySequenceAfterAndReceiverId(first.getSequence(), TEST_RECEIVER_ID);
+
+    // then
+    assertThat(all).extracting(SseMessage::getSequence)
+        .containsExactly(first.getSequence(), broadcast.getSequence(), last.getSequence());
+    assertThat(afterFirst).extracting(SseMessage::getSequence)
+        .containsExactly(broadcast.getSequence(), last.getSequence());
+  }
+
+  @Test
+  @DisplayName("수신자별 보관 개수 초과 시 오래된 메시지부터 제외")
+  void findAllBySequenceAfter_perReceiverCapacity() {
+    // given
+    InMemorySseMessageRepository repository = new InMemorySseMessageRepository(2, 300, 1000);
+    repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    SseMessage second = repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    SseMessage third = repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+
+    // when
+    List<SseMessage> result = repository.findAllBySequenceAfterAndReceiverId(0L, TEST_RECEIVER_ID);
+
+    // then
+    assertThat(result).extracting(SseMessage::getSequence)
+        .containsExactly(second.getSequence(), third.getSequence());
+  }
+
+  @Test
+  @DisplayName("전체 보관 개수 초과 시 다른 수신자 메시지에 밀려난 메시지는 재전송하지 않음")
+  void findAllBySequenceAfter_totalCapacity() {
+    // given
+    InMemorySseMessageRepository repository = new InMemorySseMessageRepository(100, 300, 2);
+    repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    repository.save(SseMessage.create(List.of(TEST_OTHER_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    repository.save(SseMessage.create(List.of(TEST_OTHER_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+
+    // when
+    List<SseMessage> result = repository.findAllBySequenceAfterAndReceiverId(0L, TEST_RECEIVER_ID);
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("removeExpired: 보관 기간이 지난 메시지와 빈 수신자 버퍼 정리")
+  void removeExpired() throws InterruptedException {
+    // given
+    InMemorySseMessageRepository repository = new InMemorySseMessageRepository(100, 0, 1000);
+    repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    Thread.sleep(5);
+
+    // when
+    repository.removeExpired();
+
+    // then
+    assertThat(repository.findAllBySequenceAfterAndReceiverId(0L, TEST_RECEIVER_ID)).isEmpty();
+  }
+}
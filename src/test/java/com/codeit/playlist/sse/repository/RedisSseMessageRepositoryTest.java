@@ -0,0 +1,117 @@
+package com.codeit.playlist.sse.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codeit.playlist.domain.sse.entity.SseMessage;
+import com.codeit.playlist.domain.sse.repository.RedisSseMessageRepository;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataRedisTest
+@ActiveProfiles("test")
+class RedisSseMessageRepositoryTest {
+
+  private final UUID TEST_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private final UUID TEST_OTHER_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+  private final String TEST_EVENT_NAME = "testEvent";
+  private final Object TEST_DATA = Map.of("message", "hello");
+
+  @Autowired
+  private StringRedisTemplate redisTemplate;
+
+  private RedisSseMessageRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    redisTemplate.execute((RedisCallback<Object>) connection -> {
+      connection.serverCommands().flushDb();
+      return null;
+    });
+    repository = new RedisSseMessageRepository(redisTemplate, JsonMapper.builder().findAndAddModules().build(), 2, 300);
+  }
+
+  @Test
+  @DisplayName("save: 노드 간 공유되는 sequence 부여 및 TTL 설정")
+  void save() {
+    // when
+    SseMessage first = repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    SseMessage second = repository.save(SseMessage.createBroadcast(TEST_EVENT_NAME, TEST_DATA));
+
+    // then
+    assertThat(first.getSequence()).isEqualTo(1L);
+    assertThat(second.getSequence()).isEqualTo(2L);
+    assertThat(redisTemplate.getExpire("sse:replay:receiver:" + TEST_RECEIVER_ID)).isPositive();
+    assertThat(redisTemplate.getExpire("sse:replay:broadcast")).isPositive();
+  }
+
+  @Test
+  @DisplayName("saveAll: 여러 메시지를 입력 순서대로 sequence 부여해 한 번에 저장")
+  void saveAll() {
+    // given
+    SseMessage first = SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA);
+    SseMessage second = SseMessage.create(List.of(TEST_RECEIVER_ID, TEST_OTHER_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA);
+    SseMessage third = SseMessage.create(List.of(TEST_OTHER_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA);
+
+    // when
+    List<SseMessage> saved = repository.saveAll(List.of(first, second, third));
+
+    // then
+    assertThat(saved).extracting(SseMessage::getEventId)
+        .containsExactly(first.getEventId(), second.getEventId(), third.getEventId());
+    assertThat(saved).extracting(SseMessage::getSequence).containsExactly(1L, 2L, 3L);
+    assertThat(repository.findAllBySequenceAfterAndReceiverId(0L, TEST_RECEIVER_ID))
+        .extracting(SseMessage::getSequence).containsExactly(1L, 2L);
+    assertThat(repository.findAllBySequenceAfterAndReceiverId(0L, TEST_OTHER_RECEIVER_ID))
+        .extracting(SseMessage::getSequence).containsExactly(2L, 3L);
+  }
+
+  @Test
+  @DisplayName("findAllBySequenceAfterAndReceiverId: 다른 인스턴스가 저장한 메시지도 sequence 순서로 재전송")
+  void findAllBySequenceAfter_acrossInstances() {
+    // given
+    RedisSseMessageRepository otherNode =
+        new RedisSseMessageRepository(redisTemplate, JsonMapper.builder().findAndAddModules().build(), 2, 300);
+    SseMessage first = otherNode.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    otherNode.save(SseMessage.create(List.of(TEST_OTHER_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    SseMessage broadcast = otherNode.save(SseMessage.createBroadcast(TEST_EVENT_NAME, TEST_DATA));
+
+    // when
+    List<SseMessage> all = repository.findAllBySequenceAfterAndReceiverId(0L, TEST_RECEIVER_ID);
+    List<SseMessage> afterFirst = repository.findAllBySequenceAfterAndReceiverId(first.getSequence(), TEST_RECEIVER_ID);
+
+    // then
+    assertThat(all).extracting(SseMessage::getSequence)
+        .containsExactly(first.getSequence(), broadcast.getSequence());
+    assertThat(all.get(0).getEventId()).isEqualTo(first.getEventId());
+    assertThat(all.get(0).getEventData()).isEqualTo(TEST_DATA);
+    assertThat(afterFirst).extracting(SseMessage::getSequence)
+        .containsExactly(broadcast.getSequence());
+  }
+
+  @Test
+  @DisplayName("수신자별 보관 개수 초과 시 오래된 메시지부터 제거")
+  void save_trimsToMaxLength() {
+    // given
+    repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    SseMessage second = repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+    SseMessage third = repository.save(SseMessage.create(List.of(TEST_RECEIVER_ID), TEST_EVENT_NAME, TEST_DATA));
+
+    // when
+    List<SseMessage> result = repository.findAllBySequenceAfterAndReceiverId(0L, TEST_RECEIVER_ID);
+
+    // then
+    assertThat(result).extracting(SseMessage::getSequence)
+        .containsExactly(second.getSequence(), third.getSequence());
+    assertThat(redisTemplate.opsForZSet().size("sse:replay:receiver:" + TEST_RECEIVER_ID)).isEqualTo(2L);
+  }
+}
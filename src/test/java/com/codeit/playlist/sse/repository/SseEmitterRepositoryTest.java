@@ -0,0 +1,191 @@
+package com.codeit.playlist.sse.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.codeit.playlist.domain.sse.exception.InvalidSseEmitterException;
+import com.codeit.playlist.domain.sse.repository.SseEmitterRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public class SseEmitterRepositoryTest {
+
+  private final UUID TEST_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private final UUID TEST_OTHER_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+  private SseEmitterRepository sseEmitterRepository;
+
+  @BeforeEach
+  void setUp() {
+    sseEmitterRepository = new SseEmitterRepository();
+    ReflectionTestUtils.setField(sseEmitterRepository, "maxConnectionsPerUser", 2);
+  }
+
+  @Test
+  @DisplayName("save_multipleConnections: 같은 사용자의 여러 연결을 함께 보관")
+  void save_multipleConnections() {
+    // given
+    SseEmitter first = mock(SseEmitter.class);
+    SseEmitter second = mock(SseEmitter.class);
+
+    // when
+    sseEmitterRepository.save(TEST_RECEIVER_ID, first);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, second);
+
+    // then
+    assertThat(sseEmitterRepository.findByReceiverId(TEST_RECEIVER_ID)).containsExactly(first, second);
+    verify(first, never()).complete();
+  }
+
+  @Test
+  @DisplayName("save_exceedsCap: 연결 수 상한 초과 시 가장 오래된 연결 종료")
+  void save_exceedsCap() {
+    // given
+    SseEmitter first = mock(SseEmitter.class);
+    SseEmitter second = mock(SseEmitter.class);
+    SseEmitter third = mock(SseEmitter.class);
+
+    // when
+    sseEmitterRepository.save(TEST_RECEIVER_ID, first);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, second);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, third);
+
+    // then
+    assertThat(sseEmitterRepository.findByReceiverId(TEST_RECEIVER_ID)).containsExactly(second, third);
+    verify(first).complete();
+  }
+
+  @Test
+  @DisplayName("save_failure_null: receiverId 또는 emitter가 null이면 예외 발생")
+  void save_failure_null() {
+    assertThrows(InvalidSseEmitterException.class, () -> sseEmitterRepository.save(null, mock(SseEmitter.class)));
+    assertThrows(InvalidSseEmitterException.class, () -> sseEmitterRepository.save(TEST_RECEIVER_ID, null));
+  }
+
+  @Test
+  @DisplayName("findAllByReceiverIdsIn: 요청한 수신자의 연결만 반환")
+  void findAllByReceiverIdsIn() {
+    // given
+    SseEmitter first = mock(SseEmitter.class);
+    SseEmitter second = mock(SseEmitter.class);
+    SseEmitter other = mock(SseEmitter.class);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, first);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, second);
+    sseEmitterRepository.save(TEST_OTHER_RECEIVER_ID, other);
+
+    // when
+    Map<UUID, List<SseEmitter>> result =
+        sseEmitterRepository.findAllByReceiverIdsIn(List.of(TEST_RECEIVER_ID, UUID.randomUUID()));
+
+    // then
+    assertThat(result).containsOnlyKeys(TEST_RECEIVER_ID);
+    assertThat(result.get(TEST_RECEIVER_ID)).containsExactly(first, second);
+  }
+
+  @Test
+  @DisplayName("delete_singleConnection: 한 연결만 제거하고 마지막 연결이면 엔트리도 제거")
+  void delete_singleConnection() {
+    // given
+    SseEmitter first = mock(SseEmitter.class);
+    SseEmitter second = mock(SseEmitter.class);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, first);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, second);
+
+    // when
+    sseEmitterRepository.delete(TEST_RECEIVER_ID, first);
+
+    // then
+    assertThat(sseEmitterRepository.findByReceiverId(TEST_RECEIVER_ID)).containsExactly(second);
+
+    // when
+    sseEmitterRepository.delete(TEST_RECEIVER_ID, second);
+
+    // then
+    assertThat(sseEmitterRepository.countByReceiverId(TEST_RECEIVER_ID)).isZero();
+    assertThat(sseEmitterRepository.findAllByReceiverIdsIn(List.of(TEST_RECEIVER_ID))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("delete_allConnections: 사용자의 모든 연결 종료")
+  void delete_allConnections() {
+    // given
+    SseEmitter first = mock(SseEmitter.class);
+    SseEmitter second = mock(SseEmitter.class);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, first);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, second);
+
+    // when
+    sseEmitterRepository.delete(TEST_RECEIVER_ID);
+
+    // then
+    assertThat(sseEmitterRepository.findByReceiverId(TEST_RECEIVER_ID)).isEmpty();
+    assertThat(sseEmitterRepository.findAll()).isEmpty();
+    verify(first).complete();
+    verify(second).complete();
+  }
+
+  @Test
+  @DisplayName("forEachByChannel: 채널 구독 연결과 전체 구독 연결만 순회")
+  void forEachByChannel() {
+    // given
+    SseEmitter notifications = mock(SseEmitter.class);
+    SseEmitter directMessages = mock(SseEmitter.class);
+    SseEmitter all = mock(SseEmitter.class);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, notifications, Set.of("notifications"));
+    sseEmitterRepository.save(TEST_RECEIVER_ID, directMessages, Set.of("direct-messages"));
+    sseEmitterRepository.save(TEST_OTHER_RECEIVER_ID, all);
+
+    // when
+    List<SseEmitter> visited = new ArrayList<>();
+    sseEmitterRepository.forEachByChannel("notifications", (receiverId, emitter) -> visited.add(emitter));
+
+    // then
+    assertThat(visited).containsExactlyInAnyOrder(notifications, all);
+  }
+
+  @Test
+  @DisplayName("findAllByReceiverIdsInAndChannel: 수신자의 연결 중 채널을 구독한 연결만 반환")
+  void findAllByReceiverIdsInAndChannel() {
+    // given
+    SseEmitter notifications = mock(SseEmitter.class);
+    SseEmitter directMessages = mock(SseEmitter.class);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, notifications, Set.of("notifications"));
+    sseEmitterRepository.save(TEST_RECEIVER_ID, directMessages, Set.of("direct-messages"));
+
+    // when
+    Map<UUID, List<SseEmitter>> result =
+        sseEmitterRepository.findAllByReceiverIdsInAndChannel(List.of(TEST_RECEIVER_ID), "direct-messages");
+
+    // then
+    assertThat(result).containsOnlyKeys(TEST_RECEIVER_ID);
+    assertThat(result.get(TEST_RECEIVER_ID)).containsExactly(directMessages);
+  }
+
+  @Test
+  @DisplayName("delete_unsubscribe: 제거된 연결은 채널 색인에서도 제거")
+  void delete_unsubscribe() {
+    // given
+    SseEmitter emitter = mock(SseEmitter.class);
+    sseEmitterRepository.save(TEST_RECEIVER_ID, emitter, Set.of("notifications"));
+
+    // when
+    sseEmitterRepository.delete(TEST_RECEIVER_ID, emitter);
+
+    // then
+    List<SseEmitter> visited = new ArrayList<>();
+    sseEmitterRepository.forEachByChannel("notifications", (receiverId, sseEmitter) -> visited.add(sseEmitter));
+    assertThat(visited).isEmpty();
+    assertThat(sseEmitterRepository.isSubscribed(emitter, "notifications")).isFalse();
+  }
+}
@@ -0,0 +1,257 @@
+package com.codeit.playlist.sse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.codeit.playlist.domain.sse.repository.SseEmitterRepository;
+import com.codeit.playlist.domain.sse.service.SseEmitterDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public class SseEmitterDispatcherTest {
+
+  private static final UUID RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private static final Set<DataWithMediaType> EVENT = Set.of(new DataWithMediaType("test data", null));
+
+  private SseEmitterRepository sseEmitterRepository;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    sseEmitterRepository = mock(SseEmitterRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  @DisplayName("dispatch_success: 큐에 넣은 이벤트를 executor 에서 전송")
+  void dispatch_success() throws IOException {
+    // given
+    SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(sseEmitterRepository, Runnable::run, meterRegistry, 2, 4, 1000);
+    SseEmitter emitter = mock(SseEmitter.class);
+
+    // when
+    boolean first = dispatcher.dispatch(RECEIVER_ID, emitter, EVENT);
+    boolean second = dispatcher.dispatch(RECEIVER_ID, emitter, EVENT);
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    verify(emitter, times(2)).send(EVENT);
+    assertThat(meterRegistry.get("sse.send.latency").timer().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("sse.send.queue.depth").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("dispatchAndComplete: 앞서 넣은 이벤트까지 전송한 뒤 연결 종료")
+  void dispatchAndComplete() throws IOException {
+    // given
+    List<Runnable> pending = new ArrayList<>();
+    SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(sseEmitterRepository, pending::add, meterRegistry, 2, 4, 1000);
+    SseEmitter emitter = mock(SseEmitter.class);
+    Set<DataWithMediaType> reconnect = Set.of(new DataWithMediaType("reconnect", null));
+
+    // when
+    dispatcher.dispatch(RECEIVER_ID, emitter, EVENT);
+    boolean accepted = dispatcher.dispatchAndComplete(RECEIVER_ID, emitter, reconnect);
+    pending.forEach(Runnable::run);
+
+    // then
+    assertThat(accepted).isTrue();
+    InOrder inOrder = inOrder(emitter);
+    inOrder.verify(emitter).send(EVENT);
+    inOrder.verify(emitter).send(reconnect);
+    inOrder.verify(emitter).complete();
+    verify(sseEmitterRepository, times(1)).delete(RECEIVER_ID, emitter);
+  }
+
+  @Test
+  @DisplayName("dispatch_sendError: 전송 실패 시 emitter 종료 후 저장소에서 제거")
+  void dispatch_sendError() throws IOException {
+    // given
+    SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(sseEmitterRepository, Runnable::run, meterRegistry, 2, 4, 1000);
+    SseEmitter emitter = mock(SseEmitter.class);
+    doThrow(new IOException("broken pipe")).when(emitter).send(any(Set.class));
+
+    // when
+    dispatcher.dispatch(RECEIVER_ID, emitter, EVENT);
+
+    // then
+    verify(sseEmitterRepository, times(1)).delete(RECEIVER_ID, emitter);
+    verify(emitter, times(1)).complete();
+    assertThat(meterRegistry.get("sse.send.dropped").tag("reason", "error").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("dispatch_slowConsumer: 큐가 가득 차면 연결을 종료하고 false 반환")
+  void dispatch_slowConsumer() throws IOException {
+    // given
+    List<Runnable> pending = new ArrayList<>();
+    Executor stalled = pending::add;
+    SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(sseEmitterRepository, stalled, meterRegistry, 2, 1, 1000);
+    SseEmitter emitter = mock(SseEmitter.class);
+
+    // when
+    boolean first = dispatcher.dispatch(RECEIVER_ID, emitter, EVENT);
+    boolean overflow = dispatcher.dispatch(RECEIVER_ID, emitter, EVENT);
+    pending.forEach(Runnable::run);
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(overflow).isFalse();
+    verify(sseEmitterRepository, times(1)).delete(RECEIVER_ID, emitter);
+    verify(emitter, times(1)).complete();
+    verify(emitter, never()).send(any(Set.class));
+    assertThat(meterRegistry.get("sse.send.dropped").tag("reason", "slow_consumer").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("sse.send.queue.depth").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("dispatch_rejected: executor 가 워커 시작을 거부해도 연결은 유지하고 다음 전송 때 순서대로 보낸다")
+  void dispatch_rejected() throws IOException {
+    // given
+    AtomicBoolean saturated = new AtomicBoolean(true);
+    Executor executor = task -> {
+      if (saturated.get()) {
+        throw new RejectedExecutionException("full");
+      }
+      task.run();
+    };
+    SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(sseEmitterRepository, executor, meterRegistry, 2, 4, 1000);
+    SseEmitter emitter = mock(SseEmitter.class);
+    Set<DataWithMediaType> next = Set.of(new DataWithMediaType("next", null));
+
+    // when
+    boolean first = dispatcher.dispatch(RECEIVER_ID, emitter, EVENT);
+    saturated.set(false);
+    boolean second = dispatcher.dispatch(RECEIVER_ID, emitter, next);
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    InOrder inOrder = inOrder(emitter);
+    inOrder.verify(emitter).send(EVENT);
+    inOrder.verify(emitter).send(next);
+    verify(emitter, never()).complete();
+    verify(sseEmitterRepository, never()).delete(any(), any());
+    assertThat(meterRegistry.get("sse.send.worker.rejected").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("dispatch_fixedWorkers: 연결 수와 관계없이 워커는 workers 개만 실행되고, 워커가 ready 큐의 모든 연결을 전송")
+  void dispatch_fixedWorkers() throws IOException {
+    // given
+    List<Runnable> started = new ArrayList<>();
+    SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(sseEmitterRepository, started::add, meterRegistry, 2, 4, 1000);
+    List<SseEmitter> emitters = List.of(mock(SseEmitter.class), mock(SseEmitter.class), mock(SseEmitter.class));
+
+    // when
+    emitters.forEach(emitter -> dispatcher.dispatch(RECEIVER_ID, emitter, EVENT));
+    int workersStarted = started.size();
+    new ArrayList<>(started).forEach(Runnable::run);
+
+    // then
+    assertThat(workersStarted).isEqualTo(2);
+    for (SseEmitter emitter : emitters) {
+      verify(emitter, times(1)).send(EVENT);
+    }
+    assertThat(meterRegistry.get("sse.send.ready.depth").gauge().value()).isZero();
+    assertThat(meterRegistry.get("sse.send.queue.depth").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("abandonStalledSends: send 가 sendTimeout 을 넘기면 연결을 종료하고 새 워커가 다른 연결을 계속 전송")
+  void abandonStalledSends() throws Exception {
+    // given
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newCachedThreadPool();
+    SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(sseEmitterRepository, executor, meterRegistry, 1, 4, 5);
+    SseEmitter stalled = mock(SseEmitter.class);
+    SseEmitter waiting = mock(SseEmitter.class);
+    SseEmitter later = mock(SseEmitter.class);
+    doAnswer(invocation -> {
+      sending.countDown();
+      release.await();
+      return null;
+    }).when(stalled).send(any(Set.class));
+
+    try {
+      dispatcher.dispatch(RECEIVER_ID, stalled, EVENT);
+      assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+      dispatcher.dispatch(RECEIVER_ID, waiting, EVENT);
+      Thread.sleep(20);
+
+      // when
+      dispatcher.abandonStalledSends();
+
+      // then: 막힌 연결은 종료되고, 하나뿐인 워커 자리를 새 워커가 받아 기다리던 연결을 전송
+      verify(sseEmitterRepository, times(1)).delete(RECEIVER_ID, stalled);
+      verify(stalled, times(1)).complete();
+      verify(waiting, timeout(1000)).send(EVENT);
+      assertThat(meterRegistry.get("sse.send.dropped").tag("reason", "timeout").counter().count()).isEqualTo(1);
+      assertThat(meterRegistry.get("sse.send.worker.abandoned").gauge().value()).isEqualTo(1);
+
+      // when: 막혔던 send 가 풀려도 그 스레드는 워커 수를 다시 줄이지 않고 끝난다
+      release.countDown();
+      awaitGauge("sse.send.worker.abandoned", 0);
+      dispatcher.dispatch(RECEIVER_ID, later, EVENT);
+
+      // then
+      verify(later, timeout(1000)).send(EVENT);
+      verify(stalled, times(1)).send(any(Set.class));
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("heartbeat_idle: 전송 중이 아니면 keep-alive 를 큐에 추가")
+  void heartbeat_idle() throws IOException {
+    // given
+    SseEmitterDispatcher dispatcher = new SseEmitterDispatcher(sseEmitterRepository, Runnable::run, meterRegistry, 2, 4, 1000);
+    SseEmitter emitter = mock(SseEmitter.class);
+    dispatcher.dispatch(RECEIVER_ID, emitter, EVENT);
+
+    // when
+    boolean alive = dispatcher.heartbeat(RECEIVER_ID, emitter, EVENT);
+
+    // then
+    assertThat(alive).isTrue();
+    verify(emitter, times(2)).send(EVENT);
+    verify(sseEmitterRepository, never()).delete(any(), any());
+  }
+
+  private void awaitGauge(String name, double expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    while (meterRegistry.get(name).gauge().value() != expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(meterRegistry.get(name).gauge().value()).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,67 @@
+package com.codeit.playlist.sse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codeit.playlist.domain.sse.entity.SseMessage;
+import com.codeit.playlist.domain.sse.service.SseEventEncoder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+public class SseEventEncoderTest {
+
+  private final SseEventEncoder sseEventEncoder = new SseEventEncoder(JsonMapper.builder().findAndAddModules().build());
+
+  @Test
+  @DisplayName("encode_success: id, event, JSON data 를 하나의 프레임 바이트로 인코딩")
+  void encode_success() {
+    // given
+    SseMessage message = SseMessage.create(List.of(UUID.randomUUID()), "notifications", Map.of("title", "hello"))
+        .withSequence(42L);
+
+    // when
+    Set<DataWithMediaType> event = sseEventEncoder.encode(message);
+
+    // then
+    assertThat(event).hasSize(1);
+    assertThat(frame(event)).isEqualTo("id:42\nevent:notifications\ndata:{\"title\":\"hello\"}\n\n");
+  }
+
+  @Test
+  @DisplayName("encode_withoutSequence: sequence 가 없으면 id 없이 인코딩")
+  void encode_withoutSequence() {
+    // given
+    SseMessage message = SseMessage.createBroadcast("notice", Map.of("title", "hello"));
+
+    // when
+    String frame = frame(sseEventEncoder.encode(message));
+
+    // then
+    assertThat(frame).startsWith("event:notice\n").doesNotContain("id:");
+  }
+
+  @Test
+  @DisplayName("encode_multiLineText: 문자열 데이터는 인용 없이 줄마다 data 필드로 분리")
+  void encode_multiLineText() {
+    // given
+    SseMessage message = SseMessage.createBroadcast("notice", "first\nsecond");
+
+    // when
+    String frame = frame(sseEventEncoder.encode(message));
+
+    // then
+    assertThat(frame).isEqualTo("event:notice\ndata:first\ndata:second\n\n");
+  }
+
+  private static String frame(Set<DataWithMediaType> event) {
+    Object data = event.iterator().next().getData();
+    assertThat(data).isInstanceOf(byte[].class);
+    return new String((byte[]) data, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,117 @@
+package com.codeit.playlist.sse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codeit.playlist.domain.sse.metrics.SseMetrics;
+import com.codeit.playlist.domain.sse.relay.SseNodeRelay;
+import com.codeit.playlist.domain.sse.service.SseEmitterDispatcher;
+import com.codeit.playlist.domain.sse.service.SseHeartbeatWheel;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+public class SseHeartbeatWheelTest {
+
+  @Mock
+  private SseEmitterDispatcher sseEmitterDispatcher;
+
+  @Mock
+  private ObjectProvider<SseNodeRelay> sseNodeRelay;
+
+  @Mock
+  private SseMetrics sseMetrics;
+
+  private SseHeartbeatWheel sseHeartbeatWheel;
+
+  private final UUID TEST_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private final UUID TEST_OTHER_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+  @BeforeEach
+  void setUp() {
+    // 3초 주기, 1초 tick → 슬롯 3개
+    sseHeartbeatWheel = new SseHeartbeatWheel(sseEmitterDispatcher, sseNodeRelay, sseMetrics, 3000, 1000);
+  }
+
+  @Test
+  @DisplayName("tick_spreadsConnections: tick 마다 한 슬롯의 연결에만 keep-alive 전송")
+  void tick_spreadsConnections() {
+    // given
+    SseEmitter emitter1 = mock(SseEmitter.class);
+    SseEmitter emitter2 = mock(SseEmitter.class);
+    SseEmitter emitter3 = mock(SseEmitter.class);
+    sseHeartbeatWheel.register(TEST_RECEIVER_ID, emitter1);
+    sseHeartbeatWheel.register(TEST_RECEIVER_ID, emitter2);
+    sseHeartbeatWheel.register(TEST_OTHER_RECEIVER_ID, emitter3);
+    when(sseEmitterDispatcher.heartbeat(any(), any(), any())).thenReturn(true);
+
+    // when
+    sseHeartbeatWheel.tick();
+
+    // then
+    verify(sseEmitterDispatcher, times(1)).heartbeat(eq(TEST_RECEIVER_ID), eq(emitter1), any());
+    verify(sseEmitterDispatcher, never()).heartbeat(any(), eq(emitter2), any());
+    verify(sseEmitterDispatcher, never()).heartbeat(any(), eq(emitter3), any());
+
+    // when: 나머지 두 슬롯
+    sseHeartbeatWheel.tick();
+    sseHeartbeatWheel.tick();
+
+    // then: 한 바퀴 동안 연결마다 정확히 한 번
+    verify(sseEmitterDispatcher, times(1)).heartbeat(eq(TEST_RECEIVER_ID), eq(emitter2), any());
+    verify(sseEmitterDispatcher, times(1)).heartbeat(eq(TEST_OTHER_RECEIVER_ID), eq(emitter3), any());
+  }
+
+  @Test
+  @DisplayName("tick_failure: keep-alive 실패한 연결은 휠에서 제거")
+  void tick_failure() {
+    // given
+    SseEmitter emitterFailed = mock(SseEmitter.class);
+    sseHeartbeatWheel.register(TEST_RECEIVER_ID, emitterFailed);
+    when(sseEmitterDispatcher.heartbeat(eq(TEST_RECEIVER_ID), eq(emitterFailed), any())).thenReturn(false);
+
+    // when
+    sseHeartbeatWheel.tick();
+
+    // then
+    assertThat(sseHeartbeatWheel.size()).isZero();
+    verify(sseMetrics, times(1)).recordKeepAliveEvictions(1);
+  }
+
+  @Test
+  @DisplayName("tick_refreshPresence: 살아 있는 연결의 수신자만 presence 갱신")
+  void tick_refreshPresence() {
+    // given
+    SseNodeRelay relay = mock(SseNodeRelay.class);
+    SseEmitter emitter = mock(SseEmitter.class);
+    sseHeartbeatWheel.register(TEST_RECEIVER_ID, emitter);
+    when(sseEmitterDispatcher.heartbeat(eq(TEST_RECEIVER_ID), eq(emitter), any())).thenReturn(true);
+    doAnswer(invocation -> {
+      Consumer<SseNodeRelay> action = invocation.getArgument(0);
+      action.accept(relay);
+      return null;
+    }).when(sseNodeRelay).ifAvailable(any());
+
+    // when
+    sseHeartbeatWheel.tick();
+
+    // then
+    verify(relay, times(1)).refreshPresence(Set.of(TEST_RECEIVER_ID));
+  }
+}
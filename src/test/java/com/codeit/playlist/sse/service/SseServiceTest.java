@@ -5,29 +5,40 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.codeit.playlist.domain.sse.entity.SseMessage;
 import com.codeit.playlist.domain.sse.exception.InvalidEventNameException;
 import com.codeit.playlist.domain.sse.exception.SseReconnectFailedException;
 import com.codeit.playlist.domain.sse.exception.SseSendFailedException;
+import com.codeit.playlist.domain.sse.metrics.SseMetrics;
+import com.codeit.playlist.domain.sse.relay.SseNodeRelay;
 import com.codeit.playlist.domain.sse.repository.SseEmitterRepository;
 import com.codeit.playlist.domain.sse.repository.SseMessageRepository;
+import com.codeit.playlist.domain.sse.service.SseEmitterDispatcher;
+import com.codeit.playlist.domain.sse.service.SseEventEncoder;
+import com.codeit.playlist.domain.sse.service.SseHeartbeatWheel;
 import com.codeit.playlist.domain.sse.service.SseService;
+import com.codeit.playlist.global.lifecycle.ConnectionDrainState;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +47,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -52,6 +64,24 @@ public class SseServiceTest {
   @Mock
   private SseMessageRepository sseMessageRepository;
 
+  @Mock
+  private SseEmitterDispatcher sseEmitterDispatcher;
+
+  @Mock
+  private SseEventEncoder sseEventEncoder;
+
+  @Mock
+  private SseHeartbeatWheel sseHeartbeatWheel;
+
+  @Mock
+  private SseMetrics sseMetrics;
+
+  @Mock
+  private ConnectionDrainState connectionDrainState;
+
+  @Mock
+  private ObjectProvider<SseNodeRelay> sseNodeRelay;
+
   private final UUID TEST_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
   private final UUID TEST_OTHER_RECEIVER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
   private final UUID TEST_EVENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000010");
@@ -68,34 +98,59 @@ public class SseServiceTest {
   void connect_lastEventId_reconnect_resends_unsent_messages() throws IOException {
     // given
     ArgumentCaptor<SseEmitter> emitterCaptor = ArgumentCaptor.forClass(SseEmitter.class);
-    UUID lastEventId = TEST_EVENT_ID;
+    String lastEventId = "10";
 
     SseMessage mockMessage1 = mock(SseMessage.class);
     SseMessage mockMessage2 = mock(SseMessage.class);
     Set<DataWithMediaType> mockEvent1 = Set.of(new DataWithMediaType("msg1", null));
     Set<DataWithMediaType> mockEvent2 = Set.of(new DataWithMediaType("msg2", null));
 
-    when(mockMessage1.toEvent()).thenReturn(mockEvent1);
-    when(mockMessage2.toEvent()).thenReturn(mockEvent2);
+    when(sseEventEncoder.encode(mockMessage1)).thenReturn(mockEvent1);
+    when(sseEventEncoder.encode(mockMessage2)).thenReturn(mockEvent2);
 
     List<SseMessage> unsentMessages = List.of(mockMessage1, mockMessage2);
-    when(sseMessageRepository.findAllByEventIdAfterAndReceiverId(lastEventId, TEST_RECEIVER_ID))
+    when(sseMessageRepository.findAllBySequenceAfterAndReceiverId(10L, TEST_RECEIVER_ID))
         .thenReturn(unsentMessages);
 
-    when(sseEmitterRepository.save(eq(TEST_RECEIVER_ID), emitterCaptor.capture()))
+    when(sseEmitterRepository.save(eq(TEST_RECEIVER_ID), emitterCaptor.capture(), eq(Set.of())))
         .thenReturn(null);
 
     // when
     SseEmitter emitter = sseService.connect(TEST_RECEIVER_ID, lastEventId);
 
     // then
-    verify(sseEmitterRepository, times(1)).save(eq(TEST_RECEIVER_ID), any(SseEmitter.class));
+    verify(sseEmitterRepository, times(1)).save(eq(TEST_RECEIVER_ID), any(SseEmitter.class), eq(Set.of()));
+    verify(sseHeartbeatWheel, times(1)).register(eq(TEST_RECEIVER_ID), any(SseEmitter.class));
 
     SseEmitter capturedEmitter = emitterCaptor.getValue();
     assertThat(capturedEmitter).isSameAs(emitter);
 
-    verify(mockMessage1, times(1)).toEvent();
-    verify(mockMessage2, times(1)).toEvent();
+    verify(sseEventEncoder, times(1)).encode(mockMessage1);
+    verify(sseEventEncoder, times(1)).encode(mockMessage2);
+    verify(sseMetrics, times(1)).recordReplay(2);
+  }
+
+  @Test
+  @DisplayName("재연결_채널구독: 구독하지 않은 채널의 미전송 메시지는 재전송하지 않음")
+  void connect_lastEventId_withChannels_resends_only_subscribed() throws IOException {
+    // given
+    SseMessage notification = mock(SseMessage.class);
+    SseMessage directMessage = mock(SseMessage.class);
+    Set<DataWithMediaType> notificationEvent = Set.of(new DataWithMediaType("msg1", null));
+
+    when(notification.getEventName()).thenReturn("notifications");
+    when(directMessage.getEventName()).thenReturn("direct-messages");
+    when(sseEventEncoder.encode(notification)).thenReturn(notificationEvent);
+    when(sseMessageRepository.findAllBySequenceAfterAndReceiverId(10L, TEST_RECEIVER_ID))
+        .thenReturn(List.of(notification, directMessage));
+
+    // when
+    sseService.connect(TEST_RECEIVER_ID, "10", List.of(" notifications ", ""));
+
+    // then
+    verify(sseEventEncoder, times(1)).encode(notification);
+    verify(sseEventEncoder, never()).encode(directMessage);
+    verify(sseEmitterRepository, times(1)).save(eq(TEST_RECEIVER_ID), any(SseEmitter.class), eq(Set.of("notifications")));
   }
 
   @Test
@@ -106,38 +161,66 @@ public class SseServiceTest {
         () -> sseService.connect(null, null));
 
     // then
-    verify(sseEmitterRepository, never()).save(any(), any());
+    verify(sseEmitterRepository, never()).save(any(), any(), any());
   }
 
   @Test
-  @DisplayName("send_success: 메시지 전송 성공")
-  void send_success() throws IOException {
+  @DisplayName("send_success: 수신자의 emitter 전송 큐에 메시지 추가")
+  void send_success() {
     // given
     Collection<UUID> receiverIds = List.of(TEST_RECEIVER_ID, TEST_OTHER_RECEIVER_ID);
     SseMessage mockMessage = mock(SseMessage.class);
     Set<DataWithMediaType> mockEvent = Set.of(new DataWithMediaType("test data", null));
     SseEmitter emitter1 = mock(SseEmitter.class);
     SseEmitter emitter2 = mock(SseEmitter.class);
-    Map<UUID, SseEmitter> emitterMap = Map.of(
-        TEST_RECEIVER_ID, emitter1,
-        TEST_OTHER_RECEIVER_ID, emitter2
+    Map<UUID, List<SseEmitter>> emitterMap = Map.of(
+        TEST_RECEIVER_ID, List.of(emitter1),
+        TEST_OTHER_RECEIVER_ID, List.of(emitter2)
     );
 
     when(sseMessageRepository.save(any(SseMessage.class))).thenReturn(mockMessage);
-    when(mockMessage.toEvent()).thenReturn(mockEvent);
-    when(sseEmitterRepository.findAllByReceiverIdsIn(receiverIds)).thenReturn(emitterMap);
-
-    doNothing().when(emitter1).send(any(Set.class));
-    doNothing().when(emitter2).send(any(Set.class));
-
+    when(sseEventEncoder.encode(mockMessage)).thenReturn(mockEvent);
+    when(mockMessage.getEventName()).thenReturn(TEST_EVENT_NAME);
+    when(sseEmitterRepository.findAllByReceiverIdsInAndChannel(receiverIds, TEST_EVENT_NAME)).thenReturn(emitterMap);
+    when(sseEmitterDispatcher.dispatch(any(), any(), eq(mockEvent))).thenReturn(true);
 
     // when
     assertDoesNotThrow(() -> sseService.send(receiverIds, TEST_EVENT_NAME, TEST_DATA));
 
     // then
     verify(sseMessageRepository, times(1)).save(any(SseMessage.class));
-    verify(emitter1, times(1)).send(eq(mockEvent));
-    verify(emitter2, times(1)).send(eq(mockEvent));
+    verify(sseEmitterDispatcher, times(1)).dispatch(TEST_RECEIVER_ID, emitter1, mockEvent);
+    verify(sseEmitterDispatcher, times(1)).dispatch(TEST_OTHER_RECEIVER_ID, emitter2, mockEvent);
+    verifyNoInteractions(emitter1, emitter2);
+  }
+
+  @Test
+  @DisplayName("send_relay: 노드 릴레이가 있으면 다른 노드로 전달하고 로컬 emitter 에도 전송")
+  void send_forwardsToRelay() {
+    // given
+    Collection<UUID> receiverIds = List.of(TEST_RECEIVER_ID);
+    SseMessage mockMessage = mock(SseMessage.class);
+    Set<DataWithMediaType> mockEvent = Set.of(new DataWithMediaType("test data", null));
+    SseEmitter emitter = mock(SseEmitter.class);
+    SseNodeRelay relay = mock(SseNodeRelay.class);
+
+    when(sseMessageRepository.save(any(SseMessage.class))).thenReturn(mockMessage);
+    when(sseEventEncoder.encode(mockMessage)).thenReturn(mockEvent);
+    when(mockMessage.getEventName()).thenReturn(TEST_EVENT_NAME);
+    when(sseEmitterRepository.findAllByReceiverIdsInAndChannel(receiverIds, TEST_EVENT_NAME)).thenReturn(Map.of(TEST_RECEIVER_ID, List.of(emitter)));
+    when(sseEmitterDispatcher.dispatch(TEST_RECEIVER_ID, emitter, mockEvent)).thenReturn(true);
+    doAnswer(invocation -> {
+      Consumer<SseNodeRelay> action = invocation.getArgument(0);
+      action.accept(relay);
+      return null;
+    }).when(sseNodeRelay).ifAvailable(any());
+
+    // when
+    sseService.send(receiverIds, TEST_EVENT_NAME, TEST_DATA);
+
+    // then
+    verify(relay, times(1)).forward(mockMessage, receiverIds);
+    verify(sseEmitterDispatcher, times(1)).dispatch(TEST_RECEIVER_ID, emitter, mockEvent);
   }
 
   @Test
@@ -151,7 +234,7 @@ public class SseServiceTest {
 
     // then
     verify(sseMessageRepository, never()).save(any());
-    verify(sseEmitterRepository, never()).findAllByReceiverIdsIn(any());
+    verify(sseEmitterRepository, never()).findAllByReceiverIdsInAndChannel(any(), any());
   }
 
   @Test
@@ -171,23 +254,25 @@ public class SseServiceTest {
   }
 
   @Test
-  @DisplayName("send_failure_someEmittersFailed: 메시지 전송 중 일부 Emitter에서 예외 발생")
-  void send_failure_someEmittersFailed() throws IOException {
+  @DisplayName("send_failure_someEmittersFailed: 일부 Emitter가 느린 클라이언트로 종료되면 예외 발생")
+  void send_failure_someEmittersFailed() {
     // given
     Collection<UUID> receiverIds = List.of(TEST_RECEIVER_ID, TEST_OTHER_RECEIVER_ID);
     SseMessage mockMessage = mock(SseMessage.class);
     Set<DataWithMediaType> mockEvent = Set.of(new DataWithMediaType("test data", null));
     SseEmitter successEmitter = mock(SseEmitter.class);
     SseEmitter failedEmitter = mock(SseEmitter.class);
-    Map<UUID, SseEmitter> emitterMap = Map.of(
-        TEST_RECEIVER_ID, successEmitter,
-        TEST_OTHER_RECEIVER_ID, failedEmitter
+    Map<UUID, List<SseEmitter>> emitterMap = Map.of(
+        TEST_RECEIVER_ID, List.of(successEmitter),
+        TEST_OTHER_RECEIVER_ID, List.of(failedEmitter)
     );
 
     when(sseMessageRepository.save(any(SseMessage.class))).thenReturn(mockMessage);
-    when(mockMessage.toEvent()).thenReturn(mockEvent);
-    doThrow(new IOException("Test Send Failed")).when(failedEmitter).send(any(Set.class));
-    when(sseEmitterRepository.findAllByReceiverIdsIn(receiverIds)).thenReturn(emitterMap);
+    when(sseEventEncoder.encode(mockMessage)).thenReturn(mockEvent);
+    when(mockMessage.getEventName()).thenReturn(TEST_EVENT_NAME);
+    when(sseEmitterRepository.findAllByReceiverIdsInAndChannel(receiverIds, TEST_EVENT_NAME)).thenReturn(emitterMap);
+    when(sseEmitterDispatcher.dispatch(TEST_RECEIVER_ID, successEmitter, mockEvent)).thenReturn(true);
+    when(sseEmitterDispatcher.dispatch(TEST_OTHER_RECEIVER_ID, failedEmitter, mockEvent)).thenReturn(false);
     when(mockMessage.getEventId()).thenReturn(TEST_EVENT_ID);
 
     // when, then
@@ -195,8 +280,9 @@ public class SseServiceTest {
         () -> sseService.send(receiverIds, TEST_EVENT_NAME, TEST_DATA));
 
     // then
-    verify(successEmitter, times(1)).send(eq(mockEvent));
-    verify(failedEmitter, times(1)).send(any(Set.class));
+    verify(sseEmitterDispatcher, times(1)).dispatch(TEST_RECEIVER_ID, successEmitter, mockEvent);
+    verify(sseEmitterDispatcher, times(1)).dispatch(TEST_OTHER_RECEIVER_ID, failedEmitter, mockEvent);
+    verify(sseMetrics, times(1)).recordSendFailures(false, 1);
 
     String exceptionMessage = exception.getMessage();
 
@@ -205,29 +291,27 @@ public class SseServiceTest {
   }
 
   @Test
-  @DisplayName("broadcast_success: 전체 Emitter에 메시지 전송 성공")
-  void broadcast_success() throws IOException {
+  @DisplayName("broadcast_success: 전체 Emitter 전송 큐에 메시지 추가")
+  void broadcast_success() {
     // given
     SseMessage mockMessage = mock(SseMessage.class);
     Set<DataWithMediaType> mockEvent = Set.of(new DataWithMediaType("test data", null));
     SseEmitter emitter1 = mock(SseEmitter.class);
     SseEmitter emitter2 = mock(SseEmitter.class);
-    List<SseEmitter> allEmitters = List.of(emitter1, emitter2);
 
     when(sseMessageRepository.save(any(SseMessage.class))).thenReturn(mockMessage);
-    when(mockMessage.toEvent()).thenReturn(mockEvent);
-    when(sseEmitterRepository.findAll()).thenReturn(allEmitters);
-
-    doNothing().when(emitter1).send(any(Set.class));
-    doNothing().when(emitter2).send(any(Set.class));
+    when(sseEventEncoder.encode(mockMessage)).thenReturn(mockEvent);
+    when(mockMessage.getEventName()).thenReturn(TEST_EVENT_NAME);
+    stubForEachByChannel(Map.of(TEST_RECEIVER_ID, emitter1, TEST_OTHER_RECEIVER_ID, emitter2));
+    when(sseEmitterDispatcher.dispatch(any(), any(), eq(mockEvent))).thenReturn(true);
 
     // when
     sseService.broadcast(TEST_EVENT_NAME, TEST_DATA);
 
     // then
     verify(sseMessageRepository, times(1)).save(any(SseMessage.class));
-    verify(emitter1, times(1)).send(eq(mockEvent));
-    verify(emitter2, times(1)).send(eq(mockEvent));
+    verify(sseEmitterDispatcher, times(1)).dispatch(TEST_RECEIVER_ID, emitter1, mockEvent);
+    verify(sseEmitterDispatcher, times(1)).dispatch(TEST_OTHER_RECEIVER_ID, emitter2, mockEvent);
   }
 
   @Test
@@ -244,95 +328,144 @@ public class SseServiceTest {
   }
 
   @Test
-  @DisplayName("broadcast_partialFailure: 메시지 전송 중 일부 Emitter에서 예외 발생")
-  void broadcast_partialFailure() throws IOException {
+  @DisplayName("broadcast_partialFailure: 일부 Emitter가 종료되어도 나머지에는 전송")
+  void broadcast_partialFailure() {
     // given
     SseMessage mockMessage = mock(SseMessage.class);
     Set<DataWithMediaType> mockEvent = Set.of(new DataWithMediaType("test data", null));
     SseEmitter successEmitter = mock(SseEmitter.class);
-    SseEmitter failedEmitter1 = mock(SseEmitter.class);
-    SseEmitter failedEmitter2 = mock(SseEmitter.class);
-    List<SseEmitter> allEmitters = List.of(successEmitter, failedEmitter1, failedEmitter2);
+    SseEmitter failedEmitter = mock(SseEmitter.class);
 
     when(sseMessageRepository.save(any(SseMessage.class))).thenReturn(mockMessage);
-    when(mockMessage.toEvent()).thenReturn(mockEvent);
-    when(sseEmitterRepository.findAll()).thenReturn(allEmitters);
+    when(sseEventEncoder.encode(mockMessage)).thenReturn(mockEvent);
+    when(mockMessage.getEventName()).thenReturn(TEST_EVENT_NAME);
+    stubForEachByChannel(Map.of(TEST_RECEIVER_ID, successEmitter, TEST_OTHER_RECEIVER_ID, failedEmitter));
+    when(sseEmitterDispatcher.dispatch(TEST_RECEIVER_ID, successEmitter, mockEvent)).thenReturn(true);
+    when(sseEmitterDispatcher.dispatch(TEST_OTHER_RECEIVER_ID, failedEmitter, mockEvent)).thenReturn(false);
 
-    doThrow(new IOException("Test Broadcast Failed 1")).when(failedEmitter1).send(any(Set.class));
-    doThrow(new IOException("Test Broadcast Failed 2")).when(failedEmitter2).send(any(Set.class));
-    doNothing().when(successEmitter).send(any(Set.class));
+    // when
+    assertDoesNotThrow(() -> sseService.broadcast(TEST_EVENT_NAME, TEST_DATA));
 
+    // then
+    verify(sseEmitterDispatcher, times(1)).dispatch(TEST_RECEIVER_ID, successEmitter, mockEvent);
+    verify(sseEmitterDispatcher, times(1)).dispatch(TEST_OTHER_RECEIVER_ID, failedEmitter, mockEvent);
+    verify(sseMetrics, times(1)).recordSendFailures(true, 1);
+  }
+
+  @Test
+  @DisplayName("cleanUp_success: 만료된 재전송 메시지 정리")
+  void cleanUp_success() {
     // when
-    sseService.broadcast(TEST_EVENT_NAME, TEST_DATA);
+    sseService.cleanUp();
 
     // then
-    verify(successEmitter, times(1)).send(eq(mockEvent));
-    verify(failedEmitter1, times(1)).send(any(Set.class));
-    verify(failedEmitter2, times(1)).send(any(Set.class));
+    verify(sseMessageRepository, times(1)).removeExpired();
+    verifyNoInteractions(sseEmitterDispatcher);
   }
 
   @Test
-  @DisplayName("cleanUp_success: 죽은 Emitter 정리 성공 (ping 실패 시뮬레이션)")
-  void cleanUp_success() throws IOException {
+  @DisplayName("sendGrouped_success: 수신자별 이벤트를 한 번의 emitter 조회로 순서대로 전달")
+  void sendGrouped_success() {
     // given
-    SseEmitter deadEmitter = mock(SseEmitter.class);
-    SseEmitter aliveEmitter = mock(SseEmitter.class);
-    List<SseEmitter> allEmitters = List.of(deadEmitter, aliveEmitter);
+    SseEmitter emitter = mock(SseEmitter.class);
+    SseEmitter otherEmitter = mock(SseEmitter.class);
+    Set<DataWithMediaType> event1 = Set.of(new DataWithMediaType("msg1", null));
+    Set<DataWithMediaType> event2 = Set.of(new DataWithMediaType("msg2", null));
+    Set<DataWithMediaType> event3 = Set.of(new DataWithMediaType("msg3", null));
+
+    SseNodeRelay relay = mock(SseNodeRelay.class);
+    when(sseMessageRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(sseEmitterRepository.findAllByReceiverIdsInAndChannel(Set.of(TEST_RECEIVER_ID, TEST_OTHER_RECEIVER_ID), TEST_EVENT_NAME))
+        .thenReturn(Map.of(TEST_RECEIVER_ID, List.of(emitter), TEST_OTHER_RECEIVER_ID, List.of(otherEmitter)));
+    when(sseEventEncoder.encode(any(SseMessage.class))).thenReturn(event1, event2, event3);
+    when(sseEmitterDispatcher.dispatch(any(), any(), any())).thenReturn(true);
+    doAnswer(invocation -> {
+      Consumer<SseNodeRelay> action = invocation.getArgument(0);
+      action.accept(relay);
+      return null;
+    }).when(sseNodeRelay).ifAvailable(any());
+
+    Map<UUID, List<Object>> dataByReceiver = new LinkedHashMap<>();
+    dataByReceiver.put(TEST_RECEIVER_ID, List.of("first", "second"));
+    dataByReceiver.put(TEST_OTHER_RECEIVER_ID, List.of("third"));
 
-    when(sseEmitterRepository.findAll()).thenReturn(allEmitters);
+    // when
+    sseService.sendGrouped(TEST_EVENT_NAME, dataByReceiver);
+
+    // then: 저장과 릴레이는 배치 단위로 한 번씩
+    ArgumentCaptor<List<SseMessage>> savedCaptor = ArgumentCaptor.forClass(List.class);
+    verify(sseMessageRepository, times(1)).saveAll(savedCaptor.capture());
+    verify(sseMessageRepository, never()).save(any(SseMessage.class));
+    assertThat(savedCaptor.getValue().size()).isEqualTo(3);
+    verify(relay, times(1)).forwardAll(savedCaptor.getValue());
+    verify(relay, never()).forward(any(), any());
+    verify(sseEmitterRepository, times(1)).findAllByReceiverIdsInAndChannel(any(), eq(TEST_EVENT_NAME));
+    verify(sseEmitterDispatcher, times(2)).dispatch(eq(TEST_RECEIVER_ID), eq(emitter), any());
+    verify(sseEmitterDispatcher, times(1)).dispatch(eq(TEST_OTHER_RECEIVER_ID), eq(otherEmitter), any());
+    verify(sseMetrics, never()).recordSendFailures(anyBoolean(), anyInt());
+  }
 
-    doThrow(new IOException("Dead ping"))
-        .when(deadEmitter).send(any(Set.class));
-    doNothing()
-        .when(aliveEmitter).send(any(Set.class));
+  @Test
+  @DisplayName("sendGrouped_failure: 전송 실패 시 예외 없이 실패 수만 기록")
+  void sendGrouped_failure() {
+    // given
+    SseEmitter emitter = mock(SseEmitter.class);
+    when(sseMessageRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(sseEmitterRepository.findAllByReceiverIdsInAndChannel(Set.of(TEST_RECEIVER_ID), TEST_EVENT_NAME))
+        .thenReturn(Map.of(TEST_RECEIVER_ID, List.of(emitter)));
+    when(sseEventEncoder.encode(any(SseMessage.class))).thenReturn(Set.of(new DataWithMediaType("msg", null)));
+    when(sseEmitterDispatcher.dispatch(eq(TEST_RECEIVER_ID), eq(emitter), any())).thenReturn(false);
 
     // when
-    sseService.cleanUp();
+    assertDoesNotThrow(() -> sseService.sendGrouped(TEST_EVENT_NAME, Map.of(TEST_RECEIVER_ID, List.of("first", "second"))));
 
-    // then
-    verify(deadEmitter, times(1)).complete();
-    verify(aliveEmitter, never()).complete();
+    // then: 연결이 종료되었으므로 두 번째 이벤트는 큐에 넣지 않음
+    verify(sseEmitterDispatcher, times(1)).dispatch(eq(TEST_RECEIVER_ID), eq(emitter), any());
+    verify(sseMetrics, times(1)).recordSendFailures(false, 1);
   }
 
   @Test
-  @DisplayName("keepAlive_success: Emitter에 keep-alive 메시지 전송 성공")
-  void keepAlive_success() throws IOException {
+  @DisplayName("connect_draining: 드레인 중에는 등록하지 않고 재연결 안내 후 종료")
+  void connect_draining() {
     // given
-    SseEmitter emitter1 = mock(SseEmitter.class);
-    SseEmitter emitter2 = mock(SseEmitter.class);
-    List<SseEmitter> allEmitters = List.of(emitter1, emitter2);
-
-    when(sseEmitterRepository.findAll()).thenReturn(allEmitters);
-
-    doNothing().when(emitter1).send(any(SseEmitter.SseEventBuilder.class));
-    doNothing().when(emitter2).send(any(SseEmitter.SseEventBuilder.class));
+    when(connectionDrainState.isDraining()).thenReturn(true);
+    when(connectionDrainState.nextReconnectBackoffMs()).thenReturn(5000L);
 
     // when
-    sseService.keepAlive();
+    SseEmitter emitter = sseService.connect(TEST_RECEIVER_ID, null);
 
     // then
-    verify(emitter1, times(1)).send(any(SseEmitter.SseEventBuilder.class));
-    verify(emitter2, times(1)).send(any(SseEmitter.SseEventBuilder.class));
-    verify(emitter1, never()).complete();
-    verify(emitter2, never()).complete();
+    assertThat(emitter).isNotNull();
+    verify(sseEmitterRepository, never()).save(any(), any(), any());
+    verifyNoInteractions(sseHeartbeatWheel, sseMessageRepository, sseNodeRelay);
   }
 
   @Test
-  @DisplayName("keepAlive_failure: Emitter send 실패 시 complete 호출")
-  void keepAlive_failure() throws IOException {
+  @DisplayName("closeWithReconnectHint: retry 가 담긴 reconnect 이벤트를 보내고 연결 종료를 예약")
+  void closeWithReconnectHint() {
     // given
-    SseEmitter emitterFailed = mock(SseEmitter.class);
-    List<SseEmitter> allEmitters = List.of(emitterFailed);
-
-    when(sseEmitterRepository.findAll()).thenReturn(allEmitters);
-    doThrow(new IOException("Keep-alive failed"))
-        .when(emitterFailed).send(any(SseEmitter.SseEventBuilder.class));
+    SseEmitter emitter = mock(SseEmitter.class);
+    ArgumentCaptor<Set<DataWithMediaType>> eventCaptor = ArgumentCaptor.forClass(Set.class);
+    when(sseEmitterDispatcher.dispatchAndComplete(eq(TEST_RECEIVER_ID), eq(emitter), eventCaptor.capture()))
+        .thenReturn(true);
 
     // when
-    sseService.keepAlive();
+    boolean result = sseService.closeWithReconnectHint(TEST_RECEIVER_ID, emitter, 3000L);
 
     // then
-    verify(emitterFailed, times(1)).complete();
-    verify(emitterFailed, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    assertTrue(result);
+    String frame = eventCaptor.getValue().stream()
+        .map(item -> String.valueOf(item.getData()))
+        .reduce("", String::concat);
+    assertThat(frame).contains("event:reconnect");
+    assertThat(frame).contains("retry:3000");
+  }
+
+  private void stubForEachByChannel(Map<UUID, SseEmitter> emitters) {
+    doAnswer(invocation -> {
+      BiConsumer<UUID, SseEmitter> action = invocation.getArgument(1);
+      emitters.forEach(action);
+      return null;
+    }).when(sseEmitterRepository).forEachByChannel(eq(TEST_EVENT_NAME), any());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.codeit.playlist.user.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codeit.playlist.domain.user.cache.UserSummaryCache;
+import com.codeit.playlist.domain.user.dto.data.UserSummary;
+import com.codeit.playlist.domain.user.entity.User;
+import com.codeit.playlist.domain.user.mapper.UserMapper;
+import com.codeit.playlist.domain.user.repository.UserRepository;
+import com.codeit.playlist.global.config.CacheConfig;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig(classes = {CacheConfig.class, UserSummaryCache.class})
+class UserSummaryCacheTest {
+
+  @Autowired
+  private UserSummaryCache userSummaryCache;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @MockitoBean
+  private UserRepository userRepository;
+
+  @MockitoBean
+  private UserMapper userMapper;
+
+  @Test
+  @DisplayName("같은 userId 는 두 번째 조회부터 DB 를 조회하지 않고, evict 후에는 다시 조회한다")
+  void getIsReadThroughAndEvictable() {
+    // given
+    UUID userId = UUID.randomUUID();
+    User user = mock(User.class);
+    UserSummary summary = new UserSummary(userId, "name", null);
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(userMapper.toUserSummary(user)).thenReturn(summary);
+
+    // when
+    UserSummary first = userSummaryCache.get(userId);
+    UserSummary second = userSummaryCache.get(userId);
+
+    // then
+    assertThat(first).isEqualTo(summary);
+    assertThat(second).isEqualTo(summary);
+    verify(userRepository, times(1)).findById(userId);
+
+    cacheManager.getCache(CacheConfig.USER_SUMMARY).evict(userId);
+    userSummaryCache.get(userId);
+    verify(userRepository, times(2)).findById(userId);
+  }
+}
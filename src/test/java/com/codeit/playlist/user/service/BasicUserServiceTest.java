@@ -25,6 +25,7 @@ import com.codeit.playlist.domain.file.exception.InvalidImageTypeException;
 import com.codeit.playlist.domain.security.PlaylistUserDetails;
 import com.codeit.playlist.domain.security.jwt.JwtRegistry;
 import com.codeit.playlist.domain.user.dto.data.UserDto;
+import com.codeit.playlist.domain.user.dto.data.UserNameChangedEvent;
 import com.codeit.playlist.domain.user.dto.request.ChangePasswordRequest;
 import com.codeit.playlist.domain.user.dto.request.UserCreateRequest;
 import com.codeit.playlist.domain.user.dto.request.UserLockUpdateRequest;
@@ -58,6 +59,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -101,6 +103,9 @@ public class BasicUserServiceTest {
   @Mock
   private S3Properties s3Properties;
 
+  @Mock
+  private ApplicationEventPublisher applicationEventPublisher;
+
   private UUID FIXED_ID;
   private User user;
   private UserDto dto;
@@ -639,6 +644,26 @@ public class BasicUserServiceTest {
     // then
     assertEquals("NewName", result.name());
     verify(s3Uploader, never()).upload(any(), any(), any());
+    verify(applicationEventPublisher).publishEvent(new UserNameChangedEvent(FIXED_ID, "NewName"));
+  }
+
+  @Test
+  @DisplayName("사용자 프로필 변경 - 같은 이름이면 이름 변경 이벤트를 발행하지 않음")
+  void updateUserSameNameSkipsEvent() {
+    // given
+    setId(user, FIXED_ID);
+    when(authentication.getName()).thenReturn(user.getEmail());
+    when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+    when(userRepository.findById(FIXED_ID)).thenReturn(Optional.of(user));
+    when(userMapper.toDto(user)).thenReturn(dto);
+
+    UserUpdateRequest request = new UserUpdateRequest(user.getName());
+
+    // when
+    userService.updateUser(FIXED_ID, request, null, authentication);
+
+    // then
+    verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
   }
 
   @Test
@@ -3,6 +3,7 @@ package com.codeit.playlist.watching.controller;
 import com.codeit.playlist.domain.base.SortDirection;
 import com.codeit.playlist.domain.watching.controller.WatchingController;
 import com.codeit.playlist.domain.watching.dto.data.WatchingSessionDto;
+import com.codeit.playlist.domain.watching.dto.response.CursorResponseContentChatDto;
 import com.codeit.playlist.domain.watching.service.WatchingService;
 import com.codeit.playlist.watching.fixture.WatchingSessionFixtures;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -61,6 +63,27 @@ class WatchingControllerTest {
                         sortBy);
     }
 
+    @Test
+    @DisplayName("getChatsByContent 호출 시 watchingService.getChatsByContent()가 호출되고 200 OK가 리턴됨")
+    void getChatsByContentShouldCallService() {
+        // given
+        UUID contentId = WatchingSessionFixtures.FIXED_ID;
+        String cursor = "1700000000000-0";
+        int limit = 30;
+        CursorResponseContentChatDto response = new CursorResponseContentChatDto(List.of(), null, false);
+        when(watchingService.getChatsByContent(contentId, cursor, limit)).thenReturn(response);
+
+        // when
+        ResponseEntity<CursorResponseContentChatDto> result =
+                watchingController.getChatsByContent(contentId, cursor, limit);
+
+        // then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(response, result.getBody());
+        verify(watchingService, times(1))
+                .getChatsByContent(contentId, cursor, limit);
+    }
+
     @Test
     @DisplayName("getWatchingSessionByUser 호출 시 watchingService.getWatchingSessionByUser()가 호출됨")
     void getWatchingSessionByUserShouldCallService() {
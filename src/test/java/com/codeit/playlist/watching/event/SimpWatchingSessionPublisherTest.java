@@ -3,26 +3,34 @@ package com.codeit.playlist.watching.event;
 import com.codeit.playlist.domain.watching.dto.response.WatchingSessionChange;
 import com.codeit.playlist.domain.watching.event.publisher.SimpWatchingSessionPublisher;
 import com.codeit.playlist.watching.fixture.WatchingSessionFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class SimpWatchingSessionPublisherTest {
-    @InjectMocks
-    private SimpWatchingSessionPublisher publisher;
-
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
+    private SimpleMeterRegistry meterRegistry;
+    private SimpWatchingSessionPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new SimpWatchingSessionPublisher(messagingTemplate, meterRegistry);
+    }
+
     @Test
     @DisplayName("publish 호출 시 contentId와 WatchingSessionChange 전달 수행")
     void publishWatchingShouldCallConverterAndSend() {
@@ -37,5 +45,7 @@ class SimpWatchingSessionPublisherTest {
         // then
         verify(messagingTemplate)
                 .convertAndSend(String.format(destinationPattern, contentId), event);
+        assertThat(meterRegistry.get("websocket.publish.latency").tag("destination", "watch").timer().count())
+                .isEqualTo(1);
     }
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.codeit.playlist.watching.event;
+
+import com.codeit.playlist.domain.watching.dto.data.ChangeType;
+import com.codeit.playlist.domain.watching.dto.response.WatchingSessionDelta;
+import com.codeit.playlist.domain.watching.event.publisher.WatchingSessionCoalescer;
+import com.codeit.playlist.domain.watching.event.publisher.WatchingSessionPublisher;
+import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WatchingSessionCoalescerTest {
+    @Mock
+    private WatchingSessionPublisher publisher;
+    @Mock
+    private RedisWatchingSessionRepository redisWatchingSessionRepository;
+
+    private WatchingSessionCoalescer coalescer;
+
+    private final UUID contentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new WatchingSessionCoalescer(publisher, redisWatchingSessionRepository, 100);
+    }
+
+    @Test
+    @DisplayName("시청자 수가 기준 미만이면 병합하지 않는다")
+    void smallRoomIsNotCoalesced() {
+        boolean buffered = coalescer.offer(contentId, ChangeType.JOIN, UUID.randomUUID(), 10);
+
+        coalescer.flush();
+
+        assertThat(buffered).isFalse();
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("대형 방의 JOIN/LEAVE 는 flush 시 DELTA 하나로 발송되고, window 내 입장 후 퇴장은 상쇄된다")
+    void largeRoomIsCoalescedIntoSingleDelta() {
+        UUID joined = UUID.randomUUID();
+        UUID left = UUID.randomUUID();
+        UUID bounced = UUID.randomUUID();
+
+        assertThat(coalescer.offer(contentId, ChangeType.JOIN, joined, 150)).isTrue();
+        assertThat(coalescer.offer(contentId, ChangeType.JOIN, bounced, 151)).isTrue();
+        assertThat(coalescer.offer(contentId, ChangeType.LEAVE, bounced, 150)).isTrue();
+        // 병합 중인 방은 기준 미만으로 떨어져도 순서 보장을 위해 계속 병합
+        assertThat(coalescer.offer(contentId, ChangeType.LEAVE, left, 99)).isTrue();
+
+        coalescer.flush();
+
+        ArgumentCaptor<WatchingSessionDelta> captor = ArgumentCaptor.forClass(WatchingSessionDelta.class);
+        verify(publisher, times(1)).publishWatchingDelta(eq(contentId), captor.capture());
+        WatchingSessionDelta delta = captor.getValue();
+        assertThat(delta.type()).isEqualTo(ChangeType.DELTA);
+        assertThat(delta.joinedUserIds()).containsExactly(joined);
+        assertThat(delta.leftUserIds()).containsExactly(left);
+        assertThat(delta.watcherCount()).isEqualTo(99);
+
+        // flush 이후에는 다시 기준에 따라 판단
+        assertThat(coalescer.offer(contentId, ChangeType.JOIN, UUID.randomUUID(), 99)).isFalse();
+    }
+
+    @Test
+    @DisplayName("모두 상쇄된 window 는 발송하지 않는다")
+    void emptyDeltaIsNotPublished() {
+        UUID userId = UUID.randomUUID();
+        coalescer.offer(contentId, ChangeType.JOIN, userId, 200);
+        coalescer.offer(contentId, ChangeType.LEAVE, userId, 199);
+
+        coalescer.flush();
+
+        verify(publisher, never()).publishWatchingDelta(any(), any());
+    }
+
+    @Test
+    @DisplayName("시청자 수 갱신 예약은 병합 중인 DELTA 에 합쳐지고, flush 시 Redis 의 최신 시청자 수로 발송된다")
+    void recountIsMergedAndUsesLatestCount() {
+        UUID joined = UUID.randomUUID();
+        coalescer.offer(contentId, ChangeType.JOIN, joined, 150);
+        coalescer.offerRecount(contentId);
+        when(redisWatchingSessionRepository.countWatchingSessionByContentId(contentId)).thenReturn(120L);
+
+        coalescer.flush();
+
+        ArgumentCaptor<WatchingSessionDelta> captor = ArgumentCaptor.forClass(WatchingSessionDelta.class);
+        verify(publisher, times(1)).publishWatchingDelta(eq(contentId), captor.capture());
+        assertThat(captor.getValue().joinedUserIds()).containsExactly(joined);
+        assertThat(captor.getValue().watcherCount()).isEqualTo(120L);
+    }
+
+    @Test
+    @DisplayName("작은 방도 시청자 수 갱신 예약 이후의 이벤트는 순서 보장을 위해 병합된다")
+    void recountStartsCoalescingForSmallRoom() {
+        coalescer.offerRecount(contentId);
+
+        assertThat(coalescer.offer(contentId, ChangeType.JOIN, UUID.randomUUID(), 3)).isTrue();
+
+        when(redisWatchingSessionRepository.countWatchingSessionByContentId(contentId)).thenReturn(3L);
+        coalescer.flush();
+
+        ArgumentCaptor<WatchingSessionDelta> captor = ArgumentCaptor.forClass(WatchingSessionDelta.class);
+        verify(publisher).publishWatchingDelta(eq(contentId), captor.capture());
+        assertThat(captor.getValue().watcherCount()).isEqualTo(3L);
+    }
+}
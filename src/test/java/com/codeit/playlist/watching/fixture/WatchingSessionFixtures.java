@@ -112,8 +112,10 @@ public class WatchingSessionFixtures {
 
     public static RawContentChat rawContentChat() {
         return new RawContentChat(
+                "1700000000000-0",
                 FIXED_ID,
-                "content"
+                "content",
+                1700000000000L
         );
     }
 }
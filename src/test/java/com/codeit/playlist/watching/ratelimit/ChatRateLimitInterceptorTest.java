@@ -0,0 +1,89 @@
+package com.codeit.playlist.watching.ratelimit;
+
+import com.codeit.playlist.domain.security.PlaylistUserDetails;
+import com.codeit.playlist.domain.watching.ratelimit.ChatRateLimitInterceptor;
+import com.codeit.playlist.domain.watching.ratelimit.ChatRateLimiter;
+import com.codeit.playlist.global.error.ErrorResponse;
+import com.codeit.playlist.watching.fixture.WatchingSessionFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRateLimitInterceptorTest {
+    @InjectMocks
+    private ChatRateLimitInterceptor interceptor;
+
+    @Mock
+    private ChatRateLimiter chatRateLimiter;
+    @Mock
+    private ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+    @Mock
+    private MessageChannel channel;
+
+    private final UUID contentId = UUID.randomUUID();
+    private final UUID userId = WatchingSessionFixtures.FIXED_ID;
+
+    @Test
+    @DisplayName("채팅 SEND 가 한도 안이면 그대로 통과")
+    void passesWithinLimit() {
+        Message<byte[]> message = sendMessage("/pub/contents/" + contentId + "/chat");
+        when(chatRateLimiter.tryAcquire(contentId, userId)).thenReturn(true);
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+        verifyNoInteractions(messagingTemplateProvider);
+    }
+
+    @Test
+    @DisplayName("채팅 SEND 가 한도를 넘으면 프레임만 버리고(null) 보낸 사용자에게 /user/queue/errors 로 알림")
+    void dropsOverLimitAndNotifiesSender() {
+        Message<byte[]> message = sendMessage("/pub/contents/" + contentId + "/chat");
+        when(chatRateLimiter.tryAcquire(contentId, userId)).thenReturn(false);
+        when(messagingTemplateProvider.getObject()).thenReturn(messagingTemplate);
+
+        assertThat(interceptor.preSend(message, channel)).isNull();
+
+        ArgumentCaptor<ErrorResponse> captor = ArgumentCaptor.forClass(ErrorResponse.class);
+        verify(messagingTemplate).convertAndSendToUser(any(), eq("/queue/errors"), captor.capture());
+        assertThat(captor.getValue().getExceptionName()).isEqualTo("ChatRateLimitExceededException");
+        assertThat(captor.getValue().getDetails()).containsEntry("contentId", contentId);
+    }
+
+    @Test
+    @DisplayName("채팅이 아닌 destination 은 제한하지 않음")
+    void ignoresOtherDestinations() {
+        Message<byte[]> message = sendMessage("/pub/contents/" + contentId + "/other");
+
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+        verifyNoInteractions(chatRateLimiter);
+    }
+
+    private Message<byte[]> sendMessage(String destination) {
+        PlaylistUserDetails userDetails = new PlaylistUserDetails(WatchingSessionFixtures.userDto(), null);
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination(destination);
+        accessor.setSessionId("session-1");
+        accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
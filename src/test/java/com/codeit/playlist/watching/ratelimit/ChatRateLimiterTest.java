@@ -0,0 +1,78 @@
+package com.codeit.playlist.watching.ratelimit;
+
+import com.codeit.playlist.domain.watching.ratelimit.ChatRateLimiter;
+import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRateLimiterTest {
+    @Mock
+    private RedisWatchingSessionRepository redisWatchingSessionRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final UUID contentId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("로컬 버킷 용량을 넘으면 거절하고, 다른 콘텐츠/사용자의 버킷에는 영향이 없다")
+    void localBucketPerUserAndContent() {
+        ChatRateLimiter limiter = new ChatRateLimiter(redisWatchingSessionRepository, meterRegistry,
+                3, 1, 300, false, 30, 10);
+
+        assertThat(limiter.tryAcquire(contentId, userId)).isTrue();
+        assertThat(limiter.tryAcquire(contentId, userId)).isTrue();
+        assertThat(limiter.tryAcquire(contentId, userId)).isTrue();
+        assertThat(limiter.tryAcquire(contentId, userId)).isFalse();
+
+        assertThat(limiter.tryAcquire(UUID.randomUUID(), userId)).isTrue();
+        assertThat(limiter.tryAcquire(contentId, UUID.randomUUID())).isTrue();
+
+        assertThat(meterRegistry.get("watching.chat.throttled").tag("scope", "local").counter().count())
+                .isEqualTo(1.0);
+        verifyNoInteractions(redisWatchingSessionRepository);
+    }
+
+    @Test
+    @DisplayName("노드 공통 한도가 켜져 있으면 Redis 전송 횟수가 한도를 넘을 때 거절")
+    void globalLimit() {
+        ChatRateLimiter limiter = new ChatRateLimiter(redisWatchingSessionRepository, meterRegistry,
+                10, 1, 300, true, 2, 10);
+        when(redisWatchingSessionRepository.incrementChatCount(contentId, userId, 10_000L))
+                .thenReturn(1L, 2L, 3L);
+
+        assertThat(limiter.tryAcquire(contentId, userId)).isTrue();
+        assertThat(limiter.tryAcquire(contentId, userId)).isTrue();
+        assertThat(limiter.tryAcquire(contentId, userId)).isFalse();
+
+        assertThat(meterRegistry.get("watching.chat.throttled").tag("scope", "global").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 로컬 제한만 적용")
+    void globalLimitFailsOpen() {
+        ChatRateLimiter limiter = new ChatRateLimiter(redisWatchingSessionRepository, meterRegistry,
+                10, 1, 300, true, 2, 10);
+        when(redisWatchingSessionRepository.incrementChatCount(contentId, userId, 10_000L))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        assertThat(limiter.tryAcquire(contentId, userId)).isTrue();
+    }
+}
@@ -2,25 +2,24 @@ package com.codeit.playlist.watching.repository;
 
 import com.codeit.playlist.domain.base.SortDirection;
 import com.codeit.playlist.domain.watching.dto.data.RawContentChat;
+import com.codeit.playlist.domain.watching.dto.data.RawContentChatPage;
 import com.codeit.playlist.domain.watching.dto.data.RawWatchingSession;
 import com.codeit.playlist.domain.watching.dto.data.RawWatchingSessionPage;
+import com.codeit.playlist.domain.watching.dto.data.WatchingSessionTransition;
 import com.codeit.playlist.domain.watching.exception.WatchingNotFoundException;
 import com.codeit.playlist.domain.watching.exception.WatchingSessionMismatch;
 import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
 import com.codeit.playlist.global.error.InvalidCursorException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
-import org.springframework.boot.test.context.TestConfiguration;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,16 +37,6 @@ class RedisWatchingSessionRepositoryTest {
     @Autowired
     private StringRedisTemplate redisTemplate;
 
-    @Autowired
-    private ObjectMapper objectMapper;
-    @TestConfiguration
-    static class TestConfig {
-        @Bean
-        public ObjectMapper objectMapper() {
-            return new ObjectMapper();
-        }
-    }
-
     private UUID contentId;
     private UUID userId;
     private UUID watchingId;
@@ -67,74 +56,214 @@ class RedisWatchingSessionRepositoryTest {
     }
 
     @Test
-    @DisplayName("addWatchingSession 정상 동작")
-    void testAddWatchingSession() {
-        RawWatchingSession raw = repository.addWatchingSession(watchingId, contentId, userId);
+    @DisplayName("joinWatchingSession 스크립트: 세션 저장 + 웹소켓 세션 매핑 + 시청자 수 반환")
+    void testJoinWatchingSession() {
+        String sessionId = "session-1";
 
-        String storedWatchingId = redisTemplate.opsForValue()
-                .get("user:" + userId + ":watching");
-        assertThat(storedWatchingId).isEqualTo(watchingId.toString());
+        WatchingSessionTransition transition = repository.joinWatchingSession(sessionId, watchingId, contentId, userId, "tester");
 
-        Long zsetSize = redisTemplate.opsForZSet()
-                .size("content:" + contentId + ":watching");
-        assertThat(zsetSize).isEqualTo(1L);
+        assertThat(transition.watcherCount()).isEqualTo(1L);
+        assertThat(transition.session().watchingId()).isEqualTo(watchingId);
+        assertThat(transition.session().contentId()).isEqualTo(contentId);
+        assertThat(transition.session().userId()).isEqualTo(userId);
 
-        assertThat(raw.userId()).isEqualTo(userId);
-        assertThat(raw.contentId()).isEqualTo(contentId);
-        assertThat(raw.watchingId()).isEqualTo(watchingId);
-        assertThat(raw.createdAtEpoch()).isGreaterThan(0);
+        assertThat(redisTemplate.opsForValue().get("user:" + userId + ":watching"))
+                .isEqualTo(watchingId.toString());
+        assertThat(redisTemplate.opsForValue().get("ws:session:" + sessionId))
+                .isEqualTo(userId.toString());
+        assertThat(redisTemplate.opsForHash().entries("watching:" + watchingId))
+                .containsEntry("contentId", contentId.toString())
+                .containsEntry("userId", userId.toString())
+                .containsEntry("createdAt", String.valueOf(transition.session().createdAtEpoch()));
     }
 
     @Test
-    @DisplayName("removeWatchingSession 정상 제거 및 Raw 반환 (채팅도 함께 제거되는지 확인)")
-    void testRemoveWatchingSession() throws Exception {
-        repository.addWatchingSession(watchingId, contentId, userId);
+    @DisplayName("joinWatchingSession 스크립트: 기존 세션은 제거")
+    void testJoinWatchingSessionReplacesPrevious() {
+        UUID previousContentId = UUID.randomUUID();
+        UUID previousWatchingId = UUID.randomUUID();
+        repository.joinWatchingSession("session-1", previousWatchingId, previousContentId, userId, "tester");
 
-        RawContentChat rawChat = repository.addChat(contentId, userId, "hello-remove-test");
-        Set<String> chatZset = redisTemplate.opsForZSet().range("content:" + contentId + ":chat", 0, -1);
-        List<String> chatList = redisTemplate.opsForList().range("content:" + contentId + ":chat:" + userId, 0, -1);
+        WatchingSessionTransition transition = repository.joinWatchingSession("session-2", watchingId, contentId, userId, "tester");
 
-        assertThat(chatZset).isNotEmpty();
-        assertThat(chatList).isNotEmpty();
+        assertThat(transition.watcherCount()).isEqualTo(1L);
+        assertThat(redisTemplate.opsForZSet().size("content:" + previousContentId + ":watching")).isZero();
+        assertThat(redisTemplate.opsForHash().entries("watching:" + previousWatchingId)).isEmpty();
+    }
 
-        // when
-        RawWatchingSession removed = repository.removeWatchingSession(userId);
+    @Test
+    @DisplayName("leaveWatchingSession 스크립트: 세션 제거 후 Raw 와 시청자 수 반환")
+    void testLeaveWatchingSession() {
+        String sessionId = "session-1";
+        repository.joinWatchingSession(sessionId, watchingId, contentId, userId, "tester");
+        repository.joinWatchingSession("session-2", UUID.randomUUID(), contentId, UUID.randomUUID(), "tester");
+        repository.addChat(contentId, userId, "hello-leave-test");
+
+        WatchingSessionTransition transition = repository.leaveWatchingSession(sessionId);
+
+        assertThat(transition.watcherCount()).isEqualTo(1L);
+        assertThat(transition.session().watchingId()).isEqualTo(watchingId);
+        assertThat(transition.session().contentId()).isEqualTo(contentId);
+        assertThat(transition.session().userId()).isEqualTo(userId);
+
+        assertThat(redisTemplate.hasKey("ws:session:" + sessionId)).isFalse();
+        assertThat(redisTemplate.hasKey("user:" + userId + ":watching")).isFalse();
+        assertThat(redisTemplate.hasKey("watching:" + watchingId)).isFalse();
+
+        // 채팅은 스트림 길이/보관 기간으로만 정리된다
+        assertThat(redisTemplate.opsForStream().size("content:" + contentId + ":chat-stream"))
+                .isEqualTo(1L);
+    }
 
-        // then
-        assertThat(removed).isNotNull();
-        assertThat(removed.userId()).isEqualTo(userId);
-        assertThat(removed.contentId()).isEqualTo(contentId);
+    @Test
+    @DisplayName("leaveWatchingSession 스크립트: 웹소켓 세션 정보가 없으면 null, 시청 세션이 없으면 session == null")
+    void testLeaveWatchingSessionMissing() {
+        assertThat(repository.leaveWatchingSession("unknown")).isNull();
 
-        assertThat(redisTemplate.opsForValue().get("user:" + userId + ":watching"))
-                .isNull();
-        assertThat(redisTemplate.opsForHash().entries("watching:" + watchingId))
-                .isEmpty();
-        assertThat(redisTemplate.opsForZSet().size("content:" + contentId + ":watching"))
-                .isZero();
-
-        List<String> chatListAfter = redisTemplate.opsForList().range("content:" + contentId + ":chat:" + userId, 0, -1);
-        assertThat(chatListAfter).isNullOrEmpty();
-
-        Set<String> chatZsetAfter = redisTemplate.opsForZSet().range("content:" + contentId + ":chat", 0, -1);
-        if (chatZsetAfter != null) {
-            for (String m : chatZsetAfter) {
-                RawContentChat rc = objectMapper.readValue(m, RawContentChat.class);
-                assertThat(rc.userId()).isNotEqualTo(userId);
-            }
-        }
+        redisTemplate.opsForValue().set("ws:session:session-1", userId.toString());
+        WatchingSessionTransition transition = repository.leaveWatchingSession("session-1");
+
+        assertThat(transition).isNotNull();
+        assertThat(transition.session()).isNull();
+        assertThat(redisTemplate.hasKey("ws:session:session-1")).isFalse();
     }
 
     @Test
-    @DisplayName("removeWatchingSession, 세션 없으면 null 반환")
-    void testRemoveWatchingSessionNull() {
-        RawWatchingSession result = repository.removeWatchingSession(userId);
-        assertThat(result).isNull();
+    @DisplayName("joinWatchingSession 스크립트: 세션 키에 TTL 을 주고 노드 세션 목록에 추가, touch 로 TTL 갱신")
+    void testJoinWatchingSessionSetsTtl() {
+        repository.joinWatchingSession("session-1", watchingId, contentId, userId, "tester");
+        String nodeSessionsKey = "watching:node:" + repository.getNodeId() + ":sessions";
+
+        assertThat(redisTemplate.getExpire("ws:session:session-1")).isPositive();
+        assertThat(redisTemplate.getExpire("user:" + userId + ":watching")).isPositive();
+        assertThat(redisTemplate.getExpire("watching:" + watchingId)).isPositive();
+        assertThat(redisTemplate.opsForSet().isMember(nodeSessionsKey, "session-1")).isTrue();
+
+        redisTemplate.persist("watching:" + watchingId);
+        redisTemplate.expire("ws:session:session-1", Duration.ofSeconds(1));
+
+        assertThat(repository.touchWatchingSessions(List.of("session-1", "unknown"))).isEqualTo(1L);
+        assertThat(redisTemplate.getExpire("ws:session:session-1")).isGreaterThan(1L);
+        assertThat(redisTemplate.getExpire("watching:" + watchingId)).isPositive();
+
+        repository.leaveWatchingSession("session-1");
+        assertThat(redisTemplate.opsForSet().isMember(nodeSessionsKey, "session-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("leaveWatchingSession 스크립트: 같은 사용자가 다른 웹소켓 세션으로 재입장했으면 새 세션은 유지")
+    void testLeaveWatchingSessionKeepsNewerSession() {
+        repository.joinWatchingSession("session-old", UUID.randomUUID(), contentId, userId, "tester");
+        repository.joinWatchingSession("session-new", watchingId, contentId, userId, "tester");
+
+        WatchingSessionTransition transition = repository.leaveWatchingSession("dead-node", "session-old");
+
+        assertThat(transition.session()).isNull();
+        assertThat(redisTemplate.opsForValue().get("user:" + userId + ":watching")).isEqualTo(watchingId.toString());
+        assertThat(repository.countWatchingSessionByContentId(contentId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("heartbeat 가 끊긴 노드를 찾고 노드의 세션을 batch 로 꺼낸다")
+    void testDeadNodeSessions() {
+        String deadNodeId = "dead-" + UUID.randomUUID();
+        redisTemplate.opsForZSet().add("watching:nodes", deadNodeId, 1);
+        redisTemplate.opsForSet().add("watching:node:" + deadNodeId + ":sessions", "s-1", "s-2", "s-3");
+        repository.heartbeat();
+
+        assertThat(repository.findDeadNodes(System.currentTimeMillis() - 30_000))
+                .contains(deadNodeId)
+                .doesNotContain(repository.getNodeId());
+
+        assertThat(repository.popNodeSessions(deadNodeId, 2)).hasSize(2);
+        assertThat(repository.popNodeSessions(deadNodeId, 2)).hasSize(1);
+        assertThat(repository.popNodeSessions(deadNodeId, 2)).isEmpty();
+
+        repository.removeNode(deadNodeId);
+        assertThat(repository.findDeadNodes(System.currentTimeMillis())).doesNotContain(deadNodeId);
+    }
+
+    @Test
+    @DisplayName("상세 정보(HASH)가 만료된 ZSet 멤버만 제거")
+    void testRemoveOrphanedWatchingSessions() {
+        repository.joinWatchingSession("session-1", watchingId, contentId, userId, "tester");
+        UUID orphanWatchingId = UUID.randomUUID();
+        redisTemplate.opsForZSet().add("content:" + contentId + ":watching", orphanWatchingId.toString(), 1);
+
+        assertThat(repository.findWatchingContentIds(100)).contains(contentId);
+        assertThat(repository.removeOrphanedWatchingSessions(contentId)).isEqualTo(1L);
+        assertThat(redisTemplate.opsForZSet().range("content:" + contentId + ":watching", 0, -1))
+                .containsExactly(watchingId.toString());
+    }
+
+    @Test
+    @DisplayName("이름 인덱스: prefix(대소문자 무시)로 검색하고 이름 순 커서 페이지네이션, 퇴장 시 인덱스에서 제거")
+    void testGetWatchingSessionsByContentIdAndName() {
+        UUID aliceId = UUID.randomUUID();
+        UUID alvinId = UUID.randomUUID();
+        UUID alanId = UUID.randomUUID();
+        UUID aliceWatchingId = UUID.randomUUID();
+        WatchingSessionTransition alice =
+                repository.joinWatchingSession("s-alice", aliceWatchingId, contentId, aliceId, "Alice");
+        assertThat(redisTemplate.opsForZSet().range("content:" + contentId + ":watcher-names", 0, -1))
+                .contains("alice|" + alice.session().createdAtEpoch() + "|" + aliceWatchingId);
+        repository.joinWatchingSession("s-bob", UUID.randomUUID(), contentId, UUID.randomUUID(), "Bob");
+        repository.joinWatchingSession("s-alvin", UUID.randomUUID(), contentId, alvinId, "alvin");
+        repository.joinWatchingSession("s-alan", UUID.randomUUID(), contentId, alanId, "ALAN");
+
+        assertThat(repository.countWatchingSessionByContentIdAndName(contentId, "al")).isEqualTo(3L);
+        assertThat(repository.countWatchingSessionByContentIdAndName(contentId, "ali")).isEqualTo(1L);
+
+        RawWatchingSessionPage first = repository.getWatchingSessionsByContentIdAndName(
+                contentId, "AL", null, 2, SortDirection.ASCENDING);
+        assertThat(first.raws()).extracting(RawWatchingSession::userId).containsExactly(alanId, aliceId);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.nextCursor()).isEqualTo("alice|" + alice.session().createdAtEpoch() + "|" + aliceWatchingId);
+
+        RawWatchingSessionPage second = repository.getWatchingSessionsByContentIdAndName(
+                contentId, "al", first.nextCursor(), 2, SortDirection.ASCENDING);
+        assertThat(second.raws()).extracting(RawWatchingSession::userId).containsExactly(alvinId);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+
+        RawWatchingSessionPage descending = repository.getWatchingSessionsByContentIdAndName(
+                contentId, "al", null, 2, SortDirection.DESCENDING);
+        assertThat(descending.raws()).extracting(RawWatchingSession::userId).containsExactly(alvinId, aliceId);
+        RawWatchingSessionPage descendingNext = repository.getWatchingSessionsByContentIdAndName(
+                contentId, "al", descending.nextCursor(), 2, SortDirection.DESCENDING);
+        assertThat(descendingNext.raws()).extracting(RawWatchingSession::userId).containsExactly(alanId);
+
+        assertThatThrownBy(() -> repository.getWatchingSessionsByContentIdAndName(
+                contentId, "al", "bob|1|" + UUID.randomUUID(), 2, SortDirection.ASCENDING))
+                .isInstanceOf(InvalidCursorException.class);
+
+        repository.leaveWatchingSession("s-alvin");
+        assertThat(repository.countWatchingSessionByContentIdAndName(contentId, "al")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("renameWatcher: 시청 중인 사용자의 이름 인덱스 멤버를 입장 시각은 유지한 채 새 이름으로 교체")
+    void testRenameWatcher() {
+        WatchingSessionTransition joined =
+                repository.joinWatchingSession("session-" + watchingId, watchingId, contentId, userId, "tester");
+
+        assertThat(repository.renameWatcher(userId, "Renamed")).isTrue();
+
+        String namesKey = "content:" + contentId + ":watcher-names";
+        String member = "renamed|" + joined.session().createdAtEpoch() + "|" + watchingId;
+        assertThat(redisTemplate.opsForZSet().range(namesKey, 0, -1)).containsExactly(member);
+        assertThat(redisTemplate.opsForHash().get("watching:" + watchingId, "nameMember")).isEqualTo(member);
+        assertThat(repository.countWatchingSessionByContentIdAndName(contentId, "tes")).isZero();
+
+        repository.leaveWatchingSession("session-" + watchingId);
+        assertThat(redisTemplate.opsForZSet().size(namesKey)).isZero();
+        assertThat(repository.renameWatcher(userId, "Again")).isFalse();
     }
 
     @Test
     @DisplayName("getAllWatchingSessionsByContentId 정상 조회")
     void testGetAllWatchingSessionsByContentId() {
-        repository.addWatchingSession(watchingId, contentId, userId);
+        repository.joinWatchingSession("session-" + watchingId, watchingId, contentId, userId, "tester");
 
         List<RawWatchingSession> result = repository.getAllWatchingSessionsByContentId(contentId);
 
@@ -142,10 +271,35 @@ class RedisWatchingSessionRepositoryTest {
         assertThat(result.get(0).userId()).isEqualTo(userId);
     }
 
+    @Test
+    @DisplayName("getAllWatchingSessionsByContentId: 파이프라인 조회 시 순서 유지, 상세 정보 없는 멤버는 제외")
+    void testGetAllWatchingSessionsByContentIdPipelined() throws InterruptedException {
+        UUID u1 = UUID.randomUUID();
+        UUID u2 = UUID.randomUUID();
+        UUID u3 = UUID.randomUUID();
+        UUID w1 = UUID.randomUUID();
+        UUID w2 = UUID.randomUUID();
+        UUID w3 = UUID.randomUUID();
+
+        repository.joinWatchingSession("session-" + w1, w1, contentId, u1, "tester");
+        Thread.sleep(5);
+        repository.joinWatchingSession("session-" + w2, w2, contentId, u2, "tester");
+        Thread.sleep(5);
+        repository.joinWatchingSession("session-" + w3, w3, contentId, u3, "tester");
+        redisTemplate.delete("watching:" + w2);
+
+        List<RawWatchingSession> result = repository.getAllWatchingSessionsByContentId(contentId);
+
+        assertThat(result).extracting(RawWatchingSession::watchingId)
+                .containsExactly(w1, w3);
+        assertThat(result).extracting(RawWatchingSession::userId)
+                .containsExactly(u1, u3);
+    }
+
     @Test
     @DisplayName("countWatchingSessionByContentId 정상 반환")
     void testCountWatchingSession() {
-        repository.addWatchingSession(UUID.randomUUID(), contentId, userId);
+        repository.joinWatchingSession("session-1", UUID.randomUUID(), contentId, userId, "tester");
 
         long count = repository.countWatchingSessionByContentId(contentId);
 
@@ -161,9 +315,9 @@ class RedisWatchingSessionRepositoryTest {
         UUID w1 = UUID.randomUUID();
         UUID w2 = UUID.randomUUID();
 
-        repository.addWatchingSession(w1, contentId, u1);
+        repository.joinWatchingSession("session-" + w1, w1, contentId, u1, "tester");
         Thread.sleep(5);
-        repository.addWatchingSession(w2, contentId, u2);
+        repository.joinWatchingSession("session-" + w2, w2, contentId, u2, "tester");
 
         // when
         RawWatchingSessionPage page = repository.getWatchingSessionsByContentId(
@@ -188,9 +342,9 @@ class RedisWatchingSessionRepositoryTest {
         UUID w1 = UUID.randomUUID();
         UUID w2 = UUID.randomUUID();
 
-        repository.addWatchingSession(w1, contentId, u1);
+        repository.joinWatchingSession("session-" + w1, w1, contentId, u1, "tester");
         Thread.sleep(5);
-        repository.addWatchingSession(w2, contentId, u2);
+        repository.joinWatchingSession("session-" + w2, w2, contentId, u2, "tester");
 
         // when
         RawWatchingSessionPage page = repository.getWatchingSessionsByContentId(
@@ -218,11 +372,11 @@ class RedisWatchingSessionRepositoryTest {
         UUID w2 = UUID.randomUUID();
         UUID w3 = UUID.randomUUID();
 
-        repository.addWatchingSession(w1, contentId, u1);
+        repository.joinWatchingSession("session-" + w1, w1, contentId, u1, "tester");
         Thread.sleep(5);
-        repository.addWatchingSession(w2, contentId, u2);
+        repository.joinWatchingSession("session-" + w2, w2, contentId, u2, "tester");
         Thread.sleep(5);
-        repository.addWatchingSession(w3, contentId, u3);
+        repository.joinWatchingSession("session-" + w3, w3, contentId, u3, "tester");
 
         RawWatchingSessionPage firstPage = repository.getWatchingSessionsByContentId(
                 contentId,
@@ -276,7 +430,7 @@ class RedisWatchingSessionRepositoryTest {
     @Test
     @DisplayName("사용자의 시청 세션 조회, userId가 동일하지 않으면 WatchingSessionMismatch 발생")
     void getWatchingSessionByUserMismatch() {
-        repository.addWatchingSession(watchingId, contentId, userId);
+        repository.joinWatchingSession("session-" + watchingId, watchingId, contentId, userId, "tester");
 
         redisTemplate.opsForHash().put("watching:" + watchingId, "userId", UUID.randomUUID().toString());
 
@@ -287,7 +441,7 @@ class RedisWatchingSessionRepositoryTest {
     @Test
     @DisplayName("사용자의 시청 세션 조회, 정상 조회 성공")
     void getWatchingSessionByUserSuccess() {
-        repository.addWatchingSession(watchingId, contentId, userId);
+        repository.joinWatchingSession("session-" + watchingId, watchingId, contentId, userId, "tester");
 
         RawWatchingSession raw = repository.getWatchingSessionByUser(userId);
 
@@ -297,8 +451,8 @@ class RedisWatchingSessionRepositoryTest {
     }
 
     @Test
-    @DisplayName("addChat 정상 동작 (ZSet + user list 에 JSON 저장되는지 확인)")
-    void testAddChat() throws Exception {
+    @DisplayName("addChat 정상 동작 (스트림 엔트리 추가 + 보관 기간 TTL 설정)")
+    void testAddChat() {
         // given
         String content = "content";
 
@@ -306,26 +460,40 @@ class RedisWatchingSessionRepositoryTest {
         RawContentChat rawChat = repository.addChat(contentId, userId, content);
 
         // then
+        assertThat(rawChat.id()).matches("\\d+-\\d+");
         assertThat(rawChat.userId()).isEqualTo(userId);
         assertThat(rawChat.content()).isEqualTo(content);
+        assertThat(rawChat.sentAtEpoch()).isGreaterThan(0);
 
-        // zset members (JSON)
-        Set<String> chatZset = redisTemplate.opsForZSet().range("content:" + contentId + ":chat", 0, -1);
-        assertThat(chatZset).isNotNull().hasSize(1);
+        String key = "content:" + contentId + ":chat-stream";
+        assertThat(redisTemplate.opsForStream().size(key)).isEqualTo(1L);
+        assertThat(redisTemplate.getExpire(key)).isPositive();
+    }
+
+    @Test
+    @DisplayName("getChatsByContentId 최신순 커서 페이지네이션")
+    void testGetChatsByContentId() {
+        for (int i = 0; i < 5; i++) {
+            repository.addChat(contentId, userId, "chat-" + i);
+        }
 
-        // list for user
-        List<String> chatList = redisTemplate.opsForList().range("content:" + contentId + ":chat:" + userId, 0, -1);
-        assertThat(chatList).isNotNull().hasSize(1);
+        RawContentChatPage first = repository.getChatsByContentId(contentId, null, 2);
+        assertThat(first.raws()).extracting(RawContentChat::content).containsExactly("chat-4", "chat-3");
+        assertThat(first.hasNext()).isTrue();
 
-        // deserialize JSON to RawContentChat and verify fields
-        String jsonInZset = chatZset.iterator().next();
-        RawContentChat deserialized = objectMapper.readValue(jsonInZset, RawContentChat.class);
-        assertThat(deserialized.userId()).isEqualTo(userId);
-        assertThat(deserialized.content()).isEqualTo(content);
+        RawContentChatPage second = repository.getChatsByContentId(contentId, first.raws().get(1).id(), 2);
+        assertThat(second.raws()).extracting(RawContentChat::content).containsExactly("chat-2", "chat-1");
+        assertThat(second.hasNext()).isTrue();
 
-        String jsonInList = chatList.get(0);
-        RawContentChat deserializedList = objectMapper.readValue(jsonInList, RawContentChat.class);
-        assertThat(deserializedList.userId()).isEqualTo(userId);
-        assertThat(deserializedList.content()).isEqualTo(content);
+        RawContentChatPage last = repository.getChatsByContentId(contentId, second.raws().get(1).id(), 2);
+        assertThat(last.raws()).extracting(RawContentChat::content).containsExactly("chat-0");
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("getChatsByContentId 잘못된 커서면 InvalidCursorException")
+    void testGetChatsByContentIdInvalidCursor() {
+        assertThatThrownBy(() -> repository.getChatsByContentId(contentId, "not-a-cursor", 2))
+                .isInstanceOf(InvalidCursorException.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package com.codeit.playlist.watching.scheduler;
+
+import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
+import com.codeit.playlist.domain.watching.scheduler.WatchingSessionReaper;
+import com.codeit.playlist.domain.watching.service.WatchingSessionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WatchingSessionReaperTest {
+    @Mock
+    private RedisWatchingSessionRepository redisWatchingSessionRepository;
+    @Mock
+    private WatchingSessionService watchingSessionService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WatchingSessionReaper reaper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reaper = new WatchingSessionReaper(redisWatchingSessionRepository, watchingSessionService, meterRegistry,
+                30_000L, 30_000L, 2);
+    }
+
+    @Test
+    @DisplayName("락을 얻지 못하면 아무 것도 하지 않는다")
+    void reapSkipsWithoutLock() {
+        when(redisWatchingSessionRepository.tryAcquireReaperLock(30_000L)).thenReturn(false);
+
+        reaper.reap();
+
+        verify(redisWatchingSessionRepository, never()).findDeadNodes(anyLong());
+        verifyNoInteractions(watchingSessionService);
+        assertThat(meterRegistry.get("watching.reaper.scan.duration").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("죽은 노드의 세션을 batch 로 퇴장 처리하고, 만료된 세션이 있던 콘텐츠의 시청자 수를 브로드캐스트한다")
+    void reapDeadNodesAndOrphans() {
+        // given
+        UUID contentId = UUID.randomUUID();
+        when(redisWatchingSessionRepository.tryAcquireReaperLock(30_000L)).thenReturn(true);
+        when(redisWatchingSessionRepository.findDeadNodes(anyLong())).thenReturn(Set.of("dead-node"));
+        when(redisWatchingSessionRepository.popNodeSessions("dead-node", 2))
+                .thenReturn(List.of("s-1", "s-2"), List.of("s-3"), List.of());
+        when(watchingSessionService.expireWatching(eq("dead-node"), anyString())).thenReturn(true);
+        when(watchingSessionService.expireWatching("dead-node", "s-3")).thenReturn(false);
+        when(redisWatchingSessionRepository.findWatchingContentIds(2)).thenReturn(List.of(contentId));
+        when(redisWatchingSessionRepository.removeOrphanedWatchingSessions(contentId)).thenReturn(4L);
+
+        // when
+        reaper.reap();
+
+        // then
+        verify(watchingSessionService, times(3)).expireWatching(eq("dead-node"), anyString());
+        verify(redisWatchingSessionRepository).removeNode("dead-node");
+        verify(watchingSessionService).broadcastWatcherCount(contentId);
+
+        assertThat(meterRegistry.get("watching.reaper.sessions.reaped").tag("reason", "node").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("watching.reaper.sessions.reaped").tag("reason", "orphan").counter().count())
+                .isEqualTo(4.0);
+        assertThat(meterRegistry.get("watching.reaper.scan.duration").timer().count()).isEqualTo(1L);
+    }
+}
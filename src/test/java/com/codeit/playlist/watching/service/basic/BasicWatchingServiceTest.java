@@ -6,12 +6,16 @@ import com.codeit.playlist.domain.content.entity.Tag;
 import com.codeit.playlist.domain.content.mapper.ContentMapper;
 import com.codeit.playlist.domain.content.repository.ContentRepository;
 import com.codeit.playlist.domain.content.repository.TagRepository;
+import com.codeit.playlist.domain.user.dto.data.UserSummary;
 import com.codeit.playlist.domain.user.entity.User;
 import com.codeit.playlist.domain.user.mapper.UserMapper;
 import com.codeit.playlist.domain.user.repository.UserRepository;
+import com.codeit.playlist.domain.watching.dto.data.RawContentChat;
+import com.codeit.playlist.domain.watching.dto.data.RawContentChatPage;
 import com.codeit.playlist.domain.watching.dto.data.RawWatchingSession;
 import com.codeit.playlist.domain.watching.dto.data.RawWatchingSessionPage;
 import com.codeit.playlist.domain.watching.dto.data.WatchingSessionDto;
+import com.codeit.playlist.domain.watching.dto.response.CursorResponseContentChatDto;
 import com.codeit.playlist.domain.watching.dto.response.CursorResponseWatchingSessionDto;
 import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
 import com.codeit.playlist.domain.watching.service.basic.BasicWatchingService;
@@ -25,9 +29,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,11 +71,11 @@ class BasicWatchingServiceTest {
         when(redisWatchingSessionRepository.countWatchingSessionByContentId(contentId))
                 .thenReturn(10L);
 
-        User user = WatchingSessionFixtures.user();
         Content content = WatchingSessionFixtures.content();
         List<Tag> tags = WatchingSessionFixtures.tagList();
 
-        when(userRepository.findById(raw.userId())).thenReturn(Optional.of(user));
+        when(userRepository.findUserSummariesByIdIn(Set.of(raw.userId())))
+                .thenReturn(List.of(WatchingSessionFixtures.userSummary()));
         when(contentRepository.findById(raw.contentId())).thenReturn(Optional.of(content));
         when(tagRepository.findByContentId(raw.contentId())).thenReturn(tags);
 
@@ -96,7 +102,8 @@ class BasicWatchingServiceTest {
         verify(redisWatchingSessionRepository, times(1))
                 .countWatchingSessionByContentId(contentId);
 
-        verify(userRepository, times(1)).findById(raw.userId());
+        verify(userRepository, times(1)).findUserSummariesByIdIn(Set.of(raw.userId()));
+        verify(userRepository, never()).findById(any());
         verify(contentRepository, times(1)).findById(raw.contentId());
         verify(tagRepository, times(1)).findByContentId(raw.contentId());
 
@@ -107,6 +114,47 @@ class BasicWatchingServiceTest {
         assertThat(response.hasNext()).isEqualTo(rawPage.hasNext());
     }
 
+    @Test
+    @DisplayName("getWatchingSessions: 페이지 전체를 콘텐츠/태그/사용자 쿼리 각 1회로 조립한다")
+    void getWatchingSessionsBatchesLookups() {
+        // given
+        UUID userId1 = UUID.randomUUID();
+        UUID userId2 = UUID.randomUUID();
+        UUID missingUserId = UUID.randomUUID();
+        List<RawWatchingSession> raws = List.of(
+                new RawWatchingSession(UUID.randomUUID(), contentId, userId1, 1L),
+                new RawWatchingSession(UUID.randomUUID(), contentId, missingUserId, 2L),
+                new RawWatchingSession(UUID.randomUUID(), contentId, userId2, 3L)
+        );
+        when(redisWatchingSessionRepository.getWatchingSessionsByContentId(contentId, null, 10, SortDirection.ASCENDING))
+                .thenReturn(new RawWatchingSessionPage(raws, false));
+        when(redisWatchingSessionRepository.countWatchingSessionByContentId(contentId))
+                .thenReturn(3L);
+
+        Content content = WatchingSessionFixtures.content();
+        List<Tag> tags = WatchingSessionFixtures.tagList();
+        when(contentRepository.findById(contentId)).thenReturn(Optional.of(content));
+        when(tagRepository.findByContentId(contentId)).thenReturn(tags);
+        when(contentMapper.toDto(content, tags)).thenReturn(WatchingSessionFixtures.contentDto());
+        when(userRepository.findUserSummariesByIdIn(Set.of(userId1, userId2, missingUserId)))
+                .thenReturn(List.of(
+                        new UserSummary(userId1, "name1", null),
+                        new UserSummary(userId2, "name2", null)));
+
+        // when
+        CursorResponseWatchingSessionDto response = watchingService.getWatchingSessionsByContent(
+                contentId, null, null, null, 10, SortDirection.ASCENDING, "createdAt");
+
+        // then
+        assertThat(response.data()).extracting(dto -> dto.watcher().userId())
+                .containsExactly(userId1, userId2);
+        verify(contentRepository, times(1)).findById(contentId);
+        verify(tagRepository, times(1)).findByContentId(contentId);
+        verify(contentMapper, times(1)).toDto(content, tags);
+        verify(userRepository, times(1)).findUserSummariesByIdIn(any());
+        verifyNoMoreInteractions(userRepository);
+    }
+
     @Test
     @DisplayName("사용자의 시청 세션 조회, 세션이 없으면 null 반환")
     void getWatchingSessionByUserReturnsNullWhenNoSession() {
@@ -162,4 +210,52 @@ class BasicWatchingServiceTest {
         verify(contentMapper, times(1)).toDto(content, tags);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("getChatsByContent 호출 시 발신자를 한 번에 조회하고 마지막 메시지 ID를 다음 커서로 반환한다")
+    void getChatsByContentReturnsNextCursor() {
+        // given
+        RawContentChat chat = WatchingSessionFixtures.rawContentChat();
+        when(redisWatchingSessionRepository.getChatsByContentId(contentId, null, 1))
+                .thenReturn(new RawContentChatPage(List.of(chat), true));
+        when(userRepository.findUserSummariesByIdIn(Set.of(chat.userId())))
+                .thenReturn(List.of(WatchingSessionFixtures.userSummary()));
+
+        // when
+        CursorResponseContentChatDto result = watchingService.getChatsByContent(contentId, null, 1);
+
+        // then
+        assertThat(result.data()).hasSize(1);
+        assertThat(result.data().get(0).id()).isEqualTo(chat.id());
+        assertThat(result.data().get(0).sender()).isNotNull();
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(chat.id());
+    }
+
+    @Test
+    @DisplayName("watcherNameLike 가 있으면 이름 인덱스로 조회하고 totalCount 는 매칭 수")
+    void getWatchingSessionsFiltersByName() {
+        // given
+        when(redisWatchingSessionRepository.getWatchingSessionsByContentIdAndName(
+                contentId,
+                "te",
+                null,
+                10,
+                SortDirection.ASCENDING)
+        ).thenReturn(new RawWatchingSessionPage(List.of(), false));
+        when(redisWatchingSessionRepository.countWatchingSessionByContentIdAndName(contentId, "te"))
+                .thenReturn(0L);
+
+        // when
+        CursorResponseWatchingSessionDto result = watchingService.getWatchingSessionsByContent(
+                contentId, "te", null, null, 10, SortDirection.ASCENDING, "createdAt");
+
+        // then
+        assertThat(result.data()).isEmpty();
+        assertThat(result.totalCount()).isZero();
+        verify(redisWatchingSessionRepository, never())
+                .getWatchingSessionsByContentId(any(), any(), anyInt(), any());
+        verify(redisWatchingSessionRepository, never())
+                .countWatchingSessionByContentId(any());
+    }
+
+}
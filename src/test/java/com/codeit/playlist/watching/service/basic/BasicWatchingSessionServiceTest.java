@@ -1,17 +1,16 @@
 package com.codeit.playlist.watching.service.basic;
 
-import com.codeit.playlist.domain.content.mapper.ContentMapper;
-import com.codeit.playlist.domain.content.repository.ContentRepository;
-import com.codeit.playlist.domain.content.repository.TagRepository;
-import com.codeit.playlist.domain.user.entity.User;
+import com.codeit.playlist.domain.content.cache.ContentDtoCache;
+import com.codeit.playlist.domain.user.cache.UserSummaryCache;
 import com.codeit.playlist.domain.user.exception.UserNotFoundException;
-import com.codeit.playlist.domain.user.mapper.UserMapper;
-import com.codeit.playlist.domain.user.repository.UserRepository;
+import com.codeit.playlist.domain.watching.dto.data.ChangeType;
 import com.codeit.playlist.domain.watching.dto.data.RawContentChat;
 import com.codeit.playlist.domain.watching.dto.data.RawWatchingSession;
+import com.codeit.playlist.domain.watching.dto.data.WatchingSessionTransition;
 import com.codeit.playlist.domain.watching.dto.request.ContentChatSendRequest;
 import com.codeit.playlist.domain.watching.dto.response.ContentChatDto;
 import com.codeit.playlist.domain.watching.dto.response.WatchingSessionChange;
+import com.codeit.playlist.domain.watching.event.publisher.WatchingSessionCoalescer;
 import com.codeit.playlist.domain.watching.event.publisher.WatchingSessionPublisher;
 import com.codeit.playlist.domain.watching.exception.WatchingSessionUpdateException;
 import com.codeit.playlist.domain.watching.repository.RedisWatchingSessionRepository;
@@ -27,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -41,15 +41,11 @@ class BasicWatchingSessionServiceTest {
     @Mock
     private WatchingSessionPublisher publisher;
     @Mock
-    private UserMapper userMapper;
+    private WatchingSessionCoalescer coalescer;
     @Mock
-    private UserRepository userRepository;
+    private UserSummaryCache userSummaryCache;
     @Mock
-    private ContentRepository contentRepository;
-    @Mock
-    private ContentMapper contentMapper;
-    @Mock
-    private TagRepository tagRepository;
+    private ContentDtoCache contentDtoCache;
 
     private final UUID contentId = WatchingSessionFixtures.FIXED_ID;
     private final UUID userId = WatchingSessionFixtures.FIXED_ID;
@@ -61,32 +57,54 @@ class BasicWatchingSessionServiceTest {
         // given
         RawWatchingSession raw = WatchingSessionFixtures.rawWatchingSession();
 
-        when(redisWatchingSessionRepository.addWatchingSession(any(), eq(contentId), eq(userId)))
-                .thenReturn(raw);
-        when(userRepository.findById(userId))
-                .thenReturn(java.util.Optional.of(WatchingSessionFixtures.user()));
-        when(contentRepository.findById(contentId))
-                .thenReturn(java.util.Optional.of(WatchingSessionFixtures.content()));
-        when(tagRepository.findByContentId(contentId))
-                .thenReturn(WatchingSessionFixtures.tagList());
-        when(redisWatchingSessionRepository.countWatchingSessionByContentId(contentId))
-                .thenReturn(3L);
+        when(redisWatchingSessionRepository.joinWatchingSession(eq(sessionId), any(), eq(contentId), eq(userId), any()))
+                .thenReturn(new WatchingSessionTransition(raw, 3L));
+        when(userSummaryCache.get(userId))
+                .thenReturn(WatchingSessionFixtures.userSummary());
+        when(contentDtoCache.get(contentId))
+                .thenReturn(WatchingSessionFixtures.contentDto());
 
         // when
         watchingSessionService.joinWatching(sessionId, contentId, userId);
 
         // then
         verify(redisWatchingSessionRepository, times(1))
-                .addWatchingSession(any(), eq(contentId), eq(userId));
+                .joinWatchingSession(eq(sessionId), any(), eq(contentId), eq(userId),
+                        eq(WatchingSessionFixtures.userSummary().name()));
+        verify(redisWatchingSessionRepository, never())
+                .countWatchingSessionByContentId(any());
         verify(publisher, times(1))
                 .publishWatching(eq(contentId), any(WatchingSessionChange.class));
     }
 
+    @Test
+    @DisplayName("watching() 대형 방이면 개별 이벤트 대신 DELTA 병합 단계로 넘긴다")
+    void watchingShouldBeCoalescedInLargeRoom() {
+        // given
+        RawWatchingSession raw = WatchingSessionFixtures.rawWatchingSession();
+
+        when(userSummaryCache.get(userId))
+                .thenReturn(WatchingSessionFixtures.userSummary());
+        when(redisWatchingSessionRepository.joinWatchingSession(eq(sessionId), any(), eq(contentId), eq(userId), any()))
+                .thenReturn(new WatchingSessionTransition(raw, 500L));
+        when(coalescer.offer(contentId, ChangeType.JOIN, userId, 500L))
+                .thenReturn(true);
+
+        // when
+        watchingSessionService.joinWatching(sessionId, contentId, userId);
+
+        // then
+        verify(publisher, never()).publishWatching(any(), any());
+        verifyNoInteractions(contentDtoCache);
+    }
+
     @Test
     @DisplayName("watching() Redis 가 null 반환 시 예외 발생")
     void watchingShouldThrowWhenRedisFails() {
         // given
-        when(redisWatchingSessionRepository.addWatchingSession(any(), eq(contentId), eq(userId)))
+        when(userSummaryCache.get(userId))
+                .thenReturn(WatchingSessionFixtures.userSummary());
+        when(redisWatchingSessionRepository.joinWatchingSession(eq(sessionId), any(), eq(contentId), eq(userId), any()))
                 .thenReturn(null);
 
         // when & then
@@ -94,6 +112,96 @@ class BasicWatchingSessionServiceTest {
                 .isInstanceOf(WatchingSessionUpdateException.class);
     }
 
+    @Test
+    @DisplayName("leaveWatching() 호출 시 스크립트 결과의 시청자 수로 LEAVE 이벤트 publish")
+    void leaveWatchingShouldPublishEvent() {
+        // given
+        RawWatchingSession raw = WatchingSessionFixtures.rawWatchingSession();
+
+        when(redisWatchingSessionRepository.leaveWatchingSession(sessionId))
+                .thenReturn(new WatchingSessionTransition(raw, 2L));
+        when(userSummaryCache.get(userId))
+                .thenReturn(WatchingSessionFixtures.userSummary());
+        when(contentDtoCache.get(contentId))
+                .thenReturn(WatchingSessionFixtures.contentDto());
+
+        // when
+        watchingSessionService.leaveWatching(sessionId);
+
+        // then
+        ArgumentCaptor<WatchingSessionChange> captor = ArgumentCaptor.forClass(WatchingSessionChange.class);
+        verify(publisher).publishWatching(eq(contentId), captor.capture());
+        assertThat(captor.getValue().watcherCount()).isEqualTo(2L);
+        verify(redisWatchingSessionRepository, never())
+                .countWatchingSessionByContentId(any());
+    }
+
+    @Test
+    @DisplayName("leaveWatching() 웹소켓 세션 정보가 없으면 예외 발생")
+    void leaveWatchingShouldThrowWhenSessionMissing() {
+        when(redisWatchingSessionRepository.leaveWatchingSession(sessionId))
+                .thenReturn(null);
+
+        assertThatThrownBy(() -> watchingSessionService.leaveWatching(sessionId))
+                .isInstanceOf(WatchingSessionUpdateException.class);
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("leaveWatching() 시청 세션이 없으면 예외 발생")
+    void leaveWatchingShouldThrowWhenWatchingMissing() {
+        when(redisWatchingSessionRepository.leaveWatchingSession(sessionId))
+                .thenReturn(new WatchingSessionTransition(null, 0L));
+
+        assertThatThrownBy(() -> watchingSessionService.leaveWatching(sessionId))
+                .isInstanceOf(WatchingSessionUpdateException.class);
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("expireWatching() 죽은 노드의 세션을 퇴장 처리하고 LEAVE 이벤트 publish")
+    void expireWatchingShouldPublishLeave() {
+        // given
+        RawWatchingSession raw = WatchingSessionFixtures.rawWatchingSession();
+
+        when(redisWatchingSessionRepository.leaveWatchingSession("dead-node", sessionId))
+                .thenReturn(new WatchingSessionTransition(raw, 1L));
+        when(userSummaryCache.get(userId))
+                .thenReturn(WatchingSessionFixtures.userSummary());
+        when(contentDtoCache.get(contentId))
+                .thenReturn(WatchingSessionFixtures.contentDto());
+
+        // when
+        boolean expired = watchingSessionService.expireWatching("dead-node", sessionId);
+
+        // then
+        assertThat(expired).isTrue();
+        ArgumentCaptor<WatchingSessionChange> captor = ArgumentCaptor.forClass(WatchingSessionChange.class);
+        verify(publisher).publishWatching(eq(contentId), captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(ChangeType.LEAVE);
+        assertThat(captor.getValue().watcherCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("expireWatching() 정리할 시청 세션이 없으면 예외 없이 false")
+    void expireWatchingShouldReturnFalseWhenMissing() {
+        when(redisWatchingSessionRepository.leaveWatchingSession("dead-node", sessionId))
+                .thenReturn(null);
+
+        assertThat(watchingSessionService.expireWatching("dead-node", sessionId)).isFalse();
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("broadcastWatcherCount() 직접 발송하지 않고 coalescer 에 시청자 수 갱신 예약")
+    void broadcastWatcherCountShouldGoThroughCoalescer() {
+        watchingSessionService.broadcastWatcherCount(contentId);
+
+        verify(coalescer).offerRecount(contentId);
+        verifyNoInteractions(publisher);
+        verify(redisWatchingSessionRepository, never()).countWatchingSessionByContentId(any());
+    }
+
     @Test
     @DisplayName("sendChat() 정상 처리 시 publishChat 호출")
     void sendChatShouldPublish() {
@@ -105,12 +213,8 @@ class BasicWatchingSessionServiceTest {
         when(redisWatchingSessionRepository.addChat(contentId, userId, "content"))
                 .thenReturn(raw);
 
-        User user = WatchingSessionFixtures.user();
-        when(user.getId()).thenReturn(userId);
-        when(user.getName()).thenReturn("name");
-        when(user.getProfileImageUrl()).thenReturn("profileImageUrl");
-        when(userRepository.findById(userId))
-                .thenReturn(java.util.Optional.of(user));
+        when(userSummaryCache.get(userId))
+                .thenReturn(WatchingSessionFixtures.userSummary());
 
         // when
         watchingSessionService.sendChat(contentId, userId, request);
@@ -138,11 +242,10 @@ class BasicWatchingSessionServiceTest {
         // given
         RawWatchingSession raw = WatchingSessionFixtures.rawWatchingSession();
 
-        when(redisWatchingSessionRepository.addWatchingSession(any(), eq(contentId), eq(userId)))
-                .thenReturn(raw);
-        when(redisWatchingSessionRepository.countWatchingSessionByContentId(contentId)).thenReturn(3L);
+        when(redisWatchingSessionRepository.joinWatchingSession(eq(sessionId), any(), eq(contentId), eq(userId), any()))
+                .thenReturn(new WatchingSessionTransition(raw, 3L));
 
-        when(userRepository.findById(userId))
+        when(userSummaryCache.get(userId))
                 .thenThrow(UserNotFoundException.withId(userId));
 
         // when